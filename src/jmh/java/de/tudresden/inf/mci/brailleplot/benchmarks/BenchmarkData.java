@@ -0,0 +1,97 @@
+package de.tudresden.inf.mci.brailleplot.benchmarks;
+
+import de.tudresden.inf.mci.brailleplot.configparser.JavaPropertiesConfigurationParser;
+import de.tudresden.inf.mci.brailleplot.printerbackend.PrinterCapability;
+
+import java.net.URL;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * Synthetic input data and configurations shared by the benchmarks.
+ * All data is generated from a fixed seed, so every run of a benchmark works on the same input.
+ * @author agent
+ * @version 2026.10.18
+ */
+public final class BenchmarkData {
+
+    public static final long SEED = 0x5EED;
+
+    private static final int MAX_VALUE = 1000;
+
+    private BenchmarkData() { }
+
+    /**
+     * Create a csv document with scattered points in horizontal orientation, as parsed by
+     * {@link de.tudresden.inf.mci.brailleplot.csvparser.CsvType#DOTS}.
+     * Every series is made of two rows: the name followed by the x values, and an empty cell followed by the y values.
+     * @param seriesCount The number of series.
+     * @param pointCount The number of points per series.
+     * @return The csv document.
+     */
+    public static String createDotsCsv(final int seriesCount, final int pointCount) {
+        Random random = new Random(SEED);
+        StringBuilder csv = new StringBuilder();
+        for (int series = 0; series < seriesCount; series++) {
+            csv.append("Series ").append(series);
+            for (int point = 0; point < pointCount; point++) {
+                csv.append(',').append(point);
+            }
+            csv.append('\n');
+            for (int point = 0; point < pointCount; point++) {
+                csv.append(',').append(random.nextInt(MAX_VALUE));
+            }
+            csv.append('\n');
+        }
+        return csv.toString();
+    }
+
+    /**
+     * Create a csv document with categorical bar chart data, as parsed by
+     * {@link de.tudresden.inf.mci.brailleplot.csvparser.CsvType#X_ALIGNED_CATEGORIES}.
+     * The first row holds the names of the series, every following row a category with one value per series.
+     * @param seriesCount The number of series (bars per category).
+     * @param categoryCount The number of categories.
+     * @return The csv document.
+     */
+    public static String createCategoriesCsv(final int seriesCount, final int categoryCount) {
+        Random random = new Random(SEED);
+        StringBuilder csv = new StringBuilder();
+        for (int series = 0; series < seriesCount; series++) {
+            csv.append(",Series ").append(series);
+        }
+        csv.append('\n');
+        for (int category = 0; category < categoryCount; category++) {
+            csv.append("Category ").append(category);
+            for (int series = 0; series < seriesCount; series++) {
+                csv.append(',').append(random.nextInt(MAX_VALUE));
+            }
+            csv.append('\n');
+        }
+        return csv.toString();
+    }
+
+    /**
+     * Load the benchmark configuration for a printer mode.
+     * @param mode The printer mode. Only {@link PrinterCapability#NORMALPRINTER} and
+     *             {@link PrinterCapability#INDEX_EVEREST_D_V4_FLOATINGDOT_PRINTER} are supported.
+     * @return The parsed configuration.
+     * @throws Exception If the configuration could not be parsed.
+     */
+    public static JavaPropertiesConfigurationParser loadConfiguration(final PrinterCapability mode) throws Exception {
+        String configName;
+        switch (mode) {
+            case NORMALPRINTER:
+                configName = "config/benchmark_normal.properties";
+                break;
+            case INDEX_EVEREST_D_V4_FLOATINGDOT_PRINTER:
+                configName = "config/benchmark_floatingdot.properties";
+                break;
+            default: throw new UnsupportedOperationException("Mode not supported: " + mode);
+        }
+        ClassLoader classLoader = BenchmarkData.class.getClassLoader();
+        URL config = Objects.requireNonNull(classLoader.getResource(configName));
+        URL defaultConfig = Objects.requireNonNull(classLoader.getResource("config/default.properties"));
+        return new JavaPropertiesConfigurationParser(config, defaultConfig);
+    }
+}
@@ -0,0 +1,99 @@
+package de.tudresden.inf.mci.brailleplot.benchmarks;
+
+import de.tudresden.inf.mci.brailleplot.csvparser.CsvOrientation;
+import de.tudresden.inf.mci.brailleplot.csvparser.CsvParser;
+import de.tudresden.inf.mci.brailleplot.csvparser.CsvType;
+import de.tudresden.inf.mci.brailleplot.datacontainers.PointList;
+import de.tudresden.inf.mci.brailleplot.datacontainers.PointListContainer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for reading and parsing csv data into point list containers.
+ * @author agent
+ * @version 2026.10.18
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CsvParserBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int pointCount;
+
+    @Param({"1", "4"})
+    public int seriesCount;
+
+    private String mDotsCsv;
+    private String mCategoriesCsv;
+    private Path mDotsFile;
+    private Path mCategoriesFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        mDotsCsv = BenchmarkData.createDotsCsv(seriesCount, pointCount);
+        mCategoriesCsv = BenchmarkData.createCategoriesCsv(seriesCount, pointCount);
+        mDotsFile = Files.createTempFile("dots", ".csv");
+        Files.writeString(mDotsFile, mDotsCsv, StandardCharsets.UTF_8);
+        mCategoriesFile = Files.createTempFile("categories", ".csv");
+        Files.writeString(mCategoriesFile, mCategoriesCsv, StandardCharsets.UTF_8);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(mDotsFile);
+        Files.deleteIfExists(mCategoriesFile);
+    }
+
+    @Benchmark
+    public PointListContainer<PointList> parseDots() throws Exception {
+        CsvParser parser = new CsvParser(new StringReader(mDotsCsv), ',', '\"');
+        return parser.parse(CsvType.DOTS, CsvOrientation.HORIZONTAL);
+    }
+
+    @Benchmark
+    public PointListContainer<PointList> parseCategories() throws Exception {
+        CsvParser parser = new CsvParser(new StringReader(mCategoriesCsv), ',', '\"');
+        return parser.parse(CsvType.X_ALIGNED_CATEGORIES, CsvOrientation.HORIZONTAL);
+    }
+
+    @Benchmark
+    public PointListContainer<PointList> streamDots() throws Exception {
+        return CsvParser.parse(new StringReader(mDotsCsv), ',', '\"', CsvType.DOTS, CsvOrientation.HORIZONTAL);
+    }
+
+    @Benchmark
+    public PointListContainer<PointList> streamCategories() throws Exception {
+        return CsvParser.parse(new StringReader(mCategoriesCsv), ',', '\"', CsvType.X_ALIGNED_CATEGORIES, CsvOrientation.HORIZONTAL);
+    }
+
+    @Benchmark
+    public PointListContainer<PointList> mapDots() throws Exception {
+        return CsvParser.parse(mDotsFile, StandardCharsets.UTF_8, ',', '\"', CsvType.DOTS, CsvOrientation.HORIZONTAL);
+    }
+
+    @Benchmark
+    public PointListContainer<PointList> mapCategories() throws Exception {
+        return CsvParser.parse(mCategoriesFile, StandardCharsets.UTF_8, ',', '\"', CsvType.X_ALIGNED_CATEGORIES, CsvOrientation.HORIZONTAL);
+    }
+}
@@ -0,0 +1,117 @@
+package de.tudresden.inf.mci.brailleplot.benchmarks;
+
+import de.tudresden.inf.mci.brailleplot.configparser.JavaPropertiesConfigurationParser;
+import de.tudresden.inf.mci.brailleplot.configparser.Printer;
+import de.tudresden.inf.mci.brailleplot.layout.PlotCanvas;
+import de.tudresden.inf.mci.brailleplot.layout.RasterCanvas;
+import de.tudresden.inf.mci.brailleplot.point.Point2DValued;
+import de.tudresden.inf.mci.brailleplot.printabledata.FloatingPointData;
+import de.tudresden.inf.mci.brailleplot.printabledata.MatrixData;
+import de.tudresden.inf.mci.brailleplot.printabledata.PrintableData;
+import de.tudresden.inf.mci.brailleplot.printerbackend.PrintDirector;
+import de.tudresden.inf.mci.brailleplot.printerbackend.PrinterCapability;
+import de.tudresden.inf.mci.brailleplot.rendering.MasterRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tec.units.ri.quantity.Quantities;
+import tec.units.ri.unit.MetricPrefix;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static tec.units.ri.unit.Units.METRE;
+
+/**
+ * Benchmarks for assembling pages into the byte stream sent to the printer, i.e. the NormalBuilder for normal printers
+ * and the FloatingDotAreaBuilder for floating dot printers.
+ * The pages are filled with random dots on a canvas created from the benchmark configuration of the mode.
+ * @author agent
+ * @version 2026.10.18
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DocumentBuilderBenchmark {
+
+    private static final double DOT_DENSITY = 0.3;
+    private static final int FLOATING_DOTS_PER_PAGE = 2000;
+
+    @Param({"1", "4", "16"})
+    public int pageCount;
+
+    private PrintDirector mNormalDirector;
+    private List<PrintableData> mRasterPages;
+    private PrintDirector mFloatingDotDirector;
+    private List<PrintableData> mPlotPages;
+
+    @Setup
+    public void setUp() throws Exception {
+        Random random = new Random(BenchmarkData.SEED);
+
+        JavaPropertiesConfigurationParser normalConfig = BenchmarkData.loadConfiguration(PrinterCapability.NORMALPRINTER);
+        Printer normalPrinter = normalConfig.getPrinter();
+        MasterRenderer normalRenderer = new MasterRenderer(normalPrinter, normalConfig.getRepresentation(), normalConfig.getFormat("default"));
+        RasterCanvas rasterCanvas = normalRenderer.createCompatibleRasterCanvas();
+        for (int i = 0; i < pageCount; i++) {
+            MatrixData<Boolean> page = rasterCanvas.getNewPage();
+            for (int row = 0; row < page.getRowCount(); row++) {
+                for (int column = 0; column < page.getColumnCount(); column++) {
+                    page.setValue(row, column, random.nextDouble() < DOT_DENSITY);
+                }
+            }
+        }
+        mRasterPages = collectPages(rasterCanvas.getPageIterator());
+        mNormalDirector = new PrintDirector(PrinterCapability.NORMALPRINTER, normalPrinter);
+
+        JavaPropertiesConfigurationParser floatingConfig = BenchmarkData.loadConfiguration(PrinterCapability.INDEX_EVEREST_D_V4_FLOATINGDOT_PRINTER);
+        Printer floatingPrinter = floatingConfig.getPrinter();
+        MasterRenderer floatingRenderer = new MasterRenderer(floatingPrinter, floatingConfig.getRepresentation(), floatingConfig.getFormat("default"));
+        PlotCanvas plotCanvas = floatingRenderer.createCompatiblePlotCanvas();
+        for (int i = 0; i < pageCount; i++) {
+            FloatingPointData<Boolean> page = plotCanvas.getNewPage();
+            for (int dot = 0; dot < FLOATING_DOTS_PER_PAGE; dot++) {
+                double x = random.nextDouble() * plotCanvas.getPrintableWidth();
+                double y = random.nextDouble() * plotCanvas.getPrintableHeight();
+                page.addPoint(new Point2DValued<>(Quantities.getQuantity(x, MetricPrefix.MILLI(METRE)), Quantities.getQuantity(y, MetricPrefix.MILLI(METRE)), true));
+            }
+        }
+        mPlotPages = collectPages(plotCanvas.getPageIterator());
+        mFloatingDotDirector = new PrintDirector(PrinterCapability.INDEX_EVEREST_D_V4_FLOATINGDOT_PRINTER, floatingPrinter);
+    }
+
+    private static List<PrintableData> collectPages(final Iterator<? extends PrintableData> pages) {
+        List<PrintableData> result = new ArrayList<>();
+        pages.forEachRemaining(result::add);
+        return result;
+    }
+
+    @Benchmark
+    public void assembleNormal(final Blackhole blackhole) {
+        for (PrintableData page : mRasterPages) {
+            blackhole.consume(mNormalDirector.byteDump(page));
+        }
+    }
+
+    @Benchmark
+    public void assembleFloatingDot(final Blackhole blackhole) {
+        for (PrintableData page : mPlotPages) {
+            blackhole.consume(mFloatingDotDirector.byteDump(page));
+        }
+    }
+}
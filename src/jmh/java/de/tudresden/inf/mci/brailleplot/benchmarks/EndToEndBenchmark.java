@@ -0,0 +1,105 @@
+package de.tudresden.inf.mci.brailleplot.benchmarks;
+
+import de.tudresden.inf.mci.brailleplot.configparser.JavaPropertiesConfigurationParser;
+import de.tudresden.inf.mci.brailleplot.csvparser.CsvOrientation;
+import de.tudresden.inf.mci.brailleplot.csvparser.CsvParser;
+import de.tudresden.inf.mci.brailleplot.csvparser.CsvType;
+import de.tudresden.inf.mci.brailleplot.diagrams.CategoricalBarChart;
+import de.tudresden.inf.mci.brailleplot.diagrams.Diagram;
+import de.tudresden.inf.mci.brailleplot.diagrams.LineChart;
+import de.tudresden.inf.mci.brailleplot.layout.AbstractCanvas;
+import de.tudresden.inf.mci.brailleplot.printabledata.PrintableData;
+import de.tudresden.inf.mci.brailleplot.printerbackend.PrintDirector;
+import de.tudresden.inf.mci.brailleplot.printerbackend.PrinterCapability;
+import de.tudresden.inf.mci.brailleplot.rendering.LiblouisBrailleTextRasterizer;
+import de.tudresden.inf.mci.brailleplot.rendering.MasterRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.StringReader;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the whole application pipeline for a single document: csv parsing, rendering and assembling every page
+ * into the byte stream for the printer. Configuration and renderer are created once, like in batch mode.
+ * Requires the native liblouis library, since all diagrams contain text.
+ * @author agent
+ * @version 2026.10.18
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EndToEndBenchmark {
+
+    @Param({"NORMALPRINTER", "INDEX_EVEREST_D_V4_FLOATINGDOT_PRINTER"})
+    public PrinterCapability mode;
+
+    @Param({"BarChart", "LineChart"})
+    public String diagramType;
+
+    @Param({"10", "100"})
+    public int pointCount;
+
+    @Param({"3"})
+    public int seriesCount;
+
+    private String mCsv;
+    private MasterRenderer mRenderer;
+    private PrintDirector mPrintDirector;
+
+    @Setup
+    public void setUp() throws Exception {
+        LiblouisBrailleTextRasterizer.initModule();
+        JavaPropertiesConfigurationParser config = BenchmarkData.loadConfiguration(mode);
+        mRenderer = new MasterRenderer(config.getPrinter(), config.getRepresentation(), config.getFormat("default"));
+        mPrintDirector = new PrintDirector(mode, config.getPrinter());
+        switch (diagramType) {
+            case "BarChart":
+                mCsv = BenchmarkData.createCategoriesCsv(seriesCount, pointCount);
+                break;
+            case "LineChart":
+                mCsv = BenchmarkData.createDotsCsv(seriesCount, pointCount);
+                break;
+            default: throw new IllegalStateException("Unknown diagram type: " + diagramType);
+        }
+    }
+
+    @Benchmark
+    public void parseRenderAssemble(final Blackhole blackhole) throws Exception {
+        CsvParser csvParser = new CsvParser(new StringReader(mCsv), ',', '\"');
+        Diagram diagram;
+        if (diagramType.equals("BarChart")) {
+            diagram = new CategoricalBarChart(csvParser.parse(CsvType.X_ALIGNED_CATEGORIES, CsvOrientation.HORIZONTAL));
+        } else {
+            diagram = new LineChart(csvParser.parse(CsvType.DOTS, CsvOrientation.HORIZONTAL));
+        }
+        diagram.setTitle("Benchmark");
+        diagram.setXAxisName("x");
+        diagram.setYAxisName("y");
+
+        AbstractCanvas<? extends PrintableData> canvas;
+        if (mode == PrinterCapability.NORMALPRINTER) {
+            canvas = mRenderer.rasterize(diagram);
+        } else {
+            canvas = mRenderer.plot(diagram);
+        }
+        Iterator<? extends PrintableData> pages = canvas.getPageIterator();
+        while (pages.hasNext()) {
+            blackhole.consume(mPrintDirector.byteDump(pages.next()));
+        }
+    }
+}
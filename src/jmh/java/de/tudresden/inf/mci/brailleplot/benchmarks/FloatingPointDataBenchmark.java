@@ -0,0 +1,111 @@
+package de.tudresden.inf.mci.brailleplot.benchmarks;
+
+import de.tudresden.inf.mci.brailleplot.configparser.Format;
+import de.tudresden.inf.mci.brailleplot.configparser.JavaPropertiesConfigurationParser;
+import de.tudresden.inf.mci.brailleplot.configparser.Printer;
+import de.tudresden.inf.mci.brailleplot.point.Point2DValued;
+import de.tudresden.inf.mci.brailleplot.printabledata.FloatingPointData;
+import de.tudresden.inf.mci.brailleplot.printabledata.PrimitiveFloatingPointDataImpl;
+import de.tudresden.inf.mci.brailleplot.printabledata.SimpleFloatingPointDataImpl;
+import de.tudresden.inf.mci.brailleplot.printerbackend.PrinterCapability;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tec.units.ri.quantity.Quantities;
+import tec.units.ri.unit.MetricPrefix;
+
+import javax.measure.Quantity;
+import javax.measure.quantity.Length;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static tec.units.ri.unit.Units.METRE;
+
+/**
+ * Benchmarks for adding points to floating dot pages, which checks every point for duplicates.
+ * Plotters add each point of a page this way, so the duplicate lookup must not depend on the number of points already
+ * on the page.
+ * @author agent
+ * @version 2026.10.18
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FloatingPointDataBenchmark {
+
+    // Every tenth point is a duplicate of an earlier one.
+    private static final int DUPLICATE_INTERVAL = 10;
+    private static final double PAGE_SIZE = 200;
+
+    @Param({"1000", "10000", "50000"})
+    public int pointCount;
+
+    private Printer mPrinter;
+    private Format mFormat;
+    private List<Point2DValued<Quantity<Length>, Boolean>> mPoints;
+    private double[] mX;
+    private double[] mY;
+
+    @Setup
+    public void setUp() throws Exception {
+        JavaPropertiesConfigurationParser config = BenchmarkData.loadConfiguration(PrinterCapability.INDEX_EVEREST_D_V4_FLOATINGDOT_PRINTER);
+        mPrinter = config.getPrinter();
+        mFormat = config.getFormat("default");
+        Random random = new Random(BenchmarkData.SEED);
+        mPoints = new ArrayList<>(pointCount);
+        for (int i = 0; i < pointCount; i++) {
+            if (i > 0 && i % DUPLICATE_INTERVAL == 0) {
+                mPoints.add(mPoints.get(random.nextInt(i)));
+                continue;
+            }
+            Quantity<Length> x = Quantities.getQuantity(random.nextDouble() * PAGE_SIZE, MetricPrefix.MILLI(METRE));
+            Quantity<Length> y = Quantities.getQuantity(random.nextDouble() * PAGE_SIZE, MetricPrefix.MILLI(METRE));
+            mPoints.add(new Point2DValued<>(x, y, true));
+        }
+        mX = new double[pointCount];
+        mY = new double[pointCount];
+        for (int i = 0; i < pointCount; i++) {
+            mX[i] = mPoints.get(i).getX().getValue().doubleValue();
+            mY[i] = mPoints.get(i).getY().getValue().doubleValue();
+        }
+    }
+
+    @Benchmark
+    public FloatingPointData<Boolean> addPointsSimple() {
+        return addPoints(new SimpleFloatingPointDataImpl<>(mPrinter, mFormat));
+    }
+
+    @Benchmark
+    public FloatingPointData<Boolean> addPointsPrimitive() {
+        return addPoints(new PrimitiveFloatingPointDataImpl<>(mPrinter, mFormat));
+    }
+
+    @Benchmark
+    public FloatingPointData<Boolean> addMillimetersPrimitive() {
+        FloatingPointData<Boolean> page = new PrimitiveFloatingPointDataImpl<>(mPrinter, mFormat);
+        for (int i = 0; i < pointCount; i++) {
+            page.addPointIfNotExisting(mX[i], mY[i], true);
+        }
+        return page;
+    }
+
+    private FloatingPointData<Boolean> addPoints(final FloatingPointData<Boolean> page) {
+        for (Point2DValued<Quantity<Length>, Boolean> point : mPoints) {
+            page.addPointIfNotExisting(point);
+        }
+        return page;
+    }
+}
@@ -0,0 +1,90 @@
+package de.tudresden.inf.mci.brailleplot.benchmarks;
+
+import de.tudresden.inf.mci.brailleplot.configparser.JavaPropertiesConfigurationParser;
+import de.tudresden.inf.mci.brailleplot.csvparser.CsvOrientation;
+import de.tudresden.inf.mci.brailleplot.csvparser.CsvParser;
+import de.tudresden.inf.mci.brailleplot.csvparser.CsvType;
+import de.tudresden.inf.mci.brailleplot.datacontainers.CategoricalPointListContainer;
+import de.tudresden.inf.mci.brailleplot.datacontainers.PointList;
+import de.tudresden.inf.mci.brailleplot.datacontainers.PointListContainer;
+import de.tudresden.inf.mci.brailleplot.diagrams.CategoricalBarChart;
+import de.tudresden.inf.mci.brailleplot.diagrams.LineChart;
+import de.tudresden.inf.mci.brailleplot.layout.PlotCanvas;
+import de.tudresden.inf.mci.brailleplot.layout.RasterCanvas;
+import de.tudresden.inf.mci.brailleplot.printerbackend.PrinterCapability;
+import de.tudresden.inf.mci.brailleplot.rendering.LiblouisBrailleTextRasterizer;
+import de.tudresden.inf.mci.brailleplot.rendering.MasterRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for rendering diagrams onto canvases: the {@link de.tudresden.inf.mci.brailleplot.rendering.BarChartRasterizer}
+ * for normal printers and the {@link de.tudresden.inf.mci.brailleplot.rendering.floatingplotter.LinePlotter} for floating
+ * dot printers. The diagrams are parsed once, every invocation renders them onto a new canvas.
+ * Requires the native liblouis library, since all diagrams contain text.
+ * @author agent
+ * @version 2026.10.18
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RenderingBenchmark {
+
+    @Param({"10", "50", "200"})
+    public int pointCount;
+
+    @Param({"1", "3"})
+    public int seriesCount;
+
+    private MasterRenderer mRasterRenderer;
+    private MasterRenderer mPlotRenderer;
+    private CategoricalBarChart mBarChart;
+    private LineChart mLineChart;
+
+    @Setup
+    public void setUp() throws Exception {
+        LiblouisBrailleTextRasterizer.initModule();
+
+        JavaPropertiesConfigurationParser normalConfig = BenchmarkData.loadConfiguration(PrinterCapability.NORMALPRINTER);
+        mRasterRenderer = new MasterRenderer(normalConfig.getPrinter(), normalConfig.getRepresentation(), normalConfig.getFormat("default"));
+        JavaPropertiesConfigurationParser floatingConfig = BenchmarkData.loadConfiguration(PrinterCapability.INDEX_EVEREST_D_V4_FLOATINGDOT_PRINTER);
+        mPlotRenderer = new MasterRenderer(floatingConfig.getPrinter(), floatingConfig.getRepresentation(), floatingConfig.getFormat("default"));
+
+        CsvParser barParser = new CsvParser(new StringReader(BenchmarkData.createCategoriesCsv(seriesCount, pointCount)), ',', '\"');
+        CategoricalPointListContainer<PointList> barData = barParser.parse(CsvType.X_ALIGNED_CATEGORIES, CsvOrientation.HORIZONTAL);
+        mBarChart = new CategoricalBarChart(barData);
+        mBarChart.setTitle("Benchmark");
+
+        CsvParser lineParser = new CsvParser(new StringReader(BenchmarkData.createDotsCsv(seriesCount, pointCount)), ',', '\"');
+        PointListContainer<PointList> lineData = lineParser.parse(CsvType.DOTS, CsvOrientation.HORIZONTAL);
+        mLineChart = new LineChart(lineData);
+        mLineChart.setTitle("Benchmark");
+        mLineChart.setXAxisName("x");
+        mLineChart.setYAxisName("y");
+    }
+
+    @Benchmark
+    public RasterCanvas rasterizeBarChart() throws Exception {
+        return mRasterRenderer.rasterize(mBarChart);
+    }
+
+    @Benchmark
+    public PlotCanvas plotLineChart() throws Exception {
+        return mPlotRenderer.plot(mLineChart);
+    }
+}
@@ -5,6 +5,11 @@ import de.tudresden.inf.mci.brailleplot.commandline.CommandLineParser;
 import de.tudresden.inf.mci.brailleplot.commandline.SettingType;
 import de.tudresden.inf.mci.brailleplot.commandline.SettingsReader;
 import de.tudresden.inf.mci.brailleplot.commandline.SettingsWriter;
+import de.tudresden.inf.mci.brailleplot.configparser.ConfigurationCache;
+import de.tudresden.inf.mci.brailleplot.configparser.ConfigurationParser;
+import de.tudresden.inf.mci.brailleplot.configparser.ConfigurationParsingException;
+import de.tudresden.inf.mci.brailleplot.configparser.ConfigurationValidationException;
+import de.tudresden.inf.mci.brailleplot.configparser.ConfigurationWatcher;
 import de.tudresden.inf.mci.brailleplot.configparser.Format;
 import de.tudresden.inf.mci.brailleplot.configparser.JavaPropertiesConfigurationParser;
 import de.tudresden.inf.mci.brailleplot.configparser.Printer;
@@ -13,6 +18,7 @@ import de.tudresden.inf.mci.brailleplot.csvparser.CsvOrientation;
 import de.tudresden.inf.mci.brailleplot.csvparser.CsvParser;
 import de.tudresden.inf.mci.brailleplot.csvparser.CsvType;
 import de.tudresden.inf.mci.brailleplot.csvparser.MalformedCsvException;
+import de.tudresden.inf.mci.brailleplot.datacontainers.BinaryDataset;
 import de.tudresden.inf.mci.brailleplot.datacontainers.CategoricalPointListContainer;
 import de.tudresden.inf.mci.brailleplot.datacontainers.PointList;
 import de.tudresden.inf.mci.brailleplot.datacontainers.PointListContainer;
@@ -22,6 +28,7 @@ import de.tudresden.inf.mci.brailleplot.diagrams.Diagram;
 import de.tudresden.inf.mci.brailleplot.diagrams.ScatterPlot;
 import de.tudresden.inf.mci.brailleplot.diagrams.LineChart;
 import de.tudresden.inf.mci.brailleplot.layout.AbstractCanvas;
+import de.tudresden.inf.mci.brailleplot.layout.InsufficientRenderingAreaException;
 import de.tudresden.inf.mci.brailleplot.layout.PlotCanvas;
 import de.tudresden.inf.mci.brailleplot.layout.RasterCanvas;
 import de.tudresden.inf.mci.brailleplot.printabledata.PrintableData;
@@ -43,18 +50,21 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.Reader;
 import java.net.URL;
+import java.nio.charset.Charset;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
-import java.util.Objects;
+import java.util.Map;
 import java.util.concurrent.ConcurrentLinkedDeque;
 
 /**
  * Main class.
  * Set up the application and run it.
  * @author Georg Graßnick, Andrey Ruzhanskiy, Leonard Kupper
- * @version 2019.10.03
+ * @version 2026.10.18
  */
 
 public final class App {
@@ -79,6 +89,11 @@ public final class App {
 
     private ConcurrentLinkedDeque<Runnable> mFinalizers;
 
+    // Kept between the jobs of a batch. The configurations are watched, so changed files are parsed again.
+    private boolean mBatch = false;
+    private final Map<Path, ConfigurationWatcher> mConfigurations = new HashMap<>();
+    private final Map<Format, MasterRenderer> mRenderers = Collections.synchronizedMap(new IdentityHashMap<>());
+
     private App() {
         sInstance = this;
         mFinalizers = new ConcurrentLinkedDeque<>();
@@ -160,162 +175,347 @@ public final class App {
 
             mLogger.info("Application started");
 
+            if (CommandLineParser.checkForBatch(args)) {
+                return runBatch(cliParser.parseBatch(args), cliParser);
+            }
+
             SettingsWriter settings = cliParser.parse(args);
-            SettingsReader settingsReader = settings;
-
-            setLoggingLevel(Level.valueOf(settingsReader.getSetting(SettingType.LOG_LEVEL).orElse("Info")));
-
-            // Config Parsing
-            JavaPropertiesConfigurationParser configParser;
-            URL defaultConfig = getClass().getClassLoader().getResource("config/default.properties");
-            Path configPath = Path.of(settingsReader.getSetting(SettingType.PRINTER_CONFIG_PATH).get());
-            configParser = new JavaPropertiesConfigurationParser(configPath, defaultConfig);
-
-            // Set up Printer, Representation & Format Configurables
-            Printer printer = configParser.getPrinter();
-            Representation representationParameters = configParser.getRepresentation();
-            Format format;
-            if (!settingsReader.isPresent(SettingType.FORMAT)) {
-                format = configParser.getFormat("default"); // Default behaviour from default config (A4 portrait)
-            } else {
-                format = configParser.getFormat(settingsReader.getSetting(SettingType.FORMAT).get());
+            runJob(settings);
+        } catch (final Exception e) {
+            terminateWithException(e);
+        }
+
+        runFinalizers();
+
+        return EXIT_SUCCESS;
+    }
+
+    /**
+     * Run a batch of jobs. Every line of the manifest holds the command line parameters of a single job, e.g.
+     * {@code -c data.csv -p printer.properties -d LineChart -t "Title" -s out/chart -i}.
+     * Empty lines and lines starting with '#' are ignored. Lines are processed as soon as they are read, so jobs can
+     * be streamed to the application via stdin.
+     * Parsed configurations and renderers are kept between jobs, the liblouis translators are shared anyway. The
+     * configuration files are watched and parsed again when they change.
+     * A failing job is logged and does not stop the batch.
+     * @param batchSettings The settings of the batch invocation.
+     * @param cliParser The parser used to parse the job parameters.
+     * @return 0 if all jobs succeeded, 1 if any job failed.
+     * @throws IOException If the manifest could not be read.
+     */
+    private int runBatch(final SettingsReader batchSettings, final CommandLineParser cliParser) throws IOException {
+        setLoggingLevel(Level.valueOf(batchSettings.getSetting(SettingType.LOG_LEVEL).orElse("Info")));
+        String manifest = batchSettings.getSetting(SettingType.BATCH_MANIFEST).get();
+        InputStream manifestStream;
+        if (manifest.equals("-")) {
+            mLogger.info("Reading batch jobs from stdin");
+            manifestStream = System.in;
+        } else {
+            mLogger.info("Reading batch jobs from manifest {}", manifest);
+            manifestStream = new FileInputStream(manifest);
+        }
+        mBatch = true;
+        int jobCount = 0;
+        int failedCount = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(manifestStream))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                jobCount++;
+                try {
+                    runJob(cliParser.parse(CommandLineParser.splitArguments(line)));
+                    mLogger.info("Finished job in line {}", lineNumber);
+                } catch (Exception e) {
+                    failedCount++;
+                    mLogger.error("Job in line " + lineNumber + " failed", e);
+                }
             }
+        }
+        mLogger.info("Batch finished, {} of {} job(s) succeeded", jobCount - failedCount, jobCount);
+        runFinalizers();
+        if (failedCount > 0) {
+            return EXIT_ERROR;
+        }
+        return EXIT_SUCCESS;
+    }
+
+    /**
+     * Get the parsed configuration for a printer configuration file. The parsed properties are cached in the
+     * {@link ConfigurationCache#getDefault() cache of the current user}, so repeated runs skip parsing unchanged files.
+     * In batch mode, each file is only parsed once and then watched by a {@link ConfigurationWatcher}, which parses it
+     * again if the file or any of the files it depends on changes. The renderers are discarded on every reload.
+     * @param configPath The path to the printer configuration file.
+     * @return The configuration parser holding the parsed configuration.
+     * @throws ConfigurationParsingException If the configuration could not be parsed.
+     * @throws ConfigurationValidationException If the configuration is not valid.
+     * @throws IOException If the configuration files could not be watched.
+     */
+    private ConfigurationParser getConfigurationParser(final Path configPath) throws ConfigurationParsingException, ConfigurationValidationException, IOException {
+        URL defaultConfig = getClass().getClassLoader().getResource("config/default.properties");
+        if (!mBatch) {
+            return new JavaPropertiesConfigurationParser(configPath, defaultConfig, ConfigurationCache.getDefault());
+        }
+        Path key = configPath.toAbsolutePath().normalize();
+        ConfigurationWatcher watcher = mConfigurations.get(key);
+        if (watcher == null) {
+            watcher = new ConfigurationWatcher(key, defaultConfig, ConfigurationCache.getDefault());
+            watcher.addReloadListener(configuration -> mRenderers.clear());
+            final ConfigurationWatcher closedWatcher = watcher;
+            registerFinalizer(() -> {
+                try {
+                    closedWatcher.close();
+                } catch (IOException e) {
+                    mLogger.warn("Could not stop watching configuration " + key, e);
+                }
+            });
+            mConfigurations.put(key, watcher);
+        }
+        return watcher.getConfiguration();
+    }
+
+    /**
+     * Get a renderer for the given configuration. Renderers are reused for jobs with the same configuration and format.
+     * Since each configuration is only parsed again when its files change, the format object identifies both.
+     * @param printer The printer configuration.
+     * @param representation The representation configuration.
+     * @param format The format configuration.
+     * @return The renderer.
+     */
+    private MasterRenderer getRenderer(final Printer printer, final Representation representation, final Format format) {
+        return mRenderers.computeIfAbsent(format, f -> new MasterRenderer(printer, representation, format));
+    }
+
+    /**
+     * Parse the data of a diagram from a csv file.
+     * The csv file is memory mapped and parsed in parallel chunks, so every parsing attempt reads it again.
+     * @param csvLocation The path to the csv file.
+     * @param csvOrientation The orientation of the csv file.
+     * @param diagramType The type of the diagram, which determines the structure of the csv file.
+     * @return The parsed data.
+     * @throws IOException If the file could not be read.
+     */
+    private PointListContainer<PointList> parseCsv(final Path csvLocation, final CsvOrientation csvOrientation, final String diagramType) throws IOException {
+        switch (diagramType) {
+            case "ScatterPlot":
+            case "LineChart":
+                return CsvParser.parse(csvLocation, Charset.defaultCharset(), ',', '\"', CsvType.DOTS, csvOrientation);
+            case "BarChart":
+                try { // first try to parse as regular bar chart.
+                    return CsvParser.parse(csvLocation, Charset.defaultCharset(), ',', '\"', CsvType.X_ALIGNED, csvOrientation);
+                } catch (MalformedCsvException e) { // else parse as categorical bar chart
+                    return CsvParser.parse(csvLocation, Charset.defaultCharset(), ',', '\"', CsvType.X_ALIGNED_CATEGORIES, csvOrientation);
+                }
+            default: throw new IllegalStateException("Unknown diagram type: " + diagramType);
+        }
+    }
+
+    /**
+     * Run a single job: parse the csv data or load the binary dataset, render the diagram and export or print the pages.
+     * @param settingsReader The settings of the job.
+     * @throws Exception On any error.
+     */
+    @SuppressWarnings("MethodLength")
+    private void runJob(final SettingsReader settingsReader) throws Exception {
+        setLoggingLevel(Level.valueOf(settingsReader.getSetting(SettingType.LOG_LEVEL).orElse("Info")));
+
+        // Config Parsing
+        Path configPath = Path.of(settingsReader.getSetting(SettingType.PRINTER_CONFIG_PATH).get());
+        ConfigurationParser configParser = getConfigurationParser(configPath);
+
+        // Set up Printer, Representation & Format Configurables
+        Printer printer = configParser.getPrinter();
+        Representation representationParameters = configParser.getRepresentation();
+        Format format;
+        if (!settingsReader.isPresent(SettingType.FORMAT)) {
+            format = configParser.getFormat("default"); // Default behaviour from default config (A4 portrait)
+        } else {
+            format = configParser.getFormat(settingsReader.getSetting(SettingType.FORMAT).get());
+        }
 
-            // Parse csv data and create diagram
-            InputStream csvStream;
-            csvStream = new FileInputStream(settingsReader.getSetting(SettingType.CSV_LOCATION).get());
-            Reader csvReader = new BufferedReader(new InputStreamReader(Objects.requireNonNull(csvStream)));
-            CsvParser csvParser = new CsvParser(csvReader, ',', '\"');
-            Diagram diagram;
+        // Parse csv data or load a binary dataset and create diagram
+        String diagramType = settingsReader.getSetting(SettingType.DIAGRAM_TYPE).orElse("");
+        PointListContainer<PointList> container;
+        if (settingsReader.isPresent(SettingType.DATASET_LOCATION)) {
+            // The dataset is memory mapped, so only the accessed parts are read
+            container = BinaryDataset.load(Path.of(settingsReader.getSetting(SettingType.DATASET_LOCATION).get()));
+        } else {
             CsvOrientation csvOrientation;
             if (settingsReader.isTrue(SettingType.VERTICAL_CSV).orElse(false)) {
                 csvOrientation = CsvOrientation.VERTICAL;
             } else {
                 csvOrientation = CsvOrientation.HORIZONTAL;
             }
-            switch (settingsReader.getSetting(SettingType.DIAGRAM_TYPE).orElse("")) {
-                case "ScatterPlot":
-                    PointListContainer<PointList> scatterPlotContainer = csvParser.parse(CsvType.DOTS, csvOrientation);
-                    diagram = new ScatterPlot(scatterPlotContainer);
-                    break;
-                case "LineChart":
-                    PointListContainer<PointList> lineChartContainer = csvParser.parse(CsvType.DOTS, csvOrientation);
-                    diagram = new LineChart(lineChartContainer);
-                    break;
-                case "BarChart":
-                    CategoricalPointListContainer<PointList> barChartContainer;
-                    try { // first try to parse as regular bar chart and convert to single category bar cart.
-                        barChartContainer = new SimpleCategoricalPointListContainerImpl(csvParser.parse(CsvType.X_ALIGNED, csvOrientation));
-                    } catch (MalformedCsvException e) { // else parse as categorical bar chart
-                        barChartContainer = csvParser.parse(CsvType.X_ALIGNED_CATEGORIES, csvOrientation);
-                    }
-                    diagram = new CategoricalBarChart(barChartContainer);
-                    break;
-                default: throw new IllegalStateException("Unknown diagram type: " + settingsReader.getSetting(SettingType.DIAGRAM_TYPE).orElse("<none>"));
-            }
-            diagram.setTitle(settingsReader.getSetting(SettingType.DIAGRAM_TITLE).orElse(""));
-            diagram.setXAxisName(settingsReader.getSetting(SettingType.X_AXIS_LABEL).orElse(""));
-            diagram.setYAxisName(settingsReader.getSetting(SettingType.Y_AXIS_LABEL).orElse(""));
+            container = parseCsv(Path.of(settingsReader.getSetting(SettingType.CSV_LOCATION).get()), csvOrientation, diagramType);
+        }
+        if (settingsReader.isPresent(SettingType.DATASET_EXPORT)) {
+            BinaryDataset.write(container, Path.of(settingsReader.getSetting(SettingType.DATASET_EXPORT).get()));
+        }
 
-            // Render diagram
-            LiblouisBrailleTextRasterizer.initModule();
-            MasterRenderer renderer = new MasterRenderer(printer, representationParameters, format);
-            PrinterCapability mode = PrinterCapability.valueOf(printer.getProperty("mode").toString().toUpperCase());
-            Iterator<? extends PrintableData> outputPages;
-            SvgExporter<? extends AbstractCanvas> svgExporter;
-            switch (mode) { // Decide on correct rendering mode to apply
-                case NORMALPRINTER:
-                    RasterCanvas rasterCanvas = renderer.rasterize(diagram);
-                    svgExporter = new BoolMatrixDataSvgExporter(rasterCanvas);
-                    outputPages = rasterCanvas.getPageIterator();
-                    break;
-                case INDEX_EVEREST_D_V4_FLOATINGDOT_PRINTER:
-                    PlotCanvas plotCanvas = renderer.plot(diagram);
-                    svgExporter = new BoolFloatingPointDataSvgExporter(plotCanvas);
-                    outputPages = plotCanvas.getPageIterator();
-                    break;
-                default: throw new UnsupportedOperationException("Mode not supported: " + mode);
-            }
+        Diagram diagram;
+        switch (diagramType) {
+            case "ScatterPlot":
+                diagram = new ScatterPlot(container);
+                break;
+            case "LineChart":
+                diagram = new LineChart(container);
+                break;
+            case "BarChart":
+                if (container instanceof CategoricalPointListContainer) {
+                    diagram = new CategoricalBarChart((CategoricalPointListContainer<PointList>) container);
+                } else { // convert regular bar chart to single category bar chart.
+                    diagram = new CategoricalBarChart(new SimpleCategoricalPointListContainerImpl(container));
+                }
+                break;
+            default: throw new IllegalStateException("Unknown diagram type: " + settingsReader.getSetting(SettingType.DIAGRAM_TYPE).orElse("<none>"));
+        }
+        diagram.setTitle(settingsReader.getSetting(SettingType.DIAGRAM_TITLE).orElse(""));
+        diagram.setXAxisName(settingsReader.getSetting(SettingType.X_AXIS_LABEL).orElse(""));
+        diagram.setYAxisName(settingsReader.getSetting(SettingType.Y_AXIS_LABEL).orElse(""));
+
+        // Action switches
+        boolean doPrint = !settingsReader.isTrue(SettingType.INHIBIT_PRINT).orElse(false);
+        boolean doSvgExport = settingsReader.isPresent(SettingType.SVG_EXPORT);
+        boolean doByteDump = settingsReader.isPresent(SettingType.BYTE_DUMP);
+        boolean doStreamPages = settingsReader.isTrue(SettingType.STREAM_PAGES).orElse(false);
+        boolean applyWorkaround;
+        switch (NativeLibraryHelper.getOs()) {
+            case "win32":
+                applyWorkaround = false;
+                break;
+            case "osx":
+            case "linux":
+            default:
+                applyWorkaround = true;
+        }
+        if (settingsReader.isTrue(SettingType.NO_PRINT_WORKAROUND).orElse(false)) {
+            applyWorkaround = false;
+        }
 
-            // Action switches
-            boolean doPrint = !settingsReader.isTrue(SettingType.INHIBIT_PRINT).orElse(false);
-            boolean doSvgExport = settingsReader.isPresent(SettingType.SVG_EXPORT);
-            boolean doByteDump = settingsReader.isPresent(SettingType.BYTE_DUMP);
+        // Set up canvas for the correct rendering mode
+        LiblouisBrailleTextRasterizer.initModule();
+        MasterRenderer renderer = getRenderer(printer, representationParameters, format);
+        PrinterCapability mode = PrinterCapability.valueOf(printer.getProperty("mode").toString().toUpperCase());
+        AbstractCanvas<? extends PrintableData> canvas;
+        SvgExporter<? extends AbstractCanvas> svgExporter;
+        switch (mode) { // Decide on correct rendering mode to apply
+            case NORMALPRINTER:
+                RasterCanvas rasterCanvas = renderer.createCompatibleRasterCanvas();
+                svgExporter = new BoolMatrixDataSvgExporter(rasterCanvas);
+                canvas = rasterCanvas;
+                break;
+            case INDEX_EVEREST_D_V4_FLOATINGDOT_PRINTER:
+                PlotCanvas plotCanvas = renderer.createCompatiblePlotCanvas();
+                svgExporter = new BoolFloatingPointDataSvgExporter(plotCanvas);
+                canvas = plotCanvas;
+                break;
+            default: throw new UnsupportedOperationException("Mode not supported: " + mode);
+        }
+
+        PrintDirector printD = new PrintDirector(mode, printer);
+        if (doPrint && !PrintDirector.isPrintServiceOn()) { // Check for running spooler or print service
+            throw new Exception("Can't find any running print services on this system.");
+        }
+        File svgBaseFile = null; // Setup svg base file if required
+        if (doSvgExport) {
+            svgBaseFile = new File(settingsReader.getSetting(SettingType.SVG_EXPORT).get());
+        }
+        File dumpBaseFile = null; // Setup dump base file if required
+        if (doByteDump) {
+            dumpBaseFile = new File(settingsReader.getSetting(SettingType.BYTE_DUMP).get());
+        }
+
+        if (doStreamPages) {
+            // Export and print every page as soon as it is completed, while the next page is rendered.
+            try (PagePipeline<PrintableData> pipeline = new PagePipeline<>(PagePipeline.DEFAULT_QUEUE_DEPTH)) {
+                if (doSvgExport) {
+                    final String svgBasePath = svgBaseFile.getAbsolutePath();
+                    pipeline.addStage("svg-export", (page, pageNumber) -> svgExporter.renderAndDump(page, svgBasePath + String.format("_%03d.svg", pageNumber)));
+                }
+                if (doByteDump) {
+                    // The document builders are not thread safe, so the stage uses its own director.
+                    final PrintDirector dumpD = new PrintDirector(mode, printer);
+                    final File dumpBase = dumpBaseFile;
+                    pipeline.addStage("byte-dump", (page, pageNumber) -> dumpPage(dumpD, page, dumpBase, pageNumber));
+                }
+                if (doPrint) {
+                    final boolean workaround = applyWorkaround;
+                    pipeline.addStage("print", (page, pageNumber) -> printPage(printD, page, workaround));
+                }
+                canvas.setPageCompletedListener(pipeline, false);
+                renderDiagram(renderer, diagram, canvas);
+            }
+        } else {
+            // Render diagram
+            renderDiagram(renderer, diagram, canvas);
+            Iterator<? extends PrintableData> outputPages = canvas.getPageIterator();
 
             // SVG exporting
             if (doSvgExport) {
-                File svgBaseFile = new File(settingsReader.getSetting(SettingType.SVG_EXPORT).get());
                 svgExporter.render();
                 svgExporter.dump(svgBaseFile.getAbsolutePath());
             }
 
             // Printing and Byte Dumping
-            PrintDirector printD = new PrintDirector(mode, printer);
-            if (doPrint && !PrintDirector.isPrintServiceOn()) { // Check for running spooler or print service
-                throw new Exception("Can't find any running print services on this system.");
-            }
-            File dumpBaseFile = null; // Setup dump base file if required
-            if (doByteDump) {
-                dumpBaseFile = new File(settingsReader.getSetting(SettingType.BYTE_DUMP).get());
-            }
             int pageNumber = 0;
             while (outputPages.hasNext()) { // Iterate pages
                 PrintableData page = outputPages.next();
                 if (doByteDump) { // Byte dump
-                    try (FileOutputStream outputStream = new FileOutputStream(dumpBaseFile.getAbsolutePath() + String.format("_%03d.bin", pageNumber))) {
-                        outputStream.write(printD.byteDump(page));
-                    } catch (IOException ex) {
-                        // Inform user, but do not stop execution
-                        mLogger.error("An error occured while creating byte dump", ex);
-                    }
+                    dumpPage(printD, page, dumpBaseFile, pageNumber);
                 }
                 if (doPrint) { // Print page
-                    boolean applyWorkaround;
-                    switch (NativeLibraryHelper.getOs()) {
-                        case "win32":
-                            applyWorkaround = false;
-                            break;
-                        case "osx":
-                        case "linux":
-                        default:
-                            applyWorkaround = true;
-                    }
-                    if (settingsReader.isTrue(SettingType.NO_PRINT_WORKAROUND).orElse(false)) {
-                        applyWorkaround = false;
-                    }
-                    if (!applyWorkaround) {
-                        printD.print(page);
-                    } else {
-                        mLogger.warn("Currently a workaround is applied for printer communication. Expect a waiting time of up to 100 seconds between document pages. Disable with option -npw");
-                        Thread printingThread = new Thread(() -> {
-                            mLogger.debug("Started printing thread");
-                            printD.print(page);
-                            mLogger.debug("Print call returned");
-                        });
-                        printingThread.start();
-                        while (printingThread.isAlive()) {
-                            final int reduceBusinessWaitingTime = 100;
-                            Thread.sleep(reduceBusinessWaitingTime);
-                        }
-                        mLogger.debug(printingThread.getName() + " has finished.");
-                        try {
-                            final int waitBetweenJobs = 100000;
-                            Thread.sleep(waitBetweenJobs);
-                        } catch (InterruptedException e) {
-                            e.printStackTrace();
-                        }
-                    }
+                    printPage(printD, page, applyWorkaround);
                 }
 
                 pageNumber++;
             }
-        } catch (final Exception e) {
-            terminateWithException(e);
         }
+    }
 
-        runFinalizers();
+    private void renderDiagram(final MasterRenderer renderer, final Diagram diagram, final AbstractCanvas<? extends PrintableData> canvas) throws InsufficientRenderingAreaException {
+        if (canvas instanceof RasterCanvas) {
+            renderer.rasterize(diagram, (RasterCanvas) canvas);
+        } else {
+            renderer.plot(diagram, (PlotCanvas) canvas);
+        }
+    }
 
-        return EXIT_SUCCESS;
+    private void dumpPage(final PrintDirector printD, final PrintableData page, final File dumpBaseFile, final int pageNumber) {
+        try (FileOutputStream outputStream = new FileOutputStream(dumpBaseFile.getAbsolutePath() + String.format("_%03d.bin", pageNumber))) {
+            outputStream.write(printD.byteDump(page));
+        } catch (IOException ex) {
+            // Inform user, but do not stop execution
+            mLogger.error("An error occured while creating byte dump", ex);
+        }
+    }
+
+    private void printPage(final PrintDirector printD, final PrintableData page, final boolean applyWorkaround) throws InterruptedException {
+        if (!applyWorkaround) {
+            printD.print(page);
+        } else {
+            mLogger.warn("Currently a workaround is applied for printer communication. Expect a waiting time of up to 100 seconds between document pages. Disable with option -npw");
+            Thread printingThread = new Thread(() -> {
+                mLogger.debug("Started printing thread");
+                printD.print(page);
+                mLogger.debug("Print call returned");
+            });
+            printingThread.start();
+            while (printingThread.isAlive()) {
+                final int reduceBusinessWaitingTime = 100;
+                Thread.sleep(reduceBusinessWaitingTime);
+            }
+            mLogger.debug(printingThread.getName() + " has finished.");
+            try {
+                final int waitBetweenJobs = 100000;
+                Thread.sleep(waitBetweenJobs);
+            } catch (InterruptedException e) {
+                e.printStackTrace();
+            }
+        }
     }
 
     public static void setLoggingLevel(final Level level) {
@@ -0,0 +1,208 @@
+package de.tudresden.inf.mci.brailleplot;
+
+import de.tudresden.inf.mci.brailleplot.printabledata.PrintableData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Consumer;
+
+/**
+ * Passes completed pages to a number of processing stages (e.g. SVG export, byte dump, printing), while the next
+ * pages are still being rendered.
+ * Every stage runs on its own thread and processes the pages in the order they were rendered. Each stage owns a bounded
+ * queue, so rendering is blocked as soon as a stage falls behind by more than the queue depth. Therefore, the number of
+ * pages kept in memory only depends on the queue depth, not on the size of the document.
+ * @param <T> The type of the pages.
+ * @author agent
+ * @version 2026.10.18
+ */
+public final class PagePipeline<T extends PrintableData> implements Consumer<T>, AutoCloseable {
+
+    public static final int DEFAULT_QUEUE_DEPTH = 2;
+
+    private final Logger mLogger = LoggerFactory.getLogger(this.getClass());
+
+    private final int mQueueDepth;
+    private final List<Stage> mStages = new ArrayList<>();
+    private int mPageCount = 0;
+    private boolean mClosed = false;
+
+    /**
+     * Processing step of a single stage.
+     * @param <T> The type of the pages.
+     */
+    @FunctionalInterface
+    public interface PageConsumer<T> {
+        /**
+         * Process a page.
+         * @param page The page.
+         * @param pageNumber The index of the page in the document, starting at 0.
+         * @throws Exception On any error. Processing of the stage is stopped, the error is rethrown by {@link #close()}.
+         */
+        void accept(T page, int pageNumber) throws Exception;
+    }
+
+    /**
+     * Constructor.
+     * @param queueDepth The maximum number of pages waiting for each stage.
+     * @throws IllegalArgumentException If queueDepth {@literal <}= 0.
+     */
+    public PagePipeline(final int queueDepth) {
+        if (queueDepth <= 0) {
+            throw new IllegalArgumentException("The queue depth must be a positive integer");
+        }
+        mQueueDepth = queueDepth;
+    }
+
+    /**
+     * Add and start a new processing stage. Stages must be added before the first page is passed to the pipeline.
+     * @param name The name of the stage, used for the worker thread.
+     * @param consumer The processing step.
+     * @throws IllegalStateException If pages were already passed to the pipeline.
+     */
+    public void addStage(final String name, final PageConsumer<? super T> consumer) {
+        Objects.requireNonNull(name);
+        Objects.requireNonNull(consumer);
+        if (mPageCount > 0 || mClosed) {
+            throw new IllegalStateException("Stages must be added before the first page is processed");
+        }
+        Stage stage = new Stage(name, consumer);
+        mStages.add(stage);
+        stage.mThread.start();
+    }
+
+    /**
+     * Pass a completed page to all stages. Blocks while the queue of any stage is full.
+     * @param page The page.
+     * @throws IllegalStateException If the pipeline was already closed.
+     * @throws RuntimeException If interrupted while waiting for a stage.
+     */
+    @Override
+    public void accept(final T page) {
+        Objects.requireNonNull(page);
+        if (mClosed) {
+            throw new IllegalStateException("The pipeline was already closed");
+        }
+        PageEntry<T> entry = new PageEntry<>(page, mPageCount++);
+        mLogger.debug("Page {} completed, passing it to {} stage(s)", entry.mPageNumber, mStages.size());
+        for (Stage stage : mStages) {
+            try {
+                stage.mQueue.put(entry);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for stage " + stage.mName, e);
+            }
+        }
+    }
+
+    /**
+     * Get the number of pages passed to the pipeline.
+     * @return The number of pages.
+     */
+    public int getPageCount() {
+        return mPageCount;
+    }
+
+    /**
+     * Wait for all stages to process the remaining pages and stop the worker threads.
+     * @throws IOException The first error that occurred in any of the stages. Errors other than {@link IOException}s
+     *     and {@link RuntimeException}s are wrapped in an {@link IOException}.
+     */
+    @Override
+    public void close() throws IOException {
+        if (mClosed) {
+            return;
+        }
+        mClosed = true;
+        Stage failed = null;
+        try {
+            for (Stage stage : mStages) {
+                stage.mQueue.put(new PageEntry<>(null, -1));
+            }
+            for (Stage stage : mStages) {
+                stage.mThread.join();
+                if (failed == null && stage.mFailure != null) {
+                    failed = stage;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            InterruptedIOException interrupted = new InterruptedIOException("Interrupted while waiting for the stages to finish");
+            interrupted.initCause(e);
+            throw interrupted;
+        }
+        if (failed != null) {
+            Exception failure = failed.mFailure;
+            if (failure instanceof IOException) {
+                throw (IOException) failure;
+            }
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            }
+            throw new IOException("Stage " + failed.mName + " failed", failure);
+        }
+    }
+
+    /**
+     * A page together with its index. An entry without a page marks the end of the document.
+     * @param <T> The type of the page.
+     */
+    private static final class PageEntry<T> {
+        private final T mPage;
+        private final int mPageNumber;
+
+        PageEntry(final T page, final int pageNumber) {
+            mPage = page;
+            mPageNumber = pageNumber;
+        }
+    }
+
+    /**
+     * A processing stage with its own queue and worker thread.
+     */
+    private final class Stage implements Runnable {
+        private final String mName;
+        private final PageConsumer<? super T> mConsumer;
+        private final BlockingQueue<PageEntry<T>> mQueue = new ArrayBlockingQueue<>(mQueueDepth);
+        private final Thread mThread;
+        private volatile Exception mFailure;
+
+        Stage(final String name, final PageConsumer<? super T> consumer) {
+            mName = name;
+            mConsumer = consumer;
+            mThread = new Thread(this, "page-pipeline-" + name);
+            mThread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (true) {
+                    PageEntry<T> entry = mQueue.take();
+                    if (entry.mPage == null) {
+                        return;
+                    }
+                    if (mFailure != null) {
+                        // Keep draining the queue, so the renderer is not blocked forever.
+                        continue;
+                    }
+                    try {
+                        mConsumer.accept(entry.mPage, entry.mPageNumber);
+                    } catch (Exception e) {
+                        mLogger.error("Stage {} failed on page {}", mName, entry.mPageNumber, e);
+                        mFailure = e;
+                    }
+                }
+            } catch (InterruptedException e) {
+                mFailure = e;
+            }
+        }
+    }
+}
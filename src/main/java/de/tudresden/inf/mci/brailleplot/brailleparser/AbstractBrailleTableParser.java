@@ -2,12 +2,19 @@ package de.tudresden.inf.mci.brailleplot.brailleparser;
 
 import de.tudresden.inf.mci.brailleplot.configparser.Printer;
 import de.tudresden.inf.mci.brailleplot.printerbackend.NotSupportedFileExtensionException;
+import de.tudresden.inf.mci.brailleplot.util.LruCache;
 
 /**
  * Defines an interface which should be implemented in all parsers of braille tables.
  */
 public abstract class AbstractBrailleTableParser {
 
+    private static final int PARSER_CACHE_SIZE = 16;
+
+    // Parsed tables are never modified after construction, so the instances are shared process wide.
+    private static final LruCache<String, AbstractBrailleTableParser> PARSER_CACHE = new LruCache<>(PARSER_CACHE_SIZE);
+    private static final LruCache<String, CompiledBrailleTable> COMPILED_CACHE = new LruCache<>(PARSER_CACHE_SIZE);
+
     /**
      * Common method for querying the braille table.
      * @param key Braille cell, represented as string ("111000").
@@ -16,6 +23,14 @@ public abstract class AbstractBrailleTableParser {
     public abstract int getByteAsIntBackEnd(String key);
     public abstract String getCharToBraille(String key);
 
+    /**
+     * Get a parser for the braille table referenced by the given printer property.
+     * Each table file is only read once, subsequent calls for the same table return the cached parser instance.
+     * @param printer The printer configuration.
+     * @param property The name of the property holding the path to the braille table (e.g. "brailletable").
+     * @return The parser for the referenced table.
+     * @throws NotSupportedFileExtensionException If the file extension of the table is not supported.
+     */
     public static AbstractBrailleTableParser getParser(final Printer printer, final String property) throws NotSupportedFileExtensionException {
         //read braille table path
         String brailleTablePath = printer.getProperty(property).toString();
@@ -25,14 +40,42 @@ public abstract class AbstractBrailleTableParser {
         String fileEnding = parts[parts.length - 1]; // made safe for relative paths containing "./" or "../"
         switch (fileEnding) {
             case "properties":
-                return new PropertiesParser(brailleTablePath);
+                return PARSER_CACHE.get(brailleTablePath, PropertiesParser::new);
             case "json":
-                return new JsonParser(brailleTablePath);
+                return PARSER_CACHE.get(brailleTablePath, JsonParser::new);
             case "xml":
-                return new XmlParser(brailleTablePath);
+                return PARSER_CACHE.get(brailleTablePath, XmlParser::new);
             default:
                 throw new NotSupportedFileExtensionException("The Fileextension " + fileEnding + " is currently not supported.");
         }
     }
 
+    /**
+     * Get the compiled form of the 6 dot braille table referenced by the given printer property.
+     * The table is compiled once per table file and cached.
+     * @param printer The printer configuration.
+     * @param property The name of the property holding the path to the braille table (e.g. "brailletable").
+     * @return The compiled table.
+     * @throws NotSupportedFileExtensionException If the file extension of the table is not supported.
+     */
+    public static CompiledBrailleTable getCompiledTable(final Printer printer, final String property) throws NotSupportedFileExtensionException {
+        String brailleTablePath = printer.getProperty(property).toString();
+        CompiledBrailleTable table = COMPILED_CACHE.getIfPresent(brailleTablePath);
+        if (table == null) {
+            table = CompiledBrailleTable.compile(getParser(printer, property));
+            COMPILED_CACHE.put(brailleTablePath, table);
+        }
+        return table;
+    }
+
+    /**
+     * Drop the cached parser and compiled table of a braille table file, so that it is read again on the next request.
+     * Must be called when the file is modified, as the caches only know the path of the table.
+     * @param brailleTablePath The path of the braille table, as stored in the printer property.
+     */
+    public static void evict(final String brailleTablePath) {
+        COMPILED_CACHE.invalidate(brailleTablePath);
+        PARSER_CACHE.invalidate(brailleTablePath);
+    }
+
 }
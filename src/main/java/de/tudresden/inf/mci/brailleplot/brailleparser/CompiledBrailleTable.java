@@ -0,0 +1,75 @@
+package de.tudresden.inf.mci.brailleplot.brailleparser;
+
+import java.util.Objects;
+
+/**
+ * Compiled representation of a 6 dot braille table.
+ * Instead of looking up the bit string of a cell ("010110") in the parsed table, the output byte is read from an array
+ * indexed by the 6 bit dot mask of the cell. Bit i of the mask represents the i-th dot, in the order used by
+ * {@link de.tudresden.inf.mci.brailleplot.printabledata.BrailleCell6}.
+ * @author agent
+ * @version 2026.10.18
+ */
+public final class CompiledBrailleTable {
+
+    public static final int CELL_COUNT = 64;
+    public static final int DOT_COUNT = 6;
+
+    private static final int BYTE_MASK = 0xFF;
+
+    private final byte[] mBytes = new byte[CELL_COUNT];
+    private long mDefined = 0;
+
+    private CompiledBrailleTable() { }
+
+    /**
+     * Compile the given braille table by querying all 64 possible cells.
+     * Cells missing in the table are remembered and only reported when they are looked up.
+     * @param parser The parsed braille table.
+     * @return The compiled table.
+     */
+    public static CompiledBrailleTable compile(final AbstractBrailleTableParser parser) {
+        Objects.requireNonNull(parser);
+        CompiledBrailleTable table = new CompiledBrailleTable();
+        char[] key = new char[DOT_COUNT];
+        for (int mask = 0; mask < CELL_COUNT; mask++) {
+            for (int dot = 0; dot < DOT_COUNT; dot++) {
+                key[dot] = '0';
+                if ((mask & (1 << dot)) != 0) {
+                    key[dot] = '1';
+                }
+            }
+            int value;
+            try {
+                value = parser.getByteAsIntBackEnd(new String(key));
+            } catch (NumberFormatException e) {
+                continue;
+            }
+            table.mBytes[mask] = (byte) value;
+            table.mDefined |= 1L << mask;
+        }
+        return table;
+    }
+
+    /**
+     * Get the byte representing a braille cell.
+     * @param mask The dot mask of the cell, bit i representing the i-th dot.
+     * @return The byte (as int in the range 0 - 255) for the cell.
+     * @throws IllegalArgumentException If the braille table does not contain the cell.
+     */
+    public int getByte(final int mask) {
+        if (!isDefined(mask)) {
+            throw new IllegalArgumentException("The braille table does not contain a value for the cell mask " + mask);
+        }
+        return mBytes[mask] & BYTE_MASK;
+    }
+
+    /**
+     * Check whether the braille table contains a value for a cell.
+     * @param mask The dot mask of the cell, bit i representing the i-th dot.
+     * @return True if the cell is contained.
+     */
+    public boolean isDefined(final int mask) {
+        return mask >= 0 && mask < CELL_COUNT && (mDefined & (1L << mask)) != 0;
+    }
+}
@@ -5,17 +5,20 @@ import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.DefaultParser;
 import org.apache.commons.cli.HelpFormatter;
 import org.apache.commons.cli.Option;
+import org.apache.commons.cli.OptionGroup;
 import org.apache.commons.cli.Options;
 import org.apache.commons.cli.ParseException;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 
 
 /**
  * Performs command line parsing and creates a {@link Settings} object.
  * @author Georg Graßnick, Andrey Ruzhanskiy, Leonard Kupper
- * @version 2019.10.03
+ * @version 2026.10.18
  */
 public class CommandLineParser {
 
@@ -28,14 +31,28 @@ public class CommandLineParser {
             .desc("Print help and exit")
             .build();
 
+    public static Option batchOption = Option.builder("B")
+            .longOpt(SettingType.BATCH_MANIFEST.toString())
+            .required(false)
+            .hasArg(true)
+            .desc("Run all jobs from the given manifest file ('-' for stdin). Every line holds the parameters of a single job")
+            .build();
+
+    private Options mBatchOptions;
+
     public CommandLineParser() {
         setupOptions();
     }
 
     private void setupOptions() {
+        // The data is either parsed from a csv file or loaded from a binary dataset
+        OptionGroup inputOptions = new OptionGroup();
+        inputOptions.addOption(new Option("c", SettingType.CSV_LOCATION.toString(), true, "Path to CSV"))
+                .addOption(new Option("ds", SettingType.DATASET_LOCATION.toString(), true, "Path to binary dataset, which is used instead of a CSV (see --" + SettingType.DATASET_EXPORT + ")"));
+        inputOptions.setRequired(true);
         mOptions = new Options();
         mOptions.addOption(helpOption)
-                .addRequiredOption("c", SettingType.CSV_LOCATION.toString(), true, "Path to CSV")
+                .addOptionGroup(inputOptions)
                 .addRequiredOption("p", SettingType.PRINTER_CONFIG_PATH.toString(), true, "Path to printer configuration file")
                 .addRequiredOption("t", SettingType.DIAGRAM_TITLE.toString(), true, "Title of the diagram")
                 .addRequiredOption("d", SettingType.DIAGRAM_TYPE.toString(), true, "Type of the diagram. Possible Values: [ScatterPlot, LineChart, BarChart]")
@@ -47,7 +64,13 @@ public class CommandLineParser {
                 .addOption("s", SettingType.SVG_EXPORT.toString(), true, "Base file path for export of svg file(s) (Omit '.svg' suffix)")
                 .addOption("b", SettingType.BYTE_DUMP.toString(), true, "Base file path for print data byte dump file(s) (Omit '.bin' suffix)")
                 .addOption("l", SettingType.LOG_LEVEL.toString(), true, "Logging output level. Possible Values: [All, Trace, Debug, Info, Warn, Error, Off] Defaults to 'Info'")
-                .addOption("npw", SettingType.NO_PRINT_WORKAROUND.toString(), false, "Do not apply sleeptime workaround for printer communication. Only has effect on non-windows machines.");
+                .addOption("npw", SettingType.NO_PRINT_WORKAROUND.toString(), false, "Do not apply sleeptime workaround for printer communication. Only has effect on non-windows machines.")
+                .addOption("sp", SettingType.STREAM_PAGES.toString(), false, "Export and print every page as soon as it is rendered instead of rendering the whole document first")
+                .addOption("dx", SettingType.DATASET_EXPORT.toString(), true, "File path for export of the parsed data as binary dataset, which can be rendered again without parsing");
+        mBatchOptions = new Options();
+        mBatchOptions.addOption(helpOption)
+                .addOption(batchOption)
+                .addOption("l", SettingType.LOG_LEVEL.toString(), true, "Logging output level. Possible Values: [All, Trace, Debug, Info, Warn, Error, Off] Defaults to 'Info'");
     }
 
     /**
@@ -68,6 +91,76 @@ public class CommandLineParser {
         return new Settings(cmdLine);
     }
 
+    /**
+     * Parse the command line parameters of a batch invocation.
+     * @param args The arguments from the commandline.
+     * @return A {@link Settings} object containing the manifest path and log level.
+     * @throws ParsingException On any underlying error.
+     */
+    public final Settings parseBatch(final String[] args) throws ParsingException {
+        org.apache.commons.cli.CommandLineParser parser = new DefaultParser();
+        CommandLine cmdLine;
+        try {
+            cmdLine = parser.parse(mBatchOptions, args);
+        } catch (ParseException pe) {
+            throw new ParsingException("Could not parse command line", pe);
+        }
+        return new Settings(cmdLine);
+    }
+
+    /**
+     * Check whether the application should run in batch mode.
+     * @param args The arguments from the commandline.
+     * @return true if the batch option is given.
+     */
+    public static boolean checkForBatch(final String[] args) {
+        return Arrays.asList(args).contains("-" + batchOption.getOpt())
+                || Arrays.asList(args).contains("--" + batchOption.getLongOpt());
+    }
+
+    /**
+     * Split a line into command line arguments. Arguments are separated by whitespace, single or double quotes can be
+     * used for arguments containing whitespace.
+     * @param line The line to split.
+     * @return The arguments.
+     * @throws IllegalArgumentException If a quote is not closed.
+     */
+    public static String[] splitArguments(final String line) {
+        Objects.requireNonNull(line);
+        List<String> arguments = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean inArgument = false;
+        char quote = 0;
+        for (char c : line.toCharArray()) {
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+                inArgument = true;
+            } else if (Character.isWhitespace(c)) {
+                if (inArgument) {
+                    arguments.add(current.toString());
+                    current.setLength(0);
+                    inArgument = false;
+                }
+            } else {
+                current.append(c);
+                inArgument = true;
+            }
+        }
+        if (quote != 0) {
+            throw new IllegalArgumentException("Unclosed quote in line: " + line);
+        }
+        if (inArgument) {
+            arguments.add(current.toString());
+        }
+        return arguments.toArray(new String[0]);
+    }
+
     public static boolean checkForHelp(final String[] args)  {
 
         boolean hasHelp = false;
@@ -3,12 +3,14 @@ package de.tudresden.inf.mci.brailleplot.commandline;
 /**
  * Represents all possible parsed options parsed from the command line.
  * @author Georg Graßnick, Andrey Ruzhanskiy, Leonard Kupper
- * @version 2019.10.03
+ * @version 2026.10.18
  */
 public enum SettingType {
 
     DISPLAY_HELP("help"),
     CSV_LOCATION("csv-path"),
+    DATASET_LOCATION("dataset-path"),
+    DATASET_EXPORT("dataset-export"),
     PRINTER_CONFIG_PATH("printer-config-path"),
     DIAGRAM_TITLE("title"),
     X_AXIS_LABEL("xLabel"),
@@ -20,7 +22,9 @@ public enum SettingType {
     SVG_EXPORT("svg-export"),
     BYTE_DUMP("byte-dump"),
     LOG_LEVEL("log-level"),
-    NO_PRINT_WORKAROUND("no-print-workaround");
+    NO_PRINT_WORKAROUND("no-print-workaround"),
+    STREAM_PAGES("stream-pages"),
+    BATCH_MANIFEST("batch");
 
 
     private final String mName;
@@ -35,6 +39,10 @@ public enum SettingType {
                 return DISPLAY_HELP;
             case "csv-path":
                 return  CSV_LOCATION;
+            case "dataset-path":
+                return DATASET_LOCATION;
+            case "dataset-export":
+                return DATASET_EXPORT;
             case "printer-config-path":
                 return PRINTER_CONFIG_PATH;
             case "title":
@@ -59,6 +67,10 @@ public enum SettingType {
                 return LOG_LEVEL;
             case "no-print-workaround":
                 return NO_PRINT_WORKAROUND;
+            case "stream-pages":
+                return STREAM_PAGES;
+            case "batch":
+                return BATCH_MANIFEST;
             default:
                 throw new IllegalArgumentException("Setting not available");
         }
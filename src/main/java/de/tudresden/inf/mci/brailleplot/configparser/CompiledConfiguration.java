@@ -0,0 +1,146 @@
+package de.tudresden.inf.mci.brailleplot.configparser;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * An immutable snapshot of the properties of a {@link Printer}, {@link Format} or {@link Representation}.
+ * The fallback chain of the configuration is flattened into a single hash map and the property values are converted
+ * to numbers and booleans once, so the typed accessors neither search nor parse. Instances can be shared between
+ * threads and jobs.
+ * Use {@link Configurable#compile()} to create a snapshot.
+ * @author agent
+ * @version 2026.10.18
+ */
+public final class CompiledConfiguration {
+
+    private final String mDescription;
+    private final Map<String, Value> mValues;
+
+    CompiledConfiguration(final Configurable configurable) {
+        Objects.requireNonNull(configurable);
+        mDescription = configurable.toString();
+        Map<String, Value> values = new HashMap<>();
+        for (String propertyName : configurable.getPropertyNames()) {
+            values.put(propertyName, new Value(configurable.getProperty(propertyName).toString()));
+        }
+        mValues = Collections.unmodifiableMap(values);
+    }
+
+    /**
+     * Get the names of all available properties, including the properties of the fallback.
+     * @return An unmodifiable {@link Set} of the property names.
+     */
+    public Set<String> getPropertyNames() {
+        return mValues.keySet();
+    }
+
+    /**
+     * Check whether a property is available.
+     * @param propertyName The name of the property.
+     * @return true if the property is available, else false.
+     */
+    public boolean contains(final String propertyName) {
+        return mValues.containsKey(propertyName);
+    }
+
+    /**
+     * Get the value of a property as {@link String}.
+     * @param propertyName The name of the property.
+     * @return The property value.
+     * @throws NoSuchElementException If no property has the specified name.
+     */
+    public String getString(final String propertyName) {
+        return getValue(propertyName).mString;
+    }
+
+    /**
+     * Get the value of a property as int.
+     * @param propertyName The name of the property.
+     * @return The property value.
+     * @throws NoSuchElementException If no property has the specified name.
+     * @throws NumberFormatException If the value cannot be converted to an int, like {@link ValidProperty#toInt()}.
+     */
+    public int getInt(final String propertyName) {
+        Value value = getValue(propertyName);
+        if (value.mInt == null) {
+            throw new NumberFormatException("Property " + propertyName + " is not an integer: " + value.mString);
+        }
+        return value.mInt;
+    }
+
+    /**
+     * Get the value of a property as double.
+     * @param propertyName The name of the property.
+     * @return The property value.
+     * @throws NoSuchElementException If no property has the specified name.
+     * @throws NumberFormatException If the value cannot be converted to a double, like {@link ValidProperty#toDouble()}.
+     */
+    public double getDouble(final String propertyName) {
+        Value value = getValue(propertyName);
+        if (value.mDouble == null) {
+            throw new NumberFormatException("Property " + propertyName + " is not a number: " + value.mString);
+        }
+        return value.mDouble;
+    }
+
+    /**
+     * Get the value of a property as boolean, like {@link ValidProperty#toBool()}.
+     * @param propertyName The name of the property.
+     * @return The property value.
+     * @throws NoSuchElementException If no property has the specified name.
+     */
+    public boolean getBool(final String propertyName) {
+        return getValue(propertyName).mBool;
+    }
+
+    private Value getValue(final String propertyName) {
+        Value value = mValues.get(propertyName);
+        if (value == null) {
+            throw new NoSuchElementException("Property does not exist: " + propertyName);
+        }
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return "compiled " + mDescription;
+    }
+
+    /**
+     * A property value, converted to all supported types. Conversions that are not possible are null.
+     */
+    private static final class Value {
+        private final String mString;
+        private final Integer mInt;
+        private final Double mDouble;
+        private final boolean mBool;
+
+        Value(final String value) {
+            mString = value;
+            mInt = parseInt(value);
+            mDouble = parseDouble(value);
+            mBool = Boolean.parseBoolean(value);
+        }
+
+        private static Integer parseInt(final String value) {
+            try {
+                return Integer.valueOf(value);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        private static Double parseDouble(final String value) {
+            try {
+                return Double.valueOf(value);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -3,16 +3,24 @@ package de.tudresden.inf.mci.brailleplot.configparser;
 import java.util.HashSet;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Represents an entity with a set of valid properties, that can optionally be inherited and extended from a given
  * default fallback Configurable.
  * @author Leonard Kupper
- * @version 2019.06.26
+ * @version 2026.10.18
  */
 abstract class Configurable {
 
-    private Configurable mFallback;
+    // Source of the modification stamps. Every modification gets a stamp greater than all previous ones.
+    private static final AtomicLong MODIFICATIONS = new AtomicLong();
+
+    private volatile Configurable mFallback;
+    // Stamp of the last modification of this entity
+    private volatile long mModification = MODIFICATIONS.incrementAndGet();
+    // Cached result of compile(), valid as long as neither this entity nor any of its fallbacks was modified
+    private volatile Snapshot mCompiled;
     /**
      * A list of the properties specific to this entity.
      */
@@ -58,22 +66,67 @@ abstract class Configurable {
         throw new NoSuchElementException("Property does not exist: " + propertyName);
     }
 
+    /**
+     * Get an immutable snapshot of all properties, including the properties of the fallback, with constant time typed
+     * access. The snapshot is created once and reused, until this entity or one of its fallbacks is modified by
+     * {@link #setFallback(Configurable)} or {@link #override(ValidProperty)}.
+     * @return A {@link CompiledConfiguration} of the current properties.
+     */
+    public final CompiledConfiguration compile() {
+        // The stamp is read before the properties, so a concurrent modification invalidates the new snapshot
+        long stamp = getLastModification();
+        Snapshot snapshot = mCompiled;
+        if (snapshot == null || snapshot.mStamp != stamp) {
+            // Concurrent calls might compile twice, which does no harm, as the results are equal
+            snapshot = new Snapshot(new CompiledConfiguration(this), stamp);
+            mCompiled = snapshot;
+        }
+        return snapshot.mCompiled;
+    }
+
+    /**
+     * Get the stamp of the latest modification of this entity or any of its fallbacks. Replacing a fallback is a
+     * modification itself, so the stamp changes whenever the properties might have changed.
+     */
+    private long getLastModification() {
+        long stamp = mModification;
+        Configurable fallback = mFallback;
+        if (fallback != null) {
+            stamp = Math.max(stamp, fallback.getLastModification());
+        }
+        return stamp;
+    }
+
     /**
      * Set the default/fallback {@link Configurable} that will be used if a property cannot be found.
      * @param fallback A {@link Configurable} object.
      */
     public final void setFallback(final Configurable fallback) {
         mFallback = fallback;
+        mModification = MODIFICATIONS.incrementAndGet();
     }
 
     public final void override(final ValidProperty overridingProperty) {
         String propertyName = overridingProperty.getName();
         for (int i = 0; i < mProperties.size(); i++) {
             if (mProperties.get(i).getName().equals(propertyName)) {
-                mProperties.add(i, overridingProperty);
-                mProperties.remove(i + 1); // the old property
+                mProperties.set(i, overridingProperty); // replaces the old property
             }
         }
+        mModification = MODIFICATIONS.incrementAndGet();
+    }
+
+    /**
+     * A compiled configuration together with the modification stamp it was compiled at.
+     */
+    private static final class Snapshot {
+        private final CompiledConfiguration mCompiled;
+        private final long mStamp;
+
+        Snapshot(final CompiledConfiguration compiled, final long stamp) {
+            mCompiled = compiled;
+            mStamp = stamp;
+        }
     }
 
 }
@@ -0,0 +1,311 @@
+package de.tudresden.inf.mci.brailleplot.configparser;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * On-disk cache for the resolved and validated properties of configuration files.
+ * For every parsed configuration file, the cache stores the properties of the file and all of its (transitively) included
+ * files, together with a SHA-256 digest of the content of each of these files. The cached properties are only used if
+ * none of the files changed since they were cached, so repeated runs with the same configuration skip the parsing and
+ * validation of the properties.
+ * Properties referring to other files (e.g. the brailletable) are cached in their resolved form. Errors while reading
+ * or writing the cache are logged and cause the configuration to be parsed as usual.
+ * On file systems supporting POSIX permissions, the cache directory is only accessible by its owner, and cache files are
+ * ignored unless they and the directory are owned by the current user and not writable by anybody else. The parser
+ * validates the cached properties again nevertheless.
+ * @author agent
+ * @version 2026.10.18
+ */
+public final class ConfigurationCache {
+
+    // "BPCC" in ASCII
+    private static final int MAGIC = 0x42504343;
+    // Increment, whenever the format of the cache files or the interpretation of the properties changes
+    private static final int VERSION = 1;
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final String FILE_EXTENSION = ".cache";
+    private static final int BUFFER_SIZE = 8192;
+    private static final Path DEFAULT_DIRECTORY = Path.of(System.getProperty("user.home"), ".brailleplot", "config-cache");
+    private static final Set<PosixFilePermission> OWNER_ONLY = PosixFilePermissions.fromString("rwx------");
+
+    private final Logger mLogger = LoggerFactory.getLogger(getClass());
+    private final Path mDirectory;
+
+    /**
+     * Constructor.
+     * @param directory The directory to store the cache files in. It is created when the first file is stored.
+     */
+    public ConfigurationCache(final Path directory) {
+        mDirectory = Objects.requireNonNull(directory);
+    }
+
+    /**
+     * Get a cache located in the home directory of the current user.
+     * @return A {@link ConfigurationCache}.
+     */
+    public static ConfigurationCache getDefault() {
+        return new ConfigurationCache(DEFAULT_DIRECTORY);
+    }
+
+    /**
+     * Get the directory where the cache files are stored.
+     * @return The cache directory.
+     */
+    public Path getDirectory() {
+        return mDirectory;
+    }
+
+    /**
+     * Create a new instance of the digest algorithm used for fingerprinting the configuration files.
+     * @return A {@link MessageDigest}.
+     */
+    static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Load the cached properties of a configuration file, if none of the files they were parsed from has changed.
+     * @param file The URL of the configuration file.
+     * @return The cached {@link Entry}, or an empty {@link Optional}, if there is no valid cache entry.
+     */
+    Optional<Entry> load(final URL file) {
+        Path cacheFile = getCacheFile(file);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(cacheFile)))) {
+            if (!isTrusted(cacheFile)) {
+                mLogger.warn("Ignoring configuration cache file \"{}\", as it might have been modified by another user", cacheFile);
+                return Optional.empty();
+            }
+            if (in.readInt() != MAGIC || in.readInt() != VERSION || !in.readUTF().equals(file.toString())) {
+                mLogger.debug("Ignoring incompatible configuration cache file \"{}\"", cacheFile);
+                return Optional.empty();
+            }
+            Entry entry = new Entry();
+            int dependencyCount = in.readInt();
+            for (int i = 0; i < dependencyCount; i++) {
+                String dependency = in.readUTF();
+                byte[] digest = new byte[in.readInt()];
+                in.readFully(digest);
+                if (!MessageDigest.isEqual(digest, digest(new URL(dependency)))) {
+                    mLogger.debug("Configuration file \"{}\" changed since it was cached", dependency);
+                    return Optional.empty();
+                }
+                entry.addDependency(dependency, digest);
+            }
+            int printerCount = in.readInt();
+            for (int i = 0; i < printerCount; i++) {
+                entry.mPrinterProperties.add(new PrinterProperty(in.readUTF(), in.readUTF()));
+            }
+            int representationCount = in.readInt();
+            for (int i = 0; i < representationCount; i++) {
+                entry.mRepresentationProperties.add(new RepresentationProperty(in.readUTF(), in.readUTF()));
+            }
+            int formatCount = in.readInt();
+            for (int i = 0; i < formatCount; i++) {
+                String formatName = in.readUTF();
+                int propertyCount = in.readInt();
+                List<FormatProperty> properties = new ArrayList<>(propertyCount);
+                for (int j = 0; j < propertyCount; j++) {
+                    properties.add(new FormatProperty(formatName, in.readUTF(), in.readUTF()));
+                }
+                entry.mFormatProperties.put(formatName, properties);
+            }
+            mLogger.debug("Loaded configuration \"{}\" from cache file \"{}\"", file, cacheFile);
+            return Optional.of(entry);
+        } catch (NoSuchFileException e) {
+            mLogger.debug("No cache file for configuration \"{}\"", file);
+        } catch (IOException | RuntimeException e) {
+            mLogger.warn("Could not read configuration cache file \"" + cacheFile + "\"", e);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Store the properties of a configuration file.
+     * The cache file is written to a temporary file first and then moved to its final location, so concurrently running
+     * instances never see partially written cache files.
+     * @param file The URL of the configuration file.
+     * @param entry The properties and the fingerprints of all files they were parsed from.
+     */
+    void store(final URL file, final Entry entry) {
+        Path cacheFile = getCacheFile(file);
+        Path tempFile = null;
+        try {
+            createDirectory();
+            tempFile = Files.createTempFile(mDirectory, cacheFile.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeUTF(file.toString());
+                out.writeInt(entry.mDependencies.size());
+                for (Map.Entry<String, byte[]> dependency : entry.mDependencies.entrySet()) {
+                    out.writeUTF(dependency.getKey());
+                    out.writeInt(dependency.getValue().length);
+                    out.write(dependency.getValue());
+                }
+                writeProperties(out, entry.mPrinterProperties);
+                writeProperties(out, entry.mRepresentationProperties);
+                out.writeInt(entry.mFormatProperties.size());
+                for (Map.Entry<String, List<FormatProperty>> format : entry.mFormatProperties.entrySet()) {
+                    out.writeUTF(format.getKey());
+                    writeProperties(out, format.getValue());
+                }
+            }
+            Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            mLogger.debug("Stored configuration \"{}\" in cache file \"{}\"", file, cacheFile);
+        } catch (IOException | RuntimeException e) {
+            mLogger.warn("Could not write configuration cache file \"" + cacheFile + "\"", e);
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException ignored) {
+                    // The temporary file is left behind, which does not affect the cache
+                }
+            }
+        }
+    }
+
+    private boolean supportsPosixPermissions() throws IOException {
+        Path existing = mDirectory;
+        while (existing != null && !Files.exists(existing)) {
+            existing = existing.getParent();
+        }
+        return existing != null && Files.getFileStore(existing).supportsFileAttributeView(PosixFileAttributeView.class);
+    }
+
+    private void createDirectory() throws IOException {
+        if (Files.isDirectory(mDirectory)) {
+            return;
+        }
+        if (supportsPosixPermissions()) {
+            Files.createDirectories(mDirectory, PosixFilePermissions.asFileAttribute(OWNER_ONLY));
+        } else {
+            Files.createDirectories(mDirectory);
+        }
+    }
+
+    /**
+     * Check that the cache directory and a cache file are owned by the current user and not writable by anybody else.
+     * File systems without POSIX permissions are not checked.
+     */
+    private boolean isTrusted(final Path cacheFile) throws IOException {
+        if (!supportsPosixPermissions()) {
+            return true;
+        }
+        UserPrincipal user = mDirectory.getFileSystem().getUserPrincipalLookupService().lookupPrincipalByName(System.getProperty("user.name"));
+        for (Path path : List.of(mDirectory, cacheFile)) {
+            PosixFileAttributes attributes = Files.readAttributes(path, PosixFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+            Set<PosixFilePermission> permissions = attributes.permissions();
+            if (!attributes.owner().equals(user) || permissions.contains(PosixFilePermission.GROUP_WRITE)
+                    || permissions.contains(PosixFilePermission.OTHERS_WRITE)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Path getCacheFile(final URL file) {
+        byte[] hash = createDigest().digest(file.toString().getBytes(StandardCharsets.UTF_8));
+        StringBuilder name = new StringBuilder();
+        for (byte b : hash) {
+            name.append(String.format("%02x", b));
+        }
+        return mDirectory.resolve(name.append(FILE_EXTENSION).toString());
+    }
+
+    private static byte[] digest(final URL file) throws IOException {
+        MessageDigest digest = createDigest();
+        try (InputStream in = file.openStream()) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read = in.read(buffer);
+            while (read != -1) {
+                digest.update(buffer, 0, read);
+                read = in.read(buffer);
+            }
+        }
+        return digest.digest();
+    }
+
+    private static void writeProperties(final DataOutputStream out, final List<? extends ValidProperty> properties) throws IOException {
+        out.writeInt(properties.size());
+        for (ValidProperty property : properties) {
+            out.writeUTF(property.getName());
+            out.writeUTF(property.toString());
+        }
+    }
+
+    /**
+     * The properties parsed from a configuration file and the fingerprints of all files they were parsed from.
+     */
+    static final class Entry {
+        private final Map<String, byte[]> mDependencies = new LinkedHashMap<>();
+        private final List<PrinterProperty> mPrinterProperties = new ArrayList<>();
+        private final List<RepresentationProperty> mRepresentationProperties = new ArrayList<>();
+        private final Map<String, List<FormatProperty>> mFormatProperties = new LinkedHashMap<>();
+
+        Entry() {
+        }
+
+        Entry(final List<PrinterProperty> printerProperties, final List<RepresentationProperty> representationProperties,
+              final Map<String, List<FormatProperty>> formatProperties) {
+            mPrinterProperties.addAll(printerProperties);
+            mRepresentationProperties.addAll(representationProperties);
+            for (Map.Entry<String, List<FormatProperty>> format : formatProperties.entrySet()) {
+                mFormatProperties.put(format.getKey(), new ArrayList<>(format.getValue()));
+            }
+        }
+
+        void addDependency(final String file, final byte[] digest) {
+            mDependencies.put(file, digest);
+        }
+
+        Set<String> getDependencies() {
+            return mDependencies.keySet();
+        }
+
+        List<PrinterProperty> getPrinterProperties() {
+            return mPrinterProperties;
+        }
+
+        List<RepresentationProperty> getRepresentationProperties() {
+            return mRepresentationProperties;
+        }
+
+        Map<String, List<FormatProperty>> getFormatProperties() {
+            return mFormatProperties;
+        }
+    }
+}
@@ -4,30 +4,39 @@ import de.tudresden.inf.mci.brailleplot.util.UrlHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
 /**
  * Abstract parser for configuration files. Interface for {@link Printer} and multiple {@link Format} configurations.
  * Must be extended to implement a concrete parsing algorithm for a specific file format.
  * @author Leonard Kupper, Georg Graßnick
- * @version 2019.09.23
+ * @version 2026.10.18
  */
 
 public abstract class ConfigurationParser {
 
+    // Prefixes of the property keys, used to validate cached properties
+    private static final String PRINTER_PREFIX = "printer.";
+    private static final String REPRESENTATION_PREFIX = "representation.";
+    private static final String FORMAT_PREFIX = "format.";
+
     private ConfigurationValidator mValidator;
     private Printer mPrinter;
     private Representation mRepresentation;
@@ -38,6 +47,9 @@ public abstract class ConfigurationParser {
     private Printer mDefaultPrinter;
     private Representation mDefaultRepresentation;
     private Format mDefaultFormat;
+    private ConfigurationCache mCache;
+    private final Map<String, MessageDigest> mDependencies = new LinkedHashMap<>();
+    private final Set<URL> mConfigFiles = new LinkedHashSet<>();
 
     protected final Logger mLogger = LoggerFactory.getLogger(getClass());
 
@@ -49,7 +61,8 @@ public abstract class ConfigurationParser {
      * Implement this method by parsing information from the given input stream, optionally validating it (see {@link ConfigurationValidator}),
      * constructing {@link PrinterProperty} and {@link FormatProperty} objects from this information and adding them with the methods
      * {@link #addProperty(PrinterProperty)} and {@link #addProperty(FormatProperty)}.
-     * This method is called by ({@link #parseConfigFile(InputStream, URL, boolean)}).
+     * This method is called by ({@link #parseConfigFile(URL, boolean)}).
+     * Included files must be opened with {@link #openConfigFile(URL)}.
      * @param inStream The input stream to read the configuration from.
      * @param path The URL identifying the location of the source of the {@link InputStream}. Required the inclusion of configurations from relative paths.
      * @throws ConfigurationParsingException    On any error while accessing the configuration file or syntax.
@@ -98,6 +111,16 @@ public abstract class ConfigurationParser {
     }
 
 
+    /**
+     * Get all configuration files the configuration was read from, including the default configuration and all included
+     * files, e.g. to watch them for changes.
+     *
+     * @return An unmodifiable {@link Set}&lt;{@link URL}&gt; in the order the files were read.
+     */
+    public final Set<URL> getConfigFiles() {
+        return Collections.unmodifiableSet(mConfigFiles);
+    }
+
     /**
      * Set a {@link ConfigurationValidator} for this parser.
      * This method should be called inside the concrete parsers constructor
@@ -117,6 +140,43 @@ public abstract class ConfigurationParser {
         return mValidator;
     }
 
+    /**
+     * Set a {@link ConfigurationCache} for this parser, or null to disable caching.
+     * This method should be called inside the concrete parsers constructor.
+     *
+     * @param cache The {@link ConfigurationCache} object.
+     */
+    protected void setCache(final ConfigurationCache cache) {
+        mCache = cache;
+    }
+
+    /**
+     * Get the {@link ConfigurationCache} for this parser.
+     *
+     * @return A {@link ConfigurationCache} object, or null if caching is disabled.
+     */
+    protected ConfigurationCache getCache() {
+        return mCache;
+    }
+
+    /**
+     * Open a configuration file for parsing. Concrete parsers must open all included files with this method, so that
+     * cached configurations are invalidated when one of the included files changes.
+     * @param file The URL identifying the configuration file.
+     * @return An {@link InputStream} to read the file from, which must be read completely and closed by the caller.
+     * @throws IOException If the file could not be opened.
+     */
+    protected final InputStream openConfigFile(final URL file) throws IOException {
+        InputStream in = new BufferedInputStream(file.openStream());
+        mConfigFiles.add(file);
+        if (mCache == null) {
+            return in;
+        }
+        MessageDigest digest = ConfigurationCache.createDigest();
+        mDependencies.put(file.toString(), digest);
+        return new DigestInputStream(in, digest);
+    }
+
     /**
      * Add a general printer property to the internal printer configuration representation.
      *
@@ -173,7 +233,7 @@ public abstract class ConfigurationParser {
         mLogger.debug("Starting parsing properties file from java resources: \"{}\"", resource);
 
         try {
-            parseConfigFile(resource.openStream(), UrlHelper.getParentUrl(resource), assertCompleteness);
+            parseConfigFile(resource, assertCompleteness);
         } catch (IOException e) {
             throw new ConfigurationParsingException("Could not open resource at \"" + resource.toString() + "\"", e);
         }
@@ -192,30 +252,53 @@ public abstract class ConfigurationParser {
         mLogger.debug("Starting parsing properties file from file system: \"{}\"", filePath);
 
         try {
-            parseConfigFile(new FileInputStream(filePath.toFile()), UrlHelper.getParentUrl(filePath.toFile().toURI().toURL()), assertCompleteness);
-        } catch (FileNotFoundException | MalformedURLException e) {
+            parseConfigFile(filePath.toFile().toURI().toURL(), assertCompleteness);
+        } catch (IOException e) {
             throw new ConfigurationParsingException("Configuration file could not be read at \"" + filePath.toString() + "\"");
         }
     }
 
     /**
-     * Parse the specified configuration file.
+     * Parse the specified configuration file, or load its properties from the cache (see {@link #setCache(ConfigurationCache)})
+     * if neither the file nor any of its included files changed since it was parsed the last time.
      * This method should be called inside the concrete parsers constructor after the optional default configurations
      * ({@link #setDefaults(Printer, Representation, Format)}) and the validator ({@link #setValidator(ConfigurationValidator)}) have been set.
-     * @param config             The {@link InputStream} to be parsed
+     * @param config             The URL identifying the configuration file to be parsed
      * @param assertCompleteness Signals whether to check for existence of all required properties or not.
+     * @throws IOException                      If the configuration file could not be opened.
      * @throws ConfigurationParsingException    On any error while accessing the configuration file or syntax
      * @throws ConfigurationValidationException On any error while checking the parsed properties validity.
      */
-    private void parseConfigFile(final InputStream config, final URL path, final boolean assertCompleteness)
-            throws ConfigurationParsingException, ConfigurationValidationException {
+    private void parseConfigFile(final URL config, final boolean assertCompleteness)
+            throws IOException, ConfigurationParsingException, ConfigurationValidationException {
+        URL path = UrlHelper.getParentUrl(config);
         // reset internal property buffer
         mPrinterProperties.clear();
         mRepresentationProperties.clear();
         mFormatProperties.clear();
+        mDependencies.clear();
         mValidator.setSearchPath(getPathNoFilePrefix(path));
-        // load and parse file
-        parse(config, path);
+        Optional<ConfigurationCache.Entry> cached = Optional.empty();
+        if (mCache != null) {
+            cached = mCache.load(config);
+        }
+        if (cached.isPresent() && addCachedProperties(config, cached.get())) {
+            for (String file : cached.get().getDependencies()) {
+                mConfigFiles.add(new URL(file));
+            }
+        } else {
+            // load and parse file
+            try (InputStream in = openConfigFile(config)) {
+                parse(in, path);
+            }
+            if (mCache != null) {
+                ConfigurationCache.Entry entry = new ConfigurationCache.Entry(mPrinterProperties, mRepresentationProperties, mFormatProperties);
+                for (Map.Entry<String, MessageDigest> dependency : mDependencies.entrySet()) {
+                    entry.addDependency(dependency.getKey(), dependency.getValue().digest());
+                }
+                mCache.store(config, entry);
+            }
+        }
         // build printer object from added properties
         mPrinter = new Printer(mPrinterProperties);
         mRepresentation = new Representation(mRepresentationProperties);
@@ -242,6 +325,45 @@ public abstract class ConfigurationParser {
         }
     }
 
+    /**
+     * Validate the properties of a cache entry and add them to the internal property buffers. The cache is stored outside
+     * of the application, so its properties are validated like parsed ones.
+     * @return true if all properties are valid, else false and the property buffers are empty.
+     */
+    private boolean addCachedProperties(final URL config, final ConfigurationCache.Entry cached) {
+        try {
+            for (PrinterProperty property : cached.getPrinterProperties()) {
+                addValidatedProperty(PRINTER_PREFIX + property.getName(), property.toString());
+            }
+            for (RepresentationProperty property : cached.getRepresentationProperties()) {
+                addValidatedProperty(REPRESENTATION_PREFIX + property.getName(), property.toString());
+            }
+            for (List<FormatProperty> properties : cached.getFormatProperties().values()) {
+                for (FormatProperty property : properties) {
+                    addValidatedProperty(FORMAT_PREFIX + property.getFormat() + "." + property.getName(), property.toString());
+                }
+            }
+            return true;
+        } catch (ConfigurationValidationException e) {
+            mLogger.warn("Ignoring invalid cached properties of configuration \"" + config + "\"", e);
+            mPrinterProperties.clear();
+            mRepresentationProperties.clear();
+            mFormatProperties.clear();
+            return false;
+        }
+    }
+
+    private void addValidatedProperty(final String key, final String value) throws ConfigurationValidationException {
+        ValidProperty property = mValidator.validate(key, value);
+        if (property instanceof PrinterProperty) {
+            addProperty((PrinterProperty) property);
+        } else if (property instanceof RepresentationProperty) {
+            addProperty((RepresentationProperty) property);
+        } else if (property instanceof FormatProperty) {
+            addProperty((FormatProperty) property);
+        }
+    }
+
     /**
      * Return a String representation of the path of a {@link URL}.
      * Strips the {@literal "}file:{@literal "} prefix from an URL, if it exist.
@@ -0,0 +1,238 @@
+package de.tudresden.inf.mci.brailleplot.configparser;
+
+import de.tudresden.inf.mci.brailleplot.brailleparser.AbstractBrailleTableParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Keeps the configuration of a long-running process up to date with its configuration files.
+ * The configuration file, the default configuration and all included files are watched for changes, as well as the
+ * braille and semantic tables referenced by the printer configuration, if they are files on the local file system.
+ * Whenever one of them changes, the configuration is parsed and validated again on a background thread. If it is valid,
+ * the new configuration is published atomically, else the error is logged and the previous configuration is kept.
+ * The cached braille tables of the previous and the new configuration are evicted before publishing, so that a
+ * modified table is read again.
+ * The published {@link ConfigurationParser} instances are never modified, so work which already obtained a
+ * configuration (e.g. a rendering job) keeps using its {@link Printer}, {@link Representation} and {@link Format}
+ * objects and only later calls to {@link #getConfiguration()} return the new ones.
+ * @author agent
+ * @version 2026.10.18
+ */
+public final class ConfigurationWatcher implements AutoCloseable {
+
+    // Time to wait for further events after a change, as editors often write files in multiple steps
+    private static final long SETTLE_TIME_MILLIS = 100;
+    private static final List<String> REFERENCED_FILE_PROPERTIES = List.of("brailletable", "semantictable");
+
+    private final Logger mLogger = LoggerFactory.getLogger(this.getClass());
+
+    private final Path mConfigPath;
+    private final URL mDefaultPath;
+    private final ConfigurationCache mCache;
+    private final AtomicReference<ConfigurationParser> mConfiguration = new AtomicReference<>();
+    private final List<Consumer<? super ConfigurationParser>> mReloadListeners = new CopyOnWriteArrayList<>();
+    private final WatchService mWatchService;
+    private final Map<WatchKey, Path> mWatchedDirectories = new ConcurrentHashMap<>();
+    private volatile Set<Path> mWatchedFiles = Set.of();
+    private final Thread mThread;
+
+    /**
+     * Constructor. Parses the configuration and starts watching the configuration files.
+     * @param configPath The path of the Java Property File.
+     * @param defaultPath The path to the Java Property File containing the default properties.
+     * @param cache The {@link ConfigurationCache} used for parsing, or null to always parse the files.
+     * @throws ConfigurationParsingException On any error while accessing the configuration file or syntax.
+     * @throws ConfigurationValidationException On any error while checking the parsed properties validity.
+     * @throws IOException If the configuration files cannot be watched.
+     */
+    public ConfigurationWatcher(final Path configPath, final URL defaultPath, final ConfigurationCache cache)
+            throws ConfigurationParsingException, ConfigurationValidationException, IOException {
+        mConfigPath = Objects.requireNonNull(configPath);
+        mDefaultPath = Objects.requireNonNull(defaultPath);
+        mCache = cache;
+        ConfigurationParser configuration = new JavaPropertiesConfigurationParser(mConfigPath, mDefaultPath, mCache);
+        mConfiguration.set(configuration);
+        mWatchService = configPath.getFileSystem().newWatchService();
+        try {
+            watch(configuration);
+        } catch (IOException e) {
+            mWatchService.close();
+            throw e;
+        }
+        mThread = new Thread(this::run, "configuration-watcher");
+        mThread.setDaemon(true);
+        mThread.start();
+    }
+
+    /**
+     * Get the most recent valid configuration.
+     * @return The {@link ConfigurationParser} holding the configuration.
+     */
+    public ConfigurationParser getConfiguration() {
+        return mConfiguration.get();
+    }
+
+    /**
+     * Add a listener, which is called with the new configuration after each successful reload.
+     * Listeners are called on the thread performing the reload, which usually is the background thread of the watcher.
+     * @param listener The listener.
+     */
+    public void addReloadListener(final Consumer<? super ConfigurationParser> listener) {
+        mReloadListeners.add(Objects.requireNonNull(listener));
+    }
+
+    /**
+     * Parse the configuration again and publish it, if it is valid. This is done automatically when the watched files
+     * change, but can be called to enforce a reload, e.g. if the files are not on a local file system.
+     * @return true if the configuration was reloaded, false if it is invalid and the previous configuration is kept.
+     */
+    public synchronized boolean reload() {
+        ConfigurationParser configuration;
+        try {
+            configuration = new JavaPropertiesConfigurationParser(mConfigPath, mDefaultPath, mCache);
+        } catch (ConfigurationParsingException | ConfigurationValidationException | RuntimeException e) {
+            mLogger.error("Could not reload configuration \"" + mConfigPath + "\", keeping the previous configuration", e);
+            return false;
+        }
+        try {
+            watch(configuration);
+        } catch (IOException e) {
+            mLogger.warn("Could not watch all files of configuration \"" + mConfigPath + "\"", e);
+        }
+        // The table caches are keyed by path only, so they are unaware of changed table files
+        evictTables(mConfiguration.get());
+        evictTables(configuration);
+        mConfiguration.set(configuration);
+        mLogger.info("Reloaded configuration \"{}\"", mConfigPath);
+        for (Consumer<? super ConfigurationParser> listener : mReloadListeners) {
+            listener.accept(configuration);
+        }
+        return true;
+    }
+
+    /**
+     * Stop watching the configuration files. The last configuration stays available.
+     * @throws IOException If the watch service could not be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        mWatchService.close();
+        if (Thread.currentThread() != mThread) {
+            try {
+                mThread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static void evictTables(final ConfigurationParser configuration) {
+        Printer printer = configuration.getPrinter();
+        for (String propertyName : REFERENCED_FILE_PROPERTIES) {
+            if (printer.getPropertyNames().contains(propertyName)) {
+                AbstractBrailleTableParser.evict(printer.getProperty(propertyName).toString());
+            }
+        }
+    }
+
+    /**
+     * Register the directories of all files of a configuration at the watch service. Directories of files which are not
+     * used anymore stay registered, changes of these files are ignored.
+     */
+    private void watch(final ConfigurationParser configuration) throws IOException {
+        Set<Path> files = new HashSet<>();
+        for (URL file : configuration.getConfigFiles()) {
+            if ("file".equals(file.getProtocol())) {
+                try {
+                    files.add(Path.of(file.toURI()).toAbsolutePath().normalize());
+                } catch (URISyntaxException e) {
+                    mLogger.warn("Cannot watch configuration file \"{}\"", file);
+                }
+            }
+        }
+        Printer printer = configuration.getPrinter();
+        for (String propertyName : REFERENCED_FILE_PROPERTIES) {
+            if (printer.getPropertyNames().contains(propertyName)) {
+                Path file = Path.of(printer.getProperty(propertyName).toString());
+                if (Files.isRegularFile(file)) {
+                    files.add(file.toAbsolutePath().normalize());
+                }
+            }
+        }
+        mWatchedFiles = Set.copyOf(files);
+
+        Set<Path> directories = new HashSet<>(mWatchedDirectories.values());
+        for (Path file : files) {
+            Path directory = file.getParent();
+            if (directories.add(directory)) {
+                WatchKey key = directory.register(mWatchService, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+                mWatchedDirectories.put(key, directory);
+                mLogger.debug("Watching configuration directory \"{}\"", directory);
+            }
+        }
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                boolean changed = handleEvents(mWatchService.take());
+                // Collect all events of the same change, before reloading
+                WatchKey key = mWatchService.poll(SETTLE_TIME_MILLIS, TimeUnit.MILLISECONDS);
+                while (key != null) {
+                    changed |= handleEvents(key);
+                    key = mWatchService.poll(SETTLE_TIME_MILLIS, TimeUnit.MILLISECONDS);
+                }
+                if (changed) {
+                    reload();
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            mLogger.debug("Stopped watching configuration \"{}\"", mConfigPath);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Check the events of a watch key for changes of the watched files.
+     * @return true if a watched file might have changed.
+     */
+    private boolean handleEvents(final WatchKey key) {
+        Path directory = mWatchedDirectories.get(key);
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                changed = true;
+            } else if (directory != null && mWatchedFiles.contains(directory.resolve((Path) event.context()))) {
+                mLogger.debug("Configuration file \"{}\" changed", directory.resolve((Path) event.context()));
+                changed = true;
+            }
+        }
+        if (!key.reset()) {
+            mWatchedDirectories.remove(key);
+        }
+        return changed;
+    }
+}
@@ -2,8 +2,6 @@ package de.tudresden.inf.mci.brailleplot.configparser;
 
 import de.tudresden.inf.mci.brailleplot.util.UrlHelper;
 
-import java.io.BufferedInputStream;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
@@ -16,7 +14,7 @@ import java.util.Properties;
 /**
  * Concrete parser for configuration files in Java Property File format.
  * @author Leonard Kupper, Georg Graßnick
- * @version 2019.09.23
+ * @version 2026.10.18
  */
 public final class JavaPropertiesConfigurationParser extends ConfigurationParser {
 
@@ -34,7 +32,22 @@ public final class JavaPropertiesConfigurationParser extends ConfigurationParser
      */
 
     public JavaPropertiesConfigurationParser(final Path filePath, final URL defaultPath) throws ConfigurationParsingException, ConfigurationValidationException {
+        this(filePath, defaultPath, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * Parse the configuration from a Java Property File (.properties) with a given default configuration.
+     * @param filePath The path of the Java Property File.
+     * @param defaultPath The path to the Java Property File containing the default properties.
+     * @param cache The {@link ConfigurationCache} to load and store the parsed properties, or null to always parse the files.
+     * @throws ConfigurationParsingException On any error while accessing the configuration file or syntax.
+     * @throws ConfigurationValidationException On any error while checking the parsed properties validity.
+     */
+    public JavaPropertiesConfigurationParser(final Path filePath, final URL defaultPath, final ConfigurationCache cache) throws ConfigurationParsingException, ConfigurationValidationException {
         setup();
+        setCache(cache);
         parseConfigFileFromResource(defaultPath, false);
         setDefaults(getPrinter(), getRepresentation(), getFormat("default"));
         parseConfigFileFromFileSystem(filePath, true);
@@ -145,7 +158,7 @@ public final class JavaPropertiesConfigurationParser extends ConfigurationParser
 
             mLogger.debug("Prepare recursive parsing of properties file in the file system for file \"{}\"", newPathString);
 
-            try (InputStream is = new BufferedInputStream(new FileInputStream(newPathString))) {
+            try (InputStream is = openConfigFile(newPath.toUri().toURL())) {
                 Objects.requireNonNull(is);
                 parse(is, UrlHelper.getParentUrl(newPath.toUri().toURL()));
             } catch (IOException e) {
@@ -182,7 +195,7 @@ public final class JavaPropertiesConfigurationParser extends ConfigurationParser
 
             mLogger.debug("Prepare recursive parsing of properties file in the java resources at \"{}\"", UrlHelper.getString(newUrl));
 
-            try (InputStream is = newUrl.openStream()) {
+            try (InputStream is = openConfigFile(newUrl)) {
                 Objects.requireNonNull(is);
                 parse(is, UrlHelper.getParentUrl(newUrl));
             } catch (IOException e) {
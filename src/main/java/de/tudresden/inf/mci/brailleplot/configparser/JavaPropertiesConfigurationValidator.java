@@ -1,6 +1,7 @@
 package de.tudresden.inf.mci.brailleplot.configparser;
 
 
+import de.tudresden.inf.mci.brailleplot.rendering.decimation.DecimationMethod;
 import de.tudresden.inf.mci.brailleplot.rendering.language.BrailleLanguage;
 import de.tudresden.inf.mci.brailleplot.util.GeneralResource;
 import de.tudresden.inf.mci.brailleplot.printerbackend.PrinterCapability;
@@ -16,10 +17,13 @@ import java.util.regex.Pattern;
 /**
  * Concrete validator for properties parsed from configuration files in Java Property File format.
  * @author Leonard Kupper, Andrey Ruzhanskiy
- * @version 2019-09-13
+ * @version 2026.10.18
  */
 public final class JavaPropertiesConfigurationValidator implements ConfigurationValidator {
 
+    private static final Pattern INTEGER_PATTERN = Pattern.compile("-?[0-9]+");
+    private static final Pattern BOOLEAN_PATTERN = Pattern.compile("(?i)^true$|^false$");
+
     private final String mPrinterPrefix = "printer";
     private final String mRepresentationPrefix = "representation";
     private final String mFormatPrefix = "format";
@@ -79,6 +83,7 @@ public final class JavaPropertiesConfigurationValidator implements Configuration
         defineRepresentationProperty("general.brailleLanguage", requireNotEmpty);
         defineRepresentationProperty("general.legendKeyword", requireNotEmpty);
         defineRepresentationProperty("general.maxTitleHeight", requireInteger.and(requirePositive).and(requireNonZero));
+        defineRepresentationProperty(DecimationMethod.PROPERTY_NAME, requireNotEmpty, false);
         defineRepresentationProperty("rasterize.barChart.maxBarThickness", requireInteger.and(requirePositive));
         defineRepresentationProperty("rasterize.barChart.minBarThickness", requireInteger.and(requirePositive));
         defineRepresentationProperty("rasterize.barChart.padding.title", requireInteger);
@@ -112,6 +117,8 @@ public final class JavaPropertiesConfigurationValidator implements Configuration
                 case "general.brailleLanguage":
                     BrailleLanguage.Language language = BrailleLanguage.Language.valueOf(value.toUpperCase());
                     return language.toString();
+                case DecimationMethod.PROPERTY_NAME:
+                    return DecimationMethod.valueOf(value.toUpperCase()).toString();
                 default: return value;
             }
         } catch (Exception e) {
@@ -298,7 +305,7 @@ public final class JavaPropertiesConfigurationValidator implements Configuration
     // Validation Predicates
 
     private static boolean checkIfInteger(final String value) {
-        if (!Pattern.matches("-?[0-9]+", value)) {
+        if (!INTEGER_PATTERN.matcher(value).matches()) {
             return false;
         }
         try {
@@ -322,7 +329,7 @@ public final class JavaPropertiesConfigurationValidator implements Configuration
     }
 
     private static boolean checkIfBoolean(final String value) {
-        return Pattern.matches("(?i)^true$|^false$", value);
+        return BOOLEAN_PATTERN.matcher(value).matches();
     }
 
     private static boolean checkIfPositive(final String value) {
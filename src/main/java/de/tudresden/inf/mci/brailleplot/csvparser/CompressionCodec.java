@@ -0,0 +1,30 @@
+package de.tudresden.inf.mci.brailleplot.csvparser;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * A compression format of csv input, which is recognized by the magic bytes at the beginning of the input.
+ * Codecs can be added with {@link CompressionCodecs#register(CompressionCodec)}, e.g. for formats which need an
+ * additional library. Gzip is supported by default, see {@link GzipCodec}.
+ * @author agent
+ * @version 2026.10.18
+ */
+public interface CompressionCodec {
+
+    /**
+     * Check whether the input is compressed in the format of this codec.
+     * @param header The first bytes of the input. Holds up to {@link CompressionCodecs#HEADER_LENGTH} bytes, less if the
+     *               input is shorter.
+     * @return true if the header starts with the magic bytes of the format, else false.
+     */
+    boolean matches(byte[] header);
+
+    /**
+     * Decompress the input while it is read.
+     * @param compressed The compressed input, positioned at its beginning.
+     * @return A stream of the decompressed data. Closing it must close the compressed input.
+     * @throws IOException If the input could not be read or is not valid.
+     */
+    InputStream decompress(InputStream compressed) throws IOException;
+}
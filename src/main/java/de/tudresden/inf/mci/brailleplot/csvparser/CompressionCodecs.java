@@ -0,0 +1,70 @@
+package de.tudresden.inf.mci.brailleplot.csvparser;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Registry of the {@link CompressionCodec}s, which are used to detect and decompress compressed csv input.
+ * The input is decompressed while it is parsed, so no temporary files are needed.
+ * @author agent
+ * @version 2026.10.18
+ */
+public final class CompressionCodecs {
+
+    /**
+     * The maximum number of bytes passed to {@link CompressionCodec#matches(byte[])}.
+     */
+    public static final int HEADER_LENGTH = 16;
+
+    static final int BUFFER_SIZE = 65536;
+    private static final List<CompressionCodec> CODECS = new CopyOnWriteArrayList<>(List.of(new GzipCodec()));
+
+    private CompressionCodecs() {
+    }
+
+    /**
+     * Add a codec. Codecs registered later are checked first, so they can override the default codecs.
+     * @param codec The codec to add.
+     */
+    public static void register(final CompressionCodec codec) {
+        CODECS.add(0, Objects.requireNonNull(codec));
+    }
+
+    /**
+     * Find the codec of an input.
+     * @param header The first bytes of the input, see {@link CompressionCodec#matches(byte[])}.
+     * @return The codec, or an empty {@link Optional} if the input is not compressed in a known format.
+     */
+    public static Optional<CompressionCodec> find(final byte[] header) {
+        Objects.requireNonNull(header);
+        for (CompressionCodec codec : CODECS) {
+            if (codec.matches(header)) {
+                return Optional.of(codec);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Decompress an input, if it is compressed in a known format.
+     * @param input The input, positioned at its beginning.
+     * @return A buffered stream of the decompressed input, or of the input itself if it is not compressed.
+     * @throws IOException If the input could not be read.
+     */
+    public static InputStream decompress(final InputStream input) throws IOException {
+        BufferedInputStream buffered = new BufferedInputStream(Objects.requireNonNull(input), BUFFER_SIZE);
+        buffered.mark(HEADER_LENGTH);
+        byte[] header = buffered.readNBytes(HEADER_LENGTH);
+        buffered.reset();
+        Optional<CompressionCodec> codec = find(header);
+        if (codec.isEmpty()) {
+            return buffered;
+        }
+        return new BufferedInputStream(codec.get().decompress(buffered), BUFFER_SIZE);
+    }
+}
@@ -1,16 +1,15 @@
 package de.tudresden.inf.mci.brailleplot.csvparser;
 
-import java.text.NumberFormat;
 import java.util.Locale;
 
 /**
  * Class for constants representation.
  * @author SVGPlott-Team
- * @version 2019.07.29
+ * @version 2026.10.18
  */
 public final class Constants {
     public static final Locale LOCALE = new Locale("de");
-    public static final NumberFormat NUMBER_FORMAT = NumberFormat.getInstance(LOCALE);
+    public static final NumberParser NUMBER_PARSER = new NumberParser(LOCALE);
 
     private Constants() {
     }
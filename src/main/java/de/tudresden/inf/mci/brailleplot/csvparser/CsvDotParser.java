@@ -3,10 +3,9 @@ package de.tudresden.inf.mci.brailleplot.csvparser;
 import de.tudresden.inf.mci.brailleplot.datacontainers.PointList;
 import de.tudresden.inf.mci.brailleplot.datacontainers.PointListContainer;
 import de.tudresden.inf.mci.brailleplot.datacontainers.SimplePointListContainerImpl;
-import de.tudresden.inf.mci.brailleplot.datacontainers.SimplePointListImpl;
-import de.tudresden.inf.mci.brailleplot.point.Point2DDouble;
+import de.tudresden.inf.mci.brailleplot.datacontainers.PrimitivePointListImpl;
 
-import java.text.ParseException;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
@@ -14,83 +13,136 @@ import java.util.Objects;
 /**
  * Parser for CSV files that contain data for a scatter plot.
  * @author SVGPlott-Team, Georg Graßnick
- * @version 2019.07.29
+ * @version 2026.10.18
  */
 public class CsvDotParser extends CsvParseAlgorithm<PointListContainer<PointList>> {
 
     /**
      * Parses scattered point data in horizontal data sets, alternating mX and mY. The
      * first column contains the row mName in the mX row.
-     * @param csvData The parsed input String.
-     * @return A {@link PointListContainer}{@literal <}{@link PointList}{@literal >} representing the data.
+     * Only the current mX row is kept while waiting for the corresponding mY row.
+     * @return A {@link RecordParser} building a {@link PointListContainer}{@literal <}{@link PointList}{@literal >}.
      */
-    public PointListContainer<PointList> parseAsHorizontalDataSets(final List<? extends List<String>> csvData) {
-        Objects.requireNonNull(csvData);
-        int row = 0;
-
-        PointListContainer<PointList> container = new SimplePointListContainerImpl();
-
-        // Continue as long as there are at least two further rows left
-        while (csvData.size() >= row + 2) {
-            PointList rowPoints = new SimplePointListImpl();
+    @Override
+    public RecordParser<PointListContainer<PointList>> createHorizontalParser() {
+        return new HorizontalParser(0);
+    }
 
-            Iterator<String> xRowIterator = csvData.get(row).iterator();
-            Iterator<String> yRowIterator = csvData.get(row + 1).iterator();
+    /**
+     * Parser for horizontal data sets. A forked parser may start with the mY row of a pair, whose mX row was passed to the
+     * preceding parser. The pair is completed when the parsers are joined.
+     */
+    private final class HorizontalParser implements RecordParser<PointListContainer<PointList>> {
+        private final List<PointList> mDataSets = new ArrayList<>();
+        private List<String> mXRow;
+        private List<String> mLeadingYRow;
+        private int mRow;
 
-            row += 2;
+        HorizontalParser(final int firstRecordIndex) {
+            mRow = firstRecordIndex;
+        }
 
-            // Get the row mName
-            if (xRowIterator.hasNext() && yRowIterator.hasNext()) {
-                rowPoints.setName(xRowIterator.next());
-                yRowIterator.next();
-            } else {
-                continue;
+        @Override
+        public void parseRecord(final List<String> record) {
+            Objects.requireNonNull(record);
+            mRow++;
+            if (mRow % 2 == 1) {
+                mXRow = record;
+                return;
             }
-
-            // Get the row values
-            while (xRowIterator.hasNext() && yRowIterator.hasNext()) {
-                Number xValue;
-                Number yValue;
-                try {
-                    xValue = Constants.NUMBER_FORMAT.parse(xRowIterator.next());
-                } catch (ParseException pe) {
-                    // TODO: actually throw exceptions
-                    // Currently this does not work because some of the csv data examples from SVGPlott include empty cells,
-                    // and their correct layout is not documented.
-                    mLogger.warn("Line: " + (row - 1) + ": Could not parse value", pe);
-                    continue;
-                }
-                try {
-                    yValue = Constants.NUMBER_FORMAT.parse(yRowIterator.next());
-                } catch (ParseException pe) {
-                    mLogger.warn("Line: " + row + ": Could not parse value", pe);
-                    continue;
-                }
-                Point2DDouble newPoint = new Point2DDouble(xValue.doubleValue(), yValue.doubleValue());
-                rowPoints.pushBack(newPoint);
+            if (mXRow == null) {
+                mLeadingYRow = record;
+                return;
             }
+            addRowPair(mXRow, record, mRow);
+            mXRow = null;
+        }
 
+        private void addRowPair(final List<String> xRow, final List<String> yRow, final int row) {
+            PointList rowPoints = parseRowPair(xRow, yRow, row);
             // If there were no points found, do not add the row to the list
             if (rowPoints.getSize() > 0) {
-                container.pushBack(rowPoints);
+                mDataSets.add(rowPoints);
+            }
+        }
+
+        @Override
+        public PointListContainer<PointList> finish() {
+            // A trailing mX row without mY row is ignored
+            // The extrema of the data sets were calculated while adding their points, so no calculateExtrema call is needed
+            PointListContainer<PointList> container = new SimplePointListContainerImpl();
+            for (PointList dataSet : mDataSets) {
+                container.pushBack(dataSet);
             }
+            return container;
+        }
+
+        @Override
+        public int getHeaderRecordCount() {
+            return 0;
         }
 
-        // TODO First add points to PointList, then add PointList to PointListContainer, so that there is no need for a calculateExtrema call
-        container.calculateExtrema();
-        return container;
+        @Override
+        public RecordParser<PointListContainer<PointList>> fork(final int firstRecordIndex) {
+            return new HorizontalParser(firstRecordIndex);
+        }
+
+        @Override
+        public void join(final RecordParser<PointListContainer<PointList>> next) {
+            HorizontalParser other = (HorizontalParser) next;
+            if (other.mLeadingYRow != null) {
+                addRowPair(mXRow, other.mLeadingYRow, mRow + 1);
+            }
+            mDataSets.addAll(other.mDataSets);
+            mXRow = other.mXRow;
+            mRow = other.mRow;
+        }
+    }
+
+    private PointList parseRowPair(final List<String> xRow, final List<String> yRow, final int row) {
+        PrimitivePointListImpl rowPoints = new PrimitivePointListImpl();
+
+        Iterator<String> xRowIterator = xRow.iterator();
+        Iterator<String> yRowIterator = yRow.iterator();
+
+        // Get the row mName
+        if (xRowIterator.hasNext() && yRowIterator.hasNext()) {
+            rowPoints.setName(xRowIterator.next());
+            yRowIterator.next();
+        } else {
+            return rowPoints;
+        }
+
+        // Get the row values
+        while (xRowIterator.hasNext() && yRowIterator.hasNext()) {
+            String xCell = xRowIterator.next();
+            double xValue = Constants.NUMBER_PARSER.parse(xCell);
+            if (Double.isNaN(xValue)) {
+                // TODO: actually throw exceptions
+                // Currently this does not work because some of the csv data examples from SVGPlott include empty cells,
+                // and their correct layout is not documented.
+                mLogger.warn("Line: {}: Could not parse value \"{}\"", row - 1, xCell);
+                continue;
+            }
+            String yCell = yRowIterator.next();
+            double yValue = Constants.NUMBER_PARSER.parse(yCell);
+            if (Double.isNaN(yValue)) {
+                mLogger.warn("Line: {}: Could not parse value \"{}\"", row, yCell);
+                continue;
+            }
+            rowPoints.pushBack(xValue, yValue);
+        }
+        return rowPoints;
     }
 
     /**
      * Parses scattered point data in vertical data sets, alternating mX and mY. The
      * first row contains the column mName in the mX column.
-     * @param csvData The parsed input String.
-     * @return A {@link PointListContainer}{@literal <}{@link PointList}{@literal >} representing the data.
+     * @return Nothing, vertical parsing is currently not supported.
+     * @throws UnsupportedOperationException Always.
      */
     @Override
-    public PointListContainer<PointList> parseAsVerticalDataSets(final List<? extends List<String>> csvData) {
-        Objects.requireNonNull(csvData);
-
-            throw new UnsupportedOperationException("Vertical parsing is currently not supported");
+    public RecordParser<PointListContainer<PointList>> createVerticalParser() {
+        throw new UnsupportedOperationException("Vertical parsing is currently not supported");
     }
 }
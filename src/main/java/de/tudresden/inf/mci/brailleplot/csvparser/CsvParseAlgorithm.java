@@ -5,57 +5,102 @@ import de.tudresden.inf.mci.brailleplot.datacontainers.PointListContainer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * An algorithm for parsing CSV data. Contains implementations for two
  * orientations of the data in the file.
+ * The data is passed to a {@link RecordParser} one record at a time, so the algorithms can also be fed directly from a
+ * csv reader, without keeping the whole file in memory (see {@link CsvParser#parse(java.io.Reader, char, char, CsvType, CsvOrientation)}),
+ * or from multiple threads parsing parts of a file (see {@link MappedCsvReader}).
  * @param <T> The type of PointContainer, that is parsed to.
  * @author SVGPlott-Team, Georg Graßnick
- * @version 2019.07.29
+ * @version 2026.10.18
  */
 public abstract class CsvParseAlgorithm<T extends PointListContainer<PointList>> {
 
     protected final Logger mLogger = LoggerFactory.getLogger(getClass());
 
+    /**
+     * Receives the records of a csv file in the order of the file and builds the container from them.
+     * The work can be split up between threads: After the header records have been parsed, {@link #fork(int)} creates
+     * independent parsers for the following parts of the file. Their results are appended to this parser in the order
+     * of the file by {@link #join(RecordParser)}, before {@link #finish()} is called on this parser.
+     * @param <T> The type of PointContainer, that is parsed to.
+     */
+    public interface RecordParser<T> {
+        /**
+         * Parse the next record.
+         * @param record The values of the record.
+         */
+        void parseRecord(List<String> record);
+
+        /**
+         * Finish parsing after the last record.
+         * @return The container representing the data.
+         */
+        T finish();
+
+        /**
+         * Get the number of records at the beginning of the file, that must be parsed before the parser can be forked.
+         * @return The number of header records.
+         */
+        int getHeaderRecordCount();
+
+        /**
+         * Create an independent parser for a part of the file. Must only be called after the header records were parsed.
+         * @param firstRecordIndex The zero based index of the first record in the file that is passed to the new parser.
+         * @return A new record parser, sharing the results of the header records with this parser.
+         */
+        RecordParser<T> fork(int firstRecordIndex);
+
+        /**
+         * Append the results of a parser created by {@link #fork(int)}, which parsed the records directly following
+         * the records passed to this parser and its previously joined parsers.
+         * @param next The forked parser.
+         */
+        void join(RecordParser<T> next);
+    }
+
+    /**
+     * Create a parser for data sets oriented horizontally, i.e. in rows.
+     * @return A new record parser.
+     */
+    public abstract RecordParser<T> createHorizontalParser();
+
+    /**
+     * Create a parser for data sets oriented vertically, i.e. in columns.
+     * @return A new record parser.
+     */
+    public abstract RecordParser<T> createVerticalParser();
+
     /**
      * If the data sets are oriented horizontally, i.e. in rows, parse the rows into
      * {@link PointListContainer}{@literal <}{@link PointList}{@literal >}.
      * @param csvData The parsed input String.
      * @return A {@link PointListContainer}{@literal <PointList>} representing the data.
      */
-    public abstract T parseAsHorizontalDataSets(List<? extends List<String>> csvData);
+    public final T parseAsHorizontalDataSets(final List<? extends List<String>> csvData) {
+        Objects.requireNonNull(csvData);
+        return parseRecords(createHorizontalParser(), csvData);
+    }
 
     /**
-     * If the data sets are oriented horizontally, i.e. in rows, parse the rows into
+     * If the data sets are oriented vertically, i.e. in columns, parse the columns into
      * {@link PointListContainer}{@literal <}{@link PointList}{@literal >}.
      * @param csvData The parsed input String.
      * @return A {@link PointListContainer}{@literal <}{@link PointList}{@literal >} representing the data.
      */
-    public abstract T parseAsVerticalDataSets(List<? extends List<String>> csvData);
+    public final T parseAsVerticalDataSets(final List<? extends List<String>> csvData) {
+        Objects.requireNonNull(csvData);
+        return parseRecords(createVerticalParser(), csvData);
+    }
 
-    /**
-     * Transpose CSV data (List of Lists) as if it were a matrix.
-     * @param csvData CSV as List of Lists&lt;T&gt;
-     * @param <T> Generic list type (e.g. String)
-     * @return The transposed version of the CSV data as List of Lists
-     */
-    static <T> List<List<T>> transposeCSV(final List<? extends List<T>> csvData) {
-        List<List<T>> transposedCsvData = new ArrayList<>();
-        if (csvData.size() < 1) {
-            return new ArrayList<>();
+    private T parseRecords(final RecordParser<T> parser, final List<? extends List<String>> csvData) {
+        for (List<String> record : csvData) {
+            parser.parseRecord(record);
         }
-        final int columns = csvData.get(0).size();
-        for (int i = 0; i < columns; i++) {
-            List<T> col = new ArrayList<T>();
-            for (List<T> row : csvData) {
-                col.add(row.get(i));
-            }
-            // add column from original table as row of new one.
-            transposedCsvData.add(col);
-        }
-        return transposedCsvData;
+        return parser.finish();
     }
-
 }
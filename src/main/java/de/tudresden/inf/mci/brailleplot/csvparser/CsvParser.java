@@ -9,21 +9,28 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Class to represent the main parser. This parser chooses the corresponding parsing algorithm for the data.
  * @author SVGPlott-Team, Georg Graßnick
- * @version 2019.07.29
+ * @version 2026.10.18
  */
 public final class CsvParser {
 
     private final Logger mLogger = LoggerFactory.getLogger(CsvParser.class);
 
-    private ArrayList<ArrayList<String>> mCsvData;
+    private List<List<String>> mCsvData;
 
     /**
      * Initiates the parser. The parser reads from the specified {@code reader}
@@ -36,17 +43,13 @@ public final class CsvParser {
      */
     public CsvParser(final Reader reader, final char separator, final char quoteChar) throws IOException {
         Objects.requireNonNull(reader);
-        CSVReader csvReader = new CSVReaderBuilder(reader)
-                .withCSVParser(new CSVParserBuilder()
-                        .withQuoteChar(quoteChar)
-                        .withSeparator(separator)
-                        .build())
-                .build();
+        CSVReader csvReader = createCsvReader(reader, separator, quoteChar);
 
         mCsvData = new ArrayList<>();
 
         for (String[] line : csvReader) {
-            mCsvData.add(new ArrayList<>(Arrays.asList(line)));
+            // The records are only read, so the arrays of the reader are used without copying them
+            mCsvData.add(Arrays.asList(line));
             mLogger.trace("Read line: {}", Arrays.toString(line));
         }
 
@@ -61,12 +64,130 @@ public final class CsvParser {
      * @param <T> The type of the generated {@link PointListContainer}
      * @return PointListList
      */
-    @SuppressWarnings("unchecked")
     public <T extends PointListContainer<PointList>> T parse(final CsvType csvType, final CsvOrientation csvOrientation) {
-        CsvParseAlgorithm<T> csvParseAlgorithm;
-
         mLogger.debug("Parsing data as \"{}\", orientation \"{}\"", csvType, csvOrientation);
 
+        CsvParseAlgorithm.RecordParser<T> recordParser = createRecordParser(csvType, csvOrientation);
+        for (List<String> line : mCsvData) {
+            recordParser.parseRecord(line);
+        }
+        return recordParser.finish();
+    }
+
+    /**
+     * Parses the data directly from the {@code reader}, choosing the right parsing algorithm.
+     * In contrast to {@link #parse(CsvType, CsvOrientation)}, every record is passed on to the parsing algorithm as soon
+     * as it is read, so the csv file is never held in memory as a whole. The reader is closed afterwards.
+     * Casting in this method is not guaranteed to be safe, use at your own risk.
+     * @param reader The {@link Reader} interfacing the actual csv file object. Must not be null.
+     * @param separator char The character which is used to separate the values in the csv file.
+     * @param quoteChar char The character which is used to quote text paragraphs.
+     * @param csvType CsvType The type of the data set contained by the CSV file.
+     * @param csvOrientation CsvOrientation Indicates the orientation of the CSV file (either {@link CsvOrientation#HORIZONTAL} or {@link CsvOrientation#VERTICAL})
+     * @param <T> The type of the generated {@link PointListContainer}
+     * @return PointListList
+     * @throws IOException Is thrown, if an error occurs while performing read operations on the reader.
+     */
+    public static <T extends PointListContainer<PointList>> T parse(final Reader reader, final char separator, final char quoteChar,
+                                                                   final CsvType csvType, final CsvOrientation csvOrientation) throws IOException {
+        Objects.requireNonNull(reader);
+        LoggerFactory.getLogger(CsvParser.class).debug("Streaming data as \"{}\", orientation \"{}\"", csvType, csvOrientation);
+
+        CsvParseAlgorithm.RecordParser<T> recordParser = createRecordParser(csvType, csvOrientation);
+        try (CSVReader csvReader = createCsvReader(reader, separator, quoteChar)) {
+            for (String[] line : csvReader) {
+                recordParser.parseRecord(Arrays.asList(line));
+            }
+        }
+        return recordParser.finish();
+    }
+
+    /**
+     * Parses the data directly from an {@code input} stream, choosing the right parsing algorithm.
+     * Compressed input is detected by its magic bytes and decompressed while it is parsed, see {@link CompressionCodecs}.
+     * The stream is closed afterwards.
+     * Casting in this method is not guaranteed to be safe, use at your own risk.
+     * @param input The {@link InputStream} of the csv data, which may be compressed. Must not be null.
+     * @param charset The charset of the (decompressed) data. Must not be null.
+     * @param separator char The character which is used to separate the values in the csv file.
+     * @param quoteChar char The character which is used to quote text paragraphs.
+     * @param csvType CsvType The type of the data set contained by the CSV file.
+     * @param csvOrientation CsvOrientation Indicates the orientation of the CSV file (either {@link CsvOrientation#HORIZONTAL} or {@link CsvOrientation#VERTICAL})
+     * @param <T> The type of the generated {@link PointListContainer}
+     * @return PointListList
+     * @throws IOException Is thrown, if an error occurs while reading or decompressing the input.
+     */
+    public static <T extends PointListContainer<PointList>> T parse(final InputStream input, final Charset charset, final char separator, final char quoteChar,
+                                                                   final CsvType csvType, final CsvOrientation csvOrientation) throws IOException {
+        Objects.requireNonNull(input);
+        Objects.requireNonNull(charset);
+        InputStream decompressed;
+        try {
+            decompressed = CompressionCodecs.decompress(input);
+        } catch (IOException e) {
+            input.close();
+            throw e;
+        }
+        return parse(new InputStreamReader(decompressed, charset), separator, quoteChar, csvType, csvOrientation);
+    }
+
+    /**
+     * Parses the data from a file, choosing the right parsing algorithm.
+     * Compressed files are detected by their magic bytes and decompressed while they are parsed, see {@link CompressionCodecs}.
+     * Otherwise, the file is memory mapped and split into chunks, which are parsed in parallel on the common {@link ForkJoinPool}.
+     * Casting in this method is not guaranteed to be safe, use at your own risk.
+     * @param file The csv file. Must not be null.
+     * @param charset The charset of the file. Must not be null.
+     * @param separator char The character which is used to separate the values in the csv file.
+     * @param quoteChar char The character which is used to quote text paragraphs.
+     * @param csvType CsvType The type of the data set contained by the CSV file.
+     * @param csvOrientation CsvOrientation Indicates the orientation of the CSV file (either {@link CsvOrientation#HORIZONTAL} or {@link CsvOrientation#VERTICAL})
+     * @param <T> The type of the generated {@link PointListContainer}
+     * @return PointListList
+     * @throws IOException Is thrown, if an error occurs while reading the file.
+     */
+    public static <T extends PointListContainer<PointList>> T parse(final Path file, final Charset charset, final char separator, final char quoteChar,
+                                                                   final CsvType csvType, final CsvOrientation csvOrientation) throws IOException {
+        return parse(file, charset, separator, quoteChar, csvType, csvOrientation, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Parses the data from a file, choosing the right parsing algorithm.
+     * Compressed files are detected by their magic bytes and decompressed while they are parsed, see {@link CompressionCodecs}.
+     * Otherwise, the file is memory mapped and split into chunks, which are parsed in parallel on the given {@code executor}.
+     * Casting in this method is not guaranteed to be safe, use at your own risk.
+     * @param file The csv file. Must not be null.
+     * @param charset The charset of the file. Must not be null.
+     * @param separator char The character which is used to separate the values in the csv file.
+     * @param quoteChar char The character which is used to quote text paragraphs.
+     * @param csvType CsvType The type of the data set contained by the CSV file.
+     * @param csvOrientation CsvOrientation Indicates the orientation of the CSV file (either {@link CsvOrientation#HORIZONTAL} or {@link CsvOrientation#VERTICAL})
+     * @param executor The {@link ExecutorService} parsing the chunks. Must not be null.
+     * @param <T> The type of the generated {@link PointListContainer}
+     * @return PointListList
+     * @throws IOException Is thrown, if an error occurs while reading the file.
+     */
+    public static <T extends PointListContainer<PointList>> T parse(final Path file, final Charset charset, final char separator, final char quoteChar,
+                                                                   final CsvType csvType, final CsvOrientation csvOrientation,
+                                                                   final ExecutorService executor) throws IOException {
+        LoggerFactory.getLogger(CsvParser.class).debug("Parsing file {} as \"{}\", orientation \"{}\"", file, csvType, csvOrientation);
+        CsvParseAlgorithm.RecordParser<T> recordParser = createRecordParser(csvType, csvOrientation);
+        return new MappedCsvReader(file, charset, separator, quoteChar).parse(recordParser, executor);
+    }
+
+    static CSVReader createCsvReader(final Reader reader, final char separator, final char quoteChar) {
+        return new CSVReaderBuilder(reader)
+                .withCSVParser(new CSVParserBuilder()
+                        .withQuoteChar(quoteChar)
+                        .withSeparator(separator)
+                        .build())
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends PointListContainer<PointList>> CsvParseAlgorithm.RecordParser<T> createRecordParser(final CsvType csvType, final CsvOrientation csvOrientation) {
+        CsvParseAlgorithm<T> csvParseAlgorithm;
+
         switch (csvType) {
         case DOTS:
             csvParseAlgorithm = ((CsvParseAlgorithm<T>) new CsvDotParser());
@@ -83,9 +204,9 @@ public final class CsvParser {
 
         switch (csvOrientation) {
         case HORIZONTAL:
-            return csvParseAlgorithm.parseAsHorizontalDataSets(mCsvData);
+            return csvParseAlgorithm.createHorizontalParser();
         case VERTICAL:
-            return csvParseAlgorithm.parseAsVerticalDataSets(mCsvData);
+            return csvParseAlgorithm.createVerticalParser();
         default:
             throw new UnsupportedOperationException();
         }
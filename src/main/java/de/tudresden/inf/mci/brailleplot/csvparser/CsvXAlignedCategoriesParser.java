@@ -3,10 +3,9 @@ package de.tudresden.inf.mci.brailleplot.csvparser;
 import de.tudresden.inf.mci.brailleplot.datacontainers.CategoricalPointListContainer;
 import de.tudresden.inf.mci.brailleplot.datacontainers.PointList;
 import de.tudresden.inf.mci.brailleplot.datacontainers.SimpleCategoricalPointListContainerImpl;
-import de.tudresden.inf.mci.brailleplot.datacontainers.SimplePointListImpl;
-import de.tudresden.inf.mci.brailleplot.point.Point2DDouble;
+import de.tudresden.inf.mci.brailleplot.datacontainers.PrimitivePointListImpl;
 
-import java.text.ParseException;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
@@ -14,67 +13,194 @@ import java.util.Objects;
 /**
  * Parser for CSV files with bar chart data. Inherits from CsvParseAlgorithm.
  * @author SVGPlott-Team, Georg Graßnick
- * @version 2019.07.29
+ * @version 2026.10.18
  */
 public class CsvXAlignedCategoriesParser extends CsvParseAlgorithm<CategoricalPointListContainer<PointList>> {
 
+    /**
+     * The first column contains the categories, the first row the names of the data sets.
+     * Every further row contains one value of each data set, so all data sets are filled at the same time.
+     * @return A {@link RecordParser} building a {@link CategoricalPointListContainer}{@literal <}{@link PointList}{@literal >}.
+     */
     @Override
-    public CategoricalPointListContainer<PointList> parseAsHorizontalDataSets(final List<? extends List<String>> csvData) {
-        Objects.requireNonNull(csvData);
+    public RecordParser<CategoricalPointListContainer<PointList>> createHorizontalParser() {
+        return new HorizontalParser(null, 0);
+    }
+
+    /**
+     * Parser for horizontal data sets. The header record contains the names of the data sets, forked parsers create
+     * their own part of each data set.
+     */
+    private final class HorizontalParser implements RecordParser<CategoricalPointListContainer<PointList>> {
+        private final List<String> mCategories = new ArrayList<>();
+        private final List<PrimitivePointListImpl> mDataSets = new ArrayList<>();
+        private int mRowNum; // Keep track of the row number, so that we can include the erroneous row number in the exception.
+        private int mColumns;
+
+        HorizontalParser(final HorizontalParser parent, final int firstRecordIndex) {
+            mRowNum = firstRecordIndex;
+            if (parent != null) {
+                mColumns = parent.mColumns;
+                for (PointList pl : parent.mDataSets) {
+                    mDataSets.add(new PrimitivePointListImpl(pl.getName()));
+                }
+            }
+        }
+
+        @Override
+        public void parseRecord(final List<String> record) {
+            Objects.requireNonNull(record);
+            mRowNum++;
+
+            // The first column contains the categories
+            if (mRowNum > 1 && record.size() < mColumns) {
+                throw new MalformedCsvException("Line: " + mRowNum + ": Data set must contain a value for every column");
+            }
+            if (record.isEmpty()) {
+                return;
+            }
+            Iterator<String> lineIt = record.iterator();
+            String catName = lineIt.next();
+            if (!catName.isEmpty()) {
+                mCategories.add(catName);
+            }
+
+            // The first row contains the names of the data sets ...
+            if (mRowNum == 1) {
+                mColumns = record.size();
+                while (lineIt.hasNext()) {
+                    mDataSets.add(new PrimitivePointListImpl(lineIt.next().trim()));
+                }
+                return;
+            }
+
+            // ... all other rows contain the values
+            // Set the x value of each Point to the index of the category, they belong to
+            for (PrimitivePointListImpl pl : mDataSets) {
+                pl.pushBack(mRowNum - 1, parseValue(lineIt.next(), mRowNum));
+            }
+        }
+
+        @Override
+        public CategoricalPointListContainer<PointList> finish() {
+            CategoricalPointListContainer<PointList> container = new SimpleCategoricalPointListContainerImpl();
+            for (String category : mCategories) {
+                container.pushBackCategory(category);
+            }
+            // The data sets are complete only after the last row, so they are added last
+            for (PointList pl : mDataSets) {
+                container.pushBack(pl);
+            }
+            return container;
+        }
+
+        @Override
+        public int getHeaderRecordCount() {
+            return 1;
+        }
+
+        @Override
+        public RecordParser<CategoricalPointListContainer<PointList>> fork(final int firstRecordIndex) {
+            return new HorizontalParser(this, firstRecordIndex);
+        }
 
-        // The csv representation of horizontal datasets is essentially the transposition of vertical datasets.
-        List<? extends List<String>> transposedCsvData = transposeCSV(csvData);
-        return parseAsVerticalDataSets(transposedCsvData);
+        @Override
+        public void join(final RecordParser<CategoricalPointListContainer<PointList>> next) {
+            HorizontalParser other = (HorizontalParser) next;
+            mCategories.addAll(other.mCategories);
+            for (int i = 0; i < mDataSets.size(); i++) {
+                mDataSets.get(i).pushBackAll(other.mDataSets.get(i));
+            }
+            mRowNum = other.mRowNum;
+        }
     }
 
     @Override
-    public CategoricalPointListContainer<PointList> parseAsVerticalDataSets(final List<? extends List<String>> csvData) {
-        Objects.requireNonNull(csvData);
+    public RecordParser<CategoricalPointListContainer<PointList>> createVerticalParser() {
+        return new VerticalParser(0);
+    }
 
-        CategoricalPointListContainer<PointList> container = new SimpleCategoricalPointListContainerImpl();
-        Iterator<? extends List<String>> rowIt = csvData.iterator();
+    /**
+     * Parser for vertical data sets. The header record contains the categories, every further record one data set.
+     */
+    private final class VerticalParser implements RecordParser<CategoricalPointListContainer<PointList>> {
+        private final List<String> mCategories = new ArrayList<>();
+        private final List<PointList> mDataSets = new ArrayList<>();
+        private int mRowNum; // Keep track of the row number, so that we can include the erroneous row number in the exception.
 
-        int rowNum = 0; // Keep track of the row number, so that we can include the erroneous row number in the exception.
-        while (rowIt.hasNext()) {
-            Iterator<String> lineIt = rowIt.next().iterator();
-            rowNum++;
+        VerticalParser(final int firstRecordIndex) {
+            mRowNum = firstRecordIndex;
+        }
+
+        @Override
+        public void parseRecord(final List<String> record) {
+            Iterator<String> lineIt = Objects.requireNonNull(record).iterator();
+            mRowNum++;
 
             // Check if we are in the first line, were all the categories are defined ...
-            if (rowNum == 1) {
+            if (mRowNum == 1) {
                 while (lineIt.hasNext()) {
                     String catName = lineIt.next();
                     if (!catName.isEmpty()) {
-                        container.pushBackCategory(catName);
+                        mCategories.add(catName);
                     }
                 }
+                return;
+            }
+
             // ... or if we are in a row, were the actual data sets are defined
-            } else {
-                // Get the name for the values of a data set
-                if (!lineIt.hasNext()) {
-                    throw new MalformedCsvException("Line: " + rowNum + ": Data set must contain a name");
-                }
-                String name = lineIt.next().trim();
-                PointList pl = new SimplePointListImpl(name);
+            // Get the name for the values of a data set
+            if (!lineIt.hasNext()) {
+                throw new MalformedCsvException("Line: " + mRowNum + ": Data set must contain a name");
+            }
+            String name = lineIt.next().trim();
+            PrimitivePointListImpl pl = new PrimitivePointListImpl(name);
 
-                // Parse all values
-                // Set the x value of each Point to the index of the category, they belong to
-                int columnNum = 0;
-                while (lineIt.hasNext()) {
-                    columnNum++;
-                    String value = lineIt.next().trim();
-
-                    Number val;
-                    try {
-                        val = Constants.NUMBER_FORMAT.parse(value);
-                    } catch (final ParseException pe) {
-                        throw new MalformedCsvException("Line: " + rowNum + ": Could not parse value", pe);
-                    }
-                    Point2DDouble p = new Point2DDouble(columnNum, val.doubleValue());
-                    pl.pushBack(p);
-                }
+            // Parse all values
+            // Set the x value of each Point to the index of the category, they belong to
+            int columnNum = 0;
+            while (lineIt.hasNext()) {
+                columnNum++;
+                pl.pushBack(columnNum, parseValue(lineIt.next(), mRowNum));
+            }
+            mDataSets.add(pl);
+        }
+
+        @Override
+        public CategoricalPointListContainer<PointList> finish() {
+            CategoricalPointListContainer<PointList> container = new SimpleCategoricalPointListContainerImpl();
+            for (String category : mCategories) {
+                container.pushBackCategory(category);
+            }
+            for (PointList pl : mDataSets) {
                 container.pushBack(pl);
             }
+            return container;
+        }
+
+        @Override
+        public int getHeaderRecordCount() {
+            return 1;
+        }
+
+        @Override
+        public RecordParser<CategoricalPointListContainer<PointList>> fork(final int firstRecordIndex) {
+            return new VerticalParser(firstRecordIndex);
+        }
+
+        @Override
+        public void join(final RecordParser<CategoricalPointListContainer<PointList>> next) {
+            VerticalParser other = (VerticalParser) next;
+            mDataSets.addAll(other.mDataSets);
+            mRowNum = other.mRowNum;
+        }
+    }
+
+    private double parseValue(final String value, final int rowNum) {
+        double val = Constants.NUMBER_PARSER.parseTrimmed(value);
+        if (Double.isNaN(val)) {
+            throw new MalformedCsvException("Line: " + rowNum + ": Could not parse value \"" + value + "\"");
         }
-        return container;
+        return val;
     }
 }
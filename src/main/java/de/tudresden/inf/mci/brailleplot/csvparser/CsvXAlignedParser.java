@@ -3,10 +3,9 @@ package de.tudresden.inf.mci.brailleplot.csvparser;
 import de.tudresden.inf.mci.brailleplot.datacontainers.PointList;
 import de.tudresden.inf.mci.brailleplot.datacontainers.PointListContainer;
 import de.tudresden.inf.mci.brailleplot.datacontainers.SimplePointListContainerImpl;
-import de.tudresden.inf.mci.brailleplot.datacontainers.SimplePointListImpl;
-import de.tudresden.inf.mci.brailleplot.point.Point2DDouble;
+import de.tudresden.inf.mci.brailleplot.datacontainers.PrimitivePointListImpl;
 
-import java.text.ParseException;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
@@ -14,55 +13,153 @@ import java.util.Objects;
 /**
  * Parser for CSV files with aligned X-values. Inherits from CsvParseAlgorithm.
  * @author SVGPlott-Team, Georg Graßnick
- * @version 2019.07.29
+ * @version 2026.10.18
  */
 public class CsvXAlignedParser extends CsvParseAlgorithm<PointListContainer<PointList>> {
 
+    /**
+     * The first row contains the names, the second row the values of the data sets. Further rows are skipped.
+     * @return A {@link RecordParser} building a {@link PointListContainer}{@literal <}{@link PointList}{@literal >}.
+     */
     @Override
-    public PointListContainer<PointList> parseAsHorizontalDataSets(final List<? extends List<String>> csvData) {
-        Objects.requireNonNull(csvData);
+    public RecordParser<PointListContainer<PointList>> createHorizontalParser() {
+        return new HorizontalParser(null, 0);
+    }
+
+    /**
+     * Parser for horizontal data sets. All data is contained in the two header records, forked parsers only check the
+     * length of the remaining records.
+     */
+    private final class HorizontalParser implements RecordParser<PointListContainer<PointList>> {
+        private static final int HEADER_RECORDS = 2;
+
+        private List<String> mNames;
+        private List<String> mValues;
+        private int mRowNum;
+
+        HorizontalParser(final List<String> names, final int firstRecordIndex) {
+            mNames = names;
+            mRowNum = firstRecordIndex;
+        }
+
+        @Override
+        public void parseRecord(final List<String> record) {
+            Objects.requireNonNull(record);
+            mRowNum++;
+            if (mNames != null && record.size() < mNames.size()) {
+                throw new MalformedCsvException("Line: " + mRowNum + ": Every column must contain a value");
+            }
+            if (mNames == null) {
+                mNames = record;
+            } else if (mValues == null && mRowNum == HEADER_RECORDS) {
+                mValues = record;
+            } else {
+                mLogger.debug("Skipping additional line {}", mRowNum);
+            }
+        }
+
+        @Override
+        public PointListContainer<PointList> finish() {
+            PointListContainer<PointList> container = new SimplePointListContainerImpl();
+            if (mNames == null) {
+                return container;
+            }
+            for (int column = 0; column < mNames.size(); column++) {
+                if (mValues == null) {
+                    throw new MalformedCsvException("Column: " + (column + 1) + ": Data set must contain a name for a value");
+                }
+                container.pushBack(parseDataSet(mNames.get(column), mValues.get(column), column + 1));
+            }
+            return container;
+        }
+
+        @Override
+        public int getHeaderRecordCount() {
+            return HEADER_RECORDS;
+        }
+
+        @Override
+        public RecordParser<PointListContainer<PointList>> fork(final int firstRecordIndex) {
+            return new HorizontalParser(mNames, firstRecordIndex);
+        }
 
-        // The csv representation of horizontal datasets is essentially the transposition of vertical datasets.
-        List<? extends List<String>> transposedCsvData = transposeCSV(csvData);
-        return parseAsVerticalDataSets(transposedCsvData);
+        @Override
+        public void join(final RecordParser<PointListContainer<PointList>> next) {
+            mRowNum = ((HorizontalParser) next).mRowNum;
+        }
     }
 
-    @Override
     // This method has been implemented from scratch, as there is no documentation about the structure of the CSV files whatsoever.
-    public PointListContainer<PointList> parseAsVerticalDataSets(final List<? extends List<String>> csvData) {
-        Objects.requireNonNull(csvData);
+    @Override
+    public RecordParser<PointListContainer<PointList>> createVerticalParser() {
+        return new VerticalParser(0);
+    }
 
-        PointListContainer<PointList> container = new SimplePointListContainerImpl();
-        Iterator<? extends List<String>> rowIt = csvData.iterator();
+    /**
+     * Parser for vertical data sets. Every record contains the name and the value of a data set.
+     */
+    private final class VerticalParser implements RecordParser<PointListContainer<PointList>> {
+        private final List<PointList> mDataSets = new ArrayList<>();
+        private int mRowNum; // Keep track of the row number, so that we can include the erroneous row number in the exception.
 
-        int rowNum = 0; // Keep track of the row number, so that we can include the erroneous row number in the exception.
-        while (rowIt.hasNext()) {
-            Iterator<String> lineIt = rowIt.next().iterator();
-            rowNum++;
+        VerticalParser(final int firstRecordIndex) {
+            mRowNum = firstRecordIndex;
+        }
+
+        @Override
+        public void parseRecord(final List<String> record) {
+            Iterator<String> lineIt = Objects.requireNonNull(record).iterator();
+            mRowNum++;
             if (!lineIt.hasNext()) {
-                throw new MalformedCsvException("Line: " + rowNum + ": Data set must contain a name for a value");
+                throw new MalformedCsvException("Line: " + mRowNum + ": Data set must contain a name for a value");
             }
-                String name = lineIt.next().trim();
+            String name = lineIt.next();
             if (!lineIt.hasNext()) {
-                throw new MalformedCsvException("Line: " + rowNum + ": Data set must contain a name for a value");
+                throw new MalformedCsvException("Line: " + mRowNum + ": Data set must contain a name for a value");
             }
-                String value = lineIt.next().trim();
+            String value = lineIt.next();
 
             // Log if there are more inputs that are not parsed
             if (lineIt.hasNext()) {
-                mLogger.debug("Skipping additional column in line {}", rowNum);
+                mLogger.debug("Skipping additional column in line {}", mRowNum);
             }
-            Number val;
-            try {
-                val = Constants.NUMBER_FORMAT.parse(value);
-            } catch (final ParseException pe) {
-                throw new MalformedCsvException("Line: " + rowNum + ": Could not parse value", pe);
+            mDataSets.add(parseDataSet(name, value, mRowNum));
+        }
+
+        @Override
+        public PointListContainer<PointList> finish() {
+            PointListContainer<PointList> container = new SimplePointListContainerImpl();
+            for (PointList dataSet : mDataSets) {
+                container.pushBack(dataSet);
             }
-            Point2DDouble p = new Point2DDouble(0, val.doubleValue());
-            PointList pl = new SimplePointListImpl(name);
-            pl.pushBack(p);
-            container.pushBack(pl);
+            return container;
+        }
+
+        @Override
+        public int getHeaderRecordCount() {
+            return 0;
+        }
+
+        @Override
+        public RecordParser<PointListContainer<PointList>> fork(final int firstRecordIndex) {
+            return new VerticalParser(firstRecordIndex);
+        }
+
+        @Override
+        public void join(final RecordParser<PointListContainer<PointList>> next) {
+            VerticalParser other = (VerticalParser) next;
+            mDataSets.addAll(other.mDataSets);
+            mRowNum = other.mRowNum;
+        }
+    }
+
+    private PointList parseDataSet(final String name, final String value, final int rowNum) {
+        double val = Constants.NUMBER_PARSER.parseTrimmed(value);
+        if (Double.isNaN(val)) {
+            throw new MalformedCsvException("Line: " + rowNum + ": Could not parse value \"" + value + "\"");
         }
-        return container;
+        PrimitivePointListImpl pl = new PrimitivePointListImpl(name.trim(), 1);
+        pl.pushBack(0, val);
+        return pl;
     }
 }
@@ -0,0 +1,26 @@
+package de.tudresden.inf.mci.brailleplot.csvparser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Decompresses gzip input with the decoder of the JDK.
+ * @author agent
+ * @version 2026.10.18
+ */
+public final class GzipCodec implements CompressionCodec {
+
+    private static final byte[] MAGIC = {(byte) 0x1f, (byte) 0x8b};
+    private static final int BUFFER_SIZE = 65536;
+
+    @Override
+    public boolean matches(final byte[] header) {
+        return header.length >= MAGIC.length && header[0] == MAGIC[0] && header[1] == MAGIC[1];
+    }
+
+    @Override
+    public InputStream decompress(final InputStream compressed) throws IOException {
+        return new GZIPInputStream(compressed, BUFFER_SIZE);
+    }
+}
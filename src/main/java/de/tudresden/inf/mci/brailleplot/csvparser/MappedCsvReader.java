@@ -0,0 +1,324 @@
+package de.tudresden.inf.mci.brailleplot.csvparser;
+
+import com.opencsv.CSVReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Reads a csv file in parallel. The file is memory mapped and split into chunks at record boundaries, which are parsed
+ * by independent {@link CsvParseAlgorithm.RecordParser}s on an {@link ExecutorService}. The results of the chunks are
+ * joined in the order of the file, so the result is the same as if the file was parsed sequentially.
+ * Record boundaries are found by a single sequential scan for line breaks outside of quoted values, which is only
+ * possible if line breaks and quote characters can be recognized on the byte level. Otherwise, e.g. for multi-byte
+ * charsets other than UTF-8 or for files containing escape characters, the file is parsed sequentially.
+ * Compressed files, which are recognized by {@link CompressionCodecs}, are decompressed and parsed sequentially while
+ * they are read.
+ * @author agent
+ * @version 2026.10.18
+ */
+final class MappedCsvReader {
+
+    static final int DEFAULT_CHUNK_SIZE = 8 * 1024 * 1024;
+
+    private static final byte LF = '\n';
+    private static final byte CR = '\r';
+    // The default escape character of opencsv. Escaped quote characters would break the quote detection.
+    private static final byte ESCAPE = '\\';
+    private static final int ASCII_LIMIT = 0x80;
+
+    private final Logger mLogger = LoggerFactory.getLogger(MappedCsvReader.class);
+
+    private final Path mFile;
+    private final Charset mCharset;
+    private final char mSeparator;
+    private final char mQuoteChar;
+    private final int mChunkSize;
+
+    MappedCsvReader(final Path file, final Charset charset, final char separator, final char quoteChar) {
+        this(file, charset, separator, quoteChar, DEFAULT_CHUNK_SIZE);
+    }
+
+    MappedCsvReader(final Path file, final Charset charset, final char separator, final char quoteChar, final int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        mFile = Objects.requireNonNull(file);
+        mCharset = Objects.requireNonNull(charset);
+        mSeparator = separator;
+        mQuoteChar = quoteChar;
+        mChunkSize = chunkSize;
+    }
+
+    /**
+     * Parse the file with the given parser and parsers forked from it.
+     * @param parser The parser receiving the header records. Its {@link CsvParseAlgorithm.RecordParser#finish()} method
+     *               is called after all chunks have been joined.
+     * @param executor The executor, which parses the chunks following the header records.
+     * @param <T> The type of the generated container.
+     * @return The result of the parser.
+     * @throws IOException If the file could not be read.
+     */
+    <T> T parse(final CsvParseAlgorithm.RecordParser<T> parser, final ExecutorService executor) throws IOException {
+        Objects.requireNonNull(parser);
+        Objects.requireNonNull(executor);
+        try (FileChannel channel = FileChannel.open(mFile, StandardOpenOption.READ)) {
+            Optional<CompressionCodec> codec = CompressionCodecs.find(readHeader(channel));
+            List<Chunk> chunks = null;
+            if (codec.isEmpty() && isSplittable()) {
+                chunks = split(channel, parser.getHeaderRecordCount());
+            }
+            if (codec.isPresent()) {
+                mLogger.debug("Decompressing and parsing {} sequentially", mFile);
+                parseCompressed(codec.get(), parser);
+            } else if (chunks == null) {
+                mLogger.debug("Parsing {} sequentially", mFile);
+                parseSequentially(parser);
+            } else {
+                mLogger.debug("Parsing {} in {} chunks", mFile, chunks.size());
+                parseChunks(channel, chunks, parser, executor);
+            }
+        }
+        return parser.finish();
+    }
+
+    private static byte[] readHeader(final FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(CompressionCodecs.HEADER_LENGTH);
+        int read = 0;
+        while (header.hasRemaining() && read >= 0) {
+            read = channel.read(header, header.position());
+        }
+        return Arrays.copyOf(header.array(), header.position());
+    }
+
+    private boolean isSplittable() {
+        if (mQuoteChar >= ASCII_LIMIT) {
+            return false;
+        }
+        if (mCharset.equals(StandardCharsets.UTF_8)) {
+            return true;
+        }
+        // Single byte charsets are fine, as long as they encode the relevant characters like ASCII
+        if (!mCharset.canEncode() || mCharset.newEncoder().maxBytesPerChar() != 1) {
+            return false;
+        }
+        String special = new String(new char[] {(char) LF, (char) CR, (char) ESCAPE, mQuoteChar});
+        return Arrays.equals(special.getBytes(mCharset), special.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Find the chunk boundaries. The first chunk contains the header records, all further chunks are at least
+     * {@link #mChunkSize} bytes long, except for the last one.
+     * @return The chunks, or null if the file cannot be split.
+     */
+    private List<Chunk> split(final FileChannel channel, final int headerRecords) throws IOException {
+        final long size = channel.size();
+        final byte quote = (byte) mQuoteChar;
+        List<Chunk> chunks = new ArrayList<>();
+        long chunkStart = 0;
+        int chunkFirstRecord = 0;
+        int records = 0;
+        boolean inQuotes = false;
+        boolean afterCr = false;
+        boolean headerDone = false;
+        if (headerRecords == 0) {
+            chunks.add(new Chunk(0, 0, 0));
+            headerDone = true;
+        }
+        for (long windowStart = 0; windowStart < size; windowStart += Integer.MAX_VALUE) {
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, Math.min(Integer.MAX_VALUE, size - windowStart));
+            final int limit = window.limit();
+            for (int i = 0; i < limit; i++) {
+                byte b = window.get(i);
+                if (b == ESCAPE) {
+                    return null;
+                }
+                if (b == quote) {
+                    inQuotes = !inQuotes;
+                }
+                if (inQuotes || (b != LF && b != CR)) {
+                    afterCr = false;
+                    continue;
+                }
+                long end = windowStart + i + 1;
+                boolean boundary = true;
+                if (b == CR) {
+                    records++;
+                    // Chunks must not start between \r and \n
+                    boundary = end == size || (i + 1 < limit && window.get(i + 1) != LF);
+                } else if (!afterCr) {
+                    records++;
+                }
+                afterCr = b == CR;
+
+                if (!headerDone && records > headerRecords) {
+                    // The header records do not end at a position where the file can be split
+                    return null;
+                }
+                if (!boundary) {
+                    continue;
+                }
+                if (!headerDone) {
+                    if (records == headerRecords) {
+                        chunks.add(new Chunk(0, end, 0));
+                        chunkStart = end;
+                        chunkFirstRecord = records;
+                        headerDone = true;
+                    }
+                } else if (end - chunkStart >= mChunkSize) {
+                    chunks.add(new Chunk(chunkStart, end, chunkFirstRecord));
+                    chunkStart = end;
+                    chunkFirstRecord = records;
+                }
+            }
+        }
+        if (!headerDone) {
+            return null;
+        }
+        if (chunkStart < size) {
+            chunks.add(new Chunk(chunkStart, size, chunkFirstRecord));
+        }
+        for (Chunk chunk : chunks) {
+            if (chunk.mEnd - chunk.mStart > Integer.MAX_VALUE) {
+                return null;
+            }
+        }
+        return chunks;
+    }
+
+    private <T> void parseChunks(final FileChannel channel, final List<Chunk> chunks, final CsvParseAlgorithm.RecordParser<T> parser,
+                                 final ExecutorService executor) throws IOException {
+        parseChunk(channel, chunks.get(0), parser);
+        List<Future<CsvParseAlgorithm.RecordParser<T>>> results = new ArrayList<>(chunks.size() - 1);
+        try {
+            for (Chunk chunk : chunks.subList(1, chunks.size())) {
+                CsvParseAlgorithm.RecordParser<T> fork = parser.fork(chunk.mFirstRecordIndex);
+                results.add(executor.submit(() -> {
+                    parseChunk(channel, chunk, fork);
+                    return fork;
+                }));
+            }
+            for (Future<CsvParseAlgorithm.RecordParser<T>> result : results) {
+                parser.join(result.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while parsing " + mFile);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            // Do not keep parsing the remaining chunks, if one of them failed
+            for (Future<?> result : results) {
+                result.cancel(true);
+            }
+        }
+    }
+
+    private void parseChunk(final FileChannel channel, final Chunk chunk, final CsvParseAlgorithm.RecordParser<?> parser) throws IOException {
+        if (chunk.mEnd == chunk.mStart) {
+            return;
+        }
+        ByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, chunk.mStart, chunk.mEnd - chunk.mStart);
+        parseRecords(new CharBufferReader(mCharset.decode(bytes)), parser);
+    }
+
+    private void parseSequentially(final CsvParseAlgorithm.RecordParser<?> parser) throws IOException {
+        parseRecords(new BufferedReader(new InputStreamReader(Files.newInputStream(mFile), mCharset)), parser);
+    }
+
+    private void parseCompressed(final CompressionCodec codec, final CsvParseAlgorithm.RecordParser<?> parser) throws IOException {
+        InputStream compressed = Files.newInputStream(mFile);
+        InputStream decompressed;
+        try {
+            decompressed = new BufferedInputStream(codec.decompress(compressed), CompressionCodecs.BUFFER_SIZE);
+        } catch (IOException e) {
+            compressed.close();
+            throw e;
+        }
+        parseRecords(new InputStreamReader(decompressed, mCharset), parser);
+    }
+
+    private void parseRecords(final Reader reader, final CsvParseAlgorithm.RecordParser<?> parser) throws IOException {
+        try (CSVReader csvReader = CsvParser.createCsvReader(reader, mSeparator, mQuoteChar)) {
+            for (String[] line : csvReader) {
+                parser.parseRecord(Arrays.asList(line));
+            }
+        }
+    }
+
+    /**
+     * A part of the file, starting and ending at record boundaries.
+     */
+    private static final class Chunk {
+        private final long mStart;
+        private final long mEnd;
+        private final int mFirstRecordIndex;
+
+        Chunk(final long start, final long end, final int firstRecordIndex) {
+            mStart = start;
+            mEnd = end;
+            mFirstRecordIndex = firstRecordIndex;
+        }
+    }
+
+    /**
+     * A reader for decoded chunks. Unlike {@link java.io.CharArrayReader}, it does not need a copy of the buffer.
+     */
+    private static final class CharBufferReader extends Reader {
+        private final CharBuffer mBuffer;
+
+        CharBufferReader(final CharBuffer buffer) {
+            mBuffer = buffer;
+        }
+
+        @Override
+        public int read(final char[] cbuf, final int off, final int len) {
+            Objects.checkFromIndexSize(off, len, cbuf.length);
+            if (len == 0) {
+                return 0;
+            }
+            if (!mBuffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(len, mBuffer.remaining());
+            mBuffer.get(cbuf, off, count);
+            return count;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
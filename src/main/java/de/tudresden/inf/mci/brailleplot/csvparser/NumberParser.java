@@ -0,0 +1,250 @@
+package de.tudresden.inf.mci.brailleplot.csvparser;
+
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Parser for decimal numbers in csv cells.
+ * Accepts the same syntax as {@link java.text.NumberFormat#getInstance(Locale)} for the given locale: an optional minus
+ * sign, digits with optional grouping separators, an optional decimal separator followed by digits and an optional
+ * exponent. Like {@link java.text.NumberFormat#parse(String)}, the number must start at the beginning of the text and
+ * any trailing characters are ignored.
+ * In contrast to {@link java.text.NumberFormat}, instances are immutable and therefore thread-safe, work on ranges of any
+ * {@link CharSequence} and return primitive values. Parsing does not create any objects, unless a number has more
+ * significant digits or a larger exponent than can be converted exactly with double arithmetic.
+ * Parse failures are reported by returning {@link Double#NaN}, so the NaN symbol of the locale is not accepted as input.
+ * @author agent
+ * @version 2026.10.18
+ */
+public final class NumberParser {
+
+    /**
+     * The value returned if the text could not be parsed.
+     */
+    public static final double FAILURE = Double.NaN;
+
+    private static final int RADIX = 10;
+    // Mantissas with up to this many digits fit into a long without overflow.
+    private static final int MAX_MANTISSA_DIGITS = 18;
+    // Integers up to 2^53 are represented exactly by doubles.
+    private static final int SIGNIFICAND_BITS = 53;
+    private static final long MAX_EXACT_MANTISSA = 1L << SIGNIFICAND_BITS;
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    // Exponents beyond this value lead to infinity or zero in any case. Used to prevent overflows.
+    private static final int MAX_EXPONENT = 100000;
+
+    private final char mZeroDigit;
+    private final char mDecimalSeparator;
+    private final char mGroupingSeparator;
+    private final char mMinusSign;
+    private final String mExponentSeparator;
+    private final String mInfinity;
+
+    public NumberParser(final Locale locale) {
+        Objects.requireNonNull(locale);
+        DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+        mZeroDigit = symbols.getZeroDigit();
+        mDecimalSeparator = symbols.getDecimalSeparator();
+        mGroupingSeparator = symbols.getGroupingSeparator();
+        mMinusSign = symbols.getMinusSign();
+        mExponentSeparator = symbols.getExponentSeparator();
+        mInfinity = symbols.getInfinity();
+    }
+
+    /**
+     * Parse a number from the beginning of a text.
+     * @param text The text to parse.
+     * @return The parsed value, or {@link #FAILURE} if the text does not start with a number.
+     */
+    public double parse(final CharSequence text) {
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Parse a number from the beginning of a text, ignoring leading and trailing whitespace like {@link String#trim()}.
+     * @param text The text to parse.
+     * @return The parsed value, or {@link #FAILURE} if the trimmed text does not start with a number.
+     */
+    public double parseTrimmed(final CharSequence text) {
+        int start = 0;
+        int end = text.length();
+        while (start < end && text.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return parse(text, start, end);
+    }
+
+    /**
+     * Parse a number from the beginning of a range of a text.
+     * @param text The text to parse.
+     * @param start The index of the first character of the range.
+     * @param end The index after the last character of the range.
+     * @return The parsed value, or {@link #FAILURE} if the range does not start with a number.
+     * @throws IndexOutOfBoundsException If the range is not within the text.
+     */
+    public double parse(final CharSequence text, final int start, final int end) {
+        Objects.checkFromToIndex(start, end, text.length());
+        int pos = start;
+        boolean negative = false;
+        if (pos < end && text.charAt(pos) == mMinusSign) {
+            negative = true;
+            pos++;
+        }
+        if (regionMatches(text, pos, end, mInfinity)) {
+            return applySign(Double.POSITIVE_INFINITY, negative);
+        }
+
+        final int numberStart = pos;
+        long mantissa = 0;
+        int mantissaDigits = 0;
+        boolean truncated = false;
+        long exponent = 0;
+        boolean sawDigit = false;
+        boolean sawDecimal = false;
+        while (pos < end) {
+            char ch = text.charAt(pos);
+            int digit = digit(ch);
+            if (digit >= 0) {
+                sawDigit = true;
+                if (mantissa == 0 && digit == 0) {
+                    // Leading zeros are not significant
+                    if (sawDecimal) {
+                        exponent--;
+                    }
+                } else if (mantissaDigits < MAX_MANTISSA_DIGITS) {
+                    mantissa = mantissa * RADIX + digit;
+                    mantissaDigits++;
+                    if (sawDecimal) {
+                        exponent--;
+                    }
+                } else {
+                    truncated = true;
+                    if (!sawDecimal) {
+                        exponent++;
+                    }
+                }
+            } else if (ch == mDecimalSeparator) {
+                if (sawDecimal) {
+                    break;
+                }
+                sawDecimal = true;
+            } else if (ch == mGroupingSeparator) {
+                if (sawDecimal) {
+                    break;
+                }
+            } else {
+                break;
+            }
+            pos++;
+        }
+        if (!sawDigit) {
+            return FAILURE;
+        }
+        final int numberEnd = pos;
+
+        int exponentPart = 0;
+        if (regionMatches(text, pos, end, mExponentSeparator)) {
+            exponentPart = parseExponent(text, pos + mExponentSeparator.length(), end);
+        }
+
+        double value;
+        long decimalExponent = exponent + exponentPart;
+        if (mantissa == 0) {
+            value = 0;
+        } else if (!truncated && mantissa <= MAX_EXACT_MANTISSA && Math.abs(decimalExponent) < POWERS_OF_TEN.length) {
+            // Both operands are exact, so the single rounding of the division or multiplication gives the correct result.
+            if (decimalExponent < 0) {
+                value = mantissa / POWERS_OF_TEN[(int) -decimalExponent];
+            } else {
+                value = mantissa * POWERS_OF_TEN[(int) decimalExponent];
+            }
+        } else {
+            value = parseExactly(text, numberStart, numberEnd, exponentPart);
+        }
+        return applySign(value, negative);
+    }
+
+    /**
+     * Parse the exponent following the exponent separator: an optional minus sign followed by digits.
+     * @return The exponent, or 0 if there is no valid exponent.
+     */
+    private int parseExponent(final CharSequence text, final int start, final int end) {
+        int pos = start;
+        boolean negative = false;
+        if (pos < end && text.charAt(pos) == mMinusSign) {
+            negative = true;
+            pos++;
+        }
+        int exponent = 0;
+        boolean sawDigit = false;
+        while (pos < end) {
+            int digit = digit(text.charAt(pos));
+            if (digit < 0) {
+                break;
+            }
+            sawDigit = true;
+            exponent = Math.min(exponent * RADIX + digit, MAX_EXPONENT);
+            pos++;
+        }
+        if (!sawDigit) {
+            return 0;
+        }
+        if (negative) {
+            return -exponent;
+        }
+        return exponent;
+    }
+
+    private static double applySign(final double value, final boolean negative) {
+        if (negative) {
+            return -value;
+        }
+        return value;
+    }
+
+    /**
+     * Fallback for numbers that cannot be converted exactly with double arithmetic.
+     * Normalizes the number to the syntax of {@link Double#parseDouble(String)}, which rounds correctly.
+     */
+    private double parseExactly(final CharSequence text, final int numberStart, final int numberEnd, final int exponent) {
+        StringBuilder sb = new StringBuilder(numberEnd - numberStart + RADIX);
+        for (int i = numberStart; i < numberEnd; i++) {
+            char ch = text.charAt(i);
+            int digit = digit(ch);
+            if (digit >= 0) {
+                sb.append((char) ('0' + digit));
+            } else if (ch == mDecimalSeparator) {
+                sb.append('.');
+            }
+        }
+        sb.append('E').append(exponent);
+        return Double.parseDouble(sb.toString());
+    }
+
+    private int digit(final char ch) {
+        int digit = ch - mZeroDigit;
+        if (digit < 0 || digit >= RADIX) {
+            digit = Character.digit(ch, RADIX);
+        }
+        return digit;
+    }
+
+    private static boolean regionMatches(final CharSequence text, final int start, final int end, final String region) {
+        if (region.isEmpty() || end - start < region.length()) {
+            return false;
+        }
+        for (int i = 0; i < region.length(); i++) {
+            if (text.charAt(start + i) != region.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -11,7 +11,7 @@ import java.util.stream.Stream;
  * Abstract parent class for {@link SimplePointListContainerImpl} and {@link SimplePointListImpl}.
  * @param <T> The type of the elements stored in this container.
  * @author Georg Graßnick
- * @version 2019.08.02
+ * @version 2026.10.18
  */
 public abstract class AbstractPointContainer<T extends MinMaxPos2D<Double>> implements PointContainer<T>, MinMaxPos2D<Double> {
 
@@ -20,6 +20,8 @@ public abstract class AbstractPointContainer<T extends MinMaxPos2D<Double>> impl
     protected Double mMaxY = Double.NEGATIVE_INFINITY;
     protected Double mMinX = Double.POSITIVE_INFINITY;
     protected Double mMinY = Double.POSITIVE_INFINITY;
+    protected final SummaryStatistics mStatisticsX = new SummaryStatistics();
+    protected final SummaryStatistics mStatisticsY = new SummaryStatistics();
 
     @Override
     public final int getSize() {
@@ -69,8 +71,28 @@ public abstract class AbstractPointContainer<T extends MinMaxPos2D<Double>> impl
         return mMaxY;
     }
 
+    @Override
+    public final SummaryStatistics getStatisticsX() {
+        return mStatisticsX;
+    }
+
+    @Override
+    public final SummaryStatistics getStatisticsY() {
+        return mStatisticsY;
+    }
+
+    /**
+     * Recalculates the minimum and maximum values and the summary statistics from the elements.
+     * The statistics of child containers are combined, not recalculated.
+     */
     @Override
     public final void calculateExtrema() {
+        mMaxX = Double.NEGATIVE_INFINITY;
+        mMaxY = Double.NEGATIVE_INFINITY;
+        mMinX = Double.POSITIVE_INFINITY;
+        mMinY = Double.POSITIVE_INFINITY;
+        mStatisticsX.reset();
+        mStatisticsY.reset();
         for (T e : mElements) {
             checkExtrema(e);
         }
@@ -81,6 +103,15 @@ public abstract class AbstractPointContainer<T extends MinMaxPos2D<Double>> impl
         mMinX = Math.min(element.getMinX(), mMinX);
         mMaxY = Math.max(element.getMaxY(), mMaxY);
         mMinY = Math.min(element.getMinY(), mMinY);
+        if (element instanceof PointContainer) {
+            PointContainer<?> container = (PointContainer<?>) element;
+            mStatisticsX.combine(container.getStatisticsX());
+            mStatisticsY.combine(container.getStatisticsY());
+        } else {
+            // A single point, whose minimum and maximum are its coordinates
+            mStatisticsX.accept(element.getMinX());
+            mStatisticsY.accept(element.getMinY());
+        }
     }
 
     private String getRecursiveIndentation(final int depth) {
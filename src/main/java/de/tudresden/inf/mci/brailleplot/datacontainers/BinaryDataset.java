@@ -0,0 +1,238 @@
+package de.tudresden.inf.mci.brailleplot.datacontainers;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Reads and writes parsed data in a compact binary file format, so that the same data can be rendered repeatedly
+ * without parsing it again.
+ * The file starts with a header containing the offset of the coordinates, the categories, the names of the point lists
+ * and their summary statistics.
+ * It is followed by the coordinates of all lists, stored as columns of doubles: the x values of the first list, its
+ * y values, the x values of the second list and so on. When loading a dataset, the columns are memory mapped and
+ * accessed through read-only {@link PointList}s, so no objects are created per point and only the accessed parts of
+ * the file are read.
+ * @author agent
+ * @version 2026.10.18
+ */
+public final class BinaryDataset {
+
+    // "BPDS" in ASCII
+    private static final int MAGIC = 0x42504453;
+    private static final int VERSION = 1;
+    private static final int ALIGNMENT = Double.BYTES;
+    // Magic number, version and data offset
+    private static final int PREAMBLE_SIZE = 16;
+
+    private BinaryDataset() {
+    }
+
+    /**
+     * Write a container to a binary dataset file.
+     * The summary statistics of the lists are written as they are, so they must be up to date.
+     * The file must not be loaded at the same time, as its mapped contents would change.
+     * @param container The container to write. If it is a {@link CategoricalPointListContainer}, its categories are written, too.
+     * @param file The path of the file to create or overwrite.
+     * @throws IOException If the file could not be written.
+     */
+    public static void write(final PointListContainer<PointList> container, final Path file) throws IOException {
+        Objects.requireNonNull(container);
+        Objects.requireNonNull(file);
+        ByteArrayOutputStream headerBytes = new ByteArrayOutputStream();
+        DataOutputStream header = new DataOutputStream(headerBytes);
+        if (container instanceof CategoricalPointListContainer) {
+            CategoricalPointListContainer<PointList> categorical = (CategoricalPointListContainer<PointList>) container;
+            header.writeBoolean(true);
+            header.writeInt(categorical.getNumberOfCategories());
+            Iterator<String> categories = categorical.categoriesIterator();
+            while (categories.hasNext()) {
+                writeString(header, categories.next());
+            }
+        } else {
+            header.writeBoolean(false);
+        }
+        header.writeInt(container.getSize());
+        for (PointList list : container) {
+            writeString(header, list.getName());
+            header.writeInt(list.getSize());
+            header.writeBoolean(isSortedXAscend(list));
+            writeStatistics(header, list.getStatisticsX());
+            writeStatistics(header, list.getStatisticsY());
+        }
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(align(PREAMBLE_SIZE + headerBytes.size()));
+            headerBytes.writeTo(out);
+            // Align the columns, so that they can be read efficiently
+            while (out.size() % ALIGNMENT != 0) {
+                out.writeByte(0);
+            }
+
+            for (PointList list : container) {
+                PointCursor cursor = list.getCursor();
+                while (cursor.next()) {
+                    out.writeDouble(cursor.getX());
+                }
+                cursor = list.getCursor();
+                while (cursor.next()) {
+                    out.writeDouble(cursor.getY());
+                }
+            }
+        }
+    }
+
+    /**
+     * Load a binary dataset file.
+     * The returned container holds read-only point lists, which read their coordinates directly from the mapped file.
+     * @param file The path of the file to load.
+     * @return A {@link CategoricalPointListContainer}, if categories were stored in the file, else a {@link PointListContainer}.
+     * @throws IOException If the file could not be read or is not a valid dataset.
+     */
+    public static PointListContainer<PointList> load(final Path file) throws IOException {
+        Objects.requireNonNull(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // The channel is not closed by the stream, as it is still needed for mapping the columns
+            DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+            try {
+                if (in.readInt() != MAGIC) {
+                    throw new IOException("Not a binary dataset: " + file);
+                }
+                int version = in.readInt();
+                if (version != VERSION) {
+                    throw new IOException("Unsupported binary dataset version " + version + ": " + file);
+                }
+                long position = in.readLong();
+                List<String> categories = null;
+                if (in.readBoolean()) {
+                    int categoryCount = readCount(in, file);
+                    categories = new ArrayList<>(categoryCount);
+                    for (int i = 0; i < categoryCount; i++) {
+                        categories.add(readString(in, file));
+                    }
+                }
+
+                int listCount = readCount(in, file);
+                List<ListHeader> headers = new ArrayList<>(listCount);
+                for (int i = 0; i < listCount; i++) {
+                    headers.add(new ListHeader(readString(in, file), readCount(in, file), in.readBoolean(), in));
+                }
+
+                List<PointList> lists = new ArrayList<>(listCount);
+                for (ListHeader header : headers) {
+                    lists.add(header.map(channel, position, file));
+                    position += 2L * header.mSize * Double.BYTES;
+                }
+                if (categories == null) {
+                    return new SimplePointListContainerImpl(lists);
+                }
+                return new SimpleCategoricalPointListContainerImpl(lists, categories);
+            } catch (EOFException e) {
+                throw new IOException("Unexpected end of binary dataset: " + file, e);
+            }
+        }
+    }
+
+    private static long align(final long position) {
+        return (position + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+    }
+
+    private static boolean isSortedXAscend(final PointList list) {
+        if (list instanceof PrimitivePointListImpl) {
+            return ((PrimitivePointListImpl) list).isSortedXAscend();
+        }
+        PointCursor cursor = list.getCursor();
+        double previous = Double.NEGATIVE_INFINITY;
+        while (cursor.next()) {
+            if (cursor.getX() < previous) {
+                return false;
+            }
+            previous = cursor.getX();
+        }
+        return true;
+    }
+
+    private static void writeString(final DataOutputStream out, final String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(final DataInputStream in, final Path file) throws IOException {
+        byte[] bytes = new byte[readCount(in, file)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int readCount(final DataInputStream in, final Path file) throws IOException {
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IOException("Corrupt binary dataset: " + file);
+        }
+        return count;
+    }
+
+    private static void writeStatistics(final DataOutputStream out, final SummaryStatistics statistics) throws IOException {
+        out.writeDouble(statistics.getMin());
+        out.writeDouble(statistics.getMax());
+        out.writeDouble(statistics.getSum());
+        out.writeDouble(statistics.getPositiveSum());
+        out.writeDouble(statistics.getNegativeSum());
+    }
+
+    private static SummaryStatistics readStatistics(final DataInputStream in, final int count) throws IOException {
+        return new SummaryStatistics(count, in.readDouble(), in.readDouble(), in.readDouble(), in.readDouble(), in.readDouble());
+    }
+
+    /**
+     * The header of a single point list.
+     */
+    private static final class ListHeader {
+        private final String mName;
+        private final int mSize;
+        private final boolean mSortedXAscend;
+        private final SummaryStatistics mStatisticsX;
+        private final SummaryStatistics mStatisticsY;
+
+        ListHeader(final String name, final int size, final boolean sortedXAscend, final DataInputStream in) throws IOException {
+            mName = name;
+            mSize = size;
+            mSortedXAscend = sortedXAscend;
+            mStatisticsX = readStatistics(in, size);
+            mStatisticsY = readStatistics(in, size);
+        }
+
+        MappedPointList map(final FileChannel channel, final long position, final Path file) throws IOException {
+            long length = 2L * mSize * Double.BYTES;
+            if (length > Integer.MAX_VALUE) {
+                throw new IOException("Point list '" + mName + "' is too large to be mapped: " + file);
+            }
+            if (position + length > channel.size()) {
+                throw new IOException("Unexpected end of binary dataset: " + file);
+            }
+            ByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            DoubleBuffer columns = bytes.asDoubleBuffer();
+            DoubleBuffer x = columns.duplicate().limit(mSize).slice();
+            DoubleBuffer y = columns.duplicate().position(mSize).slice();
+            return new MappedPointList(mName, x, y, mSortedXAscend, mStatisticsX, mStatisticsY);
+        }
+    }
+}
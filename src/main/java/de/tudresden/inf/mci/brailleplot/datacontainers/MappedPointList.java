@@ -0,0 +1,252 @@
+package de.tudresden.inf.mci.brailleplot.datacontainers;
+
+import de.tudresden.inf.mci.brailleplot.point.Point2DDouble;
+
+import java.nio.DoubleBuffer;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * A read-only {@link PointList} backed by the memory mapped coordinate columns of a {@link BinaryDataset}.
+ * The coordinates are read from the mapped file on every access, so no objects are created per point, except for the
+ * {@link Point2DDouble} instances returned by {@link #iterator()}, {@link #getListIterator()} and {@link #stream()}.
+ * The summary statistics are stored in the dataset, so they are available without reading the coordinates.
+ * @author agent
+ * @version 2026.10.18
+ */
+final class MappedPointList implements PointList {
+
+    private String mName;
+    private final DoubleBuffer mX;
+    private final DoubleBuffer mY;
+    private final int mSize;
+    private final boolean mSortedXAscend;
+    private final SummaryStatistics mStatisticsX;
+    private final SummaryStatistics mStatisticsY;
+
+    MappedPointList(final String name, final DoubleBuffer x, final DoubleBuffer y, final boolean sortedXAscend,
+                    final SummaryStatistics statisticsX, final SummaryStatistics statisticsY) {
+        if (x.limit() != y.limit()) {
+            throw new IllegalArgumentException("The coordinate columns must have the same size");
+        }
+        mName = Objects.requireNonNull(name);
+        mX = x;
+        mY = y;
+        mSize = x.limit();
+        mSortedXAscend = sortedXAscend;
+        mStatisticsX = Objects.requireNonNull(statisticsX);
+        mStatisticsY = Objects.requireNonNull(statisticsY);
+    }
+
+    @Override
+    public int getSize() {
+        return mSize;
+    }
+
+    /**
+     * Not supported, the list is read-only.
+     * @param element The element to be inserted.
+     * @throws UnsupportedOperationException Always.
+     */
+    @Override
+    public void pushBack(final Point2DDouble element) {
+        throw new UnsupportedOperationException("Point lists of binary datasets are read-only");
+    }
+
+    /**
+     * Not supported, the list is read-only.
+     * @param elementToRemove The element to be removed from this list.
+     * @return Never returns.
+     * @throws UnsupportedOperationException Always.
+     */
+    @Override
+    public boolean removeFirstOccurrence(final Point2DDouble elementToRemove) {
+        throw new UnsupportedOperationException("Point lists of binary datasets are read-only");
+    }
+
+    @Override
+    public double getX(final int index) {
+        Objects.checkIndex(index, mSize);
+        return mX.get(index);
+    }
+
+    @Override
+    public double getY(final int index) {
+        Objects.checkIndex(index, mSize);
+        return mY.get(index);
+    }
+
+    /**
+     * Returns the list itself, if it is already sorted, because it cannot be modified. Otherwise, the sorted copy is
+     * a {@link PrimitivePointListImpl}.
+     * @return A {@link PointList} which is sorted by the x-values in ascending fashion.
+     */
+    @Override
+    public PointList sortXAscend() {
+        if (mSortedXAscend) {
+            return this;
+        }
+        PrimitivePointListImpl result = new PrimitivePointListImpl(this);
+        result.sortXAscendInPlace();
+        return result;
+    }
+
+    @Override
+    public PointCursor getCursor() {
+        return new PointCursor() {
+            private int mIndex = -1;
+
+            @Override
+            public boolean next() {
+                if (mIndex + 1 >= mSize) {
+                    mIndex = mSize;
+                    return false;
+                }
+                mIndex++;
+                return true;
+            }
+
+            @Override
+            public double getX() {
+                return mX.get(mIndex);
+            }
+
+            @Override
+            public double getY() {
+                return mY.get(mIndex);
+            }
+        };
+    }
+
+    @Override
+    public Iterator<Point2DDouble> iterator() {
+        return getListIterator();
+    }
+
+    @Override
+    public ListIterator<Point2DDouble> getListIterator() {
+        return new ListIterator<>() {
+            private int mCursor = 0;
+
+            @Override
+            public boolean hasNext() {
+                return mCursor < mSize;
+            }
+
+            @Override
+            public Point2DDouble next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Point2DDouble point = new Point2DDouble(mX.get(mCursor), mY.get(mCursor));
+                mCursor++;
+                return point;
+            }
+
+            @Override
+            public boolean hasPrevious() {
+                return mCursor > 0;
+            }
+
+            @Override
+            public Point2DDouble previous() {
+                if (!hasPrevious()) {
+                    throw new NoSuchElementException();
+                }
+                mCursor--;
+                return new Point2DDouble(mX.get(mCursor), mY.get(mCursor));
+            }
+
+            @Override
+            public int nextIndex() {
+                return mCursor;
+            }
+
+            @Override
+            public int previousIndex() {
+                return mCursor - 1;
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException("Point lists of binary datasets are read-only");
+            }
+
+            @Override
+            public void set(final Point2DDouble point2DDouble) {
+                throw new UnsupportedOperationException("Point lists of binary datasets are read-only");
+            }
+
+            @Override
+            public void add(final Point2DDouble point2DDouble) {
+                throw new UnsupportedOperationException("Point lists of binary datasets are read-only");
+            }
+        };
+    }
+
+    @Override
+    public Stream<Point2DDouble> stream() {
+        return IntStream.range(0, mSize).mapToObj(i -> new Point2DDouble(mX.get(i), mY.get(i)));
+    }
+
+    @Override
+    public SummaryStatistics getStatisticsX() {
+        return mStatisticsX;
+    }
+
+    @Override
+    public SummaryStatistics getStatisticsY() {
+        return mStatisticsY;
+    }
+
+    @Override
+    public Double getMinX() {
+        return mStatisticsX.getMin();
+    }
+
+    @Override
+    public Double getMaxX() {
+        return mStatisticsX.getMax();
+    }
+
+    @Override
+    public Double getMinY() {
+        return mStatisticsY.getMin();
+    }
+
+    @Override
+    public Double getMaxY() {
+        return mStatisticsY.getMax();
+    }
+
+    /**
+     * Does nothing, as the list cannot be modified and the extrema were stored in the dataset.
+     */
+    @Override
+    public void calculateExtrema() {
+    }
+
+    @Override
+    public String getName() {
+        return mName;
+    }
+
+    @Override
+    public void setName(final String newName) {
+        Objects.requireNonNull(newName);
+        mName = newName;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(getName()).append(":");
+        for (int i = 0; i < mSize; i++) {
+            sb.append(" (").append(mX.get(i)).append(", ").append(mY.get(i)).append(")");
+        }
+        return sb.toString();
+    }
+}
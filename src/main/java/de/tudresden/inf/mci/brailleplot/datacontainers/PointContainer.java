@@ -8,7 +8,7 @@ import java.util.stream.Stream;
  * Parent Interface of {@link PointListContainer} and {@link PointList}.
  * @param <T> The type of the elements stored in this container.
  * @author Georg Graßnick
- * @version 2019.07.29
+ * @version 2026.10.18
  */
 public interface PointContainer<T> extends Iterable<T>, MinMaxPos2D<Double> {
 
@@ -20,14 +20,28 @@ public interface PointContainer<T> extends Iterable<T>, MinMaxPos2D<Double> {
 
     /**
      * Adds a point to the list.
-     * Also updates min and max values if required.
+     * Also updates min and max values and the summary statistics.
      * @param element The element to be inserted.
      */
     void pushBack(T element);
 
+    /**
+     * Returns the summary statistics of the x values of all points in this container.
+     * The statistics are updated on {@link #pushBack(Object)}, so they do not need to be calculated by iterating the data.
+     * @return The statistics of the x values. Changes of the container are reflected by the returned object.
+     */
+    SummaryStatistics getStatisticsX();
+
+    /**
+     * Returns the summary statistics of the y values of all points in this container.
+     * The statistics are updated on {@link #pushBack(Object)}, so they do not need to be calculated by iterating the data.
+     * @return The statistics of the y values. Changes of the container are reflected by the returned object.
+     */
+    SummaryStatistics getStatisticsY();
+
     /**
      * Removes the first occurrence of the specified Point from the list.
-     * This does not update the minimum and maximum values itself, you have to call
+     * This does not update the minimum and maximum values and the summary statistics itself, you have to call
      * {@link MinMaxPos2D#calculateExtrema()} manually after removing.
      * @param elementToRemove The element to be removed from this list
      * @return True if this list contained the specified element, else false
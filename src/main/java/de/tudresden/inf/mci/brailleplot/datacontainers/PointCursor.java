@@ -0,0 +1,30 @@
+package de.tudresden.inf.mci.brailleplot.datacontainers;
+
+/**
+ * A cursor over the points of a {@link PointList}, which gives access to the coordinates as primitives.
+ * In contrast to {@link java.util.Iterator}{@literal <}{@link de.tudresden.inf.mci.brailleplot.point.Point2DDouble}{@literal >},
+ * no objects are created per point. The cursor starts before the first point, so {@link #next()} must be called before
+ * the coordinates of the first point can be read.
+ * @author agent
+ * @version 2026.10.18
+ */
+public interface PointCursor {
+
+    /**
+     * Move the cursor to the next point.
+     * @return true, if the cursor is positioned on a point, false if there are no more points.
+     */
+    boolean next();
+
+    /**
+     * Get the x value of the current point.
+     * @return The x value.
+     */
+    double getX();
+
+    /**
+     * Get the y value of the current point.
+     * @return The y value.
+     */
+    double getY();
+}
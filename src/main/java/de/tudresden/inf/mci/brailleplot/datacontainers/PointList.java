@@ -10,7 +10,7 @@ import java.util.ListIterator;
  * Implementing classes can be instantiated by data parser classes and are used as a data representation
  * for use of the rasterizer.
  * @author Georg Graßnick, Andrey Ruzhanskiy
- * @version 2019.09.24
+ * @version 2026.10.18
  */
 public interface PointList extends PointContainer<Point2DDouble>, Named {
 
@@ -26,4 +26,26 @@ public interface PointList extends PointContainer<Point2DDouble>, Named {
      */
 
     PointList sortXAscend();
+
+    /**
+     * Returns a cursor over all elements, which does not create a {@link Point2DDouble} per element.
+     * @return A {@link PointCursor} positioned before the first element.
+     */
+    PointCursor getCursor();
+
+    /**
+     * Returns the x value of an element.
+     * @param index The index of the element.
+     * @return The x value.
+     * @throws IndexOutOfBoundsException If the index is not in the range 0 to {@link #getSize()} - 1.
+     */
+    double getX(int index);
+
+    /**
+     * Returns the y value of an element.
+     * @param index The index of the element.
+     * @return The y value.
+     * @throws IndexOutOfBoundsException If the index is not in the range 0 to {@link #getSize()} - 1.
+     */
+    double getY(int index);
 }
@@ -0,0 +1,424 @@
+package de.tudresden.inf.mci.brailleplot.datacontainers;
+
+import de.tudresden.inf.mci.brailleplot.point.Point2DDouble;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * An implementation of {@link PointList} which stores the x and y values of its elements in growable primitive arrays.
+ * Reading the elements via {@link #getCursor()} or by index does not create any objects, the {@link Point2DDouble}
+ * instances returned by {@link #iterator()}, {@link #getListIterator()} and {@link #stream()} are created on demand.
+ * The list remembers whether it is sorted by the x values, so sorting an already sorted list is free.
+ * @author agent
+ * @version 2026.10.18
+ */
+public class PrimitivePointListImpl implements PointList {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private String mName;
+    private double[] mX;
+    private double[] mY;
+    private int mSize = 0;
+    // Incremented on every structural modification, so that iterators can detect concurrent modifications.
+    private int mModCount = 0;
+    private boolean mSortedXAscend = true;
+
+    private final SummaryStatistics mStatisticsX = new SummaryStatistics();
+    private final SummaryStatistics mStatisticsY = new SummaryStatistics();
+
+    public PrimitivePointListImpl() {
+        this("");
+    }
+
+    public PrimitivePointListImpl(final String name) {
+        this(name, INITIAL_CAPACITY);
+    }
+
+    public PrimitivePointListImpl(final String name, final int initialCapacity) {
+        Objects.requireNonNull(name);
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity must not be negative: " + initialCapacity);
+        }
+        mName = name;
+        mX = new double[initialCapacity];
+        mY = new double[initialCapacity];
+    }
+
+    public PrimitivePointListImpl(final PointList pointList) {
+        this(Objects.requireNonNull(pointList).getName(), pointList.getSize());
+        PointCursor cursor = pointList.getCursor();
+        while (cursor.next()) {
+            pushBack(cursor.getX(), cursor.getY());
+        }
+    }
+
+    /**
+     * Adds a point to the list.
+     * Also updates min and max values and the summary statistics.
+     * @param x The x value of the point.
+     * @param y The y value of the point.
+     */
+    public void pushBack(final double x, final double y) {
+        ensureCapacity(mSize + 1);
+        if (mSize > 0 && x < mX[mSize - 1]) {
+            mSortedXAscend = false;
+        }
+        mX[mSize] = x;
+        mY[mSize] = y;
+        mSize++;
+        mModCount++;
+        checkExtrema(x, y);
+    }
+
+    @Override
+    public void pushBack(final Point2DDouble element) {
+        Objects.requireNonNull(element);
+        pushBack(element.getX(), element.getY());
+    }
+
+    /**
+     * Adds all points of another list to the end of this list.
+     * Min and max values and the summary statistics are updated from the statistics of the other list, without visiting its points.
+     * @param other The list whose points are added.
+     */
+    public void pushBackAll(final PrimitivePointListImpl other) {
+        Objects.requireNonNull(other);
+        if (other.mSize == 0) {
+            return;
+        }
+        int size = other.mSize;
+        ensureCapacity(mSize + size);
+        if (!other.mSortedXAscend || (mSize > 0 && other.mX[0] < mX[mSize - 1])) {
+            mSortedXAscend = false;
+        }
+        System.arraycopy(other.mX, 0, mX, mSize, size);
+        System.arraycopy(other.mY, 0, mY, mSize, size);
+        mSize += size;
+        mModCount++;
+        mStatisticsX.combine(other.mStatisticsX);
+        mStatisticsY.combine(other.mStatisticsY);
+    }
+
+    @Override
+    public int getSize() {
+        return mSize;
+    }
+
+    @Override
+    public double getX(final int index) {
+        Objects.checkIndex(index, mSize);
+        return mX[index];
+    }
+
+    @Override
+    public double getY(final int index) {
+        Objects.checkIndex(index, mSize);
+        return mY[index];
+    }
+
+    /**
+     * Check whether the elements are sorted by their x values in ascending fashion.
+     * @return true, if the list is sorted, else false.
+     */
+    public boolean isSortedXAscend() {
+        return mSortedXAscend;
+    }
+
+    /**
+     * Sorts the elements by their x values in ascending fashion, without creating a copy of the list.
+     * The sort is stable, i.e. elements with equal x values keep their order.
+     */
+    public void sortXAscendInPlace() {
+        if (mSortedXAscend) {
+            return;
+        }
+        mergeSort(new double[mSize], new double[mSize], 0, mSize);
+        mSortedXAscend = true;
+        mModCount++;
+    }
+
+    @Override
+    public PointList sortXAscend() {
+        PrimitivePointListImpl result = new PrimitivePointListImpl(mName, mSize);
+        System.arraycopy(mX, 0, result.mX, 0, mSize);
+        System.arraycopy(mY, 0, result.mY, 0, mSize);
+        result.mSize = mSize;
+        result.mSortedXAscend = mSortedXAscend;
+        result.sortXAscendInPlace();
+        // Sorting does not change the statistics
+        result.mStatisticsX.combine(mStatisticsX);
+        result.mStatisticsY.combine(mStatisticsY);
+        return result;
+    }
+
+    @Override
+    public PointCursor getCursor() {
+        return new PointCursor() {
+            private int mIndex = -1;
+
+            @Override
+            public boolean next() {
+                if (mIndex + 1 >= mSize) {
+                    mIndex = mSize;
+                    return false;
+                }
+                mIndex++;
+                return true;
+            }
+
+            @Override
+            public double getX() {
+                return mX[mIndex];
+            }
+
+            @Override
+            public double getY() {
+                return mY[mIndex];
+            }
+        };
+    }
+
+    @Override
+    public Iterator<Point2DDouble> iterator() {
+        return getListIterator();
+    }
+
+    @Override
+    public ListIterator<Point2DDouble> getListIterator() {
+        return new ListIterator<>() {
+            private int mCursor = 0;
+            private int mLastReturned = -1;
+            private int mExpectedModCount = mModCount;
+
+            @Override
+            public boolean hasNext() {
+                return mCursor < mSize;
+            }
+
+            @Override
+            public Point2DDouble next() {
+                checkForComodification();
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                mLastReturned = mCursor++;
+                return new Point2DDouble(mX[mLastReturned], mY[mLastReturned]);
+            }
+
+            @Override
+            public boolean hasPrevious() {
+                return mCursor > 0;
+            }
+
+            @Override
+            public Point2DDouble previous() {
+                checkForComodification();
+                if (!hasPrevious()) {
+                    throw new NoSuchElementException();
+                }
+                mLastReturned = --mCursor;
+                return new Point2DDouble(mX[mLastReturned], mY[mLastReturned]);
+            }
+
+            @Override
+            public int nextIndex() {
+                return mCursor;
+            }
+
+            @Override
+            public int previousIndex() {
+                return mCursor - 1;
+            }
+
+            @Override
+            public void remove() {
+                checkLastReturned();
+                removeAt(mLastReturned);
+                mCursor = mLastReturned;
+                mLastReturned = -1;
+                mExpectedModCount = mModCount;
+            }
+
+            @Override
+            public void set(final Point2DDouble point2DDouble) {
+                Objects.requireNonNull(point2DDouble);
+                checkLastReturned();
+                mX[mLastReturned] = point2DDouble.getX();
+                mY[mLastReturned] = point2DDouble.getY();
+                mSortedXAscend = false;
+                // The sums cannot be updated without the replaced value, so recalculate everything
+                calculateExtrema();
+            }
+
+            @Override
+            public void add(final Point2DDouble point2DDouble) {
+                Objects.requireNonNull(point2DDouble);
+                checkForComodification();
+                insertAt(mCursor++, point2DDouble.getX(), point2DDouble.getY());
+                mLastReturned = -1;
+                mExpectedModCount = mModCount;
+            }
+
+            private void checkLastReturned() {
+                checkForComodification();
+                if (mLastReturned < 0) {
+                    throw new IllegalStateException();
+                }
+            }
+
+            private void checkForComodification() {
+                if (mModCount != mExpectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+        };
+    }
+
+    @Override
+    public Stream<Point2DDouble> stream() {
+        return IntStream.range(0, mSize).mapToObj(i -> new Point2DDouble(mX[i], mY[i]));
+    }
+
+    @Override
+    public boolean removeFirstOccurrence(final Point2DDouble elementToRemove) {
+        Objects.requireNonNull(elementToRemove);
+        // Compare like Double#equals does, which is used by Point2D#equals
+        for (int i = 0; i < mSize; i++) {
+            if (Double.compare(mX[i], elementToRemove.getX()) == 0 && Double.compare(mY[i], elementToRemove.getY()) == 0) {
+                removeAt(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Double getMinX() {
+        return mStatisticsX.getMin();
+    }
+
+    @Override
+    public Double getMaxX() {
+        return mStatisticsX.getMax();
+    }
+
+    @Override
+    public Double getMinY() {
+        return mStatisticsY.getMin();
+    }
+
+    @Override
+    public Double getMaxY() {
+        return mStatisticsY.getMax();
+    }
+
+    @Override
+    public SummaryStatistics getStatisticsX() {
+        return mStatisticsX;
+    }
+
+    @Override
+    public SummaryStatistics getStatisticsY() {
+        return mStatisticsY;
+    }
+
+    @Override
+    public void calculateExtrema() {
+        mStatisticsX.reset();
+        mStatisticsY.reset();
+        for (int i = 0; i < mSize; i++) {
+            checkExtrema(mX[i], mY[i]);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return mName;
+    }
+
+    @Override
+    public void setName(final String newName) {
+        Objects.requireNonNull(newName);
+        mName = newName;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(getName()).append(":");
+        for (int i = 0; i < mSize; i++) {
+            sb.append(" (").append(mX[i]).append(", ").append(mY[i]).append(")");
+        }
+        return sb.toString();
+    }
+
+    private void checkExtrema(final double x, final double y) {
+        mStatisticsX.accept(x);
+        mStatisticsY.accept(y);
+    }
+
+    private void ensureCapacity(final int capacity) {
+        if (capacity > mX.length) {
+            int newCapacity = Math.max(capacity, Math.max(mX.length * 2, INITIAL_CAPACITY));
+            mX = Arrays.copyOf(mX, newCapacity);
+            mY = Arrays.copyOf(mY, newCapacity);
+        }
+    }
+
+    private void insertAt(final int index, final double x, final double y) {
+        ensureCapacity(mSize + 1);
+        System.arraycopy(mX, index, mX, index + 1, mSize - index);
+        System.arraycopy(mY, index, mY, index + 1, mSize - index);
+        mX[index] = x;
+        mY[index] = y;
+        mSize++;
+        mModCount++;
+        mSortedXAscend = false;
+        checkExtrema(x, y);
+    }
+
+    private void removeAt(final int index) {
+        System.arraycopy(mX, index + 1, mX, index, mSize - index - 1);
+        System.arraycopy(mY, index + 1, mY, index, mSize - index - 1);
+        mSize--;
+        mModCount++;
+    }
+
+    /**
+     * Stable merge sort of the elements in the range from {@code from} (inclusive) to {@code to} (exclusive) by their
+     * x values. Uses the given buffers of at least the size of the list as temporary storage.
+     */
+    private void mergeSort(final double[] bufferX, final double[] bufferY, final int from, final int to) {
+        if (to - from < 2) {
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        mergeSort(bufferX, bufferY, from, mid);
+        mergeSort(bufferX, bufferY, mid, to);
+        if (mX[mid - 1] <= mX[mid]) {
+            return;
+        }
+        System.arraycopy(mX, from, bufferX, from, to - from);
+        System.arraycopy(mY, from, bufferY, from, to - from);
+        int left = from;
+        int right = mid;
+        for (int i = from; i < to; i++) {
+            if (right >= to || (left < mid && bufferX[left] <= bufferX[right])) {
+                mX[i] = bufferX[left];
+                mY[i] = bufferY[left];
+                left++;
+            } else {
+                mX[i] = bufferX[right];
+                mY[i] = bufferY[right];
+                right++;
+            }
+        }
+    }
+}
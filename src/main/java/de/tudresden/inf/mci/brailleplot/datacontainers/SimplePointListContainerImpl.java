@@ -8,7 +8,7 @@ import java.util.stream.Collectors;
 /**
  * A low effort implementation of {@link PointListContainer}{@literal <}{@link PointList}{@literal >}.
  * @author Georg Graßnick, Leonard Kupper
- * @version 2019.08.29
+ * @version 2026.10.18
  */
 public class SimplePointListContainerImpl extends AbstractPointContainer<PointList> implements PointListContainer<PointList> {
 
@@ -19,6 +19,7 @@ public class SimplePointListContainerImpl extends AbstractPointContainer<PointLi
     public SimplePointListContainerImpl(final List<PointList> initialElements) {
         Objects.requireNonNull(initialElements);
         mElements = new LinkedList<>(initialElements);
+        calculateExtrema();
     }
 
     public SimplePointListContainerImpl(final PointListContainer<PointList> pointListContainer) {
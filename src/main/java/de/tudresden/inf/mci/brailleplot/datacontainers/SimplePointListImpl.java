@@ -2,6 +2,7 @@ package de.tudresden.inf.mci.brailleplot.datacontainers;
 
 import de.tudresden.inf.mci.brailleplot.point.Point2DDouble;
 
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
@@ -11,7 +12,7 @@ import java.util.stream.Collectors;
 /**
  * A low effort implementation of {@link PointList}.
  * @author Georg Graßnick, Andrey Ruzhanskiy
- * @version 2019.09.24
+ * @version 2026.10.18
  */
 public class SimplePointListImpl extends AbstractPointContainer<Point2DDouble> implements PointList {
 
@@ -30,6 +31,7 @@ public class SimplePointListImpl extends AbstractPointContainer<Point2DDouble> i
         Objects.requireNonNull(initialElements);
         mName = name;
         mElements = new LinkedList<>(initialElements);
+        calculateExtrema();
     }
 
     @Override
@@ -47,9 +49,54 @@ public class SimplePointListImpl extends AbstractPointContainer<Point2DDouble> i
                 return 1;
             }
         }).collect(Collectors.toList());
-        SimplePointListImpl result = new SimplePointListImpl(list.getName(), temp);
-        result.calculateExtrema();
-        return result;
+        return new SimplePointListImpl(list.getName(), temp);
+    }
+
+    @Override
+    public PointCursor getCursor() {
+        return new PointCursor() {
+            private final Iterator<Point2DDouble> mIterator = mElements.iterator();
+            private Point2DDouble mCurrent;
+
+            @Override
+            public boolean next() {
+                if (!mIterator.hasNext()) {
+                    return false;
+                }
+                mCurrent = mIterator.next();
+                return true;
+            }
+
+            @Override
+            public double getX() {
+                return mCurrent.getX();
+            }
+
+            @Override
+            public double getY() {
+                return mCurrent.getY();
+            }
+        };
+    }
+
+    /**
+     * Returns the x value of an element. Takes linear time, as the elements are stored in a linked list.
+     * @param index The index of the element.
+     * @return The x value.
+     */
+    @Override
+    public double getX(final int index) {
+        return mElements.get(index).getX();
+    }
+
+    /**
+     * Returns the y value of an element. Takes linear time, as the elements are stored in a linked list.
+     * @param index The index of the element.
+     * @return The y value.
+     */
+    @Override
+    public double getY(final int index) {
+        return mElements.get(index).getY();
     }
 
     @Override
@@ -0,0 +1,176 @@
+package de.tudresden.inf.mci.brailleplot.datacontainers;
+
+import java.util.Objects;
+
+/**
+ * Summary statistics of the values of one axis of a {@link PointContainer}.
+ * The statistics are maintained by the containers while points or lists are added, so reading them does not iterate
+ * over the data. Empty statistics have a count and sums of 0, a minimum of {@link Double#POSITIVE_INFINITY} and a
+ * maximum of {@link Double#NEGATIVE_INFINITY}, like the extrema of empty containers.
+ * @author agent
+ * @version 2026.10.18
+ */
+public final class SummaryStatistics {
+
+    private long mCount = 0;
+    private double mSum = 0;
+    private double mPositiveSum = 0;
+    private double mNegativeSum = 0;
+    private double mMin = Double.POSITIVE_INFINITY;
+    private double mMax = Double.NEGATIVE_INFINITY;
+
+    public SummaryStatistics() {
+    }
+
+    public SummaryStatistics(final SummaryStatistics other) {
+        Objects.requireNonNull(other);
+        combine(other);
+    }
+
+    /**
+     * Restore previously calculated statistics, e.g. from a {@link BinaryDataset}.
+     */
+    SummaryStatistics(final long count, final double min, final double max, final double sum, final double positiveSum,
+                      final double negativeSum) {
+        mCount = count;
+        mMin = min;
+        mMax = max;
+        mSum = sum;
+        mPositiveSum = positiveSum;
+        mNegativeSum = negativeSum;
+    }
+
+    /**
+     * Record a value.
+     * @param value The value to add.
+     */
+    void accept(final double value) {
+        mCount++;
+        mSum += value;
+        if (value > 0) {
+            mPositiveSum += value;
+        } else if (value < 0) {
+            mNegativeSum += value;
+        }
+        mMin = Math.min(value, mMin);
+        mMax = Math.max(value, mMax);
+    }
+
+    /**
+     * Record all values of other statistics, without visiting the values themselves.
+     * @param other The statistics to add.
+     */
+    void combine(final SummaryStatistics other) {
+        mCount += other.mCount;
+        mSum += other.mSum;
+        mPositiveSum += other.mPositiveSum;
+        mNegativeSum += other.mNegativeSum;
+        mMin = Math.min(other.mMin, mMin);
+        mMax = Math.max(other.mMax, mMax);
+    }
+
+    /**
+     * Reset the statistics to the state without any values.
+     */
+    void reset() {
+        mCount = 0;
+        mSum = 0;
+        mPositiveSum = 0;
+        mNegativeSum = 0;
+        mMin = Double.POSITIVE_INFINITY;
+        mMax = Double.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * Get the number of values.
+     * @return The number of values.
+     */
+    public long getCount() {
+        return mCount;
+    }
+
+    /**
+     * Get the sum of all values.
+     * @return The sum of all values, or 0 if there are no values.
+     */
+    public double getSum() {
+        return mSum;
+    }
+
+    /**
+     * Get the sum of all positive values, e.g. the height of a stack of bars.
+     * @return The sum of all values greater than 0.
+     */
+    public double getPositiveSum() {
+        return mPositiveSum;
+    }
+
+    /**
+     * Get the sum of all negative values.
+     * @return The sum of all values less than 0, which is not positive.
+     */
+    public double getNegativeSum() {
+        return mNegativeSum;
+    }
+
+    /**
+     * Get the arithmetic mean of all values.
+     * @return The mean, or {@link Double#NaN} if there are no values.
+     */
+    public double getMean() {
+        if (mCount == 0) {
+            return Double.NaN;
+        }
+        return mSum / mCount;
+    }
+
+    /**
+     * Get the minimum value.
+     * @return The minimum value, or {@link Double#POSITIVE_INFINITY} if there are no values.
+     */
+    public double getMin() {
+        return mMin;
+    }
+
+    /**
+     * Get the maximum value.
+     * @return The maximum value, or {@link Double#NEGATIVE_INFINITY} if there are no values.
+     */
+    public double getMax() {
+        return mMax;
+    }
+
+    /**
+     * Get the distance between the minimum and the maximum value.
+     * @return The range of the values, or 0 if there are no values.
+     */
+    public double getRange() {
+        if (mCount == 0) {
+            return 0;
+        }
+        return mMax - mMin;
+    }
+
+    /**
+     * Get the extent of the values in positive direction from 0, i.e. the size of the positive part of an axis that
+     * always includes 0.
+     * @return The maximum value, or 0 if there are no positive values.
+     */
+    public double getPositiveExtent() {
+        return Math.max(mMax, 0);
+    }
+
+    /**
+     * Get the extent of the values in negative direction from 0, i.e. the size of the negative part of an axis that
+     * always includes 0.
+     * @return The absolute value of the minimum value, or 0 if there are no negative values.
+     */
+    public double getNegativeExtent() {
+        return Math.abs(Math.min(mMin, 0));
+    }
+
+    @Override
+    public String toString() {
+        return "count: " + mCount + ", min: " + mMin + ", max: " + mMax + ", sum: " + mSum;
+    }
+}
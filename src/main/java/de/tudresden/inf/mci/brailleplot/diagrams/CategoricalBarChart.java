@@ -2,14 +2,11 @@ package de.tudresden.inf.mci.brailleplot.diagrams;
 
 import de.tudresden.inf.mci.brailleplot.datacontainers.CategoricalPointListContainer;
 import de.tudresden.inf.mci.brailleplot.datacontainers.PointList;
-import de.tudresden.inf.mci.brailleplot.point.Point2DDouble;
-
-import java.util.Iterator;
 
 /**
  * Representation of a bar chart composed from categories of multiple bars each. Implements {@link de.tudresden.inf.mci.brailleplot.rendering.Renderable}.
  * @author Leonard Kupper
- * @version 2019.09.02
+ * @version 2026.10.18
  */
 public class CategoricalBarChart extends BarChart {
 
@@ -52,25 +49,14 @@ public class CategoricalBarChart extends BarChart {
     }
 
     /**
-     * Adds all y-values of on data series.
-     * @return double maximum y-value
+     * Adds all positive y-values of on data series.
+     * @return double maximum sum of the positive y-values of a data series
      */
     public double getCumulatedMaxY() {
         double maxY = 0;
 
         for (PointList list : mData) {
-            Iterator<Point2DDouble> smallIt = list.getListIterator();
-            double current = 0;
-            while (smallIt.hasNext()) {
-                Point2DDouble point = smallIt.next();
-                if (point.getY() >= 0) {
-                    current += point.getY();
-                }
-            }
-
-            if (current > maxY) {
-                maxY = current;
-            }
+            maxY = Math.max(list.getStatisticsY().getPositiveSum(), maxY);
         }
 
         return maxY;
@@ -2,6 +2,7 @@ package de.tudresden.inf.mci.brailleplot.diagrams;
 
 import de.tudresden.inf.mci.brailleplot.datacontainers.PointList;
 import de.tudresden.inf.mci.brailleplot.datacontainers.PointListContainer;
+import de.tudresden.inf.mci.brailleplot.datacontainers.SummaryStatistics;
 import de.tudresden.inf.mci.brailleplot.rendering.Renderable;
 
 import java.util.Objects;
@@ -62,6 +63,22 @@ public abstract class Diagram implements Renderable {
         return mData.getMaxY();
     }
 
+    /**
+     * Getter for the summary statistics of all x-values.
+     * @return The precomputed statistics of the x-values.
+     */
+    public SummaryStatistics getStatisticsX() {
+        return mData.getStatisticsX();
+    }
+
+    /**
+     * Getter for the summary statistics of all y-values.
+     * @return The precomputed statistics of the y-values.
+     */
+    public SummaryStatistics getStatisticsY() {
+        return mData.getStatisticsY();
+    }
+
     public final String getTitle() {
         return mTitle;
     }
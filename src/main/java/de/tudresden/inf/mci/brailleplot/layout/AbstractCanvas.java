@@ -1,5 +1,6 @@
 package de.tudresden.inf.mci.brailleplot.layout;
 
+import de.tudresden.inf.mci.brailleplot.configparser.CompiledConfiguration;
 import de.tudresden.inf.mci.brailleplot.configparser.Format;
 import de.tudresden.inf.mci.brailleplot.configparser.Printer;
 import de.tudresden.inf.mci.brailleplot.configparser.Representation;
@@ -10,15 +11,17 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.function.Consumer;
 
 /**
  * Representation of a target onto which can be drawn. It wraps a {@link PrintableData} instance and specifies the size of the drawing area (in mm).
  * @param <T> The type of the managed {@link PrintableData}
  * @author Leonard Kupper, Georg Graßnick
- * @version 2019.08.26
+ * @version 2026.10.18
  */
 public abstract class AbstractCanvas<T extends PrintableData> {
 
+    private static final Logger LOG = LoggerFactory.getLogger(AbstractCanvas.class);
     private final Logger mLogger = LoggerFactory.getLogger(this.getClass());
 
     Printer mPrinter;
@@ -33,7 +36,23 @@ public abstract class AbstractCanvas<T extends PrintableData> {
 
     List<T> mPageContainer;
 
+    private Consumer<? super T> mPageCompletedListener;
+    private boolean mRetainCompletedPages = true;
+    private int mReleasedPageCount = 0;
+    private int mCompletedPageCount = 0;
+
     AbstractCanvas(final Printer printer, final Representation representation, final Format format) throws InsufficientRenderingAreaException {
+        this(printer, representation, format, calculatePrintableArea(printer.compile(), format.compile()));
+    }
+
+    /**
+     * Constructor for canvases with a precalculated printable area (see {@link #calculatePrintableArea(CompiledConfiguration, CompiledConfiguration)}).
+     * @param printer The {@link Printer} configuration to be used.
+     * @param representation The {@link Representation} configuration to be used.
+     * @param format The {@link Format} configuration to be used.
+     * @param printableArea The printable area for the printer and format.
+     */
+    AbstractCanvas(final Printer printer, final Representation representation, final Format format, final Rectangle printableArea) {
 
         mLogger.trace("Creating new canvas");
 
@@ -41,29 +60,48 @@ public abstract class AbstractCanvas<T extends PrintableData> {
         mRepresentation = representation;
         mFormat = format;
         mPageContainer = new ArrayList<>();
+        mPrintableArea = printableArea;
 
         readConfig();
 
     }
 
-    private void readConfig() throws InsufficientRenderingAreaException {
+    private void readConfig() {
+
+        mDotDiameter = getPrinterConfig().getDouble("raster.dotDiameter");
+
+        // Constraints
+        mConstraintLeft =  getPrinterConfig().getDouble("constraint.left");
+        mConstraintTop =  getPrinterConfig().getDouble("constraint.top");
+
+    }
+
+    /**
+     * Calculate the printable area from the page size and margins of the format and the constraints of the printer.
+     * @param printerConfig The compiled {@link Printer} configuration.
+     * @param formatConfig The compiled {@link Format} configuration.
+     * @return A rectangle representing the valid printing area in millimeters.
+     * @throws InsufficientRenderingAreaException If the sum of the defined margins is bigger than the page size.
+     */
+    static Rectangle calculatePrintableArea(final CompiledConfiguration printerConfig, final CompiledConfiguration formatConfig)
+            throws InsufficientRenderingAreaException {
 
-        mLogger.trace("Reading general printer and format configuration for printing area calculation");
+        LOG.trace("Reading general printer and format configuration for printing area calculation");
 
         // New approach using a box model:
 
         // Create a page box
-        double pageWidth = mFormat.getProperty("page.width").toInt();
-        double pageHeight = mFormat.getProperty("page.height").toInt();
+        double pageWidth = formatConfig.getInt("page.width");
+        double pageHeight = formatConfig.getInt("page.height");
         Rectangle pageBox = new Rectangle(0, 0, pageWidth, pageHeight);
-        mLogger.trace("Determined page box: {}", pageBox);
+        LOG.trace("Determined page box: {}", pageBox);
 
         // Create a margin box
-        mLogger.trace("Cropping edges by defined margins:");
-        double marginTop = mFormat.getProperty("margin.top").toInt();
-        double marginLeft = mFormat.getProperty("margin.left").toInt();
-        double marginBottom = mFormat.getProperty("margin.bottom").toInt();
-        double marginRight = mFormat.getProperty("margin.right").toInt();
+        LOG.trace("Cropping edges by defined margins:");
+        double marginTop = formatConfig.getInt("margin.top");
+        double marginLeft = formatConfig.getInt("margin.left");
+        double marginBottom = formatConfig.getInt("margin.bottom");
+        double marginRight = formatConfig.getInt("margin.right");
         Rectangle marginBox = new Rectangle(pageBox);
         try {
             marginBox.removeFromTop(marginTop);
@@ -73,34 +111,28 @@ public abstract class AbstractCanvas<T extends PrintableData> {
         } catch (Rectangle.OutOfSpaceException e) {
             throw new InsufficientRenderingAreaException("The sum of the defined margins is bigger than the page size.", e);
         }
-        mLogger.trace("Determined margin box: {}", marginBox);
+        LOG.trace("Determined margin box: {}", marginBox);
 
         // Create a constraint box
-        double constraintTop = mPrinter.getProperty("constraint.top").toDouble();
-        double constraintLeft = mPrinter.getProperty("constraint.left").toDouble();
+        double constraintTop = printerConfig.getDouble("constraint.top");
+        double constraintLeft = printerConfig.getDouble("constraint.left");
         double constraintHeight, constraintWidth;
-        if (mPrinter.getPropertyNames().contains("constraint.height")) {
-            constraintHeight = mPrinter.getProperty("constraint.height").toDouble();
+        if (printerConfig.contains("constraint.height")) {
+            constraintHeight = printerConfig.getDouble("constraint.height");
         } else {
             constraintHeight = Integer.MAX_VALUE;
         }
-        if (mPrinter.getPropertyNames().contains("constraint.width")) {
-            constraintWidth = mPrinter.getProperty("constraint.width").toDouble();
+        if (printerConfig.contains("constraint.width")) {
+            constraintWidth = printerConfig.getDouble("constraint.width");
         } else {
             constraintWidth = Integer.MAX_VALUE;
         }
         Rectangle constraintBox = new Rectangle(constraintLeft, constraintTop, constraintWidth, constraintHeight);
-        mLogger.trace("Determined constraint box: {}", constraintBox);
-
-        mPrintableArea = calculatePrintingArea(marginBox, constraintBox);
-        mLogger.info("The calculated available printing area equals: {}", mPrintableArea);
-
-        mDotDiameter = mPrinter.getProperty("raster.dotDiameter").toDouble();
-
-        // Constraints
-        mConstraintLeft =  mPrinter.getProperty("constraint.left").toDouble();
-        mConstraintTop =  mPrinter.getProperty("constraint.top").toDouble();
+        LOG.trace("Determined constraint box: {}", constraintBox);
 
+        Rectangle printableArea = calculatePrintingArea(marginBox, constraintBox);
+        LOG.info("The calculated available printing area equals: {}", printableArea);
+        return printableArea;
     }
 
     /**
@@ -111,7 +143,7 @@ public abstract class AbstractCanvas<T extends PrintableData> {
      *                      w = constraint width, h = constraint height]
      * @return A rectangle representing the valid printing area.
      */
-    final Rectangle calculatePrintingArea(final Rectangle marginBox, final Rectangle constraintBox) {
+    static Rectangle calculatePrintingArea(final Rectangle marginBox, final Rectangle constraintBox) {
         return marginBox.intersectedWith(constraintBox).translatedBy(-1 * constraintBox.getX(), -1 * constraintBox.getY());
     }
 
@@ -132,11 +164,11 @@ public abstract class AbstractCanvas<T extends PrintableData> {
     }
 
     public final double getPageWidth() {
-        return mFormat.getProperty("page.width").toDouble();
+        return getFormatConfig().getDouble("page.width");
     }
 
     public final double getPageHeight() {
-        return mFormat.getProperty("page.height").toDouble();
+        return getFormatConfig().getDouble("page.height");
     }
 
     /**
@@ -159,15 +191,17 @@ public abstract class AbstractCanvas<T extends PrintableData> {
     public abstract double getFullConstraintTop();
 
     /**
-     * Get the number of pages in the canvas.
+     * Get the number of pages in the canvas, including pages that were already handed to the page completed listener
+     * and released.
      * @return The number of pages.
      */
     public int getPageCount() {
-        return mPageContainer.size();
+        return mReleasedPageCount + mPageContainer.size();
     }
 
     /**
      * Get an Iterator for the PrintableData instances representing the canvas pages.
+     * Pages released after completion (see {@link #setPageCompletedListener(Consumer, boolean)}) are not included.
      * @return A {@link ListIterator}&lt;{@link PrintableData}&gt;.
      */
     public ListIterator<T> getPageIterator() {
@@ -199,6 +233,30 @@ public abstract class AbstractCanvas<T extends PrintableData> {
         return mFormat;
     }
 
+    /**
+     * Get the Printer Configuration as typed snapshot. It is preferred over the Printer for reading properties while rendering.
+     * @return A {@link CompiledConfiguration} of the {@link Printer}.
+     */
+    public final CompiledConfiguration getPrinterConfig() {
+        return mPrinter.compile();
+    }
+
+    /**
+     * Get the Representation Configuration as typed snapshot. It is preferred over the Representation for reading properties while rendering.
+     * @return A {@link CompiledConfiguration} of the {@link Representation}.
+     */
+    public final CompiledConfiguration getRepresentationConfig() {
+        return mRepresentation.compile();
+    }
+
+    /**
+     * Get the Format Configuration as typed snapshot. It is preferred over the Format for reading properties while rendering.
+     * @return A {@link CompiledConfiguration} of the {@link Format}.
+     */
+    public final CompiledConfiguration getFormatConfig() {
+        return mFormat.compile();
+    }
+
 
     public final T getCurrentPage() {
         if (mPageContainer.size() < 1) {
@@ -209,5 +267,56 @@ public abstract class AbstractCanvas<T extends PrintableData> {
 
     public abstract T getNewPage();
 
+    /**
+     * Register a listener that is notified with every completed page, so that pages can be processed while the next
+     * page is still being rendered. A page counts as completed as soon as the next page is started, the last page is
+     * completed by {@link #finishPages()}. Renderers must not modify a page after starting a new one.
+     * @param listener The listener, or null to remove the current listener.
+     * @param retainCompletedPages If false, completed pages are released by the canvas after notifying the listener,
+     *                             so memory usage does not grow with the number of pages.
+     */
+    public void setPageCompletedListener(final Consumer<? super T> listener, final boolean retainCompletedPages) {
+        mPageCompletedListener = listener;
+        mRetainCompletedPages = retainCompletedPages;
+    }
+
+    /**
+     * Mark the current page as completed and notify the page completed listener, if there is one.
+     * Must be called after rendering has finished. Each page is passed to the listener only once, so calling this
+     * method again has no effect until a new page is started.
+     */
+    public void finishPages() {
+        if (!mPageContainer.isEmpty()) {
+            completeCurrentPage();
+        }
+    }
+
+    /**
+     * Add a new page to the canvas, completing the current page.
+     * @param page The new page.
+     * @return The new page.
+     */
+    final T addPage(final T page) {
+        if (!mPageContainer.isEmpty()) {
+            completeCurrentPage();
+        }
+        mPageContainer.add(page);
+        return page;
+    }
+
+    private void completeCurrentPage() {
+        // With retained pages, the current page may already have been completed by an earlier call of finishPages.
+        if (mPageCompletedListener == null || mCompletedPageCount == getPageCount()) {
+            return;
+        }
+        int last = mPageContainer.size() - 1;
+        mPageCompletedListener.accept(mPageContainer.get(last));
+        mCompletedPageCount = getPageCount();
+        if (!mRetainCompletedPages) {
+            mPageContainer.remove(last);
+            mReleasedPageCount++;
+        }
+    }
+
 
 }
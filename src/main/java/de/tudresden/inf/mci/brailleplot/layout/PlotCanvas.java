@@ -4,7 +4,7 @@ import de.tudresden.inf.mci.brailleplot.configparser.Format;
 import de.tudresden.inf.mci.brailleplot.configparser.Printer;
 import de.tudresden.inf.mci.brailleplot.configparser.Representation;
 import de.tudresden.inf.mci.brailleplot.printabledata.FloatingPointData;
-import de.tudresden.inf.mci.brailleplot.printabledata.SimpleFloatingPointDataImpl;
+import de.tudresden.inf.mci.brailleplot.printabledata.PrimitiveFloatingPointDataImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -12,7 +12,7 @@ import org.slf4j.LoggerFactory;
  * Representation of a target onto which an image can be plotted.
  * It wraps a {@link de.tudresden.inf.mci.brailleplot.printabledata.FloatingPointData} instance and describes the raster size and its layout.
  * @author Georg Graßnick and Richard Schmidt
- * @version 2019.08.26
+ * @version 2026.10.18
  */
 public class PlotCanvas extends AbstractCanvas<FloatingPointData<Boolean>> {
 
@@ -76,8 +76,7 @@ public class PlotCanvas extends AbstractCanvas<FloatingPointData<Boolean>> {
     }
 
     public final FloatingPointData<Boolean> getNewPage() {
-        mPageContainer.add(new SimpleFloatingPointDataImpl<>(mPrinter, mFormat));
-        return getCurrentPage();
+        return addPage(new PrimitiveFloatingPointDataImpl<>(mPrinter, mFormat));
     }
 
     @Override
@@ -96,31 +95,31 @@ public class PlotCanvas extends AbstractCanvas<FloatingPointData<Boolean>> {
     public void readConfig() {
         mLogger.trace("Reading plot specific configuration");
 
-        mResolution = mPrinter.getProperty("floatingDot.resolution").toDouble();
-        mCellWidth = mPrinter.getProperty("raster.dotDistance.horizontal").toDouble();
-        mCellHeight = 2 * mPrinter.getProperty("raster.dotDistance.vertical").toDouble();
-        mCellDistHor = mPrinter.getProperty("raster.cellDistance.horizontal").toDouble();
-        mCellDistVer = mPrinter.getProperty("raster.cellDistance.vertical").toDouble();
-        mDotDistHor = mPrinter.getProperty("raster.dotDistance.horizontal").toDouble();
-        mDotDistVer = mPrinter.getProperty("raster.dotDistance.vertical").toDouble();
-        mFloatConstraintLeft = mPrinter.getProperty("constraint.left").toDouble();
-
-        mMarginLeft = mFormat.getProperty("margin.left").toDouble();
-        mMarginTop = mFormat.getProperty("margin.top").toDouble();
-        mMarginRight = mFormat.getProperty("margin.right").toDouble();
-
-        mMinBarWidth = mRepresentation.getProperty("floatingDot.minBarWidth").toDouble();
-        mMaxBarWidth = mRepresentation.getProperty("floatingDot.maxBarWidth").toDouble();
-        mMinBarDist = mRepresentation.getProperty("floatingDot.minBarDist").toDouble();
-        mSecondAxis = mRepresentation.getProperty("floatingDot.secondAxis").toBool();
-        mFrames = mRepresentation.getProperty("floatingDot.frames").toBool();
-        mAxesDerivation = mRepresentation.getProperty("floatingDot.derivation").toBool();
-        mGrid = mRepresentation.getProperty("floatingDot.grid").toBool();
-        mDotFrame = mRepresentation.getProperty("floatingDot.dotFrame").toBool();
-        mLang = mRepresentation.getProperty("general.brailleLanguage").toString();
-        mLegendKeyWord = mRepresentation.getProperty("general.legendKeyword").toString();
-        mMaxTitleLines = mRepresentation.getProperty("general.maxTitleHeight").toInt();
-        mBarAcc = mRepresentation.getProperty("floatingDot.barAccumulation").toBool();
+        mResolution = getPrinterConfig().getDouble("floatingDot.resolution");
+        mCellWidth = getPrinterConfig().getDouble("raster.dotDistance.horizontal");
+        mCellHeight = 2 * getPrinterConfig().getDouble("raster.dotDistance.vertical");
+        mCellDistHor = getPrinterConfig().getDouble("raster.cellDistance.horizontal");
+        mCellDistVer = getPrinterConfig().getDouble("raster.cellDistance.vertical");
+        mDotDistHor = getPrinterConfig().getDouble("raster.dotDistance.horizontal");
+        mDotDistVer = getPrinterConfig().getDouble("raster.dotDistance.vertical");
+        mFloatConstraintLeft = getPrinterConfig().getDouble("constraint.left");
+
+        mMarginLeft = getFormatConfig().getDouble("margin.left");
+        mMarginTop = getFormatConfig().getDouble("margin.top");
+        mMarginRight = getFormatConfig().getDouble("margin.right");
+
+        mMinBarWidth = getRepresentationConfig().getDouble("floatingDot.minBarWidth");
+        mMaxBarWidth = getRepresentationConfig().getDouble("floatingDot.maxBarWidth");
+        mMinBarDist = getRepresentationConfig().getDouble("floatingDot.minBarDist");
+        mSecondAxis = getRepresentationConfig().getBool("floatingDot.secondAxis");
+        mFrames = getRepresentationConfig().getBool("floatingDot.frames");
+        mAxesDerivation = getRepresentationConfig().getBool("floatingDot.derivation");
+        mGrid = getRepresentationConfig().getBool("floatingDot.grid");
+        mDotFrame = getRepresentationConfig().getBool("floatingDot.dotFrame");
+        mLang = getRepresentationConfig().getString("general.brailleLanguage");
+        mLegendKeyWord = getRepresentationConfig().getString("general.legendKeyword");
+        mMaxTitleLines = getRepresentationConfig().getInt("general.maxTitleHeight");
+        mBarAcc = getRepresentationConfig().getBool("floatingDot.barAccumulation");
 
     }
 
@@ -9,57 +9,24 @@ import de.tudresden.inf.mci.brailleplot.printabledata.SimpleMatrixDataImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-
-import static java.lang.Math.abs;
-import static java.lang.Math.ceil;
-import static java.lang.Math.floor;
-
 /**
  * Representation of a target onto which an image can be rasterized.
  * It wraps a {@link de.tudresden.inf.mci.brailleplot.printabledata.MatrixData} instance and describes the raster size and its (not necessarily equidistant) layout.
  * @author Leonard Kupper, Georg Graßnick
- * @version 2019.08.26
+ * @version 2026.10.18
  */
 public class RasterCanvas extends AbstractCanvas<MatrixData<Boolean>> {
 
     private final Logger mLogger = LoggerFactory.getLogger(this.getClass());
 
-    private ArrayList<Double> mXPositions;
-    private ArrayList<Double> mYPositions;
-
-    // Raster size
-    private int mHorizontalCellCount;
-    private int mVerticalCellCount;
-    private int mColumnCount;
-    private int mRowCount;
-
-    // Printing area rectangle
-    private Rectangle mPrintingAreaCells;
-    private Rectangle mPrintingAreaDots;
-
-    // Cell size
-    private int mCellWidth; // dots
-    private int mCellHeight; // dots
-    private double mCellHorizontalMM; // millimeters
-    private double mCellVerticalMM; // millimeters
-
-    // Spacing
-    private double mHorizontalDotDistance;
-    private double mVerticalDotDistance;
-    private double mHorizontalCellDistance;
-    private double mVerticalCellDistance;
-
-    private int mRasterConstraintLeft; // cells
-    private int mRasterConstraintTop; // cells
+    private final RasterGeometry mGeometry;
 
     /**
      * Constructor. Creates a new RasterCanvas, which is a canvas that represents it pages as instances of
      * {@link MatrixData} and holds information about the layout and spacing of the underlying raster grid.
      * The described grid is build from uniform 'cells' consisting of a variable amount of dots.
      * It is used as a target on which can be drawn by a {@link de.tudresden.inf.mci.brailleplot.rendering.Rasterizer}.
+     * The layout is shared by all canvases with the same configuration, see {@link RasterGeometry#of(Printer, Format, int, int)}.
      * @param printer The {@link Printer} configuration to be used.
      * @param representation The {@link Representation} configuration to be used.
      * @param format The {@link Format} configuration to be used.
@@ -70,176 +37,84 @@ public class RasterCanvas extends AbstractCanvas<MatrixData<Boolean>> {
      */
     RasterCanvas(final Printer printer, final Representation representation, final Format format, final int cellWidth, final int cellHeight)
             throws InsufficientRenderingAreaException {
+        this(printer, representation, format, RasterGeometry.of(printer, format, cellWidth, cellHeight));
+    }
 
-        super(printer, representation, format);
-
-        // Cell size in dots
-        mCellWidth = cellWidth;
-        mCellHeight = cellHeight;
-        mLogger.trace("Cell size set to {}x{}", mCellWidth, mCellHeight);
+    private RasterCanvas(final Printer printer, final Representation representation, final Format format, final RasterGeometry geometry) {
 
-        readConfig();
-        calculateRasterSize();
-        calculateSpacing();
+        super(printer, representation, format, geometry.getPrintableArea());
+        mGeometry = geometry;
 
-        mLogger.info("New RasterCanvas created from config: {}, {}", printer, format);
+        mLogger.debug("New RasterCanvas created from config: {}, {}", printer, format);
     }
 
     public final MatrixData<Boolean> getNewPage() {
-        mPageContainer.add(new SimpleMatrixDataImpl<Boolean>(mPrinter, mFormat, mRowCount, mColumnCount, false));
-        return getCurrentPage();
+        return addPage(createPage(mGeometry.getRowCount(), mGeometry.getColumnCount()));
     }
 
-
-    private void readConfig() {
-
-        mLogger.trace("Reading raster specific configuration");
-
-        // What are the dot and cell distances in mm?
-        mHorizontalDotDistance = mPrinter.getProperty("raster.dotDistance.horizontal").toDouble();
-        mVerticalDotDistance = mPrinter.getProperty("raster.dotDistance.vertical").toDouble();
-        mHorizontalCellDistance = mPrinter.getProperty("raster.cellDistance.horizontal").toDouble();
-        mVerticalCellDistance = mPrinter.getProperty("raster.cellDistance.vertical").toDouble();
-
-        // Calculate cell size in mm
-        mCellHorizontalMM = mHorizontalDotDistance * (mCellWidth - 1) + mHorizontalCellDistance; // Full width of one cell + padding in mm
-        mCellVerticalMM = mVerticalDotDistance * (mCellHeight - 1) + mVerticalCellDistance; // Full height of one cell + padding in mm
-
-        mRasterConstraintTop = mPrinter.getProperty("raster.constraint.top").toInt();
-        mRasterConstraintLeft = mPrinter.getProperty("raster.constraint.left").toInt();
-    }
-
-    private void calculateRasterSize() throws InsufficientRenderingAreaException {
-
-        // New approach using a box model:
-
-        mLogger.trace("Fitting raster into available printing area");
-        // Dividing the printable area into cells to create a cell raster box.
-        int cellRasterX = (int) ceil(mPrintableArea.getX() / mCellHorizontalMM);
-        int cellRasterY = (int) ceil(mPrintableArea.getY() / mCellVerticalMM);
-        int cellRasterR = (int) floor((mPrintableArea.getRight() + mHorizontalCellDistance) / mCellHorizontalMM);
-        int cellRasterB = (int) floor((mPrintableArea.getBottom() + mVerticalCellDistance) / mCellVerticalMM);
-        Rectangle cellRasterBox = new Rectangle(
-                cellRasterX, cellRasterY,
-                cellRasterR - cellRasterX,
-                cellRasterB - cellRasterY
-        );
-        mLogger.trace("Determined cellRasterBox: {}", cellRasterBox);
-
-        // The following properties impact the printing area, but are specific to rasterizing. (That's why they weren't read before in the AbstractCanvas)
-        // The abstract parent class (AbstractCanvas) already calculated indentations based on millimeters, but it is
-        // also possible to set a raster.indentation counted in amount of cells and lines. Those must be removed additionally.
-
-        // Create a raster constraint box
-        int rasterConstraintTop = mPrinter.getProperty("raster.constraint.top").toInt();
-        int rasterConstraintLeft = mPrinter.getProperty("raster.constraint.left").toInt();
-        int rasterConstraintHeight, rasterConstraintWidth;
-        if (mPrinter.getPropertyNames().contains("raster.constraint.height")) {
-            rasterConstraintHeight = mPrinter.getProperty("raster.constraint.height").toInt();
-        } else {
-            rasterConstraintHeight = Integer.MAX_VALUE;
-        }
-        if (mPrinter.getPropertyNames().contains("raster.constraint.width")) {
-            rasterConstraintWidth = mPrinter.getProperty("raster.constraint.width").toInt();
-        } else {
-            rasterConstraintWidth = Integer.MAX_VALUE;
-        }
-        Rectangle rasterConstraintBox = new Rectangle(rasterConstraintLeft, rasterConstraintTop,
-                rasterConstraintWidth, rasterConstraintHeight);
-        mLogger.trace("Determined rasterConstraintBox: {}", rasterConstraintBox);
-
-        mPrintingAreaCells = calculatePrintingArea(cellRasterBox, rasterConstraintBox);
-        mLogger.trace("Determined printable raster: {}", mPrintingAreaCells);
-
-        // The following values are set to keep track of the 'real' size of the internal data representation, because
-        // the margins are created virtually by printing some empty cells at the pages top / left edge.
-        // Rasterizers are only presented with a sub-area rectangle, representing the valid printing area.
-
-        // How many rows and columns of full cells fit inside the given page area (ignoring margins and raster constraints)
-        mHorizontalCellCount = mPrintingAreaCells.intWrapper().getRight() + 1; // How many full cells fit horizontally?
-        mVerticalCellCount = mPrintingAreaCells.intWrapper().getBottom() + 1; // How many full cells fit vertically?
-
-        // To how many dots does this raster size correspond?
-        mPrintingAreaDots = toDotRectangle(mPrintingAreaCells);
-        // X and Y must be added to the size because the margins are created virtually by leaving these cells empty.
-        // They have to be contained in the data representation.
-        mColumnCount = mPrintingAreaDots.intWrapper().getX() + mPrintingAreaDots.intWrapper().getWidth();
-        mRowCount = mPrintingAreaDots.intWrapper().getY() + mPrintingAreaDots.intWrapper().getHeight();
-        mLogger.trace("Determined raster dimensions (dots): {} columns x {} rows", mColumnCount, mRowCount);
-
+    /**
+     * Create the data container for a new, empty page.
+     * Subclasses can override this to choose a more suitable {@link MatrixData} implementation.
+     * @param rowCount The number of dot rows of the page.
+     * @param columnCount The number of dot columns of the page.
+     * @return A new {@link MatrixData} instance with all dots set to false.
+     */
+    MatrixData<Boolean> createPage(final int rowCount, final int columnCount) {
+        return new SimpleMatrixDataImpl<Boolean>(mPrinter, mFormat, rowCount, columnCount, false);
     }
 
-    private void calculateSpacing() {
 
-        mLogger.trace("Pre calculating quantified raster positions");
-        mXPositions = calculateQuantizedPositions(mHorizontalDotDistance, mHorizontalCellDistance, mCellWidth, mHorizontalCellCount);
-        mLogger.trace("X coordinates: {}", mXPositions);
-        mYPositions = calculateQuantizedPositions(mVerticalDotDistance, mVerticalCellDistance, mCellHeight, mVerticalCellCount);
-        mLogger.trace("Y coordinates: {}", mYPositions);
-
-    }
-
-    private ArrayList<Double> calculateQuantizedPositions(
-            final double dotSpacing,
-            final double cellSpacing,
-            final int cellSize,
-            final int cellCount
-    ) {
-        ArrayList<Double> positions = new ArrayList<>();
-        double position = 0;
-        for (int i = 0; i < cellCount; i++) {
-            for (int j = 0; j < cellSize; j++) {
-                positions.add(position);
-                if (j < (cellSize - 1)) {
-                    position += dotSpacing;
-                }
-            }
-            position += cellSpacing;
-        }
-        return positions;
+    /**
+     * Get the layout of the raster, which is shared by all canvases with the same configuration.
+     * @return The {@link RasterGeometry}.
+     */
+    public final RasterGeometry getGeometry() {
+        return mGeometry;
     }
 
     public final int getCellWidth() {
-        return mCellWidth;
+        return mGeometry.getCellWidth();
     }
     public final int getCellHeight() {
-        return mCellHeight;
+        return mGeometry.getCellHeight();
     }
 
     public final boolean isSixDotBrailleRaster() {
-        return ((mCellWidth == BrailleCell6.COLUMN_COUNT) && (mCellHeight == BrailleCell6.ROW_COUNT));
+        return ((getCellWidth() == BrailleCell6.COLUMN_COUNT) && (getCellHeight() == BrailleCell6.ROW_COUNT));
     }
 
     public final double getHorizontalDotDistance() {
-        return mHorizontalDotDistance;
+        return mGeometry.getHorizontalDotDistance();
     }
     public final double getVerticalDotDistance() {
-        return mVerticalDotDistance;
+        return mGeometry.getVerticalDotDistance();
     }
     public final double getHorizontalCellDistance() {
-        return mHorizontalCellDistance;
+        return mGeometry.getHorizontalCellDistance();
     }
     public final double getVerticalCellDistance() {
-        return mVerticalCellDistance;
+        return mGeometry.getVerticalCellDistance();
     }
     public final Rectangle getCellRectangle() {
-        return new Rectangle(mPrintingAreaCells);
+        return mGeometry.getCellRectangle();
     }
     public final Rectangle getDotRectangle() {
-        return mPrintingAreaDots;
+        return mGeometry.getDotRectangle();
     }
     public final Rectangle toDotRectangle(final Rectangle cellRectangle) {
-        return cellRectangle.scaledBy(mCellWidth, mCellHeight);
+        return cellRectangle.scaledBy(getCellWidth(), getCellHeight());
     }
 
     @Override
     public double getPrintableWidth() {
-        return mXPositions.get(getDotRectangle().intWrapper().getRight()) - mXPositions.get(getDotRectangle().intWrapper().getX());
+        Rectangle.IntWrapper dots = getDotRectangle().intWrapper();
+        return mGeometry.getXPosition(dots.getRight()) - mGeometry.getXPosition(dots.getX());
     }
 
     @Override
     public double getPrintableHeight() {
-        return mYPositions.get(getDotRectangle().intWrapper().getBottom()) - mYPositions.get(getDotRectangle().intWrapper().getY());
+        Rectangle.IntWrapper dots = getDotRectangle().intWrapper();
+        return mGeometry.getYPosition(dots.getBottom()) - mGeometry.getYPosition(dots.getY());
     }
 
     /**
@@ -248,7 +123,7 @@ public class RasterCanvas extends AbstractCanvas<MatrixData<Boolean>> {
      * @return The cell x coordinate. In other words the cells columns number.
      */
     public int getCellXFromDotX(final int dotX) {
-        return dotX / mCellWidth;
+        return dotX / getCellWidth();
     }
     /**
      * Returns the y coordinate (counted in cells) of the cell containing the dot with given y coordinate (counted in dots).
@@ -256,15 +131,15 @@ public class RasterCanvas extends AbstractCanvas<MatrixData<Boolean>> {
      * @return The cell y coordinate. In other words the cells columns number.
      */
     public int getCellYFromDotY(final int dotY) {
-        return dotY / mCellHeight;
+        return dotY / getCellHeight();
     }
 
     public final int getRasterConstraintLeft() {
-        return mRasterConstraintLeft;
+        return mGeometry.getRasterConstraintLeft();
     }
 
     public final int getRasterConstraintTop() {
-        return mRasterConstraintTop;
+        return mGeometry.getRasterConstraintTop();
     }
 
     /**
@@ -272,7 +147,7 @@ public class RasterCanvas extends AbstractCanvas<MatrixData<Boolean>> {
      * @return The margin to the left of the paper in mm, where printing is not possible.
      */
     public final double getFullConstraintLeft() {
-        return getRasterConstraintLeft() * mCellHorizontalMM + getConstraintLeft();
+        return getRasterConstraintLeft() * mGeometry.getCellHorizontalMM() + getConstraintLeft();
     }
 
     /**
@@ -280,47 +155,58 @@ public class RasterCanvas extends AbstractCanvas<MatrixData<Boolean>> {
      * @return The margin to the top of the paper in mm, where printing is not possible.
      */
     public final double getFullConstraintTop() {
-        return getRasterConstraintTop() * mCellVerticalMM + getConstraintTop();
+        return getRasterConstraintTop() * mGeometry.getCellVerticalMM() + getConstraintTop();
     }
 
     /**
      * Get the X coordinates of all dots.
-     * @return The X coordinates of all dots in mm.
+     * @return A copy of the X coordinates of all dots in mm, in ascending order.
      */
-    public final List<Double> getXPositions() {
-        return Collections.unmodifiableList(mXPositions);
+    public final double[] getXPositions() {
+        return mGeometry.getXPositions();
     }
 
     /**
      * Get the Y coordinates of all dots.
-     * @return The Y coordinates of all dots in mm.
+     * @return A copy of the Y coordinates of all dots in mm, in ascending order.
      */
-    public final List<Double> getYPositions() {
-        return Collections.unmodifiableList(mYPositions);
+    public final double[] getYPositions() {
+        return mGeometry.getYPositions();
     }
 
-
+    /**
+     * Get the index of the dot column closest to an x coordinate.
+     * @param unquantifiedMillimeterX The x coordinate in mm.
+     * @return The index of the closest column. If two columns are equally close, the left one.
+     */
     public final int quantifyX(final double unquantifiedMillimeterX) {
-        return findClosestValueIndex(unquantifiedMillimeterX, mXPositions);
+        return mGeometry.quantifyX(unquantifiedMillimeterX);
     }
 
+    /**
+     * Get the index of the dot row closest to a y coordinate.
+     * @param unquantifiedMillimeterY The y coordinate in mm.
+     * @return The index of the closest row. If two rows are equally close, the upper one.
+     */
     public final int quantifyY(final double unquantifiedMillimeterY) {
-        return findClosestValueIndex(unquantifiedMillimeterY, mYPositions);
+        return mGeometry.quantifyY(unquantifiedMillimeterY);
     }
 
-    private int findClosestValueIndex(final Double value, final ArrayList<Double> list) {
-        double minDistance = Double.POSITIVE_INFINITY;
-        for (int index = 0; index < list.size(); index++) {
-            double distance = abs(list.get(index) - value);
-            if (distance < minDistance) {
-                minDistance = distance;
-            } else {
-                // possible, because we know that the positions are sorted.
-                return index - 1;
-            }
+    /**
+     * Get the indices of the dot columns closest to multiple x coordinates, see {@link #quantifyX(double)}.
+     * @param unquantifiedMillimetersX The x coordinates in mm.
+     * @return A new array containing the index of the closest column for each coordinate.
+     */
+    public final int[] quantifyX(final double[] unquantifiedMillimetersX) {
+        return mGeometry.quantifyX(unquantifiedMillimetersX);
+    }
 
-        }
-        // last value is the closest.
-        return (list.size() - 1);
+    /**
+     * Get the indices of the dot rows closest to multiple y coordinates, see {@link #quantifyY(double)}.
+     * @param unquantifiedMillimetersY The y coordinates in mm.
+     * @return A new array containing the index of the closest row for each coordinate.
+     */
+    public final int[] quantifyY(final double[] unquantifiedMillimetersY) {
+        return mGeometry.quantifyY(unquantifiedMillimetersY);
     }
 }
@@ -0,0 +1,410 @@
+package de.tudresden.inf.mci.brailleplot.layout;
+
+import de.tudresden.inf.mci.brailleplot.configparser.CompiledConfiguration;
+import de.tudresden.inf.mci.brailleplot.configparser.Format;
+import de.tudresden.inf.mci.brailleplot.configparser.Printer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+
+import static java.lang.Math.ceil;
+import static java.lang.Math.floor;
+
+/**
+ * The layout of the raster of a {@link RasterCanvas}: the printing area, the raster size and the positions of all dots.
+ * The geometry only depends on the printer, the format and the cell size, so it is calculated once by
+ * {@link #of(Printer, Format, int, int)} and shared by all canvases with the same configuration. Instances are immutable,
+ * all getters return copies of mutable objects.
+ * @author agent
+ * @version 2026.10.18
+ */
+public final class RasterGeometry {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RasterGeometry.class);
+
+    // The compiled configurations are replaced whenever a configuration is modified, so they identify a configuration
+    // state. Geometries of configurations which are not used anymore are released with the configurations.
+    private static final Map<CompiledConfiguration, Map<CompiledConfiguration, Map<List<Integer>, RasterGeometry>>> CACHE = new WeakHashMap<>();
+
+    private final Rectangle mPrintableArea;
+
+    private final double[] mXPositions;
+    private final double[] mYPositions;
+
+    // Raster size
+    private final int mHorizontalCellCount;
+    private final int mVerticalCellCount;
+    private final int mColumnCount;
+    private final int mRowCount;
+
+    // Printing area rectangle
+    private final Rectangle mPrintingAreaCells;
+    private final Rectangle mPrintingAreaDots;
+
+    // Cell size
+    private final int mCellWidth; // dots
+    private final int mCellHeight; // dots
+    private final double mCellHorizontalMM; // millimeters
+    private final double mCellVerticalMM; // millimeters
+
+    // Spacing
+    private final double mHorizontalDotDistance;
+    private final double mVerticalDotDistance;
+    private final double mHorizontalCellDistance;
+    private final double mVerticalCellDistance;
+
+    private final int mRasterConstraintLeft; // cells
+    private final int mRasterConstraintTop; // cells
+
+    /**
+     * Get the raster geometry for a configuration. The geometry is calculated on the first call and shared afterwards.
+     * Modifications of the printer or format (see {@link Printer#compile()}) lead to a new geometry.
+     * @param printer The {@link Printer} configuration.
+     * @param format The {@link Format} configuration.
+     * @param cellWidth The horizontal count of dots in a cell.
+     * @param cellHeight The vertical count of dots in a cell.
+     * @return The {@link RasterGeometry}.
+     * @throws InsufficientRenderingAreaException If the given configuration leads to an printable area of negative
+     * size or zero size, e.g. if the sum of defined margins and constraints adds up to be greater than the original page size.
+     */
+    public static RasterGeometry of(final Printer printer, final Format format, final int cellWidth, final int cellHeight)
+            throws InsufficientRenderingAreaException {
+        CompiledConfiguration printerConfig = printer.compile();
+        CompiledConfiguration formatConfig = format.compile();
+        List<Integer> cellSize = List.of(cellWidth, cellHeight);
+        synchronized (CACHE) {
+            RasterGeometry geometry = getCachedGeometries(printerConfig, formatConfig).get(cellSize);
+            if (geometry != null) {
+                return geometry;
+            }
+        }
+        // Calculated without holding the lock. If another thread calculated the same geometry meanwhile, its result is used.
+        RasterGeometry geometry = new RasterGeometry(printerConfig, formatConfig, cellWidth, cellHeight);
+        synchronized (CACHE) {
+            RasterGeometry cached = getCachedGeometries(printerConfig, formatConfig).putIfAbsent(cellSize, geometry);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        LOG.info("New RasterGeometry created from config: {}, {}", printer, format);
+        return geometry;
+    }
+
+    private static Map<List<Integer>, RasterGeometry> getCachedGeometries(final CompiledConfiguration printerConfig,
+                                                                          final CompiledConfiguration formatConfig) {
+        return CACHE.computeIfAbsent(printerConfig, k -> new WeakHashMap<>()).computeIfAbsent(formatConfig, k -> new HashMap<>());
+    }
+
+    private RasterGeometry(final CompiledConfiguration printerConfig, final CompiledConfiguration formatConfig,
+                           final int cellWidth, final int cellHeight) throws InsufficientRenderingAreaException {
+        Objects.requireNonNull(printerConfig);
+        Objects.requireNonNull(formatConfig);
+
+        mPrintableArea = AbstractCanvas.calculatePrintableArea(printerConfig, formatConfig);
+
+        // Cell size in dots
+        mCellWidth = cellWidth;
+        mCellHeight = cellHeight;
+        LOG.trace("Cell size set to {}x{}", mCellWidth, mCellHeight);
+
+        LOG.trace("Reading raster specific configuration");
+
+        // What are the dot and cell distances in mm?
+        mHorizontalDotDistance = printerConfig.getDouble("raster.dotDistance.horizontal");
+        mVerticalDotDistance = printerConfig.getDouble("raster.dotDistance.vertical");
+        mHorizontalCellDistance = printerConfig.getDouble("raster.cellDistance.horizontal");
+        mVerticalCellDistance = printerConfig.getDouble("raster.cellDistance.vertical");
+
+        // Calculate cell size in mm
+        mCellHorizontalMM = mHorizontalDotDistance * (mCellWidth - 1) + mHorizontalCellDistance; // Full width of one cell + padding in mm
+        mCellVerticalMM = mVerticalDotDistance * (mCellHeight - 1) + mVerticalCellDistance; // Full height of one cell + padding in mm
+
+        mRasterConstraintTop = printerConfig.getInt("raster.constraint.top");
+        mRasterConstraintLeft = printerConfig.getInt("raster.constraint.left");
+
+        // New approach using a box model:
+
+        LOG.trace("Fitting raster into available printing area");
+        // Dividing the printable area into cells to create a cell raster box.
+        int cellRasterX = (int) ceil(mPrintableArea.getX() / mCellHorizontalMM);
+        int cellRasterY = (int) ceil(mPrintableArea.getY() / mCellVerticalMM);
+        int cellRasterR = (int) floor((mPrintableArea.getRight() + mHorizontalCellDistance) / mCellHorizontalMM);
+        int cellRasterB = (int) floor((mPrintableArea.getBottom() + mVerticalCellDistance) / mCellVerticalMM);
+        Rectangle cellRasterBox = new Rectangle(
+                cellRasterX, cellRasterY,
+                cellRasterR - cellRasterX,
+                cellRasterB - cellRasterY
+        );
+        LOG.trace("Determined cellRasterBox: {}", cellRasterBox);
+
+        // The following properties impact the printing area, but are specific to rasterizing. (That's why they weren't read before in the AbstractCanvas)
+        // The box model of the AbstractCanvas already calculated indentations based on millimeters, but it is
+        // also possible to set a raster.indentation counted in amount of cells and lines. Those must be removed additionally.
+
+        // Create a raster constraint box
+        int rasterConstraintHeight, rasterConstraintWidth;
+        if (printerConfig.contains("raster.constraint.height")) {
+            rasterConstraintHeight = printerConfig.getInt("raster.constraint.height");
+        } else {
+            rasterConstraintHeight = Integer.MAX_VALUE;
+        }
+        if (printerConfig.contains("raster.constraint.width")) {
+            rasterConstraintWidth = printerConfig.getInt("raster.constraint.width");
+        } else {
+            rasterConstraintWidth = Integer.MAX_VALUE;
+        }
+        Rectangle rasterConstraintBox = new Rectangle(mRasterConstraintLeft, mRasterConstraintTop,
+                rasterConstraintWidth, rasterConstraintHeight);
+        LOG.trace("Determined rasterConstraintBox: {}", rasterConstraintBox);
+
+        mPrintingAreaCells = AbstractCanvas.calculatePrintingArea(cellRasterBox, rasterConstraintBox);
+        LOG.trace("Determined printable raster: {}", mPrintingAreaCells);
+
+        // The following values are set to keep track of the 'real' size of the internal data representation, because
+        // the margins are created virtually by printing some empty cells at the pages top / left edge.
+        // Rasterizers are only presented with a sub-area rectangle, representing the valid printing area.
+
+        // How many rows and columns of full cells fit inside the given page area (ignoring margins and raster constraints)
+        mHorizontalCellCount = mPrintingAreaCells.intWrapper().getRight() + 1; // How many full cells fit horizontally?
+        mVerticalCellCount = mPrintingAreaCells.intWrapper().getBottom() + 1; // How many full cells fit vertically?
+
+        // To how many dots does this raster size correspond?
+        mPrintingAreaDots = mPrintingAreaCells.scaledBy(mCellWidth, mCellHeight);
+        // X and Y must be added to the size because the margins are created virtually by leaving these cells empty.
+        // They have to be contained in the data representation.
+        mColumnCount = mPrintingAreaDots.intWrapper().getX() + mPrintingAreaDots.intWrapper().getWidth();
+        mRowCount = mPrintingAreaDots.intWrapper().getY() + mPrintingAreaDots.intWrapper().getHeight();
+        LOG.trace("Determined raster dimensions (dots): {} columns x {} rows", mColumnCount, mRowCount);
+
+        LOG.trace("Pre calculating quantified raster positions");
+        mXPositions = calculateQuantizedPositions(mHorizontalDotDistance, mHorizontalCellDistance, mCellWidth, mHorizontalCellCount);
+        LOG.trace("X coordinates: {}", mXPositions);
+        mYPositions = calculateQuantizedPositions(mVerticalDotDistance, mVerticalCellDistance, mCellHeight, mVerticalCellCount);
+        LOG.trace("Y coordinates: {}", mYPositions);
+    }
+
+    private static double[] calculateQuantizedPositions(
+            final double dotSpacing,
+            final double cellSpacing,
+            final int cellSize,
+            final int cellCount
+    ) {
+        double[] positions = new double[Math.max(cellCount, 0) * cellSize];
+        double position = 0;
+        for (int i = 0; i < cellCount; i++) {
+            for (int j = 0; j < cellSize; j++) {
+                positions[i * cellSize + j] = position;
+                if (j < (cellSize - 1)) {
+                    position += dotSpacing;
+                }
+            }
+            position += cellSpacing;
+        }
+        return positions;
+    }
+
+    /**
+     * Get the printable area of the page, calculated from the format and the printer constraints.
+     * @return A rectangle representing the printable area in millimeters.
+     */
+    public Rectangle getPrintableArea() {
+        return new Rectangle(mPrintableArea);
+    }
+
+    /**
+     * Get the printable area of the raster.
+     * @return A rectangle representing the printable area counted in cells.
+     */
+    public Rectangle getCellRectangle() {
+        return new Rectangle(mPrintingAreaCells);
+    }
+
+    /**
+     * Get the printable area of the raster.
+     * @return A rectangle representing the printable area counted in dots.
+     */
+    public Rectangle getDotRectangle() {
+        return new Rectangle(mPrintingAreaDots);
+    }
+
+    /**
+     * Get the number of dot columns of a page, including the columns left of the printable area.
+     * @return The number of columns.
+     */
+    public int getColumnCount() {
+        return mColumnCount;
+    }
+
+    /**
+     * Get the number of dot rows of a page, including the rows above the printable area.
+     * @return The number of rows.
+     */
+    public int getRowCount() {
+        return mRowCount;
+    }
+
+    public int getCellWidth() {
+        return mCellWidth;
+    }
+
+    public int getCellHeight() {
+        return mCellHeight;
+    }
+
+    /**
+     * Get the full width of a cell, including the distance to the next cell.
+     * @return The width of a cell in millimeters.
+     */
+    public double getCellHorizontalMM() {
+        return mCellHorizontalMM;
+    }
+
+    /**
+     * Get the full height of a cell, including the distance to the next cell.
+     * @return The height of a cell in millimeters.
+     */
+    public double getCellVerticalMM() {
+        return mCellVerticalMM;
+    }
+
+    public double getHorizontalDotDistance() {
+        return mHorizontalDotDistance;
+    }
+
+    public double getVerticalDotDistance() {
+        return mVerticalDotDistance;
+    }
+
+    public double getHorizontalCellDistance() {
+        return mHorizontalCellDistance;
+    }
+
+    public double getVerticalCellDistance() {
+        return mVerticalCellDistance;
+    }
+
+    public int getRasterConstraintLeft() {
+        return mRasterConstraintLeft;
+    }
+
+    public int getRasterConstraintTop() {
+        return mRasterConstraintTop;
+    }
+
+    /**
+     * Get the X coordinates of all dots.
+     * @return A copy of the X coordinates of all dots in mm, in ascending order.
+     */
+    public double[] getXPositions() {
+        return mXPositions.clone();
+    }
+
+    /**
+     * Get the Y coordinates of all dots.
+     * @return A copy of the Y coordinates of all dots in mm, in ascending order.
+     */
+    public double[] getYPositions() {
+        return mYPositions.clone();
+    }
+
+    /**
+     * Get the X coordinate of a dot column.
+     * @param column The index of the column.
+     * @return The X coordinate in mm.
+     */
+    public double getXPosition(final int column) {
+        return mXPositions[column];
+    }
+
+    /**
+     * Get the Y coordinate of a dot row.
+     * @param row The index of the row.
+     * @return The Y coordinate in mm.
+     */
+    public double getYPosition(final int row) {
+        return mYPositions[row];
+    }
+
+    /**
+     * Get the index of the dot column closest to an x coordinate.
+     * @param unquantifiedMillimeterX The x coordinate in mm.
+     * @return The index of the closest column. If two columns are equally close, the left one.
+     */
+    public int quantifyX(final double unquantifiedMillimeterX) {
+        return findClosestValueIndex(unquantifiedMillimeterX, mXPositions);
+    }
+
+    /**
+     * Get the index of the dot row closest to a y coordinate.
+     * @param unquantifiedMillimeterY The y coordinate in mm.
+     * @return The index of the closest row. If two rows are equally close, the upper one.
+     */
+    public int quantifyY(final double unquantifiedMillimeterY) {
+        return findClosestValueIndex(unquantifiedMillimeterY, mYPositions);
+    }
+
+    /**
+     * Get the indices of the dot columns closest to multiple x coordinates, see {@link #quantifyX(double)}.
+     * @param unquantifiedMillimetersX The x coordinates in mm.
+     * @return A new array containing the index of the closest column for each coordinate.
+     */
+    public int[] quantifyX(final double[] unquantifiedMillimetersX) {
+        return findClosestValueIndices(unquantifiedMillimetersX, mXPositions);
+    }
+
+    /**
+     * Get the indices of the dot rows closest to multiple y coordinates, see {@link #quantifyY(double)}.
+     * @param unquantifiedMillimetersY The y coordinates in mm.
+     * @return A new array containing the index of the closest row for each coordinate.
+     */
+    public int[] quantifyY(final double[] unquantifiedMillimetersY) {
+        return findClosestValueIndices(unquantifiedMillimetersY, mYPositions);
+    }
+
+    private static int[] findClosestValueIndices(final double[] values, final double[] positions) {
+        int[] indices = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            indices[i] = findClosestValueIndex(values[i], positions);
+        }
+        return indices;
+    }
+
+    /**
+     * Binary search for the position closest to the given value. The positions must be sorted in ascending order.
+     * On ties, the lower index is returned.
+     */
+    private static int findClosestValueIndex(final double value, final double[] positions) {
+        // Find the first position which is not smaller than the value
+        int low = 0;
+        int high = positions.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (positions[middle] < value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        if (low == 0) {
+            return 0;
+        }
+        if (low == positions.length) {
+            // last value is the closest.
+            return positions.length - 1;
+        }
+        if (positions[low] - value < value - positions[low - 1]) {
+            return low;
+        }
+        return low - 1;
+    }
+
+    @Override
+    public String toString() {
+        return "RasterGeometry: " + mColumnCount + "x" + mRowCount + " dots, printable area " + mPrintingAreaDots;
+    }
+}
@@ -3,16 +3,29 @@ package de.tudresden.inf.mci.brailleplot.layout;
 import de.tudresden.inf.mci.brailleplot.configparser.Format;
 import de.tudresden.inf.mci.brailleplot.configparser.Printer;
 import de.tudresden.inf.mci.brailleplot.configparser.Representation;
+import de.tudresden.inf.mci.brailleplot.printabledata.BitMatrixData;
 import de.tudresden.inf.mci.brailleplot.printabledata.BrailleCell6;
+import de.tudresden.inf.mci.brailleplot.printabledata.MatrixData;
 
 /**
  * Represents a raster consisting of 6-dot braille cells. (May be removed completely in favor of dynamic {@link RasterCanvas})
  * @author Leonard Kupper
- * @version 2019.07.20
+ * @version 2026.10.18
  */
 public class SixDotBrailleRasterCanvas extends RasterCanvas {
 
     public SixDotBrailleRasterCanvas(final Printer printer, final Representation representation, final Format format) throws InsufficientRenderingAreaException {
         super(printer, representation, format, BrailleCell6.COLUMN_COUNT, BrailleCell6.ROW_COUNT);
     }
+
+    /**
+     * Pages of a six dot raster are stored as {@link BitMatrixData}, using a single bit per dot.
+     * @param rowCount The number of dot rows of the page.
+     * @param columnCount The number of dot columns of the page.
+     * @return A new {@link BitMatrixData} instance.
+     */
+    @Override
+    MatrixData<Boolean> createPage(final int rowCount, final int columnCount) {
+        return new BitMatrixData(mPrinter, mFormat, rowCount, columnCount);
+    }
 }
@@ -0,0 +1,335 @@
+package de.tudresden.inf.mci.brailleplot.printabledata;
+
+import de.tudresden.inf.mci.brailleplot.configparser.Format;
+import de.tudresden.inf.mci.brailleplot.configparser.Printer;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A memory efficient implementation of the {@link MatrixData} interface for boolean dots.
+ * Every dot is represented by a single bit inside a {@code long[]}. Each row starts at a new word, so operations on
+ * rows and rectangles can work on whole words at once. Besides the {@link MatrixData} interface, this class offers
+ * bulk operations (fill, or, and, clear, count) which are considerably faster than setting single dots.
+ * @author agent
+ * @version 2026.10.18
+ */
+public class BitMatrixData extends AbstractPrintableData implements MatrixData<Boolean> {
+
+    private static final int WORD_SIZE = Long.SIZE;
+    private static final int WORD_SHIFT = 6;
+    private static final long ALL_BITS = -1L;
+
+    private final int mRows;
+    private final int mColumns;
+    private final int mWordsPerRow;
+    private final long[] mBits;
+
+    /**
+     * Constructor. Creates a matrix with all dots set to false.
+     * @param printer The according {@link Printer} object.
+     * @param format The according {@link Format} object.
+     * @param rowCount The height of the matrix.
+     * @param columnCount The width of the matrix.
+     * @throws IllegalArgumentException if rowCount {@literal <}= 0 or columnCount {@literal <}= 0
+     */
+    public BitMatrixData(final Printer printer, final Format format, final int rowCount, final int columnCount) {
+        super(printer, format);
+        if (rowCount <= 0 || columnCount <= 0) {
+            throw new IllegalArgumentException("rowCount and columnCount must be a non zero positive integer");
+        }
+        mRows = rowCount;
+        mColumns = columnCount;
+        mWordsPerRow = (columnCount + WORD_SIZE - 1) >>> WORD_SHIFT;
+        mBits = new long[Math.multiplyExact(rowCount, mWordsPerRow)];
+    }
+
+    private void checkIndex(final int row, final int column) {
+        if (row >= mRows || column >= mColumns || row < 0 || column < 0) {
+            throw new IndexOutOfBoundsException("Index (" + row + "," + column + ") out of bounds");
+        }
+    }
+
+    private int wordIndex(final int row, final int column) {
+        return row * mWordsPerRow + (column >>> WORD_SHIFT);
+    }
+
+    /**
+     * Get the value for a specific position in the matrix without boxing the result.
+     * @param row The row index of the position.
+     * @param column The column index of the position.
+     * @return The value at the requested position.
+     * @throws IndexOutOfBoundsException If row or column are negative or larger than the size of the matrix.
+     */
+    public boolean get(final int row, final int column) {
+        checkIndex(row, column);
+        return (mBits[wordIndex(row, column)] & (1L << column)) != 0;
+    }
+
+    /**
+     * Set the value at a specific position without boxing the argument.
+     * @param row The row index of the position.
+     * @param column The column index of the position.
+     * @param value The value to set.
+     * @throws IndexOutOfBoundsException If row or column are negative or larger than the size of the matrix.
+     */
+    public void set(final int row, final int column, final boolean value) {
+        checkIndex(row, column);
+        if (value) {
+            mBits[wordIndex(row, column)] |= 1L << column;
+        } else {
+            mBits[wordIndex(row, column)] &= ~(1L << column);
+        }
+    }
+
+    @Override
+    public Boolean getValue(final int row, final int column) {
+        return get(row, column);
+    }
+
+    @Override
+    public void setValue(final int row, final int column, final Boolean value) {
+        if (value == null) {
+            throw new NullPointerException();
+        }
+        set(row, column, value);
+    }
+
+    /**
+     * Set all dots inside the given rectangle to the given value.
+     * Rows are processed word by word instead of dot by dot.
+     * @param row The row index of the upper left corner.
+     * @param column The column index of the upper left corner.
+     * @param height The number of rows to fill.
+     * @param width The number of columns to fill.
+     * @param value The value to set.
+     * @throws IndexOutOfBoundsException If the rectangle is not completely inside the matrix.
+     */
+    public void fillRectangle(final int row, final int column, final int height, final int width, final boolean value) {
+        if (height <= 0 || width <= 0) {
+            return;
+        }
+        checkIndex(row, column);
+        checkIndex(row + height - 1, column + width - 1);
+        int lastColumn = column + width - 1;
+        int firstWord = column >>> WORD_SHIFT;
+        int lastWord = lastColumn >>> WORD_SHIFT;
+        long firstMask = ALL_BITS << column;
+        long lastMask = ALL_BITS >>> (WORD_SIZE - 1 - (lastColumn & (WORD_SIZE - 1)));
+        for (int r = row; r < row + height; r++) {
+            int offset = r * mWordsPerRow;
+            for (int w = firstWord; w <= lastWord; w++) {
+                long mask = ALL_BITS;
+                if (w == firstWord) {
+                    mask &= firstMask;
+                }
+                if (w == lastWord) {
+                    mask &= lastMask;
+                }
+                if (value) {
+                    mBits[offset + w] |= mask;
+                } else {
+                    mBits[offset + w] &= ~mask;
+                }
+            }
+        }
+    }
+
+    /**
+     * Set all dots of the given row to false.
+     * @param row The index of the row.
+     * @throws IndexOutOfBoundsException If the row index is not valid.
+     */
+    public void clearRow(final int row) {
+        checkIndex(row, 0);
+        int offset = row * mWordsPerRow;
+        Arrays.fill(mBits, offset, offset + mWordsPerRow, 0L);
+    }
+
+    /**
+     * Set all dots of the matrix to false.
+     */
+    public void clear() {
+        Arrays.fill(mBits, 0L);
+    }
+
+    /**
+     * Combine this matrix with another one by a logical or. The result is stored in this matrix.
+     * @param other The other matrix. Must be of the same size.
+     * @throws IllegalArgumentException If the matrix sizes differ.
+     */
+    public void or(final BitMatrixData other) {
+        checkSameSize(other);
+        for (int i = 0; i < mBits.length; i++) {
+            mBits[i] |= other.mBits[i];
+        }
+    }
+
+    /**
+     * Combine this matrix with another one by a logical and. The result is stored in this matrix.
+     * @param other The other matrix. Must be of the same size.
+     * @throws IllegalArgumentException If the matrix sizes differ.
+     */
+    public void and(final BitMatrixData other) {
+        checkSameSize(other);
+        for (int i = 0; i < mBits.length; i++) {
+            mBits[i] &= other.mBits[i];
+        }
+    }
+
+    /**
+     * Count all dots that are set to true.
+     * @return The number of set dots.
+     */
+    public int countSetBits() {
+        int count = 0;
+        for (long word : mBits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Get the dot masks of all 6 dot braille cells in a row of cells, as used by
+     * {@link de.tudresden.inf.mci.brailleplot.brailleparser.CompiledBrailleTable}.
+     * Bit i of a mask is set if the i-th dot of the cell is set, using the dot order of {@link BrailleCell6}.
+     * @param cellRow The index of the row of cells. The cell row covers the dot rows 3 * cellRow to 3 * cellRow + 2.
+     * @param masks The array to write the masks to. Must have room for getColumnCount() / 2 entries.
+     * @throws IndexOutOfBoundsException If the cell row does not lie completely inside the matrix.
+     */
+    @SuppressWarnings("checkstyle:MagicNumber")
+    public void getBrailleCell6Masks(final int cellRow, final byte[] masks) {
+        int firstRow = cellRow * BrailleCell6.ROW_COUNT;
+        checkIndex(firstRow, 0);
+        checkIndex(firstRow + BrailleCell6.ROW_COUNT - 1, 0);
+        int cellCount = mColumns / BrailleCell6.COLUMN_COUNT;
+        int top = firstRow * mWordsPerRow;
+        int middle = top + mWordsPerRow;
+        int bottom = middle + mWordsPerRow;
+        for (int cell = 0; cell < cellCount; cell++) {
+            int column = cell * BrailleCell6.COLUMN_COUNT;
+            int word = column >>> WORD_SHIFT;
+            // Cells start at even columns, so both columns of a cell lie in the same word.
+            long t = mBits[top + word] >>> column;
+            long m = mBits[middle + word] >>> column;
+            long b = mBits[bottom + word] >>> column;
+            masks[cell] = (byte) ((t & 1) | (m & 1) << 1 | (b & 1) << 2
+                    | (t & 2) << 2 | (m & 2) << 3 | (b & 2) << 4);
+        }
+    }
+
+    private void checkSameSize(final BitMatrixData other) {
+        Objects.requireNonNull(other);
+        if (other.mRows != mRows || other.mColumns != mColumns) {
+            throw new IllegalArgumentException("Matrix sizes differ: " + mRows + "x" + mColumns + " and " + other.mRows + "x" + other.mColumns);
+        }
+    }
+
+    @Override
+    public Iterator<Boolean> getDotIterator(final int width, final int height) {
+        return new ElementIter(width, height);
+    }
+
+    @Override
+    public Iterator<BrailleCell6<Boolean>> getBrailleCell6Iterator() {
+        return new BrailleCell6Iterator();
+    }
+
+    @Override
+    public int getRowCount() {
+        return mRows;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return mColumns;
+    }
+
+    public final String toBoolString() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < mRows; i++) {
+            for (int j = 0; j < mColumns; j++) {
+                if (get(i, j)) {
+                    sb.append("o");
+                } else {
+                    sb.append(" ");
+                }
+                sb.append(" ");
+            }
+            sb.append("\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Iterator that iterates all elements of the matrix in a pattern that iterates Braille cells of specified height
+     * and width from left to right and top to bottom.
+     * See {@link MatrixData#getDotIterator(int, int)} for details.
+     */
+    private final class ElementIter implements Iterator<Boolean> {
+
+        private final int mCellWidth;
+        private final int mCellHeight;
+        private final int mCellSize;
+        private final int mCellsPerRow;
+        private final int mElementCount;
+        private int mCurrent = 0;
+
+        ElementIter(final int cellWidth, final int cellHeight) {
+            if (mColumns % cellWidth != 0) {
+                throw new IllegalArgumentException("Cannot create requested iterator: matrix column count (" + mColumns + ") is not a multiple of cell width (" + cellWidth + ")");
+            }
+            if (mRows % cellHeight != 0) {
+                throw new IllegalArgumentException("Cannot create requested iterator: matrix row count (" + mRows + ") is not a multiple of cell height (" + cellHeight + ")");
+            }
+            mCellWidth = cellWidth;
+            mCellHeight = cellHeight;
+            mCellSize = cellWidth * cellHeight;
+            mCellsPerRow = mColumns / cellWidth;
+            mElementCount = mRows * mColumns;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return mCurrent < mElementCount;
+        }
+
+        @Override
+        public Boolean next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int cell = mCurrent / mCellSize;
+            int inCell = mCurrent % mCellSize;
+            int row = (cell / mCellsPerRow) * mCellHeight + inCell % mCellHeight;
+            int column = (cell % mCellsPerRow) * mCellWidth + inCell / mCellHeight;
+            mCurrent++;
+            return get(row, column);
+        }
+    }
+
+    /**
+     * Iterator that returns {@link BrailleCell6} objects rather than the dots themselves.
+     * See {@link MatrixData#getBrailleCell6Iterator()} for details.
+     */
+    private final class BrailleCell6Iterator implements Iterator<BrailleCell6<Boolean>> {
+
+        private final Iterator<Boolean> mElemIter = getDotIterator(BrailleCell6.COLUMN_COUNT, BrailleCell6.ROW_COUNT);
+
+        @Override
+        public boolean hasNext() {
+            return mElemIter.hasNext();
+        }
+
+        @Override
+        public BrailleCell6<Boolean> next() {
+            Boolean[] vals = new Boolean[BrailleCell6.DOT_COUNT];
+            for (int i = 0; i < BrailleCell6.DOT_COUNT; i++) {
+                vals[i] = mElemIter.next();
+            }
+            return new BrailleCell6<>(vals);
+        }
+    }
+}
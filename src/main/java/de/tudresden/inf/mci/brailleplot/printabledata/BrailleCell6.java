@@ -12,7 +12,7 @@ package de.tudresden.inf.mci.brailleplot.printabledata;
  * @param <T> The type used for representing the intensity. Could be set to {@link Boolean} for basic Braille support,
  *           but could also by set to {@link Short} if different embossing strengths are required.
  * @author Georg Graßnick
- * @version 2019.06.28
+ * @version 2026.10.18
  */
 public final class BrailleCell6<T> {
 
@@ -101,6 +101,21 @@ public final class BrailleCell6<T> {
         }
         return sb.toString();
     }
+    /**
+     * Method for getting the dot mask of the cell, where bit i is set if the i-th dot is set.
+     * Should only be used if T is boolean.
+     * @return The dot mask in the range 0 - 63.
+     */
+    public int getBitMaskFromBool() {
+        int mask = 0;
+        for (int i = 0; i < mDots.length; i++) {
+            if (Boolean.TRUE.equals(mDots[i])) {
+                mask |= 1 << i;
+            }
+        }
+        return mask;
+    }
+
     /**
      * Method for getting the Bit Representation of the Cell (110001). Should only be used if T is boolean.
      * @return String containing the Bit Representation.
@@ -0,0 +1,36 @@
+package de.tudresden.inf.mci.brailleplot.printabledata;
+
+/**
+ * Iterates over the points of a {@link FloatingPointData} without creating an object per point.
+ * The cursor is positioned before the first point; every call to {@link #next()} moves it to the following point, whose
+ * position and value can then be read. Positions are always given in millimeters.
+ * @param <T> The type used for representing the intensity.
+ * @author agent
+ * @version 2026.10.18
+ */
+public interface FloatingPointCursor<T> {
+
+    /**
+     * Moves the cursor to the next point.
+     * @return true, if the cursor points to a point afterwards, false if there are no more points.
+     */
+    boolean next();
+
+    /**
+     * Returns the x coordinate of the current point.
+     * @return The x coordinate in mm.
+     */
+    double getX();
+
+    /**
+     * Returns the y coordinate of the current point.
+     * @return The y coordinate in mm.
+     */
+    double getY();
+
+    /**
+     * Returns the value of the current point.
+     * @return The intensity of the point.
+     */
+    T getValue();
+}
@@ -10,10 +10,12 @@ import java.util.Iterator;
  * This data is used to describe the data for the "Floating Dot Area" print mode.
  * For each dot to emboss, there is one {@link Point2DValued} object which encapsulates both the position in width and height,
  * as well as the intensity of the point.
+ * Besides the {@link javax.measure.Quantity} based API, points can be added and read as plain millimeter values.
+ * Implementations storing millimeters directly should be accessed this way, since it avoids the unit conversions.
  * @param <T> The type used for representing the intensity. Could be set to {@link Boolean} for basic Braille support,
  *           but could also by set to {@link Short} if different embossing strengths are required.
  * @author Georg Graßnick
- * @version 2019.07.29
+ * @version 2026.10.18
  */
 public interface FloatingPointData<T> extends PrintableData {
 
@@ -44,4 +46,40 @@ public interface FloatingPointData<T> extends PrintableData {
      * @param point The point to be added.
      */
     void addPoint(Point2DValued<Quantity<Length>, T> point);
+
+    /**
+     * Returns a cursor over all points, providing their positions in millimeters.
+     * @return A cursor positioned before the first point.
+     */
+    FloatingPointCursor<T> getCursor();
+
+    /**
+     * Adds a point to the data if it is not already in there.
+     * @param x The x coordinate in mm.
+     * @param y The y coordinate in mm.
+     * @param value The intensity of the point.
+     */
+    void addPointIfNotExisting(double x, double y, T value);
+
+    /**
+     * Checks if a point is already in the data. Takes an additional area of RANGE mm * RANGE mm around the point into account.
+     * @param x The x coordinate in mm.
+     * @param y The y coordinate in mm.
+     * @return true, if the point is already in the data and false, if not.
+     */
+    boolean pointExists(double x, double y);
+
+    /**
+     * Adds a point to the data.
+     * @param x The x coordinate in mm.
+     * @param y The y coordinate in mm.
+     * @param value The intensity of the point.
+     */
+    void addPoint(double x, double y, T value);
+
+    /**
+     * Returns the number of points in the data.
+     * @return The number of points.
+     */
+    int size();
 }
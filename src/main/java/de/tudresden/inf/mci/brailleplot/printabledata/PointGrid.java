@@ -0,0 +1,176 @@
+package de.tudresden.inf.mci.brailleplot.printabledata;
+
+import java.util.Arrays;
+
+/**
+ * Spatial index over the millimeter positions of the points of a {@link FloatingPointData}, used for duplicate detection.
+ * The positions are sorted into a uniform grid with cells of range mm * range mm, so every point within range of a
+ * position is located in the cell of the position or one of its 8 neighbours and a lookup only has to inspect these
+ * 3 * 3 cells. The grid is an open addressing hash table mapping each cell to the last point inserted into it, while
+ * the points of a cell are chained by their indices. The positions are kept in growable primitive arrays, in insertion
+ * order.
+ * @author agent
+ * @version 2026.10.18
+ */
+final class PointGrid {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int INITIAL_CELL_CAPACITY = 64; // must be a power of two
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+    private static final int INT_BITS = 32;
+    private static final long INT_MASK = 0xFFFFFFFFL;
+    private static final int NONE = -1;
+
+    private final double mRange;
+
+    private double[] mX;
+    private double[] mY;
+    // Index of the previously inserted point of the same cell, or NONE.
+    private int[] mNextInCell;
+    private int mSize = 0;
+
+    private long[] mCellKeys;
+    // Index of the last point inserted into the cell, or NONE for empty slots.
+    private int[] mCellHeads;
+    private int mCellCount = 0;
+
+    /**
+     * Constructor.
+     * @param range The distance in mm within which two points are considered to be at the same position.
+     * @throws IllegalArgumentException If range {@literal <}= 0.
+     */
+    PointGrid(final double range) {
+        if (!(range > 0)) {
+            throw new IllegalArgumentException("The range must be positive");
+        }
+        mRange = range;
+        mX = new double[INITIAL_CAPACITY];
+        mY = new double[INITIAL_CAPACITY];
+        mNextInCell = new int[INITIAL_CAPACITY];
+        mCellKeys = new long[INITIAL_CELL_CAPACITY];
+        mCellHeads = new int[INITIAL_CELL_CAPACITY];
+        Arrays.fill(mCellHeads, NONE);
+    }
+
+    /**
+     * Checks if a point lies within range of the given position.
+     * @param x The x coordinate in mm.
+     * @param y The y coordinate in mm.
+     * @return true, if a point is found, else false.
+     */
+    boolean containsNear(final double x, final double y) {
+        long cellX = cellIndex(x);
+        long cellY = cellIndex(y);
+        for (long i = cellX - 1; i <= cellX + 1; i++) {
+            for (long j = cellY - 1; j <= cellY + 1; j++) {
+                for (int point = mCellHeads[findSlot(key(i, j))]; point != NONE; point = mNextInCell[point]) {
+                    double oldX = mX[point];
+                    double oldY = mY[point];
+                    if (x >= oldX - mRange && x <= oldX + mRange && y >= oldY - mRange && y <= oldY + mRange) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds a position to the grid, regardless of existing points.
+     * @param x The x coordinate in mm.
+     * @param y The y coordinate in mm.
+     * @return The index of the new point, in insertion order.
+     */
+    int add(final double x, final double y) {
+        if (mSize == mX.length) {
+            int capacity = mSize * 2;
+            mX = Arrays.copyOf(mX, capacity);
+            mY = Arrays.copyOf(mY, capacity);
+            mNextInCell = Arrays.copyOf(mNextInCell, capacity);
+        }
+        int index = mSize++;
+        mX[index] = x;
+        mY[index] = y;
+
+        long key = key(cellIndex(x), cellIndex(y));
+        int slot = findSlot(key);
+        if (mCellHeads[slot] == NONE) {
+            mCellKeys[slot] = key;
+            mCellCount++;
+        }
+        mNextInCell[index] = mCellHeads[slot];
+        mCellHeads[slot] = index;
+        if (mCellCount * 2 > mCellHeads.length) {
+            rehash();
+        }
+        return index;
+    }
+
+    /**
+     * Returns the x coordinate of a point. The index is not checked.
+     * @param index The index of the point, in insertion order.
+     * @return The x coordinate in mm.
+     */
+    double getX(final int index) {
+        return mX[index];
+    }
+
+    /**
+     * Returns the y coordinate of a point. The index is not checked.
+     * @param index The index of the point, in insertion order.
+     * @return The y coordinate in mm.
+     */
+    double getY(final int index) {
+        return mY[index];
+    }
+
+    /**
+     * Get the number of points in the grid.
+     * @return The number of points.
+     */
+    int size() {
+        return mSize;
+    }
+
+    /**
+     * Finds the slot of a cell in the hash table, using linear probing.
+     * @param key The key of the cell.
+     * @return The slot holding the cell, or the empty slot where it should be inserted.
+     */
+    private int findSlot(final long key) {
+        int mask = mCellHeads.length - 1;
+        int slot = hash(key) & mask;
+        while (mCellHeads[slot] != NONE && mCellKeys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void rehash() {
+        long[] oldKeys = mCellKeys;
+        int[] oldHeads = mCellHeads;
+        mCellKeys = new long[oldKeys.length * 2];
+        mCellHeads = new int[oldHeads.length * 2];
+        Arrays.fill(mCellHeads, NONE);
+        for (int i = 0; i < oldHeads.length; i++) {
+            if (oldHeads[i] != NONE) {
+                int slot = findSlot(oldKeys[i]);
+                mCellKeys[slot] = oldKeys[i];
+                mCellHeads[slot] = oldHeads[i];
+            }
+        }
+    }
+
+    private long cellIndex(final double millimeter) {
+        return (long) Math.floor(millimeter / mRange);
+    }
+
+    private static long key(final long cellX, final long cellY) {
+        return (cellX << INT_BITS) ^ (cellY & INT_MASK);
+    }
+
+    private static int hash(final long key) {
+        long hash = key * HASH_MULTIPLIER;
+        return (int) (hash ^ (hash >>> INT_BITS));
+    }
+}
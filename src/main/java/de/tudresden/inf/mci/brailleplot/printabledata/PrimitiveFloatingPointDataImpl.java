@@ -0,0 +1,162 @@
+package de.tudresden.inf.mci.brailleplot.printabledata;
+
+import de.tudresden.inf.mci.brailleplot.configparser.Format;
+import de.tudresden.inf.mci.brailleplot.configparser.Printer;
+import de.tudresden.inf.mci.brailleplot.point.Point2DValued;
+
+import javax.measure.Quantity;
+import javax.measure.quantity.Length;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An implementation of the {@link FloatingPointData} interface which stores the millimeter positions of all points in
+ * the growable primitive arrays of a {@link PointGrid}, so adding and reading points via the millimeter API does not
+ * allocate any objects per point. The grid also provides the duplicate detection, like in
+ * {@link SimpleFloatingPointDataImpl}. The values of the points are kept in a parallel array.
+ * Points added via the {@link Quantity} API are converted to millimeters; {@link #getIterator()} creates the points on
+ * demand, always using millimeters as unit.
+ * @param <T> The type used for representing the intensity. Could be set to {@link Boolean} for basic Braille support,
+ *           but could also by set to {@link Short} if different embossing strengths are required.
+ * @author agent
+ * @version 2026.10.18
+ */
+public class PrimitiveFloatingPointDataImpl<T> extends AbstractPrintableData implements FloatingPointData<T> {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int NONE = -1;
+
+    private final PointGrid mGrid;
+    private Object[] mValues;
+
+    public PrimitiveFloatingPointDataImpl(final Printer printer, final Format format) {
+        super(printer, format);
+        mGrid = new PointGrid(RANGE);
+        mValues = new Object[INITIAL_CAPACITY];
+    }
+
+    @Override
+    public Iterator<Point2DValued<Quantity<Length>, T>> getIterator() {
+        return new Iterator<>() {
+            private int mIndex = 0;
+
+            @Override
+            public boolean hasNext() {
+                return mIndex < size();
+            }
+
+            @Override
+            public Point2DValued<Quantity<Length>, T> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Point2DValued<Quantity<Length>, T> point = QuantityAdapter.toPoint(mGrid.getX(mIndex), mGrid.getY(mIndex), getValue(mIndex));
+                mIndex++;
+                return point;
+            }
+        };
+    }
+
+    @Override
+    public FloatingPointCursor<T> getCursor() {
+        return new FloatingPointCursor<>() {
+            private int mIndex = NONE;
+
+            @Override
+            public boolean next() {
+                if (mIndex + 1 >= size()) {
+                    mIndex = size();
+                    return false;
+                }
+                mIndex++;
+                return true;
+            }
+
+            @Override
+            public double getX() {
+                return mGrid.getX(mIndex);
+            }
+
+            @Override
+            public double getY() {
+                return mGrid.getY(mIndex);
+            }
+
+            @Override
+            public T getValue() {
+                return PrimitiveFloatingPointDataImpl.this.getValue(mIndex);
+            }
+        };
+    }
+
+    @Override
+    public void addPointIfNotExisting(final Point2DValued<Quantity<Length>, T> point) {
+        Objects.requireNonNull(point);
+        addPointIfNotExisting(QuantityAdapter.toMillimeter(point.getX()), QuantityAdapter.toMillimeter(point.getY()), point.getVal());
+    }
+
+    @Override
+    public boolean pointExists(final Point2DValued<Quantity<Length>, T> point) {
+        Objects.requireNonNull(point);
+        return pointExists(QuantityAdapter.toMillimeter(point.getX()), QuantityAdapter.toMillimeter(point.getY()));
+    }
+
+    @Override
+    public void addPoint(final Point2DValued<Quantity<Length>, T> point) {
+        Objects.requireNonNull(point);
+        addPoint(QuantityAdapter.toMillimeter(point.getX()), QuantityAdapter.toMillimeter(point.getY()), point.getVal());
+    }
+
+    @Override
+    public void addPointIfNotExisting(final double x, final double y, final T value) {
+        if (!pointExists(x, y)) {
+            addPoint(x, y, value);
+        }
+    }
+
+    @Override
+    public boolean pointExists(final double x, final double y) {
+        return mGrid.containsNear(x, y);
+    }
+
+    @Override
+    public void addPoint(final double x, final double y, final T value) {
+        int index = mGrid.add(x, y);
+        if (index == mValues.length) {
+            mValues = Arrays.copyOf(mValues, index * 2);
+        }
+        mValues[index] = value;
+    }
+
+    @Override
+    public int size() {
+        return mGrid.size();
+    }
+
+    /**
+     * Returns the x coordinate of a point.
+     * @param index The index of the point, in insertion order.
+     * @return The x coordinate in mm.
+     */
+    public double getX(final int index) {
+        Objects.checkIndex(index, size());
+        return mGrid.getX(index);
+    }
+
+    /**
+     * Returns the y coordinate of a point.
+     * @param index The index of the point, in insertion order.
+     * @return The y coordinate in mm.
+     */
+    public double getY(final int index) {
+        Objects.checkIndex(index, size());
+        return mGrid.getY(index);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T getValue(final int index) {
+        return (T) mValues[index];
+    }
+}
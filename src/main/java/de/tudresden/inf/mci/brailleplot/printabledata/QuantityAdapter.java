@@ -0,0 +1,78 @@
+package de.tudresden.inf.mci.brailleplot.printabledata;
+
+import de.tudresden.inf.mci.brailleplot.point.Point2DValued;
+import tec.units.ri.quantity.Quantities;
+import tec.units.ri.unit.MetricPrefix;
+
+import javax.measure.Quantity;
+import javax.measure.quantity.Length;
+import java.util.Iterator;
+import java.util.Objects;
+
+import static tec.units.ri.unit.Units.METRE;
+
+/**
+ * Conversions between points with {@link Quantity} coordinates and plain millimeter values, used by the
+ * {@link FloatingPointData} implementations to provide both APIs.
+ * @author agent
+ * @version 2026.10.18
+ */
+final class QuantityAdapter {
+
+    private QuantityAdapter() { }
+
+    static double toMillimeter(final Quantity<Length> quantity) {
+        return quantity.to(MetricPrefix.MILLI(METRE)).getValue().doubleValue();
+    }
+
+    static <T> Point2DValued<Quantity<Length>, T> toPoint(final double x, final double y, final T value) {
+        return new Point2DValued<>(Quantities.getQuantity(x, MetricPrefix.MILLI(METRE)), Quantities.getQuantity(y, MetricPrefix.MILLI(METRE)), value);
+    }
+
+    static <T> FloatingPointCursor<T> toCursor(final Iterator<Point2DValued<Quantity<Length>, T>> iterator) {
+        return new IteratorCursor<>(Objects.requireNonNull(iterator));
+    }
+
+    /**
+     * Cursor over an iterator of points, converting the coordinates of every point to millimeters.
+     * @param <T> The type used for representing the intensity.
+     */
+    private static final class IteratorCursor<T> implements FloatingPointCursor<T> {
+
+        private final Iterator<Point2DValued<Quantity<Length>, T>> mIterator;
+        private double mX;
+        private double mY;
+        private T mValue;
+
+        IteratorCursor(final Iterator<Point2DValued<Quantity<Length>, T>> iterator) {
+            mIterator = iterator;
+        }
+
+        @Override
+        public boolean next() {
+            if (!mIterator.hasNext()) {
+                return false;
+            }
+            Point2DValued<Quantity<Length>, T> point = mIterator.next();
+            mX = toMillimeter(point.getX());
+            mY = toMillimeter(point.getY());
+            mValue = point.getVal();
+            return true;
+        }
+
+        @Override
+        public double getX() {
+            return mX;
+        }
+
+        @Override
+        public double getY() {
+            return mY;
+        }
+
+        @Override
+        public T getValue() {
+            return mValue;
+        }
+    }
+}
@@ -3,7 +3,6 @@ package de.tudresden.inf.mci.brailleplot.printabledata;
 import de.tudresden.inf.mci.brailleplot.configparser.Format;
 import de.tudresden.inf.mci.brailleplot.configparser.Printer;
 import de.tudresden.inf.mci.brailleplot.point.Point2DValued;
-import tec.units.ri.unit.MetricPrefix;
 
 import javax.measure.Quantity;
 import javax.measure.quantity.Length;
@@ -11,23 +10,25 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.Objects;
 
-import static tec.units.ri.unit.Units.METRE;
-
 /**
  * A low effort implementation of the {@link FloatingPointData} interface.
  * The underlying data is organized in a {@link LinkedList}, which makes insertions fast, but slows down random access.
+ * The millimeter positions of the points are additionally indexed in a {@link PointGrid}, so checking for an existing
+ * point does not need to look at every point of the data.
  * @param <T> The type used for representing the intensity. Could be set to {@link Boolean} for basic Braille support,
  *           but could also by set to {@link Short} if different embossing strengths are required.
  * @author Georg Graßnick
- * @version 2019.07.29
+ * @version 2026.10.18
  */
 public class SimpleFloatingPointDataImpl<T> extends AbstractPrintableData implements FloatingPointData<T> {
 
     private LinkedList<Point2DValued<Quantity<Length>, T>> mPoints;
+    private PointGrid mGrid;
 
     public SimpleFloatingPointDataImpl(final Printer printer, final Format format) {
         super(printer, format);
         mPoints = new LinkedList<>();
+        mGrid = new PointGrid(RANGE);
     }
 
     @Override
@@ -39,8 +40,11 @@ public class SimpleFloatingPointDataImpl<T> extends AbstractPrintableData implem
     public void addPointIfNotExisting(final Point2DValued<Quantity<Length>, T> point) {
         Objects.requireNonNull(point);
 
-        if (!pointExists(point)) {
+        double x = QuantityAdapter.toMillimeter(point.getX());
+        double y = QuantityAdapter.toMillimeter(point.getY());
+        if (!mGrid.containsNear(x, y)) {
             mPoints.addLast(point);
+            mGrid.add(x, y);
         }
     }
 
@@ -48,28 +52,41 @@ public class SimpleFloatingPointDataImpl<T> extends AbstractPrintableData implem
     public void addPoint(final Point2DValued<Quantity<Length>, T> point) {
         Objects.requireNonNull(point);
         mPoints.addLast(point);
+        mGrid.add(QuantityAdapter.toMillimeter(point.getX()), QuantityAdapter.toMillimeter(point.getY()));
     }
 
     @Override
     public boolean pointExists(final Point2DValued<Quantity<Length>, T> newPoint) {
-        double newX = newPoint.getX().to(MetricPrefix.MILLI(METRE)).getValue().doubleValue();
-        double newY = newPoint.getY().to(MetricPrefix.MILLI(METRE)).getValue().doubleValue();
+        Objects.requireNonNull(newPoint);
+        return pointExists(QuantityAdapter.toMillimeter(newPoint.getX()), QuantityAdapter.toMillimeter(newPoint.getY()));
+    }
 
-        for (Point2DValued<Quantity<Length>, T> point : mPoints) {
-            double oldX = point.getX().to(MetricPrefix.MILLI(METRE)).getValue().doubleValue();
-            double oldY = point.getY().to(MetricPrefix.MILLI(METRE)).getValue().doubleValue();
+    @Override
+    public FloatingPointCursor<T> getCursor() {
+        return QuantityAdapter.toCursor(mPoints.iterator());
+    }
 
-            if (point.equals(newPoint)) {
-                return true;
-            }
-            if (newX >= oldX - RANGE && newX <= oldX + RANGE && newY >= oldY - RANGE && newY <= oldY + RANGE) {
-                return true;
-            }
+    @Override
+    public void addPointIfNotExisting(final double x, final double y, final T value) {
+        if (!mGrid.containsNear(x, y)) {
+            mPoints.addLast(QuantityAdapter.toPoint(x, y, value));
+            mGrid.add(x, y);
         }
-
-        return false;
     }
 
+    @Override
+    public boolean pointExists(final double newX, final double newY) {
+        return mGrid.containsNear(newX, newY);
+    }
 
+    @Override
+    public void addPoint(final double x, final double y, final T value) {
+        mPoints.addLast(QuantityAdapter.toPoint(x, y, value));
+        mGrid.add(x, y);
+    }
 
+    @Override
+    public int size() {
+        return mPoints.size();
+    }
 }
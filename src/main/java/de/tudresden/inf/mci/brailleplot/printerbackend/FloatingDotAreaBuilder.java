@@ -1,25 +1,19 @@
 package de.tudresden.inf.mci.brailleplot.printerbackend;
 
 
-import de.tudresden.inf.mci.brailleplot.point.Point2DValued;
+import de.tudresden.inf.mci.brailleplot.printabledata.FloatingPointCursor;
 import de.tudresden.inf.mci.brailleplot.printabledata.FloatingPointData;
-import tec.units.ri.unit.MetricPrefix;
 
-import javax.measure.Quantity;
-import javax.measure.quantity.Length;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.util.Iterator;
 import java.util.Locale;
 import java.util.Objects;
 
-import static tec.units.ri.unit.Units.METRE;
-
 /**
  * Class representing the FloatingDotArea protocol for the braille Index Everest V4 for printing
  * variable areas on paper via coordinates.
  * @author Andrey Ruzhanskiy, Leonard Kupper
- * @version 29.05.2019
+ * @version 2026.10.18
  */
 
 class FloatingDotAreaBuilder extends AbstractIndexV4Builder<FloatingPointData<Boolean>> {
@@ -37,25 +31,24 @@ class FloatingDotAreaBuilder extends AbstractIndexV4Builder<FloatingPointData<Bo
     @Override
     byte[] assemble(final FloatingPointData<Boolean> data) {
         mData = Objects.requireNonNull(data);
-        Iterator<Point2DValued<Quantity<Length>, Boolean>> iter = mData.getIterator();
+        FloatingPointCursor<Boolean> cursor = mData.getCursor();
         ByteArrayOutputStream stream = new ByteArrayOutputStream();
         try {
             stream.write(mStartFloatingMode);
             stream.write(mSemicolon);
             stream.write(mNewLine);
-            // Start iteration over values
-            while (iter.hasNext()) {
-                Point2DValued<Quantity<Length>, Boolean> current = iter.next();
-                Quantity<Length> x = current.getX().to(MetricPrefix.MILLI(METRE));
-                Quantity<Length> y = current.getY().to(MetricPrefix.MILLI(METRE));
-                String xFormated = String.format(Locale.ENGLISH, "%.2f", x.getValue().doubleValue());
-                String yFormated = String.format(Locale.ENGLISH, "%.2f", y.getValue().doubleValue());
+            // Start iteration over values, the positions are already given in mm
+            boolean first = true;
+            while (cursor.next()) {
+                if (!first) {
+                    stream.write(mNewLine);
+                }
+                first = false;
+                String xFormated = String.format(Locale.ENGLISH, "%.2f", cursor.getX());
+                String yFormated = String.format(Locale.ENGLISH, "%.2f", cursor.getY());
                 stream.write(xFormated.getBytes());
                 stream.write(mColon);
                 stream.write(yFormated.getBytes());
-                if (iter.hasNext()) {
-                    stream.write(mNewLine);
-                }
             }
             // End with ;
             stream.write(mSemicolon);
@@ -1,6 +1,8 @@
 package de.tudresden.inf.mci.brailleplot.printerbackend;
 
 import de.tudresden.inf.mci.brailleplot.brailleparser.AbstractBrailleTableParser;
+import de.tudresden.inf.mci.brailleplot.brailleparser.CompiledBrailleTable;
+import de.tudresden.inf.mci.brailleplot.printabledata.BitMatrixData;
 import de.tudresden.inf.mci.brailleplot.printabledata.BrailleCell6;
 import de.tudresden.inf.mci.brailleplot.printabledata.MatrixData;
 
@@ -13,7 +15,7 @@ import java.util.Objects;
  * Class representing a normal document (for example a .txt) that should be printed without
  * any escape sequences.
  * @author Andrey Ruzhanskiy
- * @version 12.07.2019
+ * @version 2026.10.18
  */
 @SuppressWarnings("checkstyle:MagicNumber")
 class NormalBuilder extends AbstractDocumentBuilder<MatrixData<Boolean>> {
@@ -26,9 +28,8 @@ class NormalBuilder extends AbstractDocumentBuilder<MatrixData<Boolean>> {
 
     /**
      * Method for assembling the final document from the data parameter.
-     * In normalbuilder, it first sets the correct parser according to the file extension, then initializes the iterator
-     * from the {@link MatrixData} object and the stream for writing bytes into an array and lastly loops through the {@link MatrixData}
-     * to build the correct document.
+     * In normalbuilder, it first gets the compiled braille table according to the printer config, then loops through
+     * the {@link MatrixData} cell by cell and writes the byte for each cell to the document.
      * @param data Raw data to be printed without any escape sequences
      * @return the final, printable document.
      */
@@ -38,13 +39,18 @@ class NormalBuilder extends AbstractDocumentBuilder<MatrixData<Boolean>> {
 
         //Check if null object was given.
         mData = Objects.requireNonNull(data);
-        // Setting the right parser, catch if not found and throw RuntimeException which can be handled.
+        // Setting the right table, catch if not found and throw RuntimeException which can be handled.
+        CompiledBrailleTable table;
         try {
-            mParser = AbstractBrailleTableParser.getParser(mData.getPrinterConfig(), "brailletable");
+            table = AbstractBrailleTableParser.getCompiledTable(mData.getPrinterConfig(), "brailletable");
         } catch (NotSupportedFileExtensionException e) {
             throw new RuntimeException();
         }
 
+        if (mData instanceof BitMatrixData) {
+            return assembleBitMatrix((BitMatrixData) mData, table);
+        }
+
         // Get iterator for cells.
         Iterator<BrailleCell6<Boolean>> iter = mData.getBrailleCell6Iterator();
 
@@ -55,8 +61,7 @@ class NormalBuilder extends AbstractDocumentBuilder<MatrixData<Boolean>> {
         int width = mData.getColumnCount() / 2;
 
         // Declaration of  local variables for better readability.
-        BrailleCell6 current;
-        String key;
+        BrailleCell6<Boolean> current;
         int value;
 
         // Count variable for the loop
@@ -65,8 +70,7 @@ class NormalBuilder extends AbstractDocumentBuilder<MatrixData<Boolean>> {
         // Loop through data and write to stream.
         while (iter.hasNext()) {
             current = iter.next();
-            key = current.getBitRepresentationFromBool();
-            value = mParser.getByteAsIntBackEnd(key);
+            value = table.getByte(current.getBitMaskFromBool());
             stream.write(value);
             i++;
             // Setting the Linebreaks
@@ -78,4 +82,33 @@ class NormalBuilder extends AbstractDocumentBuilder<MatrixData<Boolean>> {
         }
         return stream.toByteArray();
     }
+
+    /**
+     * Assemble the document directly from the packed rows of a {@link BitMatrixData}, without creating a
+     * {@link BrailleCell6} object per cell.
+     * @param data The data to be printed.
+     * @param table The compiled braille table.
+     * @return the final, printable document.
+     */
+    private byte[] assembleBitMatrix(final BitMatrixData data, final CompiledBrailleTable table) {
+        if (data.getColumnCount() % BrailleCell6.COLUMN_COUNT != 0 || data.getRowCount() % BrailleCell6.ROW_COUNT != 0) {
+            throw new IllegalArgumentException("Cannot assemble document: matrix size (" + data.getRowCount() + "x"
+                    + data.getColumnCount() + ") is not a multiple of the braille cell size");
+        }
+        int width = data.getColumnCount() / BrailleCell6.COLUMN_COUNT;
+        int cellRows = data.getRowCount() / BrailleCell6.ROW_COUNT;
+        byte[] masks = new byte[width];
+        byte[] document = new byte[cellRows * (width + 2)];
+        int pos = 0;
+        for (int cellRow = 0; cellRow < cellRows; cellRow++) {
+            data.getBrailleCell6Masks(cellRow, masks);
+            for (int i = 0; i < width; i++) {
+                document[pos++] = (byte) table.getByte(masks[i]);
+            }
+            // Setting the Linebreaks
+            document[pos++] = 0x0D;
+            document[pos++] = 0x0A;
+        }
+        return document;
+    }
 }
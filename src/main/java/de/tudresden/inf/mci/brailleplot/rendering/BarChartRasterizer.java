@@ -30,7 +30,7 @@ import static java.lang.Math.round;
  * A rasterizer for instances of {@link CategoricalBarChart} which is able to display multiple bars per category.
  * The rasterizer is 'cell' based, restricted to 6-dot layouts.
  * @author Leonard Kupper
- * @version 2019.09.02
+ * @version 2026.10.18
  */
 public class BarChartRasterizer implements Rasterizer<CategoricalBarChart> {
 
@@ -85,21 +85,21 @@ public class BarChartRasterizer implements Rasterizer<CategoricalBarChart> {
         final double tenth = 0.1, fifth = 0.2, quarter = 0.25, half = 0.5, full = 1.0;
         mUnitScalings = new double[]{tenth, fifth, quarter, half, full};
 
-        mMaximumTitleHeightCells = canvas.getRepresentation().getProperty("general.maxTitleHeight").toInt();
+        mMaximumTitleHeightCells = canvas.getRepresentationConfig().getInt("general.maxTitleHeight");
         mCaptionLengthCells = 1;
         mXAxisHeightCells = 2;
 
-        mMaxBarThicknessCells = canvas.getRepresentation().getProperty("rasterize.barChart.maxBarThickness").toInt();
-        mMinBarThicknessCells = canvas.getRepresentation().getProperty("rasterize.barChart.minBarThickness").toInt();
+        mMaxBarThicknessCells = canvas.getRepresentationConfig().getInt("rasterize.barChart.maxBarThickness");
+        mMinBarThicknessCells = canvas.getRepresentationConfig().getInt("rasterize.barChart.minBarThickness");
 
-        mTitlePaddingCells = canvas.getRepresentation().getProperty("rasterize.barChart.padding.title").toInt();
-        mCaptionPaddingCells = canvas.getRepresentation().getProperty("rasterize.barChart.padding.caption").toInt();
-        mGroupPaddingCells = canvas.getRepresentation().getProperty("rasterize.barChart.padding.groups").toInt();
-        mBarPaddingCells = canvas.getRepresentation().getProperty("rasterize.barChart.padding.bars").toInt();
+        mTitlePaddingCells = canvas.getRepresentationConfig().getInt("rasterize.barChart.padding.title");
+        mCaptionPaddingCells = canvas.getRepresentationConfig().getInt("rasterize.barChart.padding.caption");
+        mGroupPaddingCells = canvas.getRepresentationConfig().getInt("rasterize.barChart.padding.groups");
+        mBarPaddingCells = canvas.getRepresentationConfig().getInt("rasterize.barChart.padding.bars");
 
-        nonexistentDataText = canvas.getRepresentation().getProperty("general.nonexistentDataText").toString();
+        nonexistentDataText = canvas.getRepresentationConfig().getString("general.nonexistentDataText");
 
-        mBrailleLanguage = BrailleLanguage.Language.valueOf(canvas.getRepresentation().getProperty("general.brailleLanguage").toString());
+        mBrailleLanguage = BrailleLanguage.Language.valueOf(canvas.getRepresentationConfig().getString("general.brailleLanguage"));
 
         // Load textures
         double[] rotate90 = {0, 0, 0, 1, 1, 0};
@@ -337,10 +337,10 @@ public class BarChartRasterizer implements Rasterizer<CategoricalBarChart> {
     //  ============
 
     private double findNegativeValueRangeSize(final BarChart diagram) {
-        return abs(min(diagram.getMinY(), 0));
+        return diagram.getStatisticsY().getNegativeExtent();
     }
     private double findPositiveValueRangeSize(final BarChart diagram) {
-        return max(diagram.getMaxY(), 0);
+        return diagram.getStatisticsY().getPositiveExtent();
     }
 
     private int findAvailableUnits(final Rectangle cellArea, final RasterCanvas canvas) {
@@ -11,7 +11,7 @@ import de.tudresden.inf.mci.brailleplot.printerbackend.NotSupportedFileExtension
 
 /**
  * A rasterizer for text on braille grids. This class is still a stub and must be implemented!
- * @version 2019.08.17
+ * @version 2026.10.18
  * @author Leonard Kupper, Andrey Ruzhanskiy
  */
 @Deprecated
@@ -197,7 +197,7 @@ public final class BrailleTextRasterizer implements Rasterizer<BrailleText> {
     public int calculateRequiredWidth(final String text, final RasterCanvas canvas) {
         // TODO: Add calculations for required width to fit the given text into the given canvas. (Extra spacing for equidistant grid!)
         // Until then we use a dummy value assuming single character on braille grid:
-        String mode = canvas.getPrinter().getProperty("mode").toString();
+        String mode = canvas.getPrinterConfig().getString("mode");
         switch (mode) {
         //    case "normalprinter": return calculateWidthNormal(text, xPos, yPos, canvas);
             case "normalprinter": return Math.min((int) getBrailleStringLengthInCells(text, canvas), canvas.getCellRectangle().intWrapper().getX());
@@ -0,0 +1,81 @@
+package de.tudresden.inf.mci.brailleplot.rendering;
+
+import de.tudresden.inf.mci.brailleplot.brailleparser.AbstractBrailleTableParser;
+
+import java.util.Objects;
+
+/**
+ * Immutable result of a braille translation.
+ * Every braille cell is stored as a single byte dot pattern, where bit i is set if the i-th dot of the cell (in the
+ * order used by the semantic table: top to bottom, then left to right) is raised. This avoids keeping the translated
+ * string and splitting it into single character strings each time a text is measured or rendered.
+ * @author agent
+ * @version 2026.10.18
+ */
+public final class BrailleTranslation {
+
+    /** Maximum number of dots per cell that can be represented. */
+    public static final int MAX_DOTS_PER_CELL = Byte.SIZE;
+
+    private static final int BYTE_MASK = 0xFF;
+
+    private final byte[] mCells;
+
+    private BrailleTranslation(final byte[] cells) {
+        mCells = cells;
+    }
+
+    /**
+     * Create a translation from a translated braille string by looking up the dot pattern of every character in the
+     * given semantic table.
+     * @param braille The braille string as returned by liblouis.
+     * @param semanticTable The table mapping braille characters to dot strings like "110100".
+     * @return The translation.
+     */
+    public static BrailleTranslation fromBraille(final String braille, final AbstractBrailleTableParser semanticTable) {
+        Objects.requireNonNull(braille, "The braille string given to the translation was null!");
+        Objects.requireNonNull(semanticTable, "The semantic table given to the translation was null!");
+        byte[] cells = new byte[braille.length()];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = toDotPattern(semanticTable.getCharToBraille(String.valueOf(braille.charAt(i))));
+        }
+        return new BrailleTranslation(cells);
+    }
+
+    private static byte toDotPattern(final String dots) {
+        int pattern = 0;
+        for (int i = 0; i < Math.min(dots.length(), MAX_DOTS_PER_CELL); i++) {
+            if (dots.charAt(i) == '1') {
+                pattern |= 1 << i;
+            }
+        }
+        return (byte) pattern;
+    }
+
+    /**
+     * Get the number of braille cells.
+     * @return The length of the translated text in cells.
+     */
+    public int length() {
+        return mCells.length;
+    }
+
+    /**
+     * Get the dot pattern of a cell.
+     * @param cell The index of the cell.
+     * @return The dot pattern, bit i representing the i-th dot.
+     */
+    public int getDotPattern(final int cell) {
+        return mCells[cell] & BYTE_MASK;
+    }
+
+    /**
+     * Check whether a dot of a cell is raised.
+     * @param cell The index of the cell.
+     * @param dot The index of the dot inside the cell, starting at 0.
+     * @return True if the dot is raised.
+     */
+    public boolean isDotSet(final int cell, final int dot) {
+        return dot < MAX_DOTS_PER_CELL && (mCells[cell] & (1 << dot)) != 0;
+    }
+}
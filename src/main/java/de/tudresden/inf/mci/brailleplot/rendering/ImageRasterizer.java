@@ -14,7 +14,7 @@ import static java.lang.Math.round;
 /**
  * A rasterizer that is able to re-raster a raster graphics onto a canvas.
  * @author Leonard Kupper
- * @version 2019.07.22
+ * @version 2026.10.18
  */
 public class ImageRasterizer implements Rasterizer<Image> {
 
@@ -195,22 +195,29 @@ public class ImageRasterizer implements Rasterizer<Image> {
         // In a second step, the calculated exact position is quantified to fit a dot position on the raster.
         // Distortions can still be introduced but are minimized.
 
+        // Convert from original pixel positions to printed dot positions in millimeters.
+        // In contrast to the linear mapping, this will try to preserve the original distance ratios.
+        double[] columnsMM = new double[imgBuf.getWidth()];
+        for (int x = 0; x < columnsMM.length; x++) {
+            columnsMM[x] = hRatio * (x + 1);
+        }
+        double[] rowsMM = new double[imgBuf.getHeight()];
+        for (int y = 0; y < rowsMM.length; y++) {
+            rowsMM[y] = vRatio * (y + 1);
+        }
+        // The target dot positions in millimeters have to be quantified regarding the raster.
+        // This only depends on the pixel column and row, so it is done once per column and row, not per pixel.
+        int[] columns = canvas.quantifyX(columnsMM);
+        int[] rows = canvas.quantifyY(rowsMM);
+
         mLogger.trace("Staring scanning through image pixel values...");
         // Scan through all pixels of the original image
         for (int x = 0; x < imgBuf.getWidth(); x++) {
-            // Convert from original pixel x-position to printed dot x-position in millimeters.
-            // In contrast to the linear mapping, this will try to preserve the original distance ratios.
-            double columnMM = hRatio * (x + 1);
             for (int y = 0; y < imgBuf.getHeight(); y++) {
-                // Convert from original pixel y-position to printed dot y-position in millimeters.
-                double rowMM = vRatio * (y + 1);
                 // Calculate gray scale value and compare against threshold.
                 int value = toGrayScaleValue(imgBuf.getRGB(x, y));
                 if (value <= mLowThreshold) {
-                    // The target dot position in millimeters has to be quantified regarding the raster.
-                    int row = canvas.quantifyY(rowMM);
-                    int column = canvas.quantifyX(columnMM);
-                    data.setValue(row, column, true);
+                    data.setValue(rows[y], columns[x], true);
                 }
             }
         }
@@ -12,7 +12,7 @@ import static java.lang.StrictMath.min;
 /**
  * A rasterizer that is able to draw a legend on a new page.
  * @author Leonard Kupper, Andrey Ruzhanskiy
- * @version 2019.09.25
+ * @version 2026.10.18
  */
 public class LegendRasterizer implements Rasterizer<Legend> {
 
@@ -40,7 +40,7 @@ public class LegendRasterizer implements Rasterizer<Legend> {
         mTextRasterizer = new LiblouisBrailleTextRasterizer(canvas.getPrinter());
         mCanvas = canvas;
         mLegend = legend;
-        mLegendKeyword = mCanvas.getRepresentation().getProperty("general.legendKeyword").toString();
+        mLegendKeyword = mCanvas.getRepresentationConfig().getString("general.legendKeyword");
 
         // Create a fresh page on the canvas.
         canvas.getNewPage();
@@ -1,7 +1,6 @@
 package de.tudresden.inf.mci.brailleplot.rendering;
 
 import de.tudresden.inf.mci.brailleplot.rendering.language.BrailleLanguage;
-import de.tudresden.inf.mci.brailleplot.util.GeneralResource;
 import de.tudresden.inf.mci.brailleplot.brailleparser.AbstractBrailleTableParser;
 import de.tudresden.inf.mci.brailleplot.configparser.Printer;
 import de.tudresden.inf.mci.brailleplot.layout.InsufficientRenderingAreaException;
@@ -10,14 +9,8 @@ import de.tudresden.inf.mci.brailleplot.layout.Rectangle;
 import de.tudresden.inf.mci.brailleplot.printerbackend.NotSupportedFileExtensionException;
 import de.tudresden.inf.mci.brailleplot.util.NativeLibraryHelper;
 import de.tudresden.inf.mci.brailleplot.util.NoSuchNativeLibraryException;
-import org.liblouis.DisplayException;
-import org.liblouis.DisplayTable;
 import org.liblouis.Louis;
-import org.liblouis.TranslationException;
-import org.liblouis.TranslationResult;
-import org.liblouis.Translator;
 
-import java.io.File;
 import java.util.Objects;
 
 import static java.lang.Math.ceil;
@@ -25,7 +18,7 @@ import static java.lang.Math.ceil;
 /**
  * Class representing a brailletextrasterizing approach using the liblouis library.
  * @author Andrey Ruzhanskiy
- * @version 27.09.2019
+ * @version 2026.10.18
  */
 
 public class LiblouisBrailleTextRasterizer implements Rasterizer<BrailleText> {
@@ -39,10 +32,10 @@ public class LiblouisBrailleTextRasterizer implements Rasterizer<BrailleText> {
     private int origX;
     private RasterCanvas mCanvas;
     private int mMaxWidth;
-    private Translator mTranslator;
+    private String mLanguageTable = "de-g0.utb";
 
-    // translator needs whole table directory, therefore it is exported one time at start (static resource).
-    private static File mLibLouisTableDirectory = GeneralResource.getOrExportResourceFile("mapping/liblouis/");
+    // Translators and semantic tables are shared by all instances, so creating a rasterizer is cheap.
+    private final LiblouisTranslatorCache mTranslatorCache = LiblouisTranslatorCache.getInstance();
 
     /**
      * Constructor for liblouistextrasterizer.
@@ -56,13 +49,8 @@ public class LiblouisBrailleTextRasterizer implements Rasterizer<BrailleText> {
         } catch (NotSupportedFileExtensionException e) {
             throw new RuntimeException(e);
         }
-        try {
-            File tableFile = mLibLouisTableDirectory.toPath().resolve("de-g0.utb").toFile(); // reference to specific table file in exported directory
-            String tableFilePath = tableFile.getAbsolutePath();
-            mTranslator = new Translator(tableFilePath);
-        } catch (Exception e) {
-            throw new RuntimeException("Error while creating liblouis translator", e);
-        }
+        // Load the default table eagerly, so a missing table is reported on construction.
+        mTranslatorCache.getTranslator(mLanguageTable);
     }
 
 
@@ -73,45 +61,30 @@ public class LiblouisBrailleTextRasterizer implements Rasterizer<BrailleText> {
         if (data.getText() == "") {
             return;
         }
-        try {
-            File tableFile = mLibLouisTableDirectory.toPath().resolve(data.getLanguage()).toFile(); // reference to specific table file in exported directory
-            String tableFilePath = tableFile.getAbsolutePath();
-            mTranslator = new Translator(tableFilePath);
-        } catch (Exception e) {
-            throw new RuntimeException("Error while creating liblouis translator", e);
-        }
+        mLanguageTable = data.getLanguage();
         Rectangle rect = data.getArea().intersectedWith(canvas.getDotRectangle());
         mCanvas = canvas;
-        TranslationResult result = null;
-        try {
-            result = mTranslator.translate(data.getText(), null, null, null, DisplayTable.StandardDisplayTables.DEFAULT);
-        } catch (TranslationException | DisplayException e) {
-            e.printStackTrace();
-        }
-        String[] resultAsArray = result.getBraille().split("");
-
+        BrailleTranslation translation = mTranslatorCache.getTranslation(mLanguageTable, data.getText(), mParser);
 
         // We need to know where to start
         x = rect.intWrapper().getX();
         origX = x;
         y = rect.intWrapper().getY();
         mMaxWidth = rect.intWrapper().getWidth() + x;
-        for (int i = 0; i < resultAsArray.length; i++) {
-            writeChar(resultAsArray[i]);
+        for (int i = 0; i < translation.length(); i++) {
+            writeChar(translation, i);
         }
 
     }
 
-    private void writeToCanvas(final String[] braille, final int offsetX, final int offsetY, final RasterCanvas canvas) throws InsufficientRenderingAreaException {
-        Objects.requireNonNull(braille, "The string array given to writeToCanvas in liblouisBraileTextRasterizer was null!");
+    private void writeToCanvas(final BrailleTranslation translation, final int cell, final int offsetX, final int offsetY, final RasterCanvas canvas) throws InsufficientRenderingAreaException {
+        Objects.requireNonNull(translation, "The translation given to writeToCanvas in liblouisBraileTextRasterizer was null!");
         Objects.requireNonNull(canvas, "The canvas given to writeToCanvas was null");
         int temp = 0;
         for (int j = 0; j < canvas.getCellWidth(); j++) {
             for (int k = 0; k < canvas.getCellHeight(); k++) {
-                // If it is 1, returns 1, if not return false
                 try {
-                    canvas.getCurrentPage().setValue(k + offsetY, j + offsetX, braille[temp].equals("1"));
-                    boolean a = canvas.getCurrentPage().getValue(k, j);
+                    canvas.getCurrentPage().setValue(k + offsetY, j + offsetX, translation.isDotSet(cell, temp));
                     temp++;
                 } catch (IndexOutOfBoundsException e) {
                     throw new InsufficientRenderingAreaException("The area given to the brailletextrasterizer was too small!");
@@ -121,10 +94,8 @@ public class LiblouisBrailleTextRasterizer implements Rasterizer<BrailleText> {
         }
     }
 
-    private void writeChar(final String s) throws InsufficientRenderingAreaException {
-        Objects.requireNonNull(s, "The given String to writeChar was null!");
-        String[] braille = mParser.getCharToBraille(s).split("");
-        writeToCanvas(braille, x, y, mCanvas);
+    private void writeChar(final BrailleTranslation translation, final int cell) throws InsufficientRenderingAreaException {
+        writeToCanvas(translation, cell, x, y, mCanvas);
         jumpToNextCell();
     }
 
@@ -149,19 +120,15 @@ public class LiblouisBrailleTextRasterizer implements Rasterizer<BrailleText> {
      */
     public int calculateRequiredHeight(final String text, final int maxWidth,
                                        final RasterCanvas canvas) {
+        return calculateRequiredHeight(text, maxWidth, canvas, mLanguageTable);
+    }
+
+    private int calculateRequiredHeight(final String text, final int maxWidth,
+                                        final RasterCanvas canvas, final String languageTable) {
         Objects.requireNonNull(text, "The given string for calculateRequiredHeight was null!");
         Objects.requireNonNull(canvas, "The given canvas for calculateRequiredHeight was null!");
 
-        TranslationResult result = null;
-        try {
-            result = mTranslator.translate(text, null, null, null, DisplayTable.StandardDisplayTables.DEFAULT);
-        } catch (TranslationException e) {
-            e.printStackTrace();
-        } catch (DisplayException e) {
-            e.printStackTrace();
-        }
-        String sResult = result.getBraille();
-        int widthOfText = sResult.length();
+        int widthOfText = mTranslatorCache.getTranslation(languageTable, text, mParser).length();
         int tempMaxWidth;
         // If its not dividable by two, make it dividable by two;
         if (maxWidth % 2 != 0) {
@@ -186,17 +153,7 @@ public class LiblouisBrailleTextRasterizer implements Rasterizer<BrailleText> {
                                        final RasterCanvas canvas, final BrailleLanguage.Language language) {
         Objects.requireNonNull(text, "The given string for calculateRequiredHeight was null!");
         Objects.requireNonNull(canvas, "The given canvas for calculateRequiredHeight was null!");
-        Translator temp = mTranslator;
-        try {
-            File tableFile = mLibLouisTableDirectory.toPath().resolve(BrailleLanguage.getCorrectLanguage(language)).toFile(); // reference to specific table file in exported directory
-            String tableFilePath = tableFile.getAbsolutePath();
-            mTranslator = new Translator(tableFilePath);
-        } catch (Exception e) {
-            throw new RuntimeException("Error while creating liblouis translator", e);
-        }
-        int length = calculateRequiredHeight(text, maxWidth, canvas);
-        mTranslator = temp;
-        return length;
+        return calculateRequiredHeight(text, maxWidth, canvas, BrailleLanguage.getCorrectLanguage(language));
     }
 
 
@@ -206,19 +163,15 @@ public class LiblouisBrailleTextRasterizer implements Rasterizer<BrailleText> {
      * @return length of the braille
      */
     public int getBrailleStringLength(final String text) {
+        return getBrailleStringLength(text, mLanguageTable);
+    }
+
+    private int getBrailleStringLength(final String text, final String languageTable) {
         Objects.requireNonNull(text, "The given string for getBrailleStringLength was null!");
         if (text == "") {
             return 0;
         }
-        TranslationResult result = null;
-        try {
-            result = mTranslator.translate(text, null, null, null, DisplayTable.StandardDisplayTables.DEFAULT);
-        } catch (TranslationException e) {
-            e.printStackTrace();
-        } catch (DisplayException e) {
-            e.printStackTrace();
-        }
-        return result.getBraille().length();
+        return mTranslatorCache.getTranslation(languageTable, text, mParser).length();
     }
 
     /**
@@ -232,17 +185,7 @@ public class LiblouisBrailleTextRasterizer implements Rasterizer<BrailleText> {
         if (text == "") {
             return 0;
         }
-        Translator temp = mTranslator;
-        try {
-            File tableFile = mLibLouisTableDirectory.toPath().resolve(BrailleLanguage.getCorrectLanguage(language)).toFile(); // reference to specific table file in exported directory
-            String tableFilePath = tableFile.getAbsolutePath();
-            mTranslator = new Translator(tableFilePath);
-        } catch (Exception e) {
-            throw new RuntimeException("Error while creating liblouis translator", e);
-        }
-        int length = getBrailleStringLength(text);
-        mTranslator = temp;
-        return length;
+        return getBrailleStringLength(text, BrailleLanguage.getCorrectLanguage(language));
     }
 
     /**
@@ -0,0 +1,213 @@
+package de.tudresden.inf.mci.brailleplot.rendering;
+
+import de.tudresden.inf.mci.brailleplot.brailleparser.AbstractBrailleTableParser;
+import de.tudresden.inf.mci.brailleplot.rendering.language.BrailleLanguage;
+import de.tudresden.inf.mci.brailleplot.util.GeneralResource;
+import de.tudresden.inf.mci.brailleplot.util.LruCache;
+import org.liblouis.DisplayException;
+import org.liblouis.DisplayTable;
+import org.liblouis.TranslationException;
+import org.liblouis.TranslationResult;
+import org.liblouis.Translator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.Objects;
+
+/**
+ * Process wide cache for liblouis {@link Translator} instances and translation results.
+ * Creating a translator makes liblouis load and compile the referenced table, which is expensive compared to the
+ * translation of short texts like axis labels. Translators are therefore created once per table file and shared by all
+ * text rasterizers and plotters. Since labels, legend entries and titles are measured and rendered repeatedly, the
+ * results of translations are cached as well. Both caches are bounded and may be accessed from multiple threads. Values
+ * are created outside of the cache locks, so loading a table or translating a text does not block requests for other
+ * tables or texts.
+ * @author agent
+ * @version 2026.10.18
+ */
+public final class LiblouisTranslatorCache {
+
+    public static final int DEFAULT_CAPACITY = 8;
+    public static final int DEFAULT_TRANSLATION_CAPACITY = 1024;
+
+    private static final LiblouisTranslatorCache INSTANCE = new LiblouisTranslatorCache(DEFAULT_CAPACITY);
+
+    // translator needs whole table directory, therefore it is exported one time (static resource).
+    private static File sTableDirectory;
+
+    private final Logger mLogger = LoggerFactory.getLogger(this.getClass());
+    private final LruCache<String, Translator> mTranslators;
+    private final LruCache<TranslationKey, BrailleTranslation> mTranslations;
+
+    private LiblouisTranslatorCache(final int capacity) {
+        mTranslators = new LruCache<>(capacity);
+        mTranslations = new LruCache<>(DEFAULT_TRANSLATION_CAPACITY);
+    }
+
+    /**
+     * Get the process wide instance.
+     * @return The cache instance.
+     */
+    public static LiblouisTranslatorCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Get the directory containing the exported liblouis tables.
+     * @return The table directory.
+     */
+    public static synchronized File getTableDirectory() {
+        if (sTableDirectory == null) {
+            sTableDirectory = GeneralResource.getOrExportResourceFile("mapping/liblouis/");
+        }
+        return sTableDirectory;
+    }
+
+    /**
+     * Get the translator for a table file from the liblouis table directory.
+     * @param tableName The file name of the table, e.g. "de-g0.utb".
+     * @return The shared translator for the table.
+     * @throws RuntimeException If the translator could not be created.
+     */
+    public Translator getTranslator(final String tableName) {
+        Objects.requireNonNull(tableName, "The table name given to the translator cache was null!");
+        return mTranslators.get(tableName, this::createTranslator);
+    }
+
+    /**
+     * Get the translator for a {@link BrailleLanguage.Language}.
+     * @param language The language.
+     * @return The shared translator for the table of the language.
+     * @throws RuntimeException If the translator could not be created.
+     */
+    public Translator getTranslator(final BrailleLanguage.Language language) {
+        return getTranslator(BrailleLanguage.getCorrectLanguage(language));
+    }
+
+    /**
+     * Translate a text with the given translator, using the default display table.
+     * A translator is not guaranteed to be reentrant, so translations are serialized per translator, while different
+     * translators may be used concurrently.
+     * @param translator The translator to use.
+     * @param text The text to translate.
+     * @return The result of the translation.
+     * @throws TranslationException If liblouis could not translate the text.
+     * @throws DisplayException If the result could not be mapped to the display table.
+     */
+    public static TranslationResult translate(final Translator translator, final String text) throws TranslationException, DisplayException {
+        synchronized (translator) {
+            return translator.translate(text, null, null, null, DisplayTable.StandardDisplayTables.DEFAULT);
+        }
+    }
+
+    /**
+     * Get the translation of a text, translating it only if it is not cached yet.
+     * The dot patterns of the result depend on the semantic table, so it is part of the cache key.
+     * @param tableName The file name of the liblouis table, e.g. "de-g0.utb".
+     * @param text The text to translate.
+     * @param semanticTable The table used to map the translated braille characters to dot patterns.
+     * @return The translation.
+     * @throws RuntimeException If the text could not be translated.
+     */
+    public BrailleTranslation getTranslation(final String tableName, final String text, final AbstractBrailleTableParser semanticTable) {
+        TranslationKey key = new TranslationKey(tableName, text, semanticTable);
+        return mTranslations.get(key, this::createTranslation);
+    }
+
+    /**
+     * Get the translation of a text for a {@link BrailleLanguage.Language}.
+     * @param language The language.
+     * @param text The text to translate.
+     * @param semanticTable The table used to map the translated braille characters to dot patterns.
+     * @return The translation.
+     * @throws RuntimeException If the text could not be translated.
+     */
+    public BrailleTranslation getTranslation(final BrailleLanguage.Language language, final String text, final AbstractBrailleTableParser semanticTable) {
+        return getTranslation(BrailleLanguage.getCorrectLanguage(language), text, semanticTable);
+    }
+
+    /**
+     * Get the number of translation requests answered from the cache.
+     * @return The hit count.
+     */
+    public long getTranslationHitCount() {
+        return mTranslations.getHitCount();
+    }
+
+    /**
+     * Get the number of translation requests that required calling liblouis.
+     * @return The miss count.
+     */
+    public long getTranslationMissCount() {
+        return mTranslations.getMissCount();
+    }
+
+    /**
+     * Get the number of translators currently held by the cache.
+     * @return The number of cached translators.
+     */
+    public int size() {
+        return mTranslators.size();
+    }
+
+    /**
+     * Remove all translators and translations from the cache.
+     */
+    public void clear() {
+        mTranslations.clear();
+        mTranslators.clear();
+    }
+
+    private BrailleTranslation createTranslation(final TranslationKey key) {
+        TranslationResult result;
+        try {
+            result = translate(getTranslator(key.mTableName), key.mText);
+        } catch (TranslationException | DisplayException e) {
+            throw new RuntimeException("Error while translating \"" + key.mText + "\"", e);
+        }
+        return BrailleTranslation.fromBraille(result.getBraille(), key.mSemanticTable);
+    }
+
+    private Translator createTranslator(final String tableName) {
+        mLogger.debug("Loading liblouis table \"{}\"", tableName);
+        try {
+            File tableFile = getTableDirectory().toPath().resolve(tableName).toFile(); // reference to specific table file in exported directory
+            return new Translator(tableFile.getAbsolutePath());
+        } catch (Exception e) {
+            throw new RuntimeException("Error while creating liblouis translator", e);
+        }
+    }
+
+    /**
+     * Key of the translation cache. Semantic tables are compared by identity, since they are cached per file anyway.
+     */
+    private static final class TranslationKey {
+        private final String mTableName;
+        private final String mText;
+        private final AbstractBrailleTableParser mSemanticTable;
+
+        TranslationKey(final String tableName, final String text, final AbstractBrailleTableParser semanticTable) {
+            mTableName = Objects.requireNonNull(tableName, "The table name given to the translator cache was null!");
+            mText = Objects.requireNonNull(text, "The text given to the translator cache was null!");
+            mSemanticTable = Objects.requireNonNull(semanticTable, "The semantic table given to the translator cache was null!");
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof TranslationKey)) {
+                return false;
+            }
+            TranslationKey key = (TranslationKey) other;
+            return mSemanticTable == key.mSemanticTable && mTableName.equals(key.mTableName) && mText.equals(key.mText);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(mTableName, mText, System.identityHashCode(mSemanticTable));
+        }
+    }
+}
@@ -1,12 +1,14 @@
 package de.tudresden.inf.mci.brailleplot.rendering;
 
+import de.tudresden.inf.mci.brailleplot.datacontainers.PointCursor;
 import de.tudresden.inf.mci.brailleplot.datacontainers.PointList;
-import de.tudresden.inf.mci.brailleplot.datacontainers.SimplePointListImpl;
+import de.tudresden.inf.mci.brailleplot.datacontainers.PrimitivePointListImpl;
 import de.tudresden.inf.mci.brailleplot.diagrams.LineChart;
 import de.tudresden.inf.mci.brailleplot.layout.InsufficientRenderingAreaException;
 import de.tudresden.inf.mci.brailleplot.layout.RasterCanvas;
 import de.tudresden.inf.mci.brailleplot.layout.Rectangle;
-import de.tudresden.inf.mci.brailleplot.point.Point2DDouble;
+import de.tudresden.inf.mci.brailleplot.rendering.decimation.DecimationMethod;
+import de.tudresden.inf.mci.brailleplot.rendering.decimation.Decimator;
 import de.tudresden.inf.mci.brailleplot.rendering.language.BrailleLanguage;
 
 import java.util.HashMap;
@@ -25,7 +27,7 @@ import static java.lang.StrictMath.round;
 /**
  * Class representing a line chart rasterizer.
  * @author Andrey Ruzhanskiy
- * @version 2019.09.24
+ * @version 2026.10.18
  */
 public class LineChartRasterizer implements Rasterizer<LineChart> {
     private LineChart mDiagram;
@@ -48,6 +50,7 @@ public class LineChartRasterizer implements Rasterizer<LineChart> {
     private BrailleLanguage.Language mLanguage;
     private int mTitleHeight;
     private int mPaddingToTitle = 1;
+    private Decimator mDecimator;
 
 
     LineChartRasterizer() {
@@ -71,8 +74,9 @@ public class LineChartRasterizer implements Rasterizer<LineChart> {
         if (canvas.equals(null)) {
             throw new NullPointerException("The given canvas for the LineChartRasterizer was null!");
         }
-        mLanguage = BrailleLanguage.Language.valueOf(canvas.getRepresentation().getProperty("general.brailleLanguage").toString());
-        mTitleHeight = canvas.getRepresentation().getProperty("general.maxTitleHeight").toInt();
+        mLanguage = BrailleLanguage.Language.valueOf(canvas.getRepresentationConfig().getString("general.brailleLanguage"));
+        mTitleHeight = canvas.getRepresentationConfig().getInt("general.maxTitleHeight");
+        mDecimator = DecimationMethod.getDecimator(canvas.getRepresentation());
         mTextRasterizer = new LiblouisBrailleTextRasterizer(canvas.getPrinter());
         mLegend = new Legend(data.getTitle(), mLanguage); //
 
@@ -177,18 +181,22 @@ public class LineChartRasterizer implements Rasterizer<LineChart> {
      */
     private void rasterizeData(final double globalMinX, final double globalMinY, final PointList next) {
         PointList sorted = next.sortXAscend();
-        SimplePointListImpl points = rasterizePoints(sorted, globalMinX, globalMinY);
-        Iterator<Point2DDouble> iter = points.getListIterator();
-        Point2DDouble previous = null;
-        while (iter.hasNext()) {
-            Point2DDouble current = iter.next();
-            if (previous == null) {
-                previous = current;
-                continue;
-            }
+        // Points in the same dot column only add dots between their minimum and maximum, so most of them can be skipped
+        Rectangle canvas = mCanvas.toDotRectangle(mCellLineArea);
+        double canvasStartX = canvas.intWrapper().getX();
+        PointList decimated = mDecimator.decimate(sorted, x -> toDotX(x, globalMinX, canvasStartX));
+        PointList points = rasterizePoints(decimated, globalMinX, globalMinY);
+        PointCursor cursor = points.getCursor();
+        if (!cursor.next()) {
+            return;
+        }
+        double previousX = cursor.getX();
+        double previousY = cursor.getY();
+        while (cursor.next()) {
             // Here you can swap bresenham to a new linerasterizing algorithm
-            bresenham(previous.getX(), previous.getY(), current.getX(), current.getY());
-            previous = current;
+            bresenham(previousX, previousY, cursor.getX(), cursor.getY());
+            previousX = cursor.getX();
+            previousY = cursor.getY();
         }
     }
 
@@ -206,11 +214,11 @@ public class LineChartRasterizer implements Rasterizer<LineChart> {
      * @param yEnd Y-coordinate of the endpoint.
      */
     @SuppressWarnings("avoidinlineconditionals")
-    private void bresenham(final Double xStart, final Double yStart, final Double xEnd, final Double yEnd) {
+    private void bresenham(final double xStart, final double yStart, final double xEnd, final double yEnd) {
         int y0 = (int) (mCanvas.toDotRectangle(mCellLineArea).intWrapper().getHeight() - yStart);
         int y1 = (int) (mCanvas.toDotRectangle(mCellLineArea).intWrapper().getHeight() - yEnd);
-        int x0 = (int) (xStart.doubleValue());
-        int x1 = (int) (xEnd.doubleValue());
+        int x0 = (int) xStart;
+        int x1 = (int) xEnd;
         int dx =  abs(x1 - x0);
         int dy = -abs(y1 - y0);
         int sx = x0 < x1 ? 1 : -1;
@@ -239,30 +247,41 @@ public class LineChartRasterizer implements Rasterizer<LineChart> {
      * @param list A {@link PointList} containing points which will be rasterized.
      * @param globalMinX The global minimum of the x values in the {@link LineChart}.
      * @param globalMinY The global minimum of the y values in the {@link LineChart}.
-     * @return The {@link SimplePointListImpl} containing the converted coordinates of the points.
+     * @return The {@link PointList} containing the converted coordinates of the points.
      */
-    private SimplePointListImpl rasterizePoints(final PointList list, final double globalMinX, final double globalMinY) {
+    private PointList rasterizePoints(final PointList list, final double globalMinX, final double globalMinY) {
         Objects.requireNonNull(list, "The given PointList for the rasterization of points was null!");
         double xMin = globalMinX;
         double yMin = globalMinY;
-        Iterator<Point2DDouble> iter = list.getListIterator();
+        PointCursor cursor = list.getCursor();
         Rectangle canvas = mCanvas.toDotRectangle(mCellLineArea);
         double canvasStartX = canvas.intWrapper().getX();
         double canvasStartY = canvas.intWrapper().getBottom();
-        SimplePointListImpl result = new SimplePointListImpl();
-        while (iter.hasNext()) {
-            Point2DDouble current = iter.next();
-            double currentValueX = current.getX() - xMin;
-            double currentValueY = current.getY() - yMin;
-            double stepX = currentValueX / mDpiX;
+        PrimitivePointListImpl result = new PrimitivePointListImpl(list.getName(), list.getSize());
+        while (cursor.next()) {
+            double currentValueY = cursor.getY() - yMin;
             double stepY = currentValueY / mDpiY;
-            result.pushBack(new Point2DDouble(round(canvasStartX + mXStepWidth * mCanvas.getCellWidth() * stepX), round(canvasStartY - mYStepWidth * mCanvas.getCellHeight() * stepY)));
-            mCanvas.getCurrentPage().setValue((int) round(canvasStartY - mYStepWidth * mCanvas.getCellHeight() * stepY), (int) round(canvasStartX + mXStepWidth * mCanvas.getCellWidth() * stepX), true);
+            long dotX = toDotX(cursor.getX(), xMin, canvasStartX);
+            long dotY = round(canvasStartY - mYStepWidth * mCanvas.getCellHeight() * stepY);
+            result.pushBack(dotX, dotY);
+            mCanvas.getCurrentPage().setValue((int) dotY, (int) dotX, true);
         }
-        result.calculateExtrema();
         return result;
     }
 
+    /**
+     * Method for calculating the dot column of a x value.
+     * @param x The x value.
+     * @param globalMinX The global minimum of the x values in the {@link LineChart}.
+     * @param canvasStartX The first dot column of the diagram area.
+     * @return The dot column.
+     */
+    private long toDotX(final double x, final double globalMinX, final double canvasStartX) {
+        double currentValueX = x - globalMinX;
+        double stepX = currentValueX / mDpiX;
+        return round(canvasStartX + mXStepWidth * mCanvas.getCellWidth() * stepX);
+    }
+
 
     /**
      * Method for creating a map containing the key-value pair for the datapoints for the y-axis. The key represents an integer, which has
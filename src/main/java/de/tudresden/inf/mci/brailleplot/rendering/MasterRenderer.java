@@ -18,14 +18,21 @@ import de.tudresden.inf.mci.brailleplot.rendering.floatingplotter.ScatterPlotter
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 
 /**
  * MasterRenderer. This class is the main interface for conversion of a diagram representation into a printable format and manages the current rendering context.
  * The MasterRenderer takes representations of any diagram type, calculates the available raster/area from the given printer and format configuration and dispatches
  * any calls to the 'rasterize' and 'plot' methods to the given {@link FunctionalRenderingBase}.
  * @author Leonard Kupper
- * @version 2019.07.20
+ * @version 2026.10.18
  */
 public final class MasterRenderer {
 
@@ -35,11 +42,36 @@ public final class MasterRenderer {
     Representation mRepresentation;
     Format mFormat;
     FunctionalRenderingBase mRenderingBase;
+    Supplier<FunctionalRenderingBase> mRenderingBaseFactory;
 
     public MasterRenderer(final Printer printer, final Representation representation, final Format format) {
 
         mLogger.info("Creating MasterRenderer with default context");
+        setRenderingContext(printer, representation, format, createDefaultRenderingBase());
+        mRenderingBaseFactory = this::createDefaultRenderingBase;
+    }
 
+    public MasterRenderer(final Printer printer, final Representation representation, final Format format, final FunctionalRenderingBase renderingBase) {
+        mLogger.info("Creating MasterRenderer with custom context");
+        setRenderingContext(printer, representation, format, renderingBase);
+    }
+
+    /**
+     * Constructor for a renderer with a custom rendering base, which supports concurrent rendering.
+     * @param printer The printer configuration.
+     * @param representation The representation configuration.
+     * @param format The format configuration.
+     * @param renderingBaseFactory Creates a new, independent rendering base. Called once for the renderer itself and
+     *                             once for each task of {@link #rasterizeAll(Collection, ExecutorService)} and
+     *                             {@link #plotAll(Collection, ExecutorService)}.
+     */
+    public MasterRenderer(final Printer printer, final Representation representation, final Format format, final Supplier<FunctionalRenderingBase> renderingBaseFactory) {
+        mLogger.info("Creating MasterRenderer with custom context factory");
+        setRenderingContext(printer, representation, format, renderingBaseFactory.get());
+        mRenderingBaseFactory = renderingBaseFactory;
+    }
+
+    private FunctionalRenderingBase createDefaultRenderingBase() {
         mLogger.trace("Instantiating default rendering base");
         // if no rendering base is given, create own rendering base with default set of algorithms
         FunctionalRenderingBase renderingBase = new FunctionalRenderingBase();
@@ -70,37 +102,140 @@ public final class MasterRenderer {
         renderingBase.registerPlotter(new FunctionalPlotter<LineChart>(LineChart.class, linePlotter));
         renderingBase.registerPlotter(new FunctionalPlotter<CategoricalBarChart>(CategoricalBarChart.class, barChartPlotter));
 
-        setRenderingContext(printer, representation, format, renderingBase);
+        return renderingBase;
     }
 
-    public MasterRenderer(final Printer printer, final Representation representation, final Format format, final FunctionalRenderingBase renderingBase) {
-        mLogger.info("Creating MasterRenderer with custom context");
-        setRenderingContext(printer, representation, format, renderingBase);
+    public RasterCanvas rasterize(final Renderable data) throws InsufficientRenderingAreaException {
+        return rasterize(data, createCompatibleRasterCanvas());
     }
 
-    public RasterCanvas rasterize(final Renderable data) throws InsufficientRenderingAreaException {
+    /**
+     * Rasterize the given data onto a canvas created beforehand by {@link #createCompatibleRasterCanvas()}.
+     * This allows registering a page completed listener on the canvas before rendering starts.
+     * The rendering base of this renderer is used exclusively, so calls wait for other calls and for running tasks of
+     * {@link #rasterizeAll(Collection, ExecutorService)} and {@link #plotAll(Collection, ExecutorService)} which share it.
+     * @param data The data to rasterize.
+     * @param canvas The canvas to rasterize onto.
+     * @return The canvas.
+     * @throws InsufficientRenderingAreaException If the data does not fit onto the canvas.
+     */
+    public synchronized RasterCanvas rasterize(final Renderable data, final RasterCanvas canvas) throws InsufficientRenderingAreaException {
+        return rasterize(mRenderingBase, data, canvas);
+    }
+
+    private RasterCanvas rasterize(final FunctionalRenderingBase renderingBase, final Renderable data, final RasterCanvas canvas) throws InsufficientRenderingAreaException {
         mLogger.info("Preparing a new {} rasterizing on RenderingBase {}",
-                data.getClass().getSimpleName(), mRenderingBase);
-        RasterCanvas canvas = createCompatibleRasterCanvas();
-        mRenderingBase.setRasterCanvas(canvas);
-        mRenderingBase.rasterize(data);
+                data.getClass().getSimpleName(), renderingBase);
+        renderingBase.setRasterCanvas(Objects.requireNonNull(canvas));
+        renderingBase.rasterize(data);
+        canvas.finishPages();
         mLogger.info("Rasterizing of {} on RenderingBase {} has finished, result containing {} pages",
-                data.getClass().getSimpleName(), mRenderingBase, canvas.getPageCount());
+                data.getClass().getSimpleName(), renderingBase, canvas.getPageCount());
         return canvas;
     }
 
     public PlotCanvas plot(final Renderable data) throws InsufficientRenderingAreaException {
+        return plot(data, createCompatiblePlotCanvas());
+    }
+
+    /**
+     * Plot the given data onto a canvas created beforehand by {@link #createCompatiblePlotCanvas()}.
+     * This allows registering a page completed listener on the canvas before rendering starts.
+     * The rendering base is used exclusively, see {@link #rasterize(Renderable, RasterCanvas)}.
+     * @param data The data to plot.
+     * @param canvas The canvas to plot onto.
+     * @return The canvas.
+     * @throws InsufficientRenderingAreaException If the data does not fit onto the canvas.
+     */
+    public synchronized PlotCanvas plot(final Renderable data, final PlotCanvas canvas) throws InsufficientRenderingAreaException {
+        return plot(mRenderingBase, data, canvas);
+    }
+
+    private PlotCanvas plot(final FunctionalRenderingBase renderingBase, final Renderable data, final PlotCanvas canvas) throws InsufficientRenderingAreaException {
         mLogger.info("Preparing a new {} plotting on RenderingBase {}",
-                data.getClass().getSimpleName(), mRenderingBase);
-        PlotCanvas canvas = new PlotCanvas(mPrinter, mRepresentation, mFormat);
-        mRenderingBase.setPlotCanvas(canvas);
-        mRenderingBase.plot(data);
+                data.getClass().getSimpleName(), renderingBase);
+        renderingBase.setPlotCanvas(Objects.requireNonNull(canvas));
+        renderingBase.plot(data);
+        canvas.finishPages();
         mLogger.info("Plotting of {} on RenderingBase {} has finished, result containing {} pages",
-                data.getClass().getSimpleName(), mRenderingBase, canvas.getPageCount());
+                data.getClass().getSimpleName(), renderingBase, canvas.getPageCount());
         return canvas;
     }
 
-    private RasterCanvas createCompatibleRasterCanvas() throws InsufficientRenderingAreaException {
+    /**
+     * Rasterize multiple independent renderables concurrently.
+     * Each task gets its own canvas and its own rendering base (and therefore its own rasterizer instances), while the
+     * configuration and the table and translator caches are shared. If the renderer was created with a fixed rendering
+     * base instead of a factory, the tasks are still submitted to the executor but run one after another, and also wait
+     * for direct calls of {@link #rasterize(Renderable, RasterCanvas)} and {@link #plot(Renderable, PlotCanvas)}.
+     * The tasks use the configuration and rendering base which are set when this method is called, even if they are
+     * changed before the tasks run.
+     * @param data The renderables to rasterize.
+     * @param executor The executor to run the tasks on.
+     * @return One future per renderable, in the iteration order of the given collection.
+     */
+    public List<Future<RasterCanvas>> rasterizeAll(final Collection<? extends Renderable> data, final ExecutorService executor) {
+        final Printer printer = mPrinter;
+        final Representation representation = mRepresentation;
+        final Format format = mFormat;
+        final Supplier<FunctionalRenderingBase> renderingBaseFactory = mRenderingBaseFactory;
+        final FunctionalRenderingBase sharedRenderingBase = mRenderingBase;
+        List<Future<RasterCanvas>> futures = new ArrayList<>(data.size());
+        for (Renderable renderable : data) {
+            futures.add(executor.submit(renderTask(renderingBaseFactory, sharedRenderingBase,
+                renderingBase -> rasterize(renderingBase, renderable, new SixDotBrailleRasterCanvas(printer, representation, format)))));
+        }
+        return futures;
+    }
+
+    /**
+     * Plot multiple independent renderables concurrently.
+     * See {@link #rasterizeAll(Collection, ExecutorService)} for details.
+     * @param data The renderables to plot.
+     * @param executor The executor to run the tasks on.
+     * @return One future per renderable, in the iteration order of the given collection.
+     */
+    public List<Future<PlotCanvas>> plotAll(final Collection<? extends Renderable> data, final ExecutorService executor) {
+        final Printer printer = mPrinter;
+        final Representation representation = mRepresentation;
+        final Format format = mFormat;
+        final Supplier<FunctionalRenderingBase> renderingBaseFactory = mRenderingBaseFactory;
+        final FunctionalRenderingBase sharedRenderingBase = mRenderingBase;
+        List<Future<PlotCanvas>> futures = new ArrayList<>(data.size());
+        for (Renderable renderable : data) {
+            futures.add(executor.submit(renderTask(renderingBaseFactory, sharedRenderingBase,
+                renderingBase -> plot(renderingBase, renderable, new PlotCanvas(printer, representation, format)))));
+        }
+        return futures;
+    }
+
+    private <T> Callable<T> renderTask(final Supplier<FunctionalRenderingBase> renderingBaseFactory, final FunctionalRenderingBase sharedRenderingBase,
+                                       final RenderingTask<T> task) {
+        if (renderingBaseFactory != null) {
+            return () -> task.render(renderingBaseFactory.get());
+        }
+        return () -> {
+            // Without a factory, all tasks share the rendering base, which is also used by rasterize and plot.
+            synchronized (this) {
+                return task.render(sharedRenderingBase);
+            }
+        };
+    }
+
+    /**
+     * A rendering job, which is run on the given rendering base.
+     * @param <T> The type of the result.
+     */
+    private interface RenderingTask<T> {
+        T render(FunctionalRenderingBase renderingBase) throws InsufficientRenderingAreaException;
+    }
+
+    public PlotCanvas createCompatiblePlotCanvas() throws InsufficientRenderingAreaException {
+        mLogger.info("Creating compatible PlotCanvas for current rendering context");
+        return new PlotCanvas(mPrinter, mRepresentation, mFormat);
+    }
+
+    public RasterCanvas createCompatibleRasterCanvas() throws InsufficientRenderingAreaException {
         mLogger.info("Creating compatible RasterCanvas for current rendering context");
         return new SixDotBrailleRasterCanvas(mPrinter, mRepresentation, mFormat);
 
@@ -150,6 +285,8 @@ public final class MasterRenderer {
 
     public void setRenderingBase(final FunctionalRenderingBase renderingBase) {
         mRenderingBase = Objects.requireNonNull(renderingBase);
+        // A single rendering base instance can not be duplicated for concurrent rendering tasks.
+        mRenderingBaseFactory = null;
         mLogger.info("Rendering context: Set RenderingBase to instance {}", mRenderingBase);
     }
     public FunctionalRenderingBase getRenderingBase() {
@@ -4,6 +4,7 @@ package de.tudresden.inf.mci.brailleplot.rendering;
 import de.tudresden.inf.mci.brailleplot.layout.InsufficientRenderingAreaException;
 import de.tudresden.inf.mci.brailleplot.layout.RasterCanvas;
 import de.tudresden.inf.mci.brailleplot.layout.Rectangle;
+import de.tudresden.inf.mci.brailleplot.printabledata.BitMatrixData;
 import de.tudresden.inf.mci.brailleplot.printabledata.MatrixData;
 
 import static java.lang.Math.max;
@@ -14,7 +15,7 @@ import static java.lang.Math.min;
  * This interface also defines a static set of tool methods for basic operations on a raster's data container ({@link MatrixData}).
  * @param <T> The concrete class implementing {@link Renderable} which can be rasterized with the rasterizer.
  * @author Leonard Kupper
- * @version 2019.07.22
+ * @version 2026.10.18
  */
 @FunctionalInterface
 public interface Rasterizer<T extends Renderable> {
@@ -44,6 +45,10 @@ public interface Rasterizer<T extends Renderable> {
         int xMax = max(x1, x2);
         int yMin = min(y1, y2);
         int yMax = max(y1, y2);
+        if (data instanceof BitMatrixData) {
+            ((BitMatrixData) data).fillRectangle(yMin, xMin, yMax - yMin + 1, xMax - xMin + 1, value);
+            return;
+        }
         for (int y = yMin; y <= yMax; y++) {
             for (int x = xMin; x <= xMax; x++) {
                 data.setValue(y, x, value);
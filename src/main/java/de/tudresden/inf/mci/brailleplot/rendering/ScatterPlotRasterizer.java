@@ -6,8 +6,8 @@ import de.tudresden.inf.mci.brailleplot.diagrams.ScatterPlot;
 import de.tudresden.inf.mci.brailleplot.layout.InsufficientRenderingAreaException;
 import de.tudresden.inf.mci.brailleplot.layout.RasterCanvas;
 import de.tudresden.inf.mci.brailleplot.layout.Rectangle;
-import de.tudresden.inf.mci.brailleplot.point.Point2DDouble;
 import de.tudresden.inf.mci.brailleplot.printabledata.MatrixData;
+import de.tudresden.inf.mci.brailleplot.rendering.decimation.DensityGrid;
 import de.tudresden.inf.mci.brailleplot.rendering.language.BrailleLanguage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -203,16 +203,13 @@ public class ScatterPlotRasterizer implements Rasterizer<ScatterPlot> {
             BrailleText diagramTitle = new BrailleText(title + titleToDataSetSeparator + l.getName(), titleArea);
 
             // 2. Render actual tokens
-            for (Point2DDouble p : l) {
-                int x = (int) Math.round(Math.abs((p.getX() - xMin) * xRatio));
-                int y = (int) Math.round(Math.abs((p.getY() - yMin) * yRatio));
-                if (x < 0 || x > xDots || y < 0 || y > yDots) {
-                    throw new RuntimeException("Calculated position not in bounds: (" + x + "," + y + "), (" + xDots + "," + yDots + ")");
-                }
-
-                final int xGlobal = xOrigin + x;
-                final int yGlobal = yOrigin - y - 1;
-                LOG.trace("Placing token at local: ({},{}), global: ({},{}), rational: ({},{}) for data point: ({},{})", x, y, xGlobal, yGlobal, ((double) x) / ((double) xDots), ((double) y) / ((double) yDots), p.getX(), p.getY());
+            // Many points may fall onto the same dot, so the points are binned into the dots first
+            DensityGrid grid = DensityGrid.bin(l, xDots + 1, yDots + 1,
+                x -> toDot(x, xMin, xRatio, xDots), y -> toDot(y, yMin, yRatio, yDots), false);
+            for (int bin = grid.nextOccupiedBin(0); bin >= 0; bin = grid.nextOccupiedBin(bin + 1)) {
+                final int xGlobal = xOrigin + grid.getColumn(bin);
+                final int yGlobal = yOrigin - grid.getRow(bin) - 1;
+                LOG.trace("Placing token at local: ({},{}), global: ({},{})", grid.getColumn(bin), grid.getRow(bin), xGlobal, yGlobal);
                 mat.setValue(yGlobal, xGlobal, true);
             }
 
@@ -239,6 +236,14 @@ public class ScatterPlotRasterizer implements Rasterizer<ScatterPlot> {
         legendRasterizer.rasterize(legend, canvas);
     }
 
+    private static int toDot(final double value, final double min, final double ratio, final int maxDot) {
+        int dot = (int) Math.round(Math.abs((value - min) * ratio));
+        if (dot < 0 || dot > maxDot) {
+            throw new RuntimeException("Calculated position not in bounds: " + dot + ", " + maxDot);
+        }
+        return dot;
+    }
+
     private static int toWholeCells(final int dots, final int cellDots) {
         int diff = dots % cellDots;
         if (diff != 0) {
@@ -11,7 +11,6 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
-import static java.lang.Math.abs;
 import static java.lang.Math.floor;
 import static java.lang.Math.log10;
 import static java.lang.Math.max;
@@ -24,7 +23,7 @@ import static java.lang.StrictMath.ceil;
  * A rasterizer for instances of {@link BarChart} which is based on an algorithm that constructs horizontal category
  * bars that are filled with a uniform texture. The rasterizer is 'cell' based, working on 6-dot or 8-dot layouts.
  * @author Leonard Kupper, Georg Graßnick
- * @version 2019.07.29
+ * @version 2026.10.18
  */
 public final class UniformTextureBarChartRasterizer implements Rasterizer<BarChart> {
 
@@ -115,8 +114,8 @@ public final class UniformTextureBarChartRasterizer implements Rasterizer<BarCha
         // Now the charts value range and categories are analyzed to figure out where the y-axis (x = 0) shall be
         // placed and how to scale the bars to still fit the available space.
 
-        double negValueRangeSize = abs(min(diagram.getMinY(), 0));
-        double posValueRangeSize = max(diagram.getMaxY(), 0);
+        double negValueRangeSize = diagram.getStatisticsY().getNegativeExtent();
+        double posValueRangeSize = diagram.getStatisticsY().getPositiveExtent();
         // The complete value range is calculated in a way that it always includes zero, even if all category values
         // are positive or negative with absolute values > 0, because the y axis will always be positioned at x = 0.
         double valueRangeSize = negValueRangeSize + posValueRangeSize;
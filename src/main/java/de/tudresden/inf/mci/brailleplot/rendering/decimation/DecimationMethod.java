@@ -0,0 +1,66 @@
+package de.tudresden.inf.mci.brailleplot.rendering.decimation;
+
+import de.tudresden.inf.mci.brailleplot.configparser.Representation;
+
+import java.util.Objects;
+
+/**
+ * The decimation algorithms, which can be chosen by the representation property {@code general.lineChartDecimation}.
+ * @author agent
+ * @version 2026.10.18
+ */
+public enum DecimationMethod {
+    /**
+     * Render all points.
+     */
+    NONE {
+        @Override
+        public Decimator getDecimator() {
+            return (points, bucket) -> points;
+        }
+    },
+
+    /**
+     * Keep the first, last, minimal and maximal point of each bucket, see {@link MinMaxDecimator}.
+     */
+    MIN_MAX {
+        @Override
+        public Decimator getDecimator() {
+            return new MinMaxDecimator();
+        }
+    },
+
+    /**
+     * Keep one point of each bucket, see {@link LargestTriangleThreeBucketsDecimator}.
+     */
+    LTTB {
+        @Override
+        public Decimator getDecimator() {
+            return new LargestTriangleThreeBucketsDecimator();
+        }
+    };
+
+    /**
+     * The name of the representation property choosing the decimation method.
+     */
+    public static final String PROPERTY_NAME = "general.lineChartDecimation";
+
+    /**
+     * Get the decimator chosen by a representation configuration. Defaults to {@link #MIN_MAX}, if the property is not set.
+     * @param representation The representation configuration. Must not be null.
+     * @return A {@link Decimator}.
+     */
+    public static Decimator getDecimator(final Representation representation) {
+        Objects.requireNonNull(representation);
+        if (!representation.getPropertyNames().contains(PROPERTY_NAME)) {
+            return MIN_MAX.getDecimator();
+        }
+        return valueOf(representation.getProperty(PROPERTY_NAME).toString()).getDecimator();
+    }
+
+    /**
+     * Get the decimator implementing this method.
+     * @return A {@link Decimator}.
+     */
+    public abstract Decimator getDecimator();
+}
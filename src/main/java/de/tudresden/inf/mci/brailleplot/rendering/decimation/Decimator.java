@@ -0,0 +1,25 @@
+package de.tudresden.inf.mci.brailleplot.rendering.decimation;
+
+import de.tudresden.inf.mci.brailleplot.datacontainers.PointList;
+
+import java.util.function.DoubleToLongFunction;
+
+/**
+ * Reduces the number of points of a data series, so that only a few points per bucket remain.
+ * Renderers use the dot columns of the output medium as buckets, so the rendering cost depends on the resolution of the
+ * medium instead of the number of points in the data series.
+ * @author agent
+ * @version 2026.10.18
+ */
+@FunctionalInterface
+public interface Decimator {
+
+    /**
+     * Reduce the number of points of a data series.
+     * @param points The points, sorted by their x values in ascending fashion. Must not be null.
+     * @param bucket Maps an x value to the index of its bucket, e.g. the dot column it is rendered to. Must be
+     *               monotonically non-decreasing.
+     * @return The remaining points, in the order of {@code points}. May be {@code points} itself.
+     */
+    PointList decimate(PointList points, DoubleToLongFunction bucket);
+}
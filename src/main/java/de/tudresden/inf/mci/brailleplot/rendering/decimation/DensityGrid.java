@@ -0,0 +1,207 @@
+package de.tudresden.inf.mci.brailleplot.rendering.decimation;
+
+import de.tudresden.inf.mci.brailleplot.datacontainers.PointCursor;
+import de.tudresden.inf.mci.brailleplot.datacontainers.PointList;
+import de.tudresden.inf.mci.brailleplot.datacontainers.PrimitivePointListImpl;
+
+import java.util.BitSet;
+import java.util.Objects;
+import java.util.function.DoubleToIntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * A grid of bins, e.g. the dots of a raster or the resolution of a floating dot printer, counting the points that fall
+ * into each bin. Renderers can work from the occupied bins instead of the points, so the rendering cost is bounded by the
+ * size of the grid instead of the number of points.
+ * The occupancy is stored as a bit set. Counting the points per bin, e.g. for density textures, is optional, because it
+ * needs an int per bin.
+ * @author agent
+ * @version 2026.10.18
+ */
+public final class DensityGrid {
+
+    // Lists with fewer points are binned sequentially
+    private static final int PARALLEL_THRESHOLD = 65536;
+
+    private final int mColumns;
+    private final int mRows;
+    private final BitSet mOccupied;
+    private final int[] mCounts;
+    private int mMaxCount = 0;
+
+    /**
+     * Create an empty grid.
+     * @param columns The number of columns.
+     * @param rows The number of rows.
+     * @param withCounts Whether the number of points per bin should be counted.
+     */
+    public DensityGrid(final int columns, final int rows, final boolean withCounts) {
+        if (columns < 0 || rows < 0 || (long) columns * rows > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid grid size: " + columns + "x" + rows);
+        }
+        mColumns = columns;
+        mRows = rows;
+        mOccupied = new BitSet(columns * rows);
+        if (withCounts) {
+            mCounts = new int[columns * rows];
+        } else {
+            mCounts = null;
+        }
+    }
+
+    /**
+     * Bin all points of a list. Large lists with random access are binned in parallel on the common
+     * {@link java.util.concurrent.ForkJoinPool}, so the mapping functions must be thread-safe.
+     * @param points The points.
+     * @param columns The number of columns of the grid.
+     * @param rows The number of rows of the grid.
+     * @param toColumn Maps an x value to a column.
+     * @param toRow Maps a y value to a row.
+     * @param withCounts Whether the number of points per bin should be counted.
+     * @return The grid containing all points.
+     * @throws IndexOutOfBoundsException If a point is mapped to a bin outside of the grid.
+     */
+    public static DensityGrid bin(final PointList points, final int columns, final int rows, final DoubleToIntFunction toColumn,
+                                  final DoubleToIntFunction toRow, final boolean withCounts) {
+        Objects.requireNonNull(points);
+        Objects.requireNonNull(toColumn);
+        Objects.requireNonNull(toRow);
+        if (!(points instanceof PrimitivePointListImpl) || points.getSize() < PARALLEL_THRESHOLD) {
+            DensityGrid grid = new DensityGrid(columns, rows, withCounts);
+            PointCursor cursor = points.getCursor();
+            while (cursor.next()) {
+                grid.add(toColumn.applyAsInt(cursor.getX()), toRow.applyAsInt(cursor.getY()));
+            }
+            return grid;
+        }
+
+        final int size = points.getSize();
+        final int chunks = (size + PARALLEL_THRESHOLD - 1) / PARALLEL_THRESHOLD;
+        return IntStream.range(0, chunks).parallel().mapToObj(chunk -> {
+            DensityGrid grid = new DensityGrid(columns, rows, withCounts);
+            int end = Math.min(size, (chunk + 1) * PARALLEL_THRESHOLD);
+            for (int i = chunk * PARALLEL_THRESHOLD; i < end; i++) {
+                grid.add(toColumn.applyAsInt(points.getX(i)), toRow.applyAsInt(points.getY(i)));
+            }
+            return grid;
+        }).reduce((left, right) -> {
+            left.addAll(right);
+            return left;
+        }).get();
+    }
+
+    /**
+     * Add a point to a bin.
+     * @param column The column of the bin.
+     * @param row The row of the bin.
+     * @throws IndexOutOfBoundsException If the bin is outside of the grid.
+     */
+    public void add(final int column, final int row) {
+        int index = toIndex(column, row);
+        mOccupied.set(index);
+        if (mCounts != null) {
+            mCounts[index]++;
+            mMaxCount = Math.max(mMaxCount, mCounts[index]);
+        }
+    }
+
+    /**
+     * Add all points of another grid of the same size.
+     * @param other The other grid.
+     */
+    public void addAll(final DensityGrid other) {
+        Objects.requireNonNull(other);
+        if (other.mColumns != mColumns || other.mRows != mRows || (other.mCounts == null) != (mCounts == null)) {
+            throw new IllegalArgumentException("The grids are not compatible");
+        }
+        mOccupied.or(other.mOccupied);
+        if (mCounts != null) {
+            for (int i = other.mOccupied.nextSetBit(0); i >= 0; i = other.mOccupied.nextSetBit(i + 1)) {
+                mCounts[i] += other.mCounts[i];
+                mMaxCount = Math.max(mMaxCount, mCounts[i]);
+            }
+        }
+    }
+
+    public int getColumns() {
+        return mColumns;
+    }
+
+    public int getRows() {
+        return mRows;
+    }
+
+    /**
+     * Check whether a bin contains any points.
+     * @param column The column of the bin.
+     * @param row The row of the bin.
+     * @return true, if the bin contains a point, else false.
+     */
+    public boolean isOccupied(final int column, final int row) {
+        return mOccupied.get(toIndex(column, row));
+    }
+
+    /**
+     * Get the number of points in a bin.
+     * @param column The column of the bin.
+     * @param row The row of the bin.
+     * @return The number of points.
+     * @throws IllegalStateException If the grid does not count the points.
+     */
+    public int getCount(final int column, final int row) {
+        if (mCounts == null) {
+            throw new IllegalStateException("The grid does not count the points per bin");
+        }
+        return mCounts[toIndex(column, row)];
+    }
+
+    /**
+     * Get the maximal number of points in a bin.
+     * @return The maximal number of points, or 0 if the grid does not count the points.
+     */
+    public int getMaxCount() {
+        return mMaxCount;
+    }
+
+    /**
+     * Get the number of bins containing points.
+     * @return The number of occupied bins.
+     */
+    public int getOccupiedBinCount() {
+        return mOccupied.cardinality();
+    }
+
+    /**
+     * Find the next occupied bin, in row major order. Use like {@link BitSet#nextSetBit(int)}:
+     * {@code for (int i = grid.nextOccupiedBin(0); i >= 0; i = grid.nextOccupiedBin(i + 1))}.
+     * @param fromBin The index of the bin to start the search at.
+     * @return The index of the next occupied bin, or -1 if there is none.
+     */
+    public int nextOccupiedBin(final int fromBin) {
+        return mOccupied.nextSetBit(fromBin);
+    }
+
+    /**
+     * Get the column of a bin.
+     * @param bin The index of the bin, as returned by {@link #nextOccupiedBin(int)}.
+     * @return The column.
+     */
+    public int getColumn(final int bin) {
+        return bin % mColumns;
+    }
+
+    /**
+     * Get the row of a bin.
+     * @param bin The index of the bin, as returned by {@link #nextOccupiedBin(int)}.
+     * @return The row.
+     */
+    public int getRow(final int bin) {
+        return bin / mColumns;
+    }
+
+    private int toIndex(final int column, final int row) {
+        Objects.checkIndex(column, mColumns);
+        Objects.checkIndex(row, mRows);
+        return row * mColumns + column;
+    }
+}
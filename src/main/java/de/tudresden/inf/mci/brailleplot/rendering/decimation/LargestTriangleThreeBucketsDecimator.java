@@ -0,0 +1,92 @@
+package de.tudresden.inf.mci.brailleplot.rendering.decimation;
+
+import de.tudresden.inf.mci.brailleplot.datacontainers.PointCursor;
+import de.tudresden.inf.mci.brailleplot.datacontainers.PointList;
+import de.tudresden.inf.mci.brailleplot.datacontainers.PrimitivePointListImpl;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.DoubleToLongFunction;
+
+/**
+ * Implementation of the largest triangle three buckets algorithm by Sveinn Steinarsson.
+ * The first and the last point are always kept. Of every bucket in between, the point is kept which forms the largest
+ * triangle with the point kept of the previous bucket and the average of the points of the next bucket.
+ * In contrast to {@link MinMaxDecimator}, only a single point is kept per bucket, so the shape of the line is preserved
+ * with fewer points, but single outliers may be lost.
+ * @author agent
+ * @version 2026.10.18
+ */
+public final class LargestTriangleThreeBucketsDecimator implements Decimator {
+
+    @Override
+    public PointList decimate(final PointList points, final DoubleToLongFunction bucket) {
+        Objects.requireNonNull(points);
+        Objects.requireNonNull(bucket);
+        final int size = points.getSize();
+        if (size <= 2) {
+            return points;
+        }
+
+        // Copy the points, because the algorithm needs random access
+        double[] x = new double[size];
+        double[] y = new double[size];
+        PointCursor cursor = points.getCursor();
+        for (int i = 0; cursor.next(); i++) {
+            x[i] = cursor.getX();
+            y[i] = cursor.getY();
+        }
+
+        // The first and the last point form buckets on their own, the start indices of the buckets in between are collected
+        int[] bucketStarts = new int[size];
+        int bucketCount = 0;
+        long previousBucket = 0;
+        for (int i = 1; i < size - 1; i++) {
+            long currentBucket = bucket.applyAsLong(x[i]);
+            if (i == 1 || currentBucket != previousBucket) {
+                bucketStarts[bucketCount++] = i;
+                previousBucket = currentBucket;
+            }
+        }
+        if (bucketCount == size - 2) {
+            return points;
+        }
+        bucketStarts = Arrays.copyOf(bucketStarts, bucketCount + 1);
+        bucketStarts[bucketCount] = size - 1;
+
+        PrimitivePointListImpl result = new PrimitivePointListImpl(points.getName(), bucketCount + 2);
+        result.pushBack(x[0], y[0]);
+        int selected = 0;
+        for (int b = 0; b < bucketCount; b++) {
+            // The average of the next bucket, which is the last point for the last bucket
+            int nextStart = bucketStarts[b + 1];
+            int nextEnd = size;
+            if (b + 2 <= bucketCount) {
+                nextEnd = bucketStarts[b + 2];
+            }
+            double averageX = 0;
+            double averageY = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                averageX += x[i];
+                averageY += y[i];
+            }
+            averageX /= nextEnd - nextStart;
+            averageY /= nextEnd - nextStart;
+
+            int best = bucketStarts[b];
+            double bestArea = -1;
+            for (int i = bucketStarts[b]; i < bucketStarts[b + 1]; i++) {
+                // Twice the area of the triangle, which does not matter for the comparison
+                double area = Math.abs((x[selected] - averageX) * (y[i] - y[selected]) - (x[selected] - x[i]) * (averageY - y[selected]));
+                if (area > bestArea) {
+                    bestArea = area;
+                    best = i;
+                }
+            }
+            result.pushBack(x[best], y[best]);
+            selected = best;
+        }
+        result.pushBack(x[size - 1], y[size - 1]);
+        return result;
+    }
+}
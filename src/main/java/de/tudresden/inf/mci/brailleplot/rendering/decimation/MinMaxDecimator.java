@@ -0,0 +1,119 @@
+package de.tudresden.inf.mci.brailleplot.rendering.decimation;
+
+import de.tudresden.inf.mci.brailleplot.datacontainers.PointCursor;
+import de.tudresden.inf.mci.brailleplot.datacontainers.PointList;
+import de.tudresden.inf.mci.brailleplot.datacontainers.PrimitivePointListImpl;
+
+import java.util.Objects;
+import java.util.function.DoubleToLongFunction;
+
+/**
+ * Keeps the first and last point of each bucket and the points with the minimal and maximal y value, in their original
+ * order. A line through the remaining points covers the same vertical range in every bucket and enters and leaves it at
+ * the same points as a line through all points, so if the buckets are the dot columns of a raster, both lines are
+ * rasterized to the same dots.
+ * @author agent
+ * @version 2026.10.18
+ */
+public final class MinMaxDecimator implements Decimator {
+
+    @Override
+    public PointList decimate(final PointList points, final DoubleToLongFunction bucket) {
+        Objects.requireNonNull(points);
+        Objects.requireNonNull(bucket);
+        PrimitivePointListImpl result = new PrimitivePointListImpl(points.getName());
+        PointCursor cursor = points.getCursor();
+        if (!cursor.next()) {
+            return result;
+        }
+
+        Bucket current = new Bucket(bucket.applyAsLong(cursor.getX()), 0, cursor.getX(), cursor.getY());
+        int index = 0;
+        while (cursor.next()) {
+            index++;
+            long nextBucket = bucket.applyAsLong(cursor.getX());
+            if (nextBucket != current.mBucket) {
+                current.addTo(result);
+                current = new Bucket(nextBucket, index, cursor.getX(), cursor.getY());
+            } else {
+                current.add(index, cursor.getX(), cursor.getY());
+            }
+        }
+        current.addTo(result);
+        if (result.getSize() == points.getSize()) {
+            return points;
+        }
+        return result;
+    }
+
+    /**
+     * The selected points of a bucket. The indices keep track of the original order of the points.
+     */
+    private static final class Bucket {
+        private final long mBucket;
+        private final int mFirstIndex;
+        private final double mFirstX;
+        private final double mFirstY;
+        private int mMinIndex;
+        private double mMinX;
+        private double mMinY;
+        private int mMaxIndex;
+        private double mMaxX;
+        private double mMaxY;
+        private int mLastIndex;
+        private double mLastX;
+        private double mLastY;
+
+        Bucket(final long bucket, final int index, final double x, final double y) {
+            mBucket = bucket;
+            mFirstIndex = index;
+            mFirstX = x;
+            mFirstY = y;
+            mMinIndex = index;
+            mMinX = x;
+            mMinY = y;
+            mMaxIndex = index;
+            mMaxX = x;
+            mMaxY = y;
+            mLastIndex = index;
+            mLastX = x;
+            mLastY = y;
+        }
+
+        void add(final int index, final double x, final double y) {
+            if (y < mMinY) {
+                mMinIndex = index;
+                mMinX = x;
+                mMinY = y;
+            } else if (y > mMaxY) {
+                mMaxIndex = index;
+                mMaxX = x;
+                mMaxY = y;
+            }
+            mLastIndex = index;
+            mLastX = x;
+            mLastY = y;
+        }
+
+        void addTo(final PrimitivePointListImpl result) {
+            result.pushBack(mFirstX, mFirstY);
+            int previous = mFirstIndex;
+            if (mMinIndex < mMaxIndex) {
+                previous = addIfNew(result, previous, mMinIndex, mMinX, mMinY);
+                previous = addIfNew(result, previous, mMaxIndex, mMaxX, mMaxY);
+            } else {
+                previous = addIfNew(result, previous, mMaxIndex, mMaxX, mMaxY);
+                previous = addIfNew(result, previous, mMinIndex, mMinX, mMinY);
+            }
+            addIfNew(result, previous, mLastIndex, mLastX, mLastY);
+        }
+
+        private static int addIfNew(final PrimitivePointListImpl result, final int previous, final int index, final double x, final double y) {
+            // The indices are added in ascending order, so a point that was already added has the previous index
+            if (index != previous) {
+                result.pushBack(x, y);
+            }
+            return index;
+        }
+    }
+}
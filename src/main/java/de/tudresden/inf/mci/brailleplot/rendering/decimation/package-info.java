@@ -0,0 +1,4 @@
+/**
+ * This package contains algorithms reducing the number of points of a data series to the resolution of the output medium before it is rendered.
+ */
+package de.tudresden.inf.mci.brailleplot.rendering.decimation;
\ No newline at end of file
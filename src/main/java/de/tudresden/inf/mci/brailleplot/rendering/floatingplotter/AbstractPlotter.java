@@ -4,21 +4,13 @@ import de.tudresden.inf.mci.brailleplot.diagrams.Diagram;
 import de.tudresden.inf.mci.brailleplot.layout.InsufficientRenderingAreaException;
 import de.tudresden.inf.mci.brailleplot.layout.PlotCanvas;
 import de.tudresden.inf.mci.brailleplot.layout.Rectangle;
-import de.tudresden.inf.mci.brailleplot.point.Point2DValued;
 import de.tudresden.inf.mci.brailleplot.printabledata.FloatingPointData;
 import de.tudresden.inf.mci.brailleplot.rendering.BrailleText;
 import de.tudresden.inf.mci.brailleplot.rendering.Legend;
 import de.tudresden.inf.mci.brailleplot.rendering.language.BrailleLanguage;
-import tec.units.ri.quantity.Quantities;
-import tec.units.ri.unit.MetricPrefix;
-
-import javax.measure.Quantity;
-import javax.measure.quantity.Length;
 
 import java.util.Objects;
 
-import static tec.units.ri.unit.Units.METRE;
-
 
 /**
  * Abstract parent class for all plotting algorithms. Provides methods for axis drawing and point adding.
@@ -143,8 +135,8 @@ abstract class AbstractPlotter<T extends Diagram> {
      * Calculates ranges of x and y values as a difference of max and min.
      */
     void calculateRanges() {
-        mXRange = Math.abs(mDiagram.getMaxX() - mDiagram.getMinX());
-        mYRange = Math.abs(mDiagram.getMaxY() - mDiagram.getMinY());
+        mXRange = mDiagram.getStatisticsX().getRange();
+        mYRange = mDiagram.getStatisticsY().getRange();
     }
 
     /**
@@ -163,7 +155,7 @@ abstract class AbstractPlotter<T extends Diagram> {
      * @param y Absolute y-value.
      */
     void addPoint(final double x, final double y) {
-        mData.addPointIfNotExisting(new Point2DValued<Quantity<Length>, Boolean>(Quantities.getQuantity(x, MetricPrefix.MILLI(METRE)), Quantities.getQuantity(y, MetricPrefix.MILLI(METRE)), true));
+        mData.addPointIfNotExisting(x, y, true);
     }
 
     /**
@@ -3,17 +3,10 @@ package de.tudresden.inf.mci.brailleplot.rendering.floatingplotter;
 import de.tudresden.inf.mci.brailleplot.diagrams.Diagram;
 import de.tudresden.inf.mci.brailleplot.layout.InsufficientRenderingAreaException;
 import de.tudresden.inf.mci.brailleplot.layout.Rectangle;
-import de.tudresden.inf.mci.brailleplot.point.Point2DValued;
 import de.tudresden.inf.mci.brailleplot.printabledata.FloatingPointData;
 import de.tudresden.inf.mci.brailleplot.rendering.BrailleText;
 import de.tudresden.inf.mci.brailleplot.rendering.language.BrailleLanguage;
-import tec.units.ri.quantity.Quantities;
-import tec.units.ri.unit.MetricPrefix;
 
-import javax.measure.Quantity;
-import javax.measure.quantity.Length;
-
-import static tec.units.ri.unit.Units.METRE;
 
 /**
  * Abstract class to provide methods for dot plotting. {@link LinePlotter} and {@link ScatterPlotter} extend this class.
@@ -187,10 +180,8 @@ abstract class AbstractPointPlotter<T extends Diagram> extends AbstractPlotter<T
                 double x = mLeftMargin + (i / 2) * mXTickStep;
                 // mirroring for grid on the other side of the paper
                 double newX = mPageWidth - x - marginLeft + marginRight;
-                Point2DValued<Quantity<Length>, Boolean> point = new Point2DValued<Quantity<Length>, Boolean>(Quantities.getQuantity(newX, MetricPrefix.MILLI(METRE)), Quantities.getQuantity(j + 2, MetricPrefix.MILLI(METRE)), true);
-                Point2DValued<Quantity<Length>, Boolean> checkPoint = new Point2DValued<Quantity<Length>, Boolean>(Quantities.getQuantity(mLeftMargin + (i / 2) * mXTickStep, MetricPrefix.MILLI(METRE)), Quantities.getQuantity(j, MetricPrefix.MILLI(METRE)), true);
-                if (!mData.pointExists(checkPoint)) {
-                    grid.addPointIfNotExisting(point);
+                if (!mData.pointExists(mLeftMargin + (i / 2) * mXTickStep, j)) {
+                    grid.addPointIfNotExisting(newX, j + 2, true);
                 }
             }
         }
@@ -200,10 +191,8 @@ abstract class AbstractPointPlotter<T extends Diagram> extends AbstractPlotter<T
             for (double j = mLeftMargin + mStepSize; j <= mPageWidth - mSecondAxis; j += mStepSize) {
                 // mirroring for grid on the other side of the paper
                 double newX = mPageWidth - j - marginLeft + marginRight;
-                Point2DValued<Quantity<Length>, Boolean> point = new Point2DValued<Quantity<Length>, Boolean>(Quantities.getQuantity(newX, MetricPrefix.MILLI(METRE)), Quantities.getQuantity(mBottomMargin - (i / 2) * mYTickStep + 2, MetricPrefix.MILLI(METRE)), true);
-                Point2DValued<Quantity<Length>, Boolean> checkPoint = new Point2DValued<Quantity<Length>, Boolean>(Quantities.getQuantity(j, MetricPrefix.MILLI(METRE)), Quantities.getQuantity(mBottomMargin - (i / 2) * mYTickStep, MetricPrefix.MILLI(METRE)), true);
-                if (!mData.pointExists(checkPoint)) {
-                    grid.addPointIfNotExisting(point);
+                if (!mData.pointExists(j, mBottomMargin - (i / 2) * mYTickStep)) {
+                    grid.addPointIfNotExisting(newX, mBottomMargin - (i / 2) * mYTickStep + 2, true);
                 }
             }
         }
@@ -305,14 +294,14 @@ abstract class AbstractPointPlotter<T extends Diagram> extends AbstractPlotter<T
      * @param yValue Absolute y-value of center.
      */
     void drawDot(final double xValue, final double yValue) {
-        mData.addPoint(new Point2DValued<Quantity<Length>, Boolean>(Quantities.getQuantity(xValue + mCanvas.getDotDiameter() + 1, MetricPrefix.MILLI(METRE)), Quantities.getQuantity(yValue, MetricPrefix.MILLI(METRE)), true));
-        mData.addPoint(new Point2DValued<Quantity<Length>, Boolean>(Quantities.getQuantity(xValue - mCanvas.getDotDiameter() - 1, MetricPrefix.MILLI(METRE)), Quantities.getQuantity(yValue, MetricPrefix.MILLI(METRE)), true));
-        mData.addPoint(new Point2DValued<Quantity<Length>, Boolean>(Quantities.getQuantity(xValue, MetricPrefix.MILLI(METRE)), Quantities.getQuantity(yValue - mCanvas.getDotDiameter() - 1, MetricPrefix.MILLI(METRE)), true));
-        mData.addPoint(new Point2DValued<Quantity<Length>, Boolean>(Quantities.getQuantity(xValue, MetricPrefix.MILLI(METRE)), Quantities.getQuantity(yValue + mCanvas.getDotDiameter() + 1, MetricPrefix.MILLI(METRE)), true));
-        mData.addPoint(new Point2DValued<Quantity<Length>, Boolean>(Quantities.getQuantity(xValue + mCanvas.getDotDiameter() + 1, MetricPrefix.MILLI(METRE)), Quantities.getQuantity(yValue + mCanvas.getDotDiameter() + 1, MetricPrefix.MILLI(METRE)), true));
-        mData.addPoint(new Point2DValued<Quantity<Length>, Boolean>(Quantities.getQuantity(xValue + mCanvas.getDotDiameter() + 1, MetricPrefix.MILLI(METRE)), Quantities.getQuantity(yValue - mCanvas.getDotDiameter() - 1, MetricPrefix.MILLI(METRE)), true));
-        mData.addPoint(new Point2DValued<Quantity<Length>, Boolean>(Quantities.getQuantity(xValue - mCanvas.getDotDiameter() - 1, MetricPrefix.MILLI(METRE)), Quantities.getQuantity(yValue + mCanvas.getDotDiameter() + 1, MetricPrefix.MILLI(METRE)), true));
-        mData.addPoint(new Point2DValued<Quantity<Length>, Boolean>(Quantities.getQuantity(xValue - mCanvas.getDotDiameter() - 1, MetricPrefix.MILLI(METRE)), Quantities.getQuantity(yValue - mCanvas.getDotDiameter() - 1, MetricPrefix.MILLI(METRE)), true));
+        mData.addPoint(xValue + mCanvas.getDotDiameter() + 1, yValue, true);
+        mData.addPoint(xValue - mCanvas.getDotDiameter() - 1, yValue, true);
+        mData.addPoint(xValue, yValue - mCanvas.getDotDiameter() - 1, true);
+        mData.addPoint(xValue, yValue + mCanvas.getDotDiameter() + 1, true);
+        mData.addPoint(xValue + mCanvas.getDotDiameter() + 1, yValue + mCanvas.getDotDiameter() + 1, true);
+        mData.addPoint(xValue + mCanvas.getDotDiameter() + 1, yValue - mCanvas.getDotDiameter() - 1, true);
+        mData.addPoint(xValue - mCanvas.getDotDiameter() - 1, yValue + mCanvas.getDotDiameter() + 1, true);
+        mData.addPoint(xValue - mCanvas.getDotDiameter() - 1, yValue - mCanvas.getDotDiameter() - 1, true);
     }
 
     /**
@@ -321,21 +310,21 @@ abstract class AbstractPointPlotter<T extends Diagram> extends AbstractPlotter<T
      * @param yValue Absolute y-value of center.
      */
     void drawX(final double xValue, final double yValue) {
-        mData.addPoint(new Point2DValued<Quantity<Length>, Boolean>(Quantities.getQuantity(xValue + mCanvas.getDotDiameter(), MetricPrefix.MILLI(METRE)), Quantities.getQuantity(yValue + mCanvas.getDotDiameter(), MetricPrefix.MILLI(METRE)), true));
-        mData.addPoint(new Point2DValued<Quantity<Length>, Boolean>(Quantities.getQuantity(xValue + 2 * mCanvas.getDotDiameter(), MetricPrefix.MILLI(METRE)), Quantities.getQuantity(yValue + 2 * mCanvas.getDotDiameter(), MetricPrefix.MILLI(METRE)), true));
-        mData.addPoint(new Point2DValued<Quantity<Length>, Boolean>(Quantities.getQuantity(xValue + THREE * mCanvas.getDotDiameter(), MetricPrefix.MILLI(METRE)), Quantities.getQuantity(yValue + THREE * mCanvas.getDotDiameter(), MetricPrefix.MILLI(METRE)), true));
+        mData.addPoint(xValue + mCanvas.getDotDiameter(), yValue + mCanvas.getDotDiameter(), true);
+        mData.addPoint(xValue + 2 * mCanvas.getDotDiameter(), yValue + 2 * mCanvas.getDotDiameter(), true);
+        mData.addPoint(xValue + THREE * mCanvas.getDotDiameter(), yValue + THREE * mCanvas.getDotDiameter(), true);
 
-        mData.addPoint(new Point2DValued<Quantity<Length>, Boolean>(Quantities.getQuantity(xValue - mCanvas.getDotDiameter(), MetricPrefix.MILLI(METRE)), Quantities.getQuantity(yValue - mCanvas.getDotDiameter(), MetricPrefix.MILLI(METRE)), true));
-        mData.addPoint(new Point2DValued<Quantity<Length>, Boolean>(Quantities.getQuantity(xValue - 2 * mCanvas.getDotDiameter(), MetricPrefix.MILLI(METRE)), Quantities.getQuantity(yValue - 2 * mCanvas.getDotDiameter(), MetricPrefix.MILLI(METRE)), true));
-        mData.addPoint(new Point2DValued<Quantity<Length>, Boolean>(Quantities.getQuantity(xValue - THREE * mCanvas.getDotDiameter(), MetricPrefix.MILLI(METRE)), Quantities.getQuantity(yValue - THREE * mCanvas.getDotDiameter(), MetricPrefix.MILLI(METRE)), true));
+        mData.addPoint(xValue - mCanvas.getDotDiameter(), yValue - mCanvas.getDotDiameter(), true);
+        mData.addPoint(xValue - 2 * mCanvas.getDotDiameter(), yValue - 2 * mCanvas.getDotDiameter(), true);
+        mData.addPoint(xValue - THREE * mCanvas.getDotDiameter(), yValue - THREE * mCanvas.getDotDiameter(), true);
 
-        mData.addPoint(new Point2DValued<Quantity<Length>, Boolean>(Quantities.getQuantity(xValue + mCanvas.getDotDiameter(), MetricPrefix.MILLI(METRE)), Quantities.getQuantity(yValue - mCanvas.getDotDiameter(), MetricPrefix.MILLI(METRE)), true));
-        mData.addPoint(new Point2DValued<Quantity<Length>, Boolean>(Quantities.getQuantity(xValue + 2 * mCanvas.getDotDiameter(), MetricPrefix.MILLI(METRE)), Quantities.getQuantity(yValue - 2 * mCanvas.getDotDiameter(), MetricPrefix.MILLI(METRE)), true));
-        mData.addPoint(new Point2DValued<Quantity<Length>, Boolean>(Quantities.getQuantity(xValue + THREE * mCanvas.getDotDiameter(), MetricPrefix.MILLI(METRE)), Quantities.getQuantity(yValue - THREE * mCanvas.getDotDiameter(), MetricPrefix.MILLI(METRE)), true));
+        mData.addPoint(xValue + mCanvas.getDotDiameter(), yValue - mCanvas.getDotDiameter(), true);
+        mData.addPoint(xValue + 2 * mCanvas.getDotDiameter(), yValue - 2 * mCanvas.getDotDiameter(), true);
+        mData.addPoint(xValue + THREE * mCanvas.getDotDiameter(), yValue - THREE * mCanvas.getDotDiameter(), true);
 
-        mData.addPoint(new Point2DValued<Quantity<Length>, Boolean>(Quantities.getQuantity(xValue - mCanvas.getDotDiameter(), MetricPrefix.MILLI(METRE)), Quantities.getQuantity(yValue + mCanvas.getDotDiameter(), MetricPrefix.MILLI(METRE)), true));
-        mData.addPoint(new Point2DValued<Quantity<Length>, Boolean>(Quantities.getQuantity(xValue - 2 * mCanvas.getDotDiameter(), MetricPrefix.MILLI(METRE)), Quantities.getQuantity(yValue + 2 * mCanvas.getDotDiameter(), MetricPrefix.MILLI(METRE)), true));
-        mData.addPoint(new Point2DValued<Quantity<Length>, Boolean>(Quantities.getQuantity(xValue - THREE * mCanvas.getDotDiameter(), MetricPrefix.MILLI(METRE)), Quantities.getQuantity(yValue + THREE * mCanvas.getDotDiameter(), MetricPrefix.MILLI(METRE)), true));
+        mData.addPoint(xValue - mCanvas.getDotDiameter(), yValue + mCanvas.getDotDiameter(), true);
+        mData.addPoint(xValue - 2 * mCanvas.getDotDiameter(), yValue + 2 * mCanvas.getDotDiameter(), true);
+        mData.addPoint(xValue - THREE * mCanvas.getDotDiameter(), yValue + THREE * mCanvas.getDotDiameter(), true);
     }
 
     /**
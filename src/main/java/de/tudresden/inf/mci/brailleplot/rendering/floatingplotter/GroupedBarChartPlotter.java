@@ -6,18 +6,12 @@ import de.tudresden.inf.mci.brailleplot.layout.InsufficientRenderingAreaExceptio
 import de.tudresden.inf.mci.brailleplot.layout.PlotCanvas;
 import de.tudresden.inf.mci.brailleplot.layout.Rectangle;
 import de.tudresden.inf.mci.brailleplot.point.Point2DDouble;
-import de.tudresden.inf.mci.brailleplot.point.Point2DValued;
 import de.tudresden.inf.mci.brailleplot.printabledata.FloatingPointData;
 import de.tudresden.inf.mci.brailleplot.rendering.BrailleText;
 import de.tudresden.inf.mci.brailleplot.rendering.language.BrailleLanguage;
-import tec.units.ri.quantity.Quantities;
-import tec.units.ri.unit.MetricPrefix;
 
-import javax.measure.Quantity;
-import javax.measure.quantity.Length;
 import java.util.Iterator;
 
-import static tec.units.ri.unit.Units.METRE;
 
 /**
  * Provides a plotting algorithm for grouped bar chart data.
@@ -225,10 +219,8 @@ public final class GroupedBarChartPlotter extends AbstractBarChartPlotter implem
                         double x = mLeftMargin + (i / 2) * mXTickStep;
                         // mirroring for grid on the other side of the paper
                         double newX = mPageWidth - x - marginLeft + marginRight;
-                        Point2DValued<Quantity<Length>, Boolean> point = new Point2DValued<Quantity<Length>, Boolean>(Quantities.getQuantity(newX, MetricPrefix.MILLI(METRE)), Quantities.getQuantity(j + 2, MetricPrefix.MILLI(METRE)), true);
-                        Point2DValued<Quantity<Length>, Boolean> checkPoint = new Point2DValued<Quantity<Length>, Boolean>(Quantities.getQuantity(mLeftMargin + (i / 2) * mXTickStep, MetricPrefix.MILLI(METRE)), Quantities.getQuantity(j, MetricPrefix.MILLI(METRE)), true);
-                        if (!mData.pointExists(checkPoint)) {
-                            grid.addPointIfNotExisting(point);
+                        if (!mData.pointExists(mLeftMargin + (i / 2) * mXTickStep, j)) {
+                            grid.addPointIfNotExisting(newX, j + 2, true);
                         }
                         continue loop;
                     }
@@ -238,10 +230,8 @@ public final class GroupedBarChartPlotter extends AbstractBarChartPlotter implem
                         double x = mLeftMargin + (i / 2) * mXTickStep;
                         // mirroring for grid on the other side of the paper
                         double newX = mPageWidth - x - marginLeft + marginRight;
-                        Point2DValued<Quantity<Length>, Boolean> point = new Point2DValued<Quantity<Length>, Boolean>(Quantities.getQuantity(newX, MetricPrefix.MILLI(METRE)), Quantities.getQuantity(j + 2, MetricPrefix.MILLI(METRE)), true);
-                        Point2DValued<Quantity<Length>, Boolean> checkPoint = new Point2DValued<Quantity<Length>, Boolean>(Quantities.getQuantity(mLeftMargin + (i / 2) * mXTickStep, MetricPrefix.MILLI(METRE)), Quantities.getQuantity(j, MetricPrefix.MILLI(METRE)), true);
-                        if (!mData.pointExists(checkPoint)) {
-                            grid.addPointIfNotExisting(point);
+                        if (!mData.pointExists(mLeftMargin + (i / 2) * mXTickStep, j)) {
+                            grid.addPointIfNotExisting(newX, j + 2, true);
                         }
                         continue loop;
                     }
@@ -259,10 +249,8 @@ public final class GroupedBarChartPlotter extends AbstractBarChartPlotter implem
                                         double x = mLeftMargin + (i / 2) * mXTickStep;
                                         // mirroring for grid on the other side of the paper
                                         double newX = mPageWidth - x - marginLeft + marginRight;
-                                        Point2DValued<Quantity<Length>, Boolean> point = new Point2DValued<Quantity<Length>, Boolean>(Quantities.getQuantity(newX, MetricPrefix.MILLI(METRE)), Quantities.getQuantity(j + 2, MetricPrefix.MILLI(METRE)), true);
-                                        Point2DValued<Quantity<Length>, Boolean> checkPoint = new Point2DValued<Quantity<Length>, Boolean>(Quantities.getQuantity(mLeftMargin + (i / 2) * mXTickStep, MetricPrefix.MILLI(METRE)), Quantities.getQuantity(j, MetricPrefix.MILLI(METRE)), true);
-                                        if (!mData.pointExists(checkPoint)) {
-                                            grid.addPointIfNotExisting(point);
+                                        if (!mData.pointExists(mLeftMargin + (i / 2) * mXTickStep, j)) {
+                                            grid.addPointIfNotExisting(newX, j + 2, true);
                                         }
                                     }
                                 } else {
@@ -270,10 +258,8 @@ public final class GroupedBarChartPlotter extends AbstractBarChartPlotter implem
                                         double x = mLeftMargin + (i / 2) * mXTickStep;
                                         // mirroring for grid on the other side of the paper
                                         double newX = mPageWidth - x - marginLeft + marginRight;
-                                        Point2DValued<Quantity<Length>, Boolean> point = new Point2DValued<Quantity<Length>, Boolean>(Quantities.getQuantity(newX, MetricPrefix.MILLI(METRE)), Quantities.getQuantity(j + 2, MetricPrefix.MILLI(METRE)), true);
-                                        Point2DValued<Quantity<Length>, Boolean> checkPoint = new Point2DValued<Quantity<Length>, Boolean>(Quantities.getQuantity(mLeftMargin + (i / 2) * mXTickStep, MetricPrefix.MILLI(METRE)), Quantities.getQuantity(j, MetricPrefix.MILLI(METRE)), true);
-                                        if (!mData.pointExists(checkPoint)) {
-                                            grid.addPointIfNotExisting(point);
+                                        if (!mData.pointExists(mLeftMargin + (i / 2) * mXTickStep, j)) {
+                                            grid.addPointIfNotExisting(newX, j + 2, true);
                                         }
                                     }
                                 }
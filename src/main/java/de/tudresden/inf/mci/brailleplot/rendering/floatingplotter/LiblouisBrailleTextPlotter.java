@@ -5,25 +5,14 @@ import de.tudresden.inf.mci.brailleplot.configparser.Printer;
 import de.tudresden.inf.mci.brailleplot.layout.InsufficientRenderingAreaException;
 import de.tudresden.inf.mci.brailleplot.layout.PlotCanvas;
 import de.tudresden.inf.mci.brailleplot.layout.Rectangle;
-import de.tudresden.inf.mci.brailleplot.point.Point2DValued;
 import de.tudresden.inf.mci.brailleplot.printabledata.FloatingPointData;
 import de.tudresden.inf.mci.brailleplot.printerbackend.NotSupportedFileExtensionException;
 import de.tudresden.inf.mci.brailleplot.rendering.BrailleText;
-import de.tudresden.inf.mci.brailleplot.util.GeneralResource;
-import org.liblouis.DisplayException;
-import org.liblouis.DisplayTable;
-import org.liblouis.TranslationException;
-import org.liblouis.TranslationResult;
-import org.liblouis.Translator;
-import tec.units.ri.quantity.Quantities;
-import tec.units.ri.unit.MetricPrefix;
-
-import javax.measure.Quantity;
-import javax.measure.quantity.Length;
-import java.io.File;
+import de.tudresden.inf.mci.brailleplot.rendering.BrailleTranslation;
+import de.tudresden.inf.mci.brailleplot.rendering.LiblouisTranslatorCache;
+
 import java.util.Objects;
 
-import static tec.units.ri.unit.Units.METRE;
 
 /**
  * Class representing a brailletextplotting approach using the liblouis library.
@@ -34,13 +23,11 @@ public class LiblouisBrailleTextPlotter implements Plotter<BrailleText> {
 
     private FloatingPointData<Boolean> mData;
     private AbstractBrailleTableParser mParser;
-    private Translator mTranslator;
 
     // constant
     private static final int ITERATORSCALE = 3;
 
-    // translator needs whole table directory, therefore it is exported one time at start (static resource).
-    private static File mLibLouisTableDirectory = GeneralResource.getOrExportResourceFile("mapping/liblouis/");
+    private final LiblouisTranslatorCache mTranslatorCache = LiblouisTranslatorCache.getInstance();
 
     /**
      * Constructor for liblouistextplotter.
@@ -54,13 +41,8 @@ public class LiblouisBrailleTextPlotter implements Plotter<BrailleText> {
         } catch (NotSupportedFileExtensionException e) {
             throw new RuntimeException(e);
         }
-        try {
-            File tableFile = mLibLouisTableDirectory.toPath().resolve("de-g0.utb").toFile(); // reference to specific table file in exported directory
-            String tableFilePath = tableFile.getAbsolutePath();
-            mTranslator = new Translator(tableFilePath);
-        } catch (Exception e) {
-            throw new RuntimeException(e.getCause());
-        }
+        // Load the default table eagerly, so a missing table is reported on construction.
+        mTranslatorCache.getTranslator("de-g0.utb");
     }
 
 
@@ -80,25 +62,8 @@ public class LiblouisBrailleTextPlotter implements Plotter<BrailleText> {
             return 0;
         }
 
-        try {
-            File tableFile = mLibLouisTableDirectory.toPath().resolve(data.getLanguage()).toFile(); // reference to specific table file in exported directory
-            String tableFilePath = tableFile.getAbsolutePath();
-            mTranslator = new Translator(tableFilePath);
-        } catch (Exception e) {
-            throw new RuntimeException("Error while creating liblouis translator", e);
-        }
-
         Rectangle rect = data.getArea();
-        TranslationResult result = null;
-        try {
-            result = mTranslator.translate(data.getText(), null, null, null, DisplayTable.StandardDisplayTables.DEFAULT);
-        } catch (TranslationException e) {
-            e.printStackTrace();
-        } catch (DisplayException e) {
-            e.printStackTrace();
-        }
-        assert result != null;
-        String[] resultAsArray = result.getBraille().split("");
+        BrailleTranslation translation = mTranslatorCache.getTranslation(data.getLanguage(), data.getText(), mParser);
 
         double startX = rect.getX();
         double startY = rect.getY();
@@ -108,12 +73,10 @@ public class LiblouisBrailleTextPlotter implements Plotter<BrailleText> {
         double last = startX;
         mData = canvas.getCurrentPage();
 
-        for (int k = 0; k < resultAsArray.length; k++) {
-            String[] braille = mParser.getCharToBraille(resultAsArray[k]).split("");
-
+        for (int k = 0; k < translation.length(); k++) {
             for (int i = 0; i < 2; i++) {
                 for (int j = 0; j <= 2; j++) {
-                    if (braille[ITERATORSCALE * i + j].equals("1")) {
+                    if (translation.isDotSet(k, ITERATORSCALE * i + j)) {
                         addPointByValues(startX + i * widthJump + k * cellJump, startY + j * heightJump);
                         last = startX + k * cellJump;
                     }
@@ -131,7 +94,7 @@ public class LiblouisBrailleTextPlotter implements Plotter<BrailleText> {
      * @param y Absolute y-value.
      */
     private void addPointByValues(final double x, final double y) {
-        mData.addPointIfNotExisting(new Point2DValued<Quantity<Length>, Boolean>(Quantities.getQuantity(x, MetricPrefix.MILLI(METRE)), Quantities.getQuantity(y, MetricPrefix.MILLI(METRE)), true));
+        mData.addPointIfNotExisting(x, y, true);
     }
 
 }
@@ -1,16 +1,21 @@
 package de.tudresden.inf.mci.brailleplot.rendering.floatingplotter;
 
+import de.tudresden.inf.mci.brailleplot.datacontainers.PointCursor;
 import de.tudresden.inf.mci.brailleplot.datacontainers.PointList;
 import de.tudresden.inf.mci.brailleplot.datacontainers.PointListContainer;
+import de.tudresden.inf.mci.brailleplot.datacontainers.PrimitivePointListImpl;
 import de.tudresden.inf.mci.brailleplot.diagrams.LineChart;
 import de.tudresden.inf.mci.brailleplot.layout.InsufficientRenderingAreaException;
 import de.tudresden.inf.mci.brailleplot.layout.PlotCanvas;
-import de.tudresden.inf.mci.brailleplot.point.Point2DDouble;
 import de.tudresden.inf.mci.brailleplot.rendering.Legend;
+import de.tudresden.inf.mci.brailleplot.rendering.decimation.DecimationMethod;
+import de.tudresden.inf.mci.brailleplot.rendering.decimation.Decimator;
+import de.tudresden.inf.mci.brailleplot.rendering.decimation.DensityGrid;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.function.DoubleUnaryOperator;
 
 /**
  * Provides a plotting algorithm for line plot data.
@@ -41,6 +46,7 @@ public final class LinePlotter extends AbstractPointPlotter<LineChart> implement
         mStepSize = mCanvas.getDotDiameter() + 1;
         mGrid = mCanvas.getGrid();
         mDotFrame = mCanvas.getDotFrame();
+        Decimator decimator = DecimationMethod.getDecimator(mCanvas.getRepresentation());
 
         checkResolution();
         calculateRanges();
@@ -65,46 +71,38 @@ public final class LinePlotter extends AbstractPointPlotter<LineChart> implement
         for (int i = 0; i < bigList.getSize(); i++) {
             if (bigListIt.hasNext()) {
                 PointList smallList = bigListIt.next();
-                Iterator<Point2DDouble> smallListIt = smallList.iterator();
                 if (mFrames) {
                     mLegend.addSymbolExplanation("frames", Integer.toString(i), smallList.getName());
                 }
                 mLegend.addSymbolExplanation("lines", Integer.toString(i), smallList.getName());
-                for (int j = 0; j < smallList.getSize(); j++) {
-                    if (smallListIt.hasNext()) {
-                        Point2DDouble point = smallListIt.next();
-                        double xValue = calculateXValue(point.getX());
-                        double yValue = calculateYValue(point.getY());
-                        drawPoint(xValue, yValue, i);
-                    }
+                PointCursor points = getSymbolPositions(smallList, this::calculateXValue, this::calculateYValue, mResolution).getCursor();
+                while (points.next()) {
+                    drawPoint(points.getX(), points.getY(), i);
                 }
 
                 // draw lines
-                smallList = smallList.sortXAscend();
-                Iterator<Point2DDouble> pointIt = smallList.iterator();
-                Point2DDouble currentPoint = pointIt.next();
+                // Line segments shorter than the resolution of the printer can not be told apart, so most of them can be
+                // skipped.
+                smallList = decimator.decimate(smallList.sortXAscend(), x -> (long) Math.floor(calculateXValue(x) / mResolution));
+                PointCursor pointCursor = smallList.getCursor();
+                if (!pointCursor.next()) {
+                    throw new NoSuchElementException();
+                }
 
-                double currentX = currentPoint.getX();
-                double currentY = currentPoint.getY();
+                double currentX = pointCursor.getX();
+                double currentY = pointCursor.getY();
                 double nextX;
                 double nextY;
-                boolean done = false;
-
-                while (!done) {
 
-                    if (pointIt.hasNext()) {
-                        Point2DDouble nextPoint = pointIt.next();
-                        nextX = nextPoint.getX();
-                        nextY = nextPoint.getY();
+                while (pointCursor.next()) {
+                    nextX = pointCursor.getX();
+                    nextY = pointCursor.getY();
 
-                        //drawing
-                        drawLines(calculateXValue(currentX), calculateXValue(nextX), calculateYValue(currentY), calculateYValue(nextY), i);
+                    //drawing
+                    drawLines(calculateXValue(currentX), calculateXValue(nextX), calculateYValue(currentY), calculateYValue(nextY), i);
 
-                        currentX = nextX;
-                        currentY = nextY;
-                    } else {
-                        done = true;
-                    }
+                    currentX = nextX;
+                    currentY = nextY;
                 }
 
             }
@@ -119,6 +117,59 @@ public final class LinePlotter extends AbstractPointPlotter<LineChart> implement
 
     }
 
+    /**
+     * Selects the positions of the point symbols of a data series. Symbols closer than the resolution of the printer
+     * can not be told apart, so only the first point of each cell of a grid with the resolution as cell size gets a
+     * symbol. The number of symbols is bounded by the number of cells covered by the series, no matter how many points
+     * it has.
+     * @param points The data series.
+     * @param toPaperX Maps an x value to the absolute x-coordinate on the paper.
+     * @param toPaperY Maps a y value to the absolute y-coordinate on the paper.
+     * @param resolution The resolution of the printer.
+     * @return The absolute positions of the symbols, in the order of the data series.
+     */
+    static PointList getSymbolPositions(final PointList points, final DoubleUnaryOperator toPaperX,
+                                        final DoubleUnaryOperator toPaperY, final double resolution) {
+        PrimitivePointListImpl positions = new PrimitivePointListImpl();
+        if (points.getSize() == 0) {
+            return positions;
+        }
+        final double minX = toPaperX.applyAsDouble(points.getMinX());
+        final double maxX = toPaperX.applyAsDouble(points.getMaxX());
+        final double minY = toPaperY.applyAsDouble(points.getMinY());
+        final double maxY = toPaperY.applyAsDouble(points.getMaxY());
+        final double left = Math.min(minX, maxX);
+        final double top = Math.min(minY, maxY);
+        final int columns = toCell(Math.max(minX, maxX), left, resolution, Integer.MAX_VALUE) + 1;
+        final int rows = toCell(Math.max(minY, maxY), top, resolution, Integer.MAX_VALUE) + 1;
+        DensityGrid drawn = new DensityGrid(columns, rows, false);
+        PointCursor cursor = points.getCursor();
+        while (cursor.next()) {
+            double x = toPaperX.applyAsDouble(cursor.getX());
+            double y = toPaperY.applyAsDouble(cursor.getY());
+            int column = toCell(x, left, resolution, columns - 1);
+            int row = toCell(y, top, resolution, rows - 1);
+            if (!drawn.isOccupied(column, row)) {
+                drawn.add(column, row);
+                positions.pushBack(x, y);
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Calculates the cell of an absolute coordinate in a grid with the resolution as cell size.
+     * @param value Absolute coordinate.
+     * @param origin Absolute coordinate of the first cell.
+     * @param resolution The cell size.
+     * @param maxCell The last cell, values beyond are put into it.
+     * @return The cell.
+     */
+    private static int toCell(final double value, final double origin, final double resolution, final int maxCell) {
+        double cell = Math.floor((value - origin) / resolution);
+        return (int) Math.max(0, Math.min(maxCell, cell));
+    }
+
     /**
      * Calculates line parameters and chooses the line style according to i.
      * @param currentX Absolue x-coordinate of the starting point.
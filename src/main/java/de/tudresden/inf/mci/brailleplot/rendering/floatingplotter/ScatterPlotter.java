@@ -5,8 +5,8 @@ import de.tudresden.inf.mci.brailleplot.datacontainers.PointListContainer;
 import de.tudresden.inf.mci.brailleplot.diagrams.ScatterPlot;
 import de.tudresden.inf.mci.brailleplot.layout.InsufficientRenderingAreaException;
 import de.tudresden.inf.mci.brailleplot.layout.PlotCanvas;
-import de.tudresden.inf.mci.brailleplot.point.Point2DDouble;
 import de.tudresden.inf.mci.brailleplot.rendering.Legend;
+import de.tudresden.inf.mci.brailleplot.rendering.decimation.DensityGrid;
 
 import java.util.Iterator;
 import java.util.Objects;
@@ -53,21 +53,23 @@ public final class ScatterPlotter extends AbstractPointPlotter<ScatterPlot> impl
         nameTitle();
 
         // draw points and frames
+        // Points closer than the resolution of the printer can not be told apart, so the points are binned into a grid
+        // with the resolution as bin size first
         PointListContainer<PointList> bigList = mDiagram.getDataSet();
+        final double left = Math.min(calculateXValue(bigList.getMinX()), calculateXValue(bigList.getMaxX()));
+        final double top = Math.min(calculateYValue(bigList.getMinY()), calculateYValue(bigList.getMaxY()));
+        final int columns = toBin(Math.max(calculateXValue(bigList.getMinX()), calculateXValue(bigList.getMaxX())), left, Integer.MAX_VALUE) + 1;
+        final int rows = toBin(Math.max(calculateYValue(bigList.getMinY()), calculateYValue(bigList.getMaxY())), top, Integer.MAX_VALUE) + 1;
         Iterator<PointList> bigListIt = bigList.iterator();
 
         for (int i = 0; i < bigList.getSize(); i++) {
             if (bigListIt.hasNext()) {
                 PointList smallList = bigListIt.next();
                 mLegend.addSymbolExplanation("frames", Integer.toString(i), smallList.getName());
-                Iterator<Point2DDouble> smallListIt = smallList.iterator();
-                for (int j = 0; j < smallList.getSize(); j++) {
-                    if (smallListIt.hasNext()) {
-                        Point2DDouble point = smallListIt.next();
-                        double xValue = calculateXValue(point.getX());
-                        double yValue = calculateYValue(point.getY());
-                        drawPoint(xValue, yValue, i);
-                    }
+                DensityGrid grid = DensityGrid.bin(smallList, columns, rows,
+                    x -> toBin(calculateXValue(x), left, columns - 1), y -> toBin(calculateYValue(y), top, rows - 1), false);
+                for (int bin = grid.nextOccupiedBin(0); bin >= 0; bin = grid.nextOccupiedBin(bin + 1)) {
+                    drawPoint(left + grid.getColumn(bin) * mResolution, top + grid.getRow(bin) * mResolution, i);
                 }
             }
         }
@@ -81,4 +83,15 @@ public final class ScatterPlotter extends AbstractPointPlotter<ScatterPlot> impl
 
     }
 
+    /**
+     * Calculates the bin of an absolute coordinate in a grid with the resolution as bin size.
+     * @param value Absolute coordinate.
+     * @param origin Absolute coordinate of the first bin.
+     * @param maxBin The last bin, values beyond are put into it.
+     * @return The bin.
+     */
+    private int toBin(final double value, final double origin, final int maxBin) {
+        double bin = Math.floor((value - origin) / mResolution);
+        return (int) Math.max(0, Math.min(maxBin, bin));
+    }
 }
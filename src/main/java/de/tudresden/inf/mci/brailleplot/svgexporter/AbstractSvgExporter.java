@@ -23,7 +23,7 @@ import java.util.Objects;
  * @param <T> The type of the Abstract Canvas that is used.
  * @param <U> The type of the {@link PrintableData} that is used.
  * @author Georg Graßnick
- * @version 2019.08.20
+ * @version 2026.10.18
  */
 abstract class AbstractSvgExporter<T extends AbstractCanvas, U extends PrintableData> implements SvgExporter<T> {
 
@@ -47,6 +47,27 @@ abstract class AbstractSvgExporter<T extends AbstractCanvas, U extends Printable
     // the cast for the first parameter of renderPage() is safe.
     @SuppressWarnings("unchecked")
     public void render() {
+        ListIterator it = mCanvas.getPageIterator();
+        while (it.hasNext()) {
+            SVGGraphics2D svg = createSvg();
+            mSvgs.add(svg);
+            renderPage((((U) it.next())), svg);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void renderAndDump(final PrintableData page, final String filePath) throws IOException {
+        Objects.requireNonNull(page);
+        Objects.requireNonNull(filePath);
+        SVGGraphics2D svg = createSvg();
+        renderPage((U) page, svg);
+        try (FileOutputStream fs = new FileOutputStream(filePath)) {
+            write(svg, fs);
+        }
+    }
+
+    private SVGGraphics2D createSvg() {
         final int docWidth = (int) Math.ceil(mCanvas.getPageWidth());
         final int docHeight = (int) Math.ceil(mCanvas.getPageHeight());
 
@@ -54,28 +75,25 @@ abstract class AbstractSvgExporter<T extends AbstractCanvas, U extends Printable
         final int viewBoxHeight = docHeight * SCALE_FACTOR;
         mViewBox = new ViewBox(0, 0, viewBoxWidth, viewBoxHeight);
 
-        ListIterator it = mCanvas.getPageIterator();
-        int idx = 0;
-        while (it.hasNext()) {
-            SVGGraphics2D svg = new SVGGraphics2D(docWidth, docHeight, SVGUnits.MM);
-
-            svg.setBackground(Color.WHITE);
-            svg.clearRect(0, 0, Integer.MAX_VALUE, Integer.MAX_VALUE);
-            svg.setStroke(new BasicStroke(STROKE_WIDTH));
-            mSvgs.add(svg);
-            mLogger.debug("Created SVG with StrokeWitdh {}, ScaleFactor {}, DocumentWidth {}mm, DocumentHeight {}mm, ViewPort: ({},{})", STROKE_WIDTH, SCALE_FACTOR, docWidth, docHeight, viewBoxWidth, viewBoxHeight);
+        SVGGraphics2D svg = new SVGGraphics2D(docWidth, docHeight, SVGUnits.MM);
+        svg.setBackground(Color.WHITE);
+        svg.clearRect(0, 0, Integer.MAX_VALUE, Integer.MAX_VALUE);
+        svg.setStroke(new BasicStroke(STROKE_WIDTH));
+        mLogger.debug("Created SVG with StrokeWitdh {}, ScaleFactor {}, DocumentWidth {}mm, DocumentHeight {}mm, ViewPort: ({},{})", STROKE_WIDTH, SCALE_FACTOR, docWidth, docHeight, viewBoxWidth, viewBoxHeight);
+        return svg;
+    }
 
-            renderPage((((U) it.next())), idx++);
-        }
+    private void write(final SVGGraphics2D svg, final OutputStream os) throws IOException {
+        final String doc = svg.getSVGElement(null, true, mViewBox, null, null);
+        mLogger.trace("Start dumping file to stream ...");
+        os.write(doc.getBytes());
+        mLogger.trace("Finished dumping file to stream");
     }
 
     @Override
     public void dump(final OutputStream os, final int dataIndex) throws IOException {
         Objects.requireNonNull(os);
-        final String doc = mSvgs.get(dataIndex).getSVGElement(null, true, mViewBox, null, null);
-        mLogger.trace("Start dumping file to stream ...");
-        os.write(doc.getBytes());
-        mLogger.trace("Finished dumping file to stream");
+        write(mSvgs.get(dataIndex), os);
     }
 
     @Override
@@ -94,5 +112,5 @@ abstract class AbstractSvgExporter<T extends AbstractCanvas, U extends Printable
         }
     }
 
-    protected abstract void renderPage(U mat, int dataIndex);
+    protected abstract void renderPage(U mat, SVGGraphics2D svg);
 }
@@ -1,6 +1,7 @@
 package de.tudresden.inf.mci.brailleplot.svgexporter;
 
 import de.tudresden.inf.mci.brailleplot.layout.AbstractCanvas;
+import de.tudresden.inf.mci.brailleplot.printabledata.PrintableData;
 
 import java.io.IOException;
 import java.io.OutputStream;
@@ -9,7 +10,7 @@ import java.io.OutputStream;
  * Interface for all classes that support exporting PrintableData to SVG files.
  * @param <T> The type of the supported PrintableData.
  * @author Georg Graßnick
- * @version 2019.08.16
+ * @version 2026.10.18
  */
 public interface SvgExporter<T extends AbstractCanvas> {
 
@@ -18,6 +19,15 @@ public interface SvgExporter<T extends AbstractCanvas> {
      */
     void render();
 
+    /**
+     * Render a single page and write it to a file right away, without keeping the rendered SVG.
+     * Used for exporting pages one by one while the document is still being rendered.
+     * @param page The page to render. Must be of the type of the pages of the canvas.
+     * @param filePath The path to dump the file at.
+     * @throws IOException on any IO related issues.
+     */
+    void renderAndDump(PrintableData page, String filePath) throws IOException;
+
     /**
      * Dump a specific rendered SVG to an output stream.
      * @param os The stream to dump the SVG to.
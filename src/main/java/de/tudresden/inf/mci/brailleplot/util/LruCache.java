@@ -0,0 +1,198 @@
+package de.tudresden.inf.mci.brailleplot.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.function.Function;
+
+/**
+ * A simple, thread safe cache with a bounded number of entries.
+ * If the cache is full, the least recently used entry is evicted.
+ * Each entry holds a {@link FutureTask} computing its value. The entries are only locked while they are looked up or
+ * modified, the values are computed outside of the lock. So a value is only loaded once per key, even if multiple
+ * threads request it at the same time, while loading a value does not block requests for other keys.
+ * @param <K> The type of the keys.
+ * @param <V> The type of the cached values.
+ * @author agent
+ * @version 2026.10.18
+ */
+public final class LruCache<K, V> {
+
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final int mCapacity;
+    private final LinkedHashMap<K, FutureTask<V>> mEntries;
+    private long mHits = 0;
+    private long mMisses = 0;
+
+    /**
+     * Constructor.
+     * @param capacity The maximum number of entries held by the cache.
+     * @throws IllegalArgumentException If capacity {@literal <}= 0.
+     */
+    public LruCache(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity of the cache must be a positive integer");
+        }
+        mCapacity = capacity;
+        mEntries = new LinkedHashMap<>(capacity, LOAD_FACTOR, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<K, FutureTask<V>> eldest) {
+                return size() > mCapacity;
+            }
+        };
+    }
+
+    /**
+     * Get the value for the given key. If it is not yet cached, it is created by the given loader and added to the cache.
+     * If another thread is already loading the value, the call waits for it instead of loading it again.
+     * If the loader throws an exception, nothing is cached and the exception is rethrown to all waiting callers.
+     * @param key The key.
+     * @param loader The function used to create the value if it is missing. Must not return null.
+     * @return The cached or newly created value.
+     */
+    public V get(final K key, final Function<? super K, ? extends V> loader) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(loader);
+        FutureTask<V> task;
+        boolean load = false;
+        synchronized (this) {
+            task = mEntries.get(key);
+            if (task != null) {
+                mHits++;
+            } else {
+                mMisses++;
+                task = new FutureTask<>(() -> Objects.requireNonNull(loader.apply(key)));
+                mEntries.put(key, task);
+                load = true;
+            }
+        }
+        if (load) {
+            task.run();
+        }
+        try {
+            return getUninterruptibly(task);
+        } catch (ExecutionException e) {
+            remove(key, task);
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Get the value for the given key, if it is cached. Values which are still being loaded are not returned.
+     * @param key The key.
+     * @return The cached value or null, if there is none.
+     */
+    public V getIfPresent(final K key) {
+        FutureTask<V> task;
+        synchronized (this) {
+            task = mEntries.get(key);
+            if (task != null && task.isDone()) {
+                mHits++;
+            } else {
+                mMisses++;
+                return null;
+            }
+        }
+        try {
+            return getUninterruptibly(task);
+        } catch (ExecutionException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Add a value to the cache, replacing any value previously cached for the key.
+     * @param key The key.
+     * @param value The value.
+     */
+    public void put(final K key, final V value) {
+        Objects.requireNonNull(value);
+        FutureTask<V> task = new FutureTask<>(() -> value);
+        task.run();
+        synchronized (this) {
+            mEntries.put(Objects.requireNonNull(key), task);
+        }
+    }
+
+    /**
+     * Remove the entry for the given key, so that the value is loaded again on the next request.
+     * Callers which are currently waiting for the value of the entry still receive it.
+     * @param key The key.
+     */
+    public synchronized void invalidate(final K key) {
+        mEntries.remove(key);
+    }
+
+    /**
+     * Remove all entries from the cache. The hit and miss counters are kept.
+     */
+    public synchronized void clear() {
+        mEntries.clear();
+    }
+
+    /**
+     * Get the current number of cached entries.
+     * @return The number of entries.
+     */
+    public synchronized int size() {
+        return mEntries.size();
+    }
+
+    /**
+     * Get the maximum number of entries.
+     * @return The capacity of the cache.
+     */
+    public int getCapacity() {
+        return mCapacity;
+    }
+
+    /**
+     * Get the number of requests that could be answered from the cache.
+     * @return The hit count.
+     */
+    public synchronized long getHitCount() {
+        return mHits;
+    }
+
+    /**
+     * Get the number of requests that required loading a value.
+     * @return The miss count.
+     */
+    public synchronized long getMissCount() {
+        return mMisses;
+    }
+
+    private synchronized void remove(final K key, final FutureTask<V> task) {
+        // The entry might already have been evicted and replaced by a newer one
+        if (mEntries.get(key) == task) {
+            mEntries.remove(key);
+        }
+    }
+
+    private static <V> V getUninterruptibly(final FutureTask<V> task) throws ExecutionException {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return task.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
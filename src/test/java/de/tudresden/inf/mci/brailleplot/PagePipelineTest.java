@@ -0,0 +1,76 @@
+package de.tudresden.inf.mci.brailleplot;
+
+import de.tudresden.inf.mci.brailleplot.configparser.Format;
+import de.tudresden.inf.mci.brailleplot.configparser.Printer;
+import de.tudresden.inf.mci.brailleplot.printabledata.BitMatrixData;
+import de.tudresden.inf.mci.brailleplot.printabledata.PrintableData;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+class PagePipelineTest {
+
+    private PrintableData page() {
+        return new BitMatrixData(new Printer(new LinkedList<>()), new Format(new LinkedList<>()), 3, 2);
+    }
+
+    @Test
+    void testAllStagesReceivePagesInOrder() throws Exception {
+        List<PrintableData> pages = new ArrayList<>();
+        List<Integer> first = Collections.synchronizedList(new ArrayList<>());
+        List<PrintableData> second = Collections.synchronizedList(new ArrayList<>());
+        try (PagePipeline<PrintableData> pipeline = new PagePipeline<>(1)) {
+            pipeline.addStage("first", (page, pageNumber) -> first.add(pageNumber));
+            pipeline.addStage("second", (page, pageNumber) -> {
+                Thread.sleep(5);
+                second.add(page);
+            });
+            for (int i = 0; i < 10; i++) {
+                PrintableData page = page();
+                pages.add(page);
+                pipeline.accept(page);
+            }
+            Assertions.assertEquals(10, pipeline.getPageCount());
+        }
+        Assertions.assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), first);
+        Assertions.assertEquals(pages, second);
+    }
+
+    @Test
+    void testStageFailureIsRethrownOnClose() {
+        PagePipeline<PrintableData> pipeline = new PagePipeline<>(1);
+        pipeline.addStage("failing", (page, pageNumber) -> {
+            throw new IOException("disk full");
+        });
+        for (int i = 0; i < 5; i++) {
+            pipeline.accept(page());
+        }
+        Assertions.assertThrows(IOException.class, pipeline::close);
+    }
+
+    @Test
+    void testCheckedStageFailureIsWrapped() {
+        PagePipeline<PrintableData> pipeline = new PagePipeline<>(1);
+        pipeline.addStage("interrupted", (page, pageNumber) -> {
+            throw new InterruptedException();
+        });
+        pipeline.accept(page());
+        IOException exception = Assertions.assertThrows(IOException.class, pipeline::close);
+        Assertions.assertTrue(exception.getCause() instanceof InterruptedException);
+    }
+
+    @Test
+    void testInvalidUsage() throws Exception {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new PagePipeline<PrintableData>(0));
+        PagePipeline<PrintableData> pipeline = new PagePipeline<>(1);
+        pipeline.accept(page());
+        Assertions.assertThrows(IllegalStateException.class, () -> pipeline.addStage("late", (page, pageNumber) -> { }));
+        pipeline.close();
+        Assertions.assertThrows(IllegalStateException.class, () -> pipeline.accept(page()));
+    }
+}
@@ -0,0 +1,41 @@
+package de.tudresden.inf.mci.brailleplot.brailleparser;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit Tests for the CompiledBrailleTable Class.
+ * @author agent
+ * @version 2026.10.18
+ */
+public class CompiledBrailleTableTest {
+
+    /**
+     * Test for compiling a complete 6 dot table.
+     * Expected: Every cell maps to the same byte as in the parsed table.
+     */
+    @Test
+    public void testCompiledTableMatchesParser(){
+        PropertiesParser parser = new PropertiesParser("mapping/eurobraille.properties");
+        CompiledBrailleTable table = CompiledBrailleTable.compile(parser);
+        for (int mask = 0; mask < CompiledBrailleTable.CELL_COUNT; mask++) {
+            StringBuilder key = new StringBuilder();
+            for (int dot = 0; dot < CompiledBrailleTable.DOT_COUNT; dot++) {
+                key.append((mask >> dot) & 1);
+            }
+            Assertions.assertTrue(table.isDefined(mask));
+            Assertions.assertEquals(parser.getByteAsIntBackEnd(key.toString()), table.getByte(mask));
+        }
+    }
+
+    /**
+     * Test for looking up an invalid cell mask.
+     * Expected: IllegalArgumentException.
+     */
+    @Test
+    public void testInvalidMask(){
+        CompiledBrailleTable table = CompiledBrailleTable.compile(new PropertiesParser("mapping/eurobraille.properties"));
+        Assertions.assertFalse(table.isDefined(CompiledBrailleTable.CELL_COUNT));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> table.getByte(-1));
+    }
+}
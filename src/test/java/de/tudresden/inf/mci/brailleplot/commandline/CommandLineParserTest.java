@@ -101,5 +101,35 @@ class CommandLineParserTest {
         Optional<String> flag = settings.getSetting(SettingType.SVG_EXPORT);
         Assertions.assertFalse(flag.isPresent());
     }
+
+    @Test
+    void testDatasetInput() throws ParsingException {
+        String[] args = {"--dataset-path", "data.bpds", "-p", "p", "-t", "t", "-d", "BarChart", "-dx", "copy.bpds"};
+        SettingsReader settings = commandLineParser.parse(args);
+        Assertions.assertEquals(Optional.of("data.bpds"), settings.getSetting(SettingType.DATASET_LOCATION));
+        Assertions.assertEquals(Optional.of("copy.bpds"), settings.getSetting(SettingType.DATASET_EXPORT));
+        Assertions.assertFalse(settings.isPresent(SettingType.CSV_LOCATION));
+
+        // Exactly one of the inputs is required
+        Assertions.assertThrows(ParsingException.class, () -> commandLineParser.parse(new String[]{"-p", "p", "-t", "t", "-d", "BarChart"}));
+        Assertions.assertThrows(ParsingException.class, () -> commandLineParser.parse(new String[]{"-c", "a.csv", "-ds", "b.bpds", "-p", "p", "-t", "t", "-d", "BarChart"}));
+    }
+
+    @Test
+    void testBatchArgs() throws ParsingException {
+        String[] args = {"-B", "jobs.txt", "-l", "Debug"};
+        Assertions.assertTrue(CommandLineParser.checkForBatch(args));
+        Assertions.assertFalse(CommandLineParser.checkForBatch(new String[]{"-c", "foo.csv"}));
+        SettingsReader settings = commandLineParser.parseBatch(args);
+        Assertions.assertEquals(Optional.of("jobs.txt"), settings.getSetting(SettingType.BATCH_MANIFEST));
+        Assertions.assertEquals(Optional.of("Debug"), settings.getSetting(SettingType.LOG_LEVEL));
+    }
+
+    @Test
+    void testSplitArguments() {
+        Assertions.assertArrayEquals(new String[]{"-c", "data.csv", "-t", "A title", "-x", "it's", "-y", ""},
+                CommandLineParser.splitArguments("  -c data.csv\t-t \"A title\" -x \"it's\" -y ''  "));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CommandLineParser.splitArguments("-t \"open"));
+    }
 }
 
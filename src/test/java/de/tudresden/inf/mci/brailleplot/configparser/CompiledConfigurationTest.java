@@ -0,0 +1,81 @@
+package de.tudresden.inf.mci.brailleplot.configparser;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * @author agent
+ */
+class CompiledConfigurationTest {
+
+    @Test
+    void testParsedConfiguration() {
+        ConfigurationParser parser = Assertions.assertDoesNotThrow(() -> new JavaPropertiesConfigurationParser(
+                JavaPropertiesConfigurationParserTest.mConcreteConfigPath, JavaPropertiesConfigurationParserTest.mDefaultConfigPath));
+        Printer printer = parser.getPrinter();
+        CompiledConfiguration compiled = printer.compile();
+
+        Assertions.assertEquals(printer.getPropertyNames(), compiled.getPropertyNames());
+        for (String propertyName : printer.getPropertyNames()) {
+            Assertions.assertEquals(printer.getProperty(propertyName).toString(), compiled.getString(propertyName));
+        }
+        Assertions.assertEquals(30, compiled.getDouble("raster.constraint.width"));
+        Assertions.assertEquals("Dummy Printer", compiled.getString("name"));
+        Assertions.assertFalse(compiled.getBool("raster.dotDiameter"));
+        Assertions.assertEquals(10, parser.getFormat("A4").compile().getInt("margin.bottom"));
+    }
+
+    @Test
+    void testFallbackAndCaching() {
+        Printer fallback = new Printer(List.of(new PrinterProperty("a", "1"), new PrinterProperty("b", "2.5")));
+        Printer printer = new Printer(List.of(new PrinterProperty("a", "3")));
+        CompiledConfiguration withoutFallback = printer.compile();
+        Assertions.assertSame(withoutFallback, printer.compile());
+        Assertions.assertFalse(withoutFallback.contains("b"));
+
+        printer.setFallback(fallback);
+        CompiledConfiguration compiled = printer.compile();
+        Assertions.assertNotSame(withoutFallback, compiled);
+        Assertions.assertEquals(3, compiled.getInt("a"));
+        Assertions.assertEquals(2.5, compiled.getDouble("b"));
+
+        printer.override(new PrinterProperty("a", "true"));
+        compiled = printer.compile();
+        Assertions.assertTrue(compiled.getBool("a"));
+    }
+
+    @Test
+    void testModifiedFallbackInvalidatesSnapshot() {
+        Printer defaults = new Printer(List.of(new PrinterProperty("b", "1")));
+        Printer fallback = new Printer(List.of(new PrinterProperty("a", "1")));
+        Printer printer = new Printer(List.of(new PrinterProperty("a", "3")));
+        fallback.setFallback(defaults);
+        printer.setFallback(fallback);
+        CompiledConfiguration compiled = printer.compile();
+        Assertions.assertEquals(1, compiled.getInt("b"));
+        Assertions.assertSame(compiled, printer.compile());
+
+        // Modifications anywhere in the fallback chain are detected
+        defaults.override(new PrinterProperty("b", "2"));
+        compiled = printer.compile();
+        Assertions.assertEquals(2, compiled.getInt("b"));
+        Assertions.assertSame(compiled, printer.compile());
+
+        fallback.setFallback(new Printer(List.of(new PrinterProperty("c", "4"))));
+        compiled = printer.compile();
+        Assertions.assertFalse(compiled.contains("b"));
+        Assertions.assertEquals(4, compiled.getInt("c"));
+    }
+
+    @Test
+    void testInvalidAccess() {
+        CompiledConfiguration compiled = new Printer(List.of(new PrinterProperty("a", "2.5"), new PrinterProperty("b", "text"))).compile();
+        Assertions.assertThrows(NoSuchElementException.class, () -> compiled.getString("c"));
+        Assertions.assertThrows(NumberFormatException.class, () -> compiled.getInt("a"));
+        Assertions.assertThrows(NumberFormatException.class, () -> compiled.getDouble("b"));
+        Assertions.assertFalse(compiled.getBool("b"));
+    }
+}
@@ -0,0 +1,147 @@
+package de.tudresden.inf.mci.brailleplot.configparser;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * @author agent
+ */
+class ConfigurationCacheTest {
+
+    @TempDir
+    Path mTempDir;
+    private Path mConfigPath;
+    private Path mFormatsPath;
+    private ConfigurationCache mCache;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mConfigPath = copyResource("config/concrete.properties");
+        mFormatsPath = copyResource("config/standard_formats.properties");
+        mCache = new ConfigurationCache(mTempDir.resolve("cache"));
+    }
+
+    private Path copyResource(final String location) throws IOException {
+        Path target = mTempDir.resolve(Path.of(location).getFileName());
+        try (InputStream in = JavaPropertiesConfigurationParserTest.getResource(location).openStream()) {
+            Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return target;
+    }
+
+    private JavaPropertiesConfigurationParser parse() throws ConfigurationParsingException, ConfigurationValidationException {
+        return new JavaPropertiesConfigurationParser(mConfigPath, JavaPropertiesConfigurationParserTest.mDefaultConfigPath, mCache);
+    }
+
+    private List<Path> getCacheFiles() throws IOException {
+        try (Stream<Path> files = Files.list(mCache.getDirectory())) {
+            return files.filter(file -> file.toString().endsWith(".cache")).collect(Collectors.toList());
+        }
+    }
+
+    private static URL toUrl(final Path path) {
+        return Assertions.assertDoesNotThrow(() -> path.toUri().toURL());
+    }
+
+    @Test
+    void testCachedConfigurationIsEqual() throws Exception {
+        Assertions.assertTrue(mCache.load(toUrl(mConfigPath)).isEmpty());
+        JavaPropertiesConfigurationParser parsed = parse();
+        Assertions.assertTrue(mCache.load(toUrl(mConfigPath)).isPresent());
+
+        JavaPropertiesConfigurationParser cached = parse();
+        Assertions.assertEquals(parsed.getFormatNames(), cached.getFormatNames());
+        for (String formatName : parsed.getFormatNames()) {
+            Assertions.assertEquals(parsed.getFormat(formatName).compile().getPropertyNames(), cached.getFormat(formatName).compile().getPropertyNames());
+        }
+        Printer parsedPrinter = parsed.getPrinter();
+        Printer cachedPrinter = cached.getPrinter();
+        Assertions.assertEquals(parsedPrinter.getPropertyNames(), cachedPrinter.getPropertyNames());
+        for (String propertyName : parsedPrinter.getPropertyNames()) {
+            Assertions.assertEquals(parsedPrinter.getProperty(propertyName).toString(), cachedPrinter.getProperty(propertyName).toString());
+        }
+        Assertions.assertEquals(297, cached.getFormat("A4").getProperty("page.height").toInt());
+        Assertions.assertEquals("Dummy Printer", cachedPrinter.getProperty("name").toString());
+    }
+
+    @Test
+    void testChangedIncludeInvalidatesCache() throws Exception {
+        parse();
+        Assertions.assertTrue(mCache.load(toUrl(mConfigPath)).isPresent());
+
+        String formats = Files.readString(mFormatsPath).replace("format.A4.page.height=297", "format.A4.page.height=300");
+        Files.writeString(mFormatsPath, formats);
+        Assertions.assertTrue(mCache.load(toUrl(mConfigPath)).isEmpty());
+        Assertions.assertEquals(300, parse().getFormat("A4").getProperty("page.height").toInt());
+        Assertions.assertTrue(mCache.load(toUrl(mConfigPath)).isPresent());
+    }
+
+    @Test
+    void testInvalidCacheFileIsIgnored() throws Exception {
+        parse();
+        // The default configuration is cached, too
+        List<Path> cacheFiles = getCacheFiles();
+        Assertions.assertEquals(2, cacheFiles.size());
+        for (Path cacheFile : cacheFiles) {
+            byte[] bytes = Files.readAllBytes(cacheFile);
+            Files.write(cacheFile, Arrays.copyOf(bytes, bytes.length / 2));
+        }
+        Assertions.assertTrue(mCache.load(toUrl(mConfigPath)).isEmpty());
+        Assertions.assertEquals(297, parse().getFormat("A4").getProperty("page.height").toInt());
+    }
+
+    @Test
+    void testInvalidConfigurationIsNotCached() throws IOException {
+        Files.writeString(mConfigPath, Files.readString(mConfigPath) + "\nprinter.raster.dotDiameter=abc\n");
+        Assertions.assertThrows(ConfigurationValidationException.class, this::parse);
+        Assertions.assertTrue(mCache.load(toUrl(mConfigPath)).isEmpty());
+    }
+
+    @Test
+    void testInvalidCachedPropertiesAreIgnored() throws Exception {
+        parse();
+        ConfigurationCache.Entry entry = mCache.load(toUrl(mConfigPath)).orElseThrow();
+        List<PrinterProperty> printerProperties = entry.getPrinterProperties();
+        for (int i = 0; i < printerProperties.size(); i++) {
+            if (printerProperties.get(i).getName().equals("raster.dotDiameter")) {
+                printerProperties.set(i, new PrinterProperty("raster.dotDiameter", "abc"));
+            }
+        }
+        mCache.store(toUrl(mConfigPath), entry);
+        Assertions.assertTrue(mCache.load(toUrl(mConfigPath)).isPresent());
+
+        Assertions.assertEquals(1.5, parse().getPrinter().getProperty("raster.dotDiameter").toDouble());
+    }
+
+    @Test
+    void testCacheWritableByOthersIsIgnored() throws Exception {
+        Assumptions.assumeTrue(Files.getFileStore(mTempDir).supportsFileAttributeView(PosixFileAttributeView.class));
+        parse();
+        Set<PosixFilePermission> ownerOnly = PosixFilePermissions.fromString("rwx------");
+        Assertions.assertEquals(ownerOnly, Files.getPosixFilePermissions(mCache.getDirectory()));
+        Assertions.assertTrue(mCache.load(toUrl(mConfigPath)).isPresent());
+
+        Files.setPosixFilePermissions(mCache.getDirectory(), PosixFilePermissions.fromString("rwxrwxrwx"));
+        Assertions.assertTrue(mCache.load(toUrl(mConfigPath)).isEmpty());
+        Files.setPosixFilePermissions(mCache.getDirectory(), ownerOnly);
+        Assertions.assertTrue(mCache.load(toUrl(mConfigPath)).isPresent());
+    }
+}
@@ -0,0 +1,107 @@
+package de.tudresden.inf.mci.brailleplot.configparser;
+
+import de.tudresden.inf.mci.brailleplot.brailleparser.AbstractBrailleTableParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author agent
+ */
+class ConfigurationWatcherTest {
+
+    private static final long TIMEOUT_SECONDS = 30;
+
+    @TempDir
+    Path mTempDir;
+    private Path mConfigPath;
+    private Path mFormatsPath;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mConfigPath = copyResource("config/concrete.properties");
+        mFormatsPath = copyResource("config/standard_formats.properties");
+    }
+
+    private Path copyResource(final String location) throws IOException {
+        Path target = mTempDir.resolve(Path.of(location).getFileName());
+        try (InputStream in = JavaPropertiesConfigurationParserTest.getResource(location).openStream()) {
+            Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return target;
+    }
+
+    private ConfigurationWatcher createWatcher() throws Exception {
+        return new ConfigurationWatcher(mConfigPath, JavaPropertiesConfigurationParserTest.mDefaultConfigPath, null);
+    }
+
+    @Test
+    void testChangedIncludeIsReloaded() throws Exception {
+        try (ConfigurationWatcher watcher = createWatcher()) {
+            BlockingQueue<ConfigurationParser> reloads = new LinkedBlockingQueue<>();
+            watcher.addReloadListener(reloads::add);
+            ConfigurationParser previous = watcher.getConfiguration();
+            Format previousFormat = previous.getFormat("A4");
+
+            Files.writeString(mFormatsPath, Files.readString(mFormatsPath).replace("format.A4.page.height=297", "format.A4.page.height=300"));
+            ConfigurationParser reloaded = reloads.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+            Assertions.assertNotNull(reloaded);
+            Assertions.assertSame(reloaded, watcher.getConfiguration());
+            Assertions.assertEquals(300, reloaded.getFormat("A4").getProperty("page.height").toInt());
+            // Previously obtained configurations are not modified
+            Assertions.assertSame(previousFormat, previous.getFormat("A4"));
+            Assertions.assertEquals(297, previousFormat.getProperty("page.height").toInt());
+        }
+    }
+
+    @Test
+    void testChangedBrailleTableIsReloaded() throws Exception {
+        Path tablePath = copyResource("mapping/eurobraille.properties");
+        Files.writeString(mConfigPath, Files.readString(mConfigPath) + "\nprinter.brailletable=" + tablePath.toString().replace('\\', '/') + "\n");
+        try (ConfigurationWatcher watcher = createWatcher()) {
+            BlockingQueue<ConfigurationParser> reloads = new LinkedBlockingQueue<>();
+            watcher.addReloadListener(reloads::add);
+            Printer printer = watcher.getConfiguration().getPrinter();
+            Assertions.assertEquals(97, AbstractBrailleTableParser.getParser(printer, "brailletable").getByteAsIntBackEnd("100000"));
+            Assertions.assertEquals(97, AbstractBrailleTableParser.getCompiledTable(printer, "brailletable").getByte(0b000001));
+
+            Files.writeString(tablePath, Files.readString(tablePath).replace("100000=97", "100000=65"));
+            ConfigurationParser reloaded = reloads.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+            Assertions.assertNotNull(reloaded);
+            Assertions.assertEquals(65, AbstractBrailleTableParser.getParser(reloaded.getPrinter(), "brailletable").getByteAsIntBackEnd("100000"));
+            Assertions.assertEquals(65, AbstractBrailleTableParser.getCompiledTable(reloaded.getPrinter(), "brailletable").getByte(0b000001));
+        }
+    }
+
+    @Test
+    void testInvalidConfigurationIsNotPublished() throws Exception {
+        try (ConfigurationWatcher watcher = createWatcher()) {
+            ConfigurationParser previous = watcher.getConfiguration();
+            Files.writeString(mConfigPath, Files.readString(mConfigPath) + "\nprinter.raster.dotDiameter=abc\n");
+            Assertions.assertFalse(watcher.reload());
+            Assertions.assertSame(previous, watcher.getConfiguration());
+            Assertions.assertEquals(1.5, watcher.getConfiguration().getPrinter().getProperty("raster.dotDiameter").toDouble());
+        }
+    }
+
+    @Test
+    void testWatchedFiles() throws Exception {
+        try (ConfigurationWatcher watcher = createWatcher()) {
+            Assertions.assertTrue(watcher.getConfiguration().getConfigFiles().contains(mConfigPath.toUri().toURL()));
+            Assertions.assertTrue(watcher.getConfiguration().getConfigFiles().contains(mFormatsPath.toUri().toURL()));
+            Assertions.assertTrue(watcher.getConfiguration().getConfigFiles().contains(JavaPropertiesConfigurationParserTest.mDefaultConfigPath));
+        }
+    }
+}
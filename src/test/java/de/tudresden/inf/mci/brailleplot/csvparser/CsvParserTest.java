@@ -0,0 +1,139 @@
+package de.tudresden.inf.mci.brailleplot.csvparser;
+
+import de.tudresden.inf.mci.brailleplot.datacontainers.CategoricalPointListContainer;
+import de.tudresden.inf.mci.brailleplot.datacontainers.PointList;
+import de.tudresden.inf.mci.brailleplot.datacontainers.PointListContainer;
+import de.tudresden.inf.mci.brailleplot.point.Point2DDouble;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * @author agent
+ */
+class CsvParserTest {
+
+    private static final String DOTS = "Series 1,1,2,3\n,4,5,6\nSeries 2,7,8\n,9,10,11\ndangling,1";
+    private static final String X_ALIGNED = "a,b,c\n1,\"2,5\",3";
+    private static final String CATEGORIES = ",Series 1,Series 2\nCat 1,1,2\nCat 2,3,4\nCat 3,5,6";
+
+    private static <T extends PointListContainer<PointList>> T stream(final String csv, final CsvType type, final CsvOrientation orientation) throws Exception {
+        return CsvParser.parse(new StringReader(csv), ',', '\"', type, orientation);
+    }
+
+    private static <T extends PointListContainer<PointList>> T materialize(final String csv, final CsvType type, final CsvOrientation orientation) throws Exception {
+        return new CsvParser(new StringReader(csv), ',', '\"').parse(type, orientation);
+    }
+
+    private static Point2DDouble last(final PointList list) {
+        Iterator<Point2DDouble> it = list.getListIterator();
+        Point2DDouble point = it.next();
+        while (it.hasNext()) {
+            point = it.next();
+        }
+        return point;
+    }
+
+    @Test
+    void testStreamingDots() throws Exception {
+        PointListContainer<PointList> container = stream(DOTS, CsvType.DOTS, CsvOrientation.HORIZONTAL);
+        Assertions.assertEquals(2, container.getSize());
+        Iterator<PointList> it = container.iterator();
+        PointList first = it.next();
+        Assertions.assertEquals("Series 1", first.getName());
+        Assertions.assertEquals(3, first.getSize());
+        Assertions.assertEquals(new Point2DDouble(3, 6), last(first));
+        Assertions.assertEquals(2, it.next().getSize());
+        Assertions.assertEquals(1.0, container.getMinX());
+        Assertions.assertEquals(10.0, container.getMaxY());
+        Assertions.assertEquals(materialize(DOTS, CsvType.DOTS, CsvOrientation.HORIZONTAL).toString(), container.toString());
+    }
+
+    @Test
+    void testStreamingXAligned() throws Exception {
+        PointListContainer<PointList> container = stream(X_ALIGNED, CsvType.X_ALIGNED, CsvOrientation.HORIZONTAL);
+        Assertions.assertEquals(3, container.getSize());
+        Iterator<PointList> it = container.iterator();
+        it.next();
+        PointList second = it.next();
+        Assertions.assertEquals("b", second.getName());
+        Assertions.assertEquals(new Point2DDouble(0, 2.5), second.getListIterator().next());
+
+        PointListContainer<PointList> vertical = stream("a,1\nb,\"2,5\"\nc,3", CsvType.X_ALIGNED, CsvOrientation.VERTICAL);
+        Assertions.assertEquals(container.toString(), vertical.toString());
+    }
+
+    @Test
+    void testStreamingCategories() throws Exception {
+        CategoricalPointListContainer<PointList> container = stream(CATEGORIES, CsvType.X_ALIGNED_CATEGORIES, CsvOrientation.HORIZONTAL);
+        Assertions.assertEquals(3, container.getNumberOfCategories());
+        Assertions.assertEquals("Cat 2", container.getCategory(1));
+        Assertions.assertEquals(2, container.getSize());
+        PointList first = container.iterator().next();
+        Assertions.assertEquals("Series 1", first.getName());
+        Assertions.assertEquals(new Point2DDouble(3, 5), last(first));
+        Assertions.assertEquals(6.0, container.getMaxY());
+
+        CategoricalPointListContainer<PointList> vertical = stream("Cat 1,Cat 2,Cat 3\nSeries 1,1,3,5\nSeries 2,2,4,6",
+                CsvType.X_ALIGNED_CATEGORIES, CsvOrientation.VERTICAL);
+        Assertions.assertEquals(container.toString(), vertical.toString());
+    }
+
+    @Test
+    void testMissingValuesAreMalformed() {
+        Assertions.assertThrows(MalformedCsvException.class, () -> stream("a,b,c\n1,2", CsvType.X_ALIGNED, CsvOrientation.HORIZONTAL));
+        Assertions.assertThrows(MalformedCsvException.class, () -> stream("a,b,c", CsvType.X_ALIGNED, CsvOrientation.HORIZONTAL));
+        Assertions.assertThrows(MalformedCsvException.class, () -> stream(",A,B\nCat 1,1", CsvType.X_ALIGNED_CATEGORIES, CsvOrientation.HORIZONTAL));
+        Assertions.assertThrows(MalformedCsvException.class, () -> stream(",A\nCat 1,x", CsvType.X_ALIGNED_CATEGORIES, CsvOrientation.HORIZONTAL));
+    }
+
+    @Test
+    void testVerticalDotsUnsupported() {
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> stream(DOTS, CsvType.DOTS, CsvOrientation.VERTICAL));
+    }
+
+    @Test
+    void testCompressedInputStreams() throws Exception {
+        String expected = stream(CATEGORIES, CsvType.X_ALIGNED_CATEGORIES, CsvOrientation.HORIZONTAL).toString();
+        byte[] plain = CATEGORIES.getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream gzip = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(gzip)) {
+            out.write(plain);
+        }
+        Assertions.assertEquals(expected, CsvParser.parse(new ByteArrayInputStream(plain), StandardCharsets.UTF_8, ',', '\"',
+                CsvType.X_ALIGNED_CATEGORIES, CsvOrientation.HORIZONTAL).toString());
+        Assertions.assertEquals(expected, CsvParser.parse(new ByteArrayInputStream(gzip.toByteArray()), StandardCharsets.UTF_8, ',', '\"',
+                CsvType.X_ALIGNED_CATEGORIES, CsvOrientation.HORIZONTAL).toString());
+
+        // A codec registered for a made up format, whose data follows the magic bytes without compression
+        byte[] magic = "BPTESTZ".getBytes(StandardCharsets.US_ASCII);
+        CompressionCodecs.register(new CompressionCodec() {
+            @Override
+            public boolean matches(final byte[] header) {
+                return Arrays.equals(magic, Arrays.copyOf(header, magic.length));
+            }
+
+            @Override
+            public InputStream decompress(final InputStream compressed) throws IOException {
+                compressed.readNBytes(magic.length);
+                return compressed;
+            }
+        });
+        ByteArrayOutputStream custom = new ByteArrayOutputStream();
+        custom.write(magic);
+        custom.write(plain);
+        Assertions.assertEquals(expected, CsvParser.parse(new ByteArrayInputStream(custom.toByteArray()), StandardCharsets.UTF_8, ',', '\"',
+                CsvType.X_ALIGNED_CATEGORIES, CsvOrientation.HORIZONTAL).toString());
+    }
+}
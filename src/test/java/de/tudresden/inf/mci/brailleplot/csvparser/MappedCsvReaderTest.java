@@ -0,0 +1,137 @@
+package de.tudresden.inf.mci.brailleplot.csvparser;
+
+import de.tudresden.inf.mci.brailleplot.datacontainers.CategoricalPointListContainer;
+import de.tudresden.inf.mci.brailleplot.datacontainers.PointList;
+import de.tudresden.inf.mci.brailleplot.datacontainers.PointListContainer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * @author agent
+ */
+class MappedCsvReaderTest {
+
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(4);
+    private static final int MAX_CHUNK_SIZE = 40;
+
+    @TempDir
+    Path mTempDir;
+
+    @AfterAll
+    static void tearDown() {
+        EXECUTOR.shutdown();
+    }
+
+    private <T extends PointListContainer<PointList>> T parseMapped(final String csv, final Charset charset, final int chunkSize,
+                                                                      final CsvType type, final CsvOrientation orientation) throws Exception {
+        Path file = mTempDir.resolve("data.csv");
+        Files.write(file, csv.getBytes(charset));
+        CsvParseAlgorithm.RecordParser<T> parser = createRecordParser(type, orientation);
+        return new MappedCsvReader(file, charset, ',', '\"', chunkSize).parse(parser, EXECUTOR);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends PointListContainer<PointList>> CsvParseAlgorithm.RecordParser<T> createRecordParser(final CsvType type, final CsvOrientation orientation) {
+        CsvParseAlgorithm<T> algorithm;
+        switch (type) {
+        case DOTS:
+            algorithm = (CsvParseAlgorithm<T>) new CsvDotParser();
+            break;
+        case X_ALIGNED:
+            algorithm = (CsvParseAlgorithm<T>) new CsvXAlignedParser();
+            break;
+        default:
+            algorithm = (CsvParseAlgorithm<T>) new CsvXAlignedCategoriesParser();
+            break;
+        }
+        if (orientation == CsvOrientation.HORIZONTAL) {
+            return algorithm.createHorizontalParser();
+        }
+        return algorithm.createVerticalParser();
+    }
+
+    private static String describe(final PointListContainer<PointList> container) {
+        StringBuilder sb = new StringBuilder(container.toString());
+        if (container instanceof CategoricalPointListContainer) {
+            CategoricalPointListContainer<PointList> categorical = (CategoricalPointListContainer<PointList>) container;
+            categorical.categoriesIterator().forEachRemaining(category -> sb.append(" [").append(category).append("]"));
+        }
+        return sb.append(" ").append(container.getMinX()).append(" ").append(container.getMaxY()).toString();
+    }
+
+    private void assertSameAsStreaming(final String csv, final Charset charset, final CsvType type, final CsvOrientation orientation) throws Exception {
+        String expected = describe(CsvParser.parse(new StringReader(csv), ',', '\"', type, orientation));
+        for (int chunkSize = 1; chunkSize <= MAX_CHUNK_SIZE; chunkSize++) {
+            Assertions.assertEquals(expected, describe(parseMapped(csv, charset, chunkSize, type, orientation)), "Chunk size " + chunkSize);
+        }
+    }
+
+    @Test
+    void testDotsMatchStreaming() throws Exception {
+        // Chunks may start with the y row of a pair
+        String csv = "Series 1,1,2,3\n,4,5,6\n\"Series\n2\",7,8\n,9,10,11\nSeries 3,\"1,5\",2\n,3,4\ndangling,1";
+        assertSameAsStreaming(csv, StandardCharsets.UTF_8, CsvType.DOTS, CsvOrientation.HORIZONTAL);
+        assertSameAsStreaming(csv.replace("\n", "\r\n"), StandardCharsets.UTF_8, CsvType.DOTS, CsvOrientation.HORIZONTAL);
+        assertSameAsStreaming(csv.replace("\n", "\r"), StandardCharsets.UTF_8, CsvType.DOTS, CsvOrientation.HORIZONTAL);
+    }
+
+    @Test
+    void testXAlignedMatchStreaming() throws Exception {
+        assertSameAsStreaming("a,\"b\r\nc\",d\n1,\"2,5\",3\nskipped,line,here\n", StandardCharsets.UTF_8, CsvType.X_ALIGNED, CsvOrientation.HORIZONTAL);
+        assertSameAsStreaming("Ä,1\r\n\"\"\"ö\"\"\",\"2,5\"\r\nc,3\r\n", StandardCharsets.ISO_8859_1, CsvType.X_ALIGNED, CsvOrientation.VERTICAL);
+    }
+
+    @Test
+    void testCategoriesMatchStreaming() throws Exception {
+        assertSameAsStreaming(",Series 1,Series 2\nCat 1,1,2\nCat 2,3,4\n\"Cat\n3\",5,6\n,7,8", StandardCharsets.UTF_8,
+                CsvType.X_ALIGNED_CATEGORIES, CsvOrientation.HORIZONTAL);
+        assertSameAsStreaming("Cat 1,Cat 2,Cat 3\nSeries 1,1,3,5\nSeries 2,2,4,6\nSeries 3,7\n", StandardCharsets.UTF_8,
+                CsvType.X_ALIGNED_CATEGORIES, CsvOrientation.VERTICAL);
+    }
+
+    @Test
+    void testSequentialFallback() throws Exception {
+        // Escape characters and multi-byte charsets other than UTF-8 prevent splitting the file
+        assertSameAsStreaming("a,1\n\"b\\\"\",2\nc,3", StandardCharsets.UTF_8, CsvType.X_ALIGNED, CsvOrientation.VERTICAL);
+        assertSameAsStreaming("a,1\nb,2\nc,3", StandardCharsets.UTF_16, CsvType.X_ALIGNED, CsvOrientation.VERTICAL);
+    }
+
+    @Test
+    void testCompressedFile() throws Exception {
+        String csv = ",Series 1,Series 2\nCat 1,1,2\nCat 2,3,4\n\"Cat\n3\",5,6";
+        Path file = mTempDir.resolve("data.csv.gz");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file))) {
+            out.write(csv.getBytes(StandardCharsets.UTF_8));
+        }
+        PointListContainer<PointList> expected = CsvParser.parse(new StringReader(csv), ',', '\"', CsvType.X_ALIGNED_CATEGORIES, CsvOrientation.HORIZONTAL);
+        PointListContainer<PointList> actual = new MappedCsvReader(file, StandardCharsets.UTF_8, ',', '\"', 1)
+                .parse(createRecordParser(CsvType.X_ALIGNED_CATEGORIES, CsvOrientation.HORIZONTAL), EXECUTOR);
+        Assertions.assertEquals(describe(expected), describe(actual));
+    }
+
+    @Test
+    void testEmptyFile() throws Exception {
+        PointListContainer<PointList> container = parseMapped("", StandardCharsets.UTF_8, 1, CsvType.DOTS, CsvOrientation.HORIZONTAL);
+        Assertions.assertEquals(0, container.getSize());
+    }
+
+    @Test
+    void testMalformedChunkIsReported() {
+        String csv = ",Series 1\nCat 1,1\nCat 2,2\nCat 3,x\nCat 4,4";
+        MalformedCsvException e = Assertions.assertThrows(MalformedCsvException.class,
+                () -> parseMapped(csv, StandardCharsets.UTF_8, 1, CsvType.X_ALIGNED_CATEGORIES, CsvOrientation.HORIZONTAL));
+        Assertions.assertTrue(e.getMessage().startsWith("Line: 4:"), e.getMessage());
+    }
+}
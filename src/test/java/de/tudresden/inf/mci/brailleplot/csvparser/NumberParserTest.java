@@ -0,0 +1,79 @@
+package de.tudresden.inf.mci.brailleplot.csvparser;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.text.NumberFormat;
+import java.text.ParseException;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * @author agent
+ */
+class NumberParserTest {
+
+    private static final Locale LOCALE = new Locale("de");
+    private static final NumberParser PARSER = new NumberParser(LOCALE);
+
+    private static final String[] INPUTS = {
+        "0", "-0", "42", "-17", "3,25", "-0,5", ",5", "1,", "007", "1.000", "1.000.000,5", "1.5", "1..2", "1.", ".5",
+        "1.,5", "1,5.3", "1,,5", "12abc", "3 ", "1E5", "1,5E-3", "1E+5", "1e5", "1E", "1E-", "1E5,5", "-1E3", "1.E5",
+        "1,2E3,4", "0E5", "-0E5", "1E-0", "0,1", "0,000000000000000000000000000001234567890123456789",
+        "123456789012345678901234", "99999999999999999999", "9007199254740993", "9223372036854775807",
+        "-9223372036854775809", "4,9E-324", "2,4703282292062328E-324", "1,7976931348623157E308",
+        "1,7976931348623159E308", "1E400", "1E-400", "∞", "-∞", "١٢", "١,٥", "1E٢",
+        "１２", "1 000"
+    };
+
+    private static final String[] INVALID = {
+        "", "-", "+1", "--1", " 3", "abc", "Kat. 2", ",", ".", "E5", "NaN", "-NaN"
+    };
+
+    private static double parseWithNumberFormat(final String text) throws ParseException {
+        return NumberFormat.getInstance(LOCALE).parse(text).doubleValue();
+    }
+
+    @Test
+    void testAcceptsSameSyntaxAsNumberFormat() throws ParseException {
+        for (String input : INPUTS) {
+            Assertions.assertEquals(parseWithNumberFormat(input), PARSER.parse(input), input);
+        }
+    }
+
+    @Test
+    void testFailures() {
+        for (String input : INVALID) {
+            Assertions.assertTrue(Double.isNaN(PARSER.parse(input)), input);
+        }
+    }
+
+    @Test
+    void testRandomNumbersMatchNumberFormat() throws ParseException {
+        NumberFormat format = NumberFormat.getInstance(LOCALE);
+        format.setMaximumFractionDigits(20);
+        Random random = new Random(0);
+        for (int i = 0; i < 10000; i++) {
+            double value = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(30) - 10);
+            String text = format.format(value);
+            Assertions.assertEquals(parseWithNumberFormat(text), PARSER.parse(text), text);
+        }
+    }
+
+    @Test
+    void testRangesAndTrimming() {
+        Assertions.assertEquals(2.5, PARSER.parse("x;2,5;y", 2, 5));
+        Assertions.assertEquals(2, PARSER.parse("x;2,5;y", 2, 3));
+        Assertions.assertTrue(Double.isNaN(PARSER.parse("x;2,5;y", 1, 5)));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> PARSER.parse("2,5", 2, 4));
+        Assertions.assertEquals(-3, PARSER.parseTrimmed(" \t-3 "));
+        Assertions.assertTrue(Double.isNaN(PARSER.parseTrimmed("   ")));
+    }
+
+    @Test
+    void testOtherLocale() throws ParseException {
+        NumberParser parser = new NumberParser(Locale.US);
+        Assertions.assertEquals(1234.5, parser.parse("1,234.5"));
+        Assertions.assertEquals(NumberFormat.getInstance(Locale.US).parse("1.2,3").doubleValue(), parser.parse("1.2,3"));
+    }
+}
@@ -0,0 +1,118 @@
+package de.tudresden.inf.mci.brailleplot.datacontainers;
+
+import de.tudresden.inf.mci.brailleplot.csvparser.CsvOrientation;
+import de.tudresden.inf.mci.brailleplot.csvparser.CsvParser;
+import de.tudresden.inf.mci.brailleplot.csvparser.CsvType;
+import de.tudresden.inf.mci.brailleplot.point.Point2DDouble;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+
+/**
+ * @author agent
+ */
+class BinaryDatasetTest {
+
+    @TempDir
+    Path mTempDir;
+    private int mFileCount = 0;
+
+    private PointListContainer<PointList> roundTrip(final PointListContainer<PointList> container) throws IOException {
+        // Mapped files must not be overwritten, so every dataset gets its own file
+        Path file = mTempDir.resolve("data" + mFileCount++ + ".bpds");
+        BinaryDataset.write(container, file);
+        return BinaryDataset.load(file);
+    }
+
+    private static void assertSameLists(final PointListContainer<PointList> expected, final PointListContainer<PointList> actual) {
+        Assertions.assertEquals(expected.getSize(), actual.getSize());
+        Iterator<PointList> actualLists = actual.iterator();
+        for (PointList expectedList : expected) {
+            PointList actualList = actualLists.next();
+            Assertions.assertEquals(expectedList.getName(), actualList.getName());
+            Assertions.assertEquals(expectedList.getSize(), actualList.getSize());
+            for (int i = 0; i < expectedList.getSize(); i++) {
+                Assertions.assertEquals(expectedList.getX(i), actualList.getX(i));
+                Assertions.assertEquals(expectedList.getY(i), actualList.getY(i));
+            }
+            Assertions.assertEquals(expectedList.getStatisticsY().getSum(), actualList.getStatisticsY().getSum());
+            Assertions.assertEquals(expectedList.getMinX(), actualList.getMinX());
+            Assertions.assertEquals(expectedList.getMaxY(), actualList.getMaxY());
+        }
+        Assertions.assertEquals(expected.getStatisticsX().getCount(), actual.getStatisticsX().getCount());
+        Assertions.assertEquals(expected.getMinY(), actual.getMinY());
+        Assertions.assertEquals(expected.getMaxX(), actual.getMaxX());
+    }
+
+    @Test
+    void testDotsRoundTrip() throws IOException {
+        PointListContainer<PointList> parsed = CsvParser.parse(new StringReader("Eins,3,1,2\n,1,2,3\nZwei ä,\"2,5\",4\n,-1,-2"),
+                ',', '\"', CsvType.DOTS, CsvOrientation.HORIZONTAL);
+        PointListContainer<PointList> loaded = roundTrip(parsed);
+        Assertions.assertFalse(loaded instanceof CategoricalPointListContainer);
+        assertSameLists(parsed, loaded);
+    }
+
+    @Test
+    void testCategoriesRoundTrip() throws IOException {
+        CategoricalPointListContainer<PointList> parsed = CsvParser.parse(new StringReader(",Series 1,Series 2\nCat 1,1,2\nCat 2,3,4"),
+                ',', '\"', CsvType.X_ALIGNED_CATEGORIES, CsvOrientation.HORIZONTAL);
+        PointListContainer<PointList> loaded = roundTrip(parsed);
+        assertSameLists(parsed, loaded);
+        CategoricalPointListContainer<PointList> categorical = (CategoricalPointListContainer<PointList>) loaded;
+        Assertions.assertEquals(2, categorical.getNumberOfCategories());
+        Assertions.assertEquals("Cat 2", categorical.getCategory(1));
+    }
+
+    @Test
+    void testEmptyContainer() throws IOException {
+        PointListContainer<PointList> container = new SimplePointListContainerImpl();
+        container.pushBack(new PrimitivePointListImpl("empty"));
+        assertSameLists(container, roundTrip(container));
+        Assertions.assertEquals(0, roundTrip(new SimplePointListContainerImpl()).getSize());
+    }
+
+    @Test
+    void testLoadedListsAreReadOnly() throws IOException {
+        PointList list = new SimplePointListImpl("list", List.of(new Point2DDouble(2.0, 1.0), new Point2DDouble(1.0, 3.0)));
+        PointList loaded = roundTrip(new SimplePointListContainerImpl(List.of(list))).iterator().next();
+
+        ListIterator<Point2DDouble> iterator = loaded.getListIterator();
+        Assertions.assertEquals(new Point2DDouble(2.0, 1.0), iterator.next());
+        Assertions.assertThrows(UnsupportedOperationException.class, iterator::remove);
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> loaded.pushBack(new Point2DDouble(0.0, 0.0)));
+
+        PointList sorted = loaded.sortXAscend();
+        Assertions.assertEquals(1.0, sorted.getX(0));
+        Assertions.assertEquals(3.0, sorted.getY(0));
+
+        // Sorted lists are not copied again
+        PointList loadedSorted = roundTrip(new SimplePointListContainerImpl(List.of(sorted))).iterator().next();
+        Assertions.assertSame(loadedSorted, loadedSorted.sortXAscend());
+    }
+
+    @Test
+    void testInvalidFiles() throws IOException {
+        Path file = mTempDir.resolve("invalid.bpds");
+        Files.write(file, "x,y\n1,2\n".getBytes());
+        Assertions.assertThrows(IOException.class, () -> BinaryDataset.load(file));
+
+        PointListContainer<PointList> container = new SimplePointListContainerImpl();
+        PrimitivePointListImpl list = new PrimitivePointListImpl();
+        list.pushBack(1, 2);
+        container.pushBack(list);
+        BinaryDataset.write(container, file);
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+        Assertions.assertThrows(IOException.class, () -> BinaryDataset.load(file));
+    }
+}
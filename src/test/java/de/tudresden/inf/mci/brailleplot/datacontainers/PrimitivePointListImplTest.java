@@ -0,0 +1,130 @@
+package de.tudresden.inf.mci.brailleplot.datacontainers;
+
+import de.tudresden.inf.mci.brailleplot.point.Point2DDouble;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.Random;
+
+/**
+ * @author agent
+ */
+class PrimitivePointListImplTest {
+
+    @Test
+    void testPushBackAndIndexedAccess() {
+        Assertions.assertThrows(NullPointerException.class, () -> {new PrimitivePointListImpl((String) null);});
+        PrimitivePointListImpl list = new PrimitivePointListImpl("test_name", 0);
+        for (int i = 0; i < 100; i++) {
+            list.pushBack(i, -i);
+        }
+        Assertions.assertEquals("test_name", list.getName());
+        Assertions.assertEquals(100, list.getSize());
+        Assertions.assertEquals(42, list.getX(42));
+        Assertions.assertEquals(-42, list.getY(42));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> list.getX(100));
+        Assertions.assertEquals(0.0, list.getMinX());
+        Assertions.assertEquals(99.0, list.getMaxX());
+        Assertions.assertEquals(-99.0, list.getMinY());
+        Assertions.assertEquals(0.0, list.getMaxY());
+    }
+
+    @Test
+    void testCursorAndIterator() {
+        PrimitivePointListImpl list = new PrimitivePointListImpl();
+        list.pushBack(new Point2DDouble(2, 3));
+        list.pushBack(4, 5);
+
+        PointCursor cursor = list.getCursor();
+        Assertions.assertTrue(cursor.next());
+        Assertions.assertEquals(2, cursor.getX());
+        Assertions.assertEquals(3, cursor.getY());
+        Assertions.assertTrue(cursor.next());
+        Assertions.assertEquals(4, cursor.getX());
+        Assertions.assertFalse(cursor.next());
+
+        Iterator<Point2DDouble> it = list.iterator();
+        Assertions.assertEquals(new Point2DDouble(2, 3), it.next());
+        Assertions.assertEquals(new Point2DDouble(4, 5), it.next());
+        Assertions.assertFalse(it.hasNext());
+        Assertions.assertEquals(2, list.stream().count());
+    }
+
+    @Test
+    void testListIteratorModifications() {
+        PrimitivePointListImpl list = new PrimitivePointListImpl();
+        list.pushBack(1, 1);
+        list.pushBack(2, 2);
+        list.pushBack(3, 3);
+
+        ListIterator<Point2DDouble> it = list.getListIterator();
+        it.next();
+        it.next();
+        it.remove();
+        it.add(new Point2DDouble(5, 5));
+        Assertions.assertEquals(new Point2DDouble(5, 5), it.previous());
+        it.set(new Point2DDouble(0, 0));
+        Assertions.assertEquals(3, list.getSize());
+        Assertions.assertEquals(0, list.getX(1));
+        Assertions.assertEquals(3, list.getX(2));
+        Assertions.assertFalse(list.isSortedXAscend());
+
+        Assertions.assertTrue(list.removeFirstOccurrence(new Point2DDouble(3, 3)));
+        Assertions.assertFalse(list.removeFirstOccurrence(new Point2DDouble(3, 3)));
+        Assertions.assertThrows(ConcurrentModificationException.class, it::next);
+    }
+
+    @Test
+    void testSortXAscend() {
+        PrimitivePointListImpl list = new PrimitivePointListImpl("sorted");
+        list.pushBack(1, 0);
+        list.pushBack(2, 0);
+        Assertions.assertTrue(list.isSortedXAscend());
+
+        Random random = new Random(0);
+        for (int i = 0; i < 1000; i++) {
+            list.pushBack(random.nextInt(50), i);
+        }
+        Assertions.assertFalse(list.isSortedXAscend());
+
+        PointList copy = list.sortXAscend();
+        Assertions.assertFalse(list.isSortedXAscend());
+        Assertions.assertEquals("sorted", copy.getName());
+        Assertions.assertEquals(list.getSize(), copy.getSize());
+        for (int i = 1; i < copy.getSize(); i++) {
+            Assertions.assertTrue(copy.getX(i - 1) <= copy.getX(i));
+            // The sort is stable, the y values record the insertion order of equal x values
+            if (copy.getX(i - 1) == copy.getX(i)) {
+                Assertions.assertTrue(copy.getY(i - 1) < copy.getY(i));
+            }
+        }
+
+        list.sortXAscendInPlace();
+        Assertions.assertTrue(list.isSortedXAscend());
+        for (int i = 0; i < list.getSize(); i++) {
+            Assertions.assertEquals(copy.getX(i), list.getX(i));
+            Assertions.assertEquals(copy.getY(i), list.getY(i));
+        }
+    }
+
+    @Test
+    void testMatchesSimplePointListImpl() {
+        SimplePointListImpl simple = new SimplePointListImpl("simple");
+        simple.pushBack(new Point2DDouble(3, 1));
+        simple.pushBack(new Point2DDouble(1, 2));
+        simple.pushBack(new Point2DDouble(2, 3));
+        PrimitivePointListImpl primitive = new PrimitivePointListImpl(simple);
+
+        Iterator<Point2DDouble> expected = simple.sortXAscend().iterator();
+        Iterator<Point2DDouble> actual = primitive.sortXAscend().iterator();
+        while (expected.hasNext()) {
+            Assertions.assertEquals(expected.next(), actual.next());
+        }
+        Assertions.assertFalse(actual.hasNext());
+        Assertions.assertEquals(simple.getMinY(), primitive.getMinY());
+        Assertions.assertEquals(simple.getMaxX(), primitive.getMaxX());
+    }
+}
@@ -0,0 +1,100 @@
+package de.tudresden.inf.mci.brailleplot.datacontainers;
+
+import de.tudresden.inf.mci.brailleplot.point.Point2DDouble;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+/**
+ * @author agent
+ */
+class SummaryStatisticsTest {
+
+    private static void assertStatistics(final SummaryStatistics statistics, final long count, final double min, final double max,
+                                         final double sum, final double positiveSum, final double negativeSum) {
+        Assertions.assertEquals(count, statistics.getCount());
+        Assertions.assertEquals(min, statistics.getMin());
+        Assertions.assertEquals(max, statistics.getMax());
+        Assertions.assertEquals(sum, statistics.getSum());
+        Assertions.assertEquals(positiveSum, statistics.getPositiveSum());
+        Assertions.assertEquals(negativeSum, statistics.getNegativeSum());
+    }
+
+    @Test
+    void testEmpty() {
+        SummaryStatistics statistics = new SummaryStatistics();
+        assertStatistics(statistics, 0, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, 0, 0, 0);
+        Assertions.assertTrue(Double.isNaN(statistics.getMean()));
+        Assertions.assertEquals(0, statistics.getRange());
+        Assertions.assertEquals(0, statistics.getPositiveExtent());
+        Assertions.assertEquals(0, statistics.getNegativeExtent());
+    }
+
+    @Test
+    void testAcceptAndCombine() {
+        SummaryStatistics first = new SummaryStatistics();
+        first.accept(2);
+        first.accept(-3);
+        SummaryStatistics second = new SummaryStatistics();
+        second.accept(5);
+        SummaryStatistics combined = new SummaryStatistics(first);
+        combined.combine(second);
+
+        assertStatistics(first, 2, -3, 2, -1, 2, -3);
+        assertStatistics(combined, 3, -3, 5, 4, 7, -3);
+        Assertions.assertEquals(4.0 / 3, combined.getMean());
+        Assertions.assertEquals(8, combined.getRange());
+        Assertions.assertEquals(5, combined.getPositiveExtent());
+        Assertions.assertEquals(3, combined.getNegativeExtent());
+
+        combined.reset();
+        assertStatistics(combined, 0, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, 0, 0, 0);
+    }
+
+    @Test
+    void testExtentsOfOneSidedValues() {
+        SummaryStatistics statistics = new SummaryStatistics();
+        statistics.accept(1);
+        statistics.accept(4);
+        Assertions.assertEquals(4, statistics.getPositiveExtent());
+        Assertions.assertEquals(0, statistics.getNegativeExtent());
+    }
+
+    @Test
+    void testMaintainedByContainers() {
+        PrimitivePointListImpl primitive = new PrimitivePointListImpl("a");
+        primitive.pushBack(3, -1);
+        primitive.pushBack(1, 4);
+        PointList simple = new SimplePointListImpl("b", List.of(new Point2DDouble(2.0, 2.0)));
+        simple.pushBack(new Point2DDouble(5.0, -6.0));
+        PointListContainer<PointList> container = new SimplePointListContainerImpl(List.of(primitive));
+        container.pushBack(simple);
+
+        assertStatistics(primitive.getStatisticsY(), 2, -1, 4, 3, 4, -1);
+        assertStatistics(simple.getStatisticsX(), 2, 2, 5, 7, 7, 0);
+        assertStatistics(container.getStatisticsX(), 4, 1, 5, 11, 11, 0);
+        assertStatistics(container.getStatisticsY(), 4, -6, 4, -1, 6, -7);
+        Assertions.assertEquals(container.getMinY(), container.getStatisticsY().getMin());
+
+        // Sorting keeps the statistics, removing requires a recalculation
+        assertStatistics(primitive.sortXAscend().getStatisticsY(), 2, -1, 4, 3, 4, -1);
+        simple.removeFirstOccurrence(new Point2DDouble(5.0, -6.0));
+        simple.calculateExtrema();
+        container.calculateExtrema();
+        assertStatistics(simple.getStatisticsY(), 1, 2, 2, 2, 2, 0);
+        assertStatistics(container.getStatisticsY(), 3, -1, 4, 5, 6, -1);
+        Assertions.assertEquals(-1, container.getMinY());
+    }
+
+    @Test
+    void testPushBackAll() {
+        PrimitivePointListImpl list = new PrimitivePointListImpl();
+        list.pushBack(0, 1);
+        PrimitivePointListImpl other = new PrimitivePointListImpl();
+        other.pushBack(1, -2);
+        other.pushBack(2, 3);
+        list.pushBackAll(other);
+        assertStatistics(list.getStatisticsY(), 3, -2, 3, 2, 4, -2);
+    }
+}
@@ -10,6 +10,8 @@ import org.junit.jupiter.api.Test;
 
 import java.io.File;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.ListIterator;
 
 
@@ -67,6 +69,55 @@ public class RasterCanvasTest {
                     Assertions.assertEquals(16, canvas.quantifyY(51.26));
                     Assertions.assertEquals(89, canvas.quantifyY(295.0));
                     Assertions.assertEquals(89, canvas.quantifyY(350.0));
+
+                    // Bulk quantification
+                    Assertions.assertArrayEquals(new int[] {0, 9, 10, 69}, canvas.quantifyX(new double[] {-5, 28.25, 28.26, 250}));
+                    Assertions.assertArrayEquals(new int[] {16, 0, 89}, canvas.quantifyY(new double[] {51.26, 0, 295.0}));
+                }
+        );
+    }
+
+    @Test
+    public void testGeometryIsShared() {
+        Assertions.assertDoesNotThrow(
+                () -> {
+                    ConfigurationParser parser = new JavaPropertiesConfigurationParser(mBaseConfig, mDefaultConfig);
+                    RasterCanvas canvas = new SixDotBrailleRasterCanvas(parser.getPrinter(), parser.getRepresentation(), parser.getFormat("test"));
+                    RasterCanvas other = new SixDotBrailleRasterCanvas(parser.getPrinter(), parser.getRepresentation(), parser.getFormat("test"));
+                    Assertions.assertSame(canvas.getGeometry(), other.getGeometry());
+                    Assertions.assertNotSame(canvas.getNewPage(), other.getNewPage());
+
+                    // The shared rectangles cannot be modified through a canvas
+                    canvas.getDotRectangle().removeFromTop(10);
+                    Assertions.assertEquals(other.getDotRectangle().getHeight(), canvas.getDotRectangle().getHeight());
+
+                    // Other configurations and cell sizes have their own geometry
+                    ConfigurationParser marginsParser = new JavaPropertiesConfigurationParser(mMarginsOnlyConfig, mDefaultConfig);
+                    RasterCanvas margins = new SixDotBrailleRasterCanvas(marginsParser.getPrinter(), marginsParser.getRepresentation(), marginsParser.getFormat("test"));
+                    Assertions.assertNotSame(canvas.getGeometry(), margins.getGeometry());
+                    Assertions.assertNotSame(canvas.getGeometry(), RasterGeometry.of(parser.getPrinter(), parser.getFormat("test"), 2, 4));
+                }
+        );
+    }
+
+    @Test
+    public void testQuantificationFindsClosestPosition() {
+        Assertions.assertDoesNotThrow(
+                () -> {
+                    ConfigurationParser parser = new JavaPropertiesConfigurationParser(mBaseConfig, mDefaultConfig);
+                    RasterCanvas canvas = new SixDotBrailleRasterCanvas(parser.getPrinter(), parser.getRepresentation(), parser.getFormat("test"));
+                    double[] positions = canvas.getXPositions();
+                    for (double value = -1; value < positions[positions.length - 1] + 1; value += 0.05) {
+                        int index = canvas.quantifyX(value);
+                        // No other position is closer, positions in between are not skipped
+                        for (int i = 0; i < positions.length; i++) {
+                            Assertions.assertTrue(Math.abs(positions[index] - value) <= Math.abs(positions[i] - value));
+                        }
+                        Assertions.assertTrue(index == 0 || Math.abs(positions[index - 1] - value) > Math.abs(positions[index] - value));
+                    }
+                    // The returned positions are copies
+                    positions[0] = 100;
+                    Assertions.assertEquals(0, canvas.getXPositions()[0]);
                 }
         );
     }
@@ -187,4 +238,56 @@ public class RasterCanvasTest {
                 }
         );
     }
+
+    @Test
+    public void testPageCompletedListener() {
+        Assertions.assertDoesNotThrow(
+                () -> {
+                    ConfigurationParser parser = new JavaPropertiesConfigurationParser(mBaseConfig, mDefaultConfig);
+                    RasterCanvas canvas = new SixDotBrailleRasterCanvas(parser.getPrinter(), parser.getRepresentation(), parser.getFormat("test"));
+                    List<MatrixData<Boolean>> completed = new ArrayList<>();
+                    canvas.setPageCompletedListener(completed::add, false);
+
+                    MatrixData<Boolean> first = canvas.getNewPage();
+                    Assertions.assertTrue(completed.isEmpty());
+                    MatrixData<Boolean> second = canvas.getNewPage();
+                    Assertions.assertEquals(1, completed.size());
+                    Assertions.assertSame(first, completed.get(0));
+                    Assertions.assertSame(second, canvas.getCurrentPage());
+
+                    canvas.finishPages();
+                    Assertions.assertEquals(2, completed.size());
+                    Assertions.assertSame(second, completed.get(1));
+                    Assertions.assertEquals(2, canvas.getPageCount());
+                    Assertions.assertFalse(canvas.getPageIterator().hasNext());
+                }
+        );
+    }
+
+    @Test
+    public void testPageCompletedListenerRetainingPages() {
+        Assertions.assertDoesNotThrow(
+                () -> {
+                    ConfigurationParser parser = new JavaPropertiesConfigurationParser(mBaseConfig, mDefaultConfig);
+                    RasterCanvas canvas = new SixDotBrailleRasterCanvas(parser.getPrinter(), parser.getRepresentation(), parser.getFormat("test"));
+                    List<MatrixData<Boolean>> completed = new ArrayList<>();
+                    canvas.setPageCompletedListener(completed::add, true);
+
+                    MatrixData<Boolean> first = canvas.getNewPage();
+                    canvas.finishPages();
+                    canvas.finishPages();
+                    Assertions.assertEquals(1, completed.size());
+                    Assertions.assertSame(first, completed.get(0));
+
+                    // Continuing to render after finishing must not complete the first page again
+                    MatrixData<Boolean> second = canvas.getNewPage();
+                    Assertions.assertEquals(1, completed.size());
+                    canvas.finishPages();
+                    Assertions.assertEquals(2, completed.size());
+                    Assertions.assertSame(second, completed.get(1));
+                    Assertions.assertEquals(2, canvas.getPageCount());
+                    Assertions.assertSame(first, canvas.getPageIterator().next());
+                }
+        );
+    }
 }
@@ -0,0 +1,158 @@
+package de.tudresden.inf.mci.brailleplot.printabledata;
+
+import de.tudresden.inf.mci.brailleplot.configparser.Format;
+import de.tudresden.inf.mci.brailleplot.configparser.Printer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Random;
+
+class BitMatrixDataTest {
+
+    private BitMatrixData bitMat(final int rows, final int columns) {
+        return new BitMatrixData(new Printer(new LinkedList<>()), new Format(new LinkedList<>()), rows, columns);
+    }
+
+    private SimpleMatrixDataImpl<Boolean> simpleMat(final int rows, final int columns) {
+        return new SimpleMatrixDataImpl<>(new Printer(new LinkedList<>()), new Format(new LinkedList<>()), rows, columns, false);
+    }
+
+    @Test
+    void getSetValueTest() {
+        BitMatrixData matrixData = bitMat(3, 130);
+        Assertions.assertFalse(matrixData.getValue(0, 0));
+        matrixData.setValue(0, 0, true);
+        matrixData.setValue(2, 129, true);
+        matrixData.setValue(1, 64, true);
+        Assertions.assertTrue(matrixData.getValue(0, 0));
+        Assertions.assertTrue(matrixData.getValue(2, 129));
+        Assertions.assertTrue(matrixData.getValue(1, 64));
+        Assertions.assertFalse(matrixData.getValue(1, 63));
+        Assertions.assertFalse(matrixData.getValue(0, 64));
+        matrixData.setValue(1, 64, false);
+        Assertions.assertFalse(matrixData.getValue(1, 64));
+        Assertions.assertEquals(2, matrixData.countSetBits());
+    }
+
+    @Test
+    void getSetValueTestInvalidPos() {
+        BitMatrixData matrixData = bitMat(3, 3);
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> {
+            matrixData.setValue(matrixData.getRowCount(), 0, true);
+        });
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> {
+            matrixData.setValue(0, matrixData.getColumnCount(), true);
+        });
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> {
+            matrixData.getValue(-1, 0);
+        });
+        Assertions.assertThrows(NullPointerException.class, () -> {
+            matrixData.setValue(0, 0, null);
+        });
+    }
+
+    @Test
+    void iteratorsMatchSimpleImpl() {
+        BitMatrixData bits = bitMat(12, 70);
+        SimpleMatrixDataImpl<Boolean> simple = simpleMat(12, 70);
+        Random random = new Random(42);
+        for (int i = 0; i < 300; i++) {
+            int row = random.nextInt(12);
+            int column = random.nextInt(70);
+            bits.setValue(row, column, true);
+            simple.setValue(row, column, true);
+        }
+
+        Iterator<Boolean> bitIt = bits.getDotIterator(2, 3);
+        Iterator<Boolean> simpleIt = simple.getDotIterator(2, 3);
+        while (simpleIt.hasNext()) {
+            Assertions.assertEquals(simpleIt.next(), bitIt.next());
+        }
+        Assertions.assertFalse(bitIt.hasNext());
+
+        Iterator<BrailleCell6<Boolean>> bitCellIt = bits.getBrailleCell6Iterator();
+        Iterator<BrailleCell6<Boolean>> simpleCellIt = simple.getBrailleCell6Iterator();
+        while (simpleCellIt.hasNext()) {
+            Assertions.assertEquals(simpleCellIt.next().getBitRepresentationFromBool(), bitCellIt.next().getBitRepresentationFromBool());
+        }
+        Assertions.assertFalse(bitCellIt.hasNext());
+    }
+
+    @Test
+    void brailleCell6MasksMatchIterator() {
+        BitMatrixData bits = bitMat(6, 140);
+        Random random = new Random(3);
+        for (int i = 0; i < 400; i++) {
+            bits.setValue(random.nextInt(6), random.nextInt(140), true);
+        }
+        byte[] masks = new byte[70];
+        Iterator<BrailleCell6<Boolean>> cellIt = bits.getBrailleCell6Iterator();
+        for (int cellRow = 0; cellRow < 2; cellRow++) {
+            bits.getBrailleCell6Masks(cellRow, masks);
+            for (byte mask : masks) {
+                Assertions.assertEquals(cellIt.next().getBitMaskFromBool(), mask);
+            }
+        }
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> bits.getBrailleCell6Masks(2, masks));
+    }
+
+    @Test
+    void invalidIteratorSize() {
+        BitMatrixData matrixData = bitMat(4, 4);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> matrixData.getDotIterator(2, 3));
+    }
+
+    @Test
+    void fillRectangleTest() {
+        BitMatrixData matrixData = bitMat(10, 200);
+        matrixData.fillRectangle(2, 60, 3, 80, true);
+        for (int row = 0; row < 10; row++) {
+            for (int column = 0; column < 200; column++) {
+                boolean expected = row >= 2 && row < 5 && column >= 60 && column < 140;
+                Assertions.assertEquals(expected, matrixData.getValue(row, column));
+            }
+        }
+        Assertions.assertEquals(3 * 80, matrixData.countSetBits());
+
+        matrixData.fillRectangle(3, 64, 1, 1, false);
+        Assertions.assertFalse(matrixData.getValue(3, 64));
+        Assertions.assertEquals(3 * 80 - 1, matrixData.countSetBits());
+
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> matrixData.fillRectangle(0, 150, 1, 51, true));
+    }
+
+    @Test
+    void clearRowTest() {
+        BitMatrixData matrixData = bitMat(3, 100);
+        matrixData.fillRectangle(0, 0, 3, 100, true);
+        matrixData.clearRow(1);
+        Assertions.assertEquals(200, matrixData.countSetBits());
+        Assertions.assertFalse(matrixData.getValue(1, 99));
+        Assertions.assertTrue(matrixData.getValue(2, 0));
+        matrixData.clear();
+        Assertions.assertEquals(0, matrixData.countSetBits());
+    }
+
+    @Test
+    void orAndTest() {
+        BitMatrixData first = bitMat(3, 3);
+        BitMatrixData second = bitMat(3, 3);
+        first.setValue(0, 0, true);
+        first.setValue(1, 1, true);
+        second.setValue(1, 1, true);
+        second.setValue(2, 2, true);
+
+        BitMatrixData union = bitMat(3, 3);
+        union.or(first);
+        union.or(second);
+        Assertions.assertEquals(3, union.countSetBits());
+
+        first.and(second);
+        Assertions.assertEquals(1, first.countSetBits());
+        Assertions.assertTrue(first.getValue(1, 1));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> first.or(bitMat(3, 4)));
+    }
+}
@@ -0,0 +1,122 @@
+package de.tudresden.inf.mci.brailleplot.printabledata;
+
+import de.tudresden.inf.mci.brailleplot.configparser.Format;
+import de.tudresden.inf.mci.brailleplot.configparser.Printer;
+import de.tudresden.inf.mci.brailleplot.point.Point2DValued;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tec.units.ri.quantity.Quantities;
+import tec.units.ri.unit.MetricPrefix;
+
+import javax.measure.Quantity;
+import javax.measure.quantity.Length;
+import java.util.ArrayList;
+import java.util.Iterator;
+
+import static tec.units.ri.unit.Units.METRE;
+
+class PrimitiveFloatingPointDataImplTest {
+
+    PrimitiveFloatingPointDataImpl<Boolean> emptyFloatingPointData() {
+        return new PrimitiveFloatingPointDataImpl<>(new Printer(new ArrayList<>()), new Format(new ArrayList<>()));
+    }
+
+    Point2DValued<Quantity<Length>, Boolean> point2dMillimeter(double x, double y) {
+        return new Point2DValued<>(Quantities.getQuantity(x, MetricPrefix.MILLI(METRE)), Quantities.getQuantity(y, MetricPrefix.MILLI(METRE)), true);
+    }
+
+    @Test
+    void testAddPointNull() {
+        FloatingPointData<Boolean> data = emptyFloatingPointData();
+        Assertions.assertThrows(NullPointerException.class, () -> {
+            data.addPointIfNotExisting(null);
+        });
+        Assertions.assertThrows(NullPointerException.class, () -> {
+            data.addPoint(null);
+        });
+    }
+
+    @Test
+    void testCursorKeepsOrder() {
+        FloatingPointData<Boolean> data = emptyFloatingPointData();
+        for (int i = 0; i < 100; i++) {
+            data.addPoint(0.5 * i, 100 - 0.5 * i, i % 2 == 0);
+        }
+        FloatingPointCursor<Boolean> cursor = data.getCursor();
+        int i = 0;
+        while (cursor.next()) {
+            Assertions.assertEquals(0.5 * i, cursor.getX());
+            Assertions.assertEquals(100 - 0.5 * i, cursor.getY());
+            Assertions.assertEquals(i % 2 == 0, cursor.getValue());
+            i++;
+        }
+        Assertions.assertEquals(100, i);
+        Assertions.assertEquals(100, data.size());
+        Assertions.assertFalse(cursor.next());
+    }
+
+    @Test
+    void testIteratorAdaptsToQuantities() {
+        FloatingPointData<Boolean> data = emptyFloatingPointData();
+        data.addPoint(point2dMillimeter(1.5, 2.5));
+        data.addPoint(new Point2DValued<>(Quantities.getQuantity(0.02, METRE), Quantities.getQuantity(0.01, METRE), true));
+        Iterator<Point2DValued<Quantity<Length>, Boolean>> it = data.getIterator();
+        Assertions.assertEquals(point2dMillimeter(1.5, 2.5), it.next());
+        Point2DValued<Quantity<Length>, Boolean> converted = it.next();
+        Assertions.assertEquals(20, converted.getX().getValue().doubleValue(), 1e-9);
+        Assertions.assertEquals(10, converted.getY().getValue().doubleValue(), 1e-9);
+        Assertions.assertEquals(MetricPrefix.MILLI(METRE), converted.getX().getUnit());
+        Assertions.assertFalse(it.hasNext());
+    }
+
+    @Test
+    void testPointExistsWithinRange() {
+        FloatingPointData<Boolean> data = emptyFloatingPointData();
+        data.addPoint(3.0, 3.0, true);
+        Assertions.assertTrue(data.pointExists(3.0, 3.0));
+        Assertions.assertTrue(data.pointExists(3.0 + FloatingPointData.RANGE, 3.0 - FloatingPointData.RANGE));
+        Assertions.assertTrue(data.pointExists(1.6, 4.4));
+        Assertions.assertFalse(data.pointExists(4.6, 3.0));
+        Assertions.assertFalse(data.pointExists(3.0, 1.4));
+        Assertions.assertTrue(data.pointExists(point2dMillimeter(1.6, 4.4)));
+    }
+
+    @Test
+    void testPointExistsWithNegativeCoordinates() {
+        FloatingPointData<Boolean> data = emptyFloatingPointData();
+        data.addPoint(-0.5, 0.5, true);
+        Assertions.assertTrue(data.pointExists(0.5, -0.5));
+        Assertions.assertFalse(data.pointExists(-2.1, 0.5));
+    }
+
+    @Test
+    void testPointExistsWithOtherUnit() {
+        FloatingPointData<Boolean> data = emptyFloatingPointData();
+        data.addPoint(point2dMillimeter(20, 20));
+        Point2DValued<Quantity<Length>, Boolean> inMetre = new Point2DValued<>(Quantities.getQuantity(0.021, METRE), Quantities.getQuantity(0.02, METRE), true);
+        Assertions.assertTrue(data.pointExists(inMetre));
+    }
+
+    @Test
+    void testAddPointIfNotExistingMatchesSimpleImpl() {
+        PrimitiveFloatingPointDataImpl<Boolean> primitive = emptyFloatingPointData();
+        FloatingPointData<Boolean> simple = new SimpleFloatingPointDataImpl<>(new Printer(new ArrayList<>()), new Format(new ArrayList<>()));
+        for (int i = 0; i < 40; i++) {
+            for (int j = 0; j < 40; j++) {
+                primitive.addPointIfNotExisting(i * 0.7, j * 1.3, true);
+                simple.addPointIfNotExisting(i * 0.7, j * 1.3, true);
+            }
+        }
+        FloatingPointCursor<Boolean> simpleCursor = simple.getCursor();
+        FloatingPointCursor<Boolean> primitiveCursor = primitive.getCursor();
+        int count = 0;
+        while (simpleCursor.next()) {
+            Assertions.assertTrue(primitiveCursor.next());
+            Assertions.assertEquals(simpleCursor.getX(), primitiveCursor.getX(), 1e-9);
+            Assertions.assertEquals(simpleCursor.getY(), primitiveCursor.getY(), 1e-9);
+            count++;
+        }
+        Assertions.assertFalse(primitiveCursor.next());
+        Assertions.assertEquals(count, primitive.size());
+    }
+}
@@ -6,11 +6,13 @@ import de.tudresden.inf.mci.brailleplot.point.Point2DValued;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import tec.units.ri.quantity.Quantities;
+import tec.units.ri.unit.MetricPrefix;
 
 import javax.measure.Quantity;
 import javax.measure.quantity.Length;
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 
 import static tec.units.ri.unit.Units.METRE;
 
@@ -24,6 +26,10 @@ class SimpleFloatingPointDataImplTest {
         return new Point2DValued<>(Quantities.getQuantity(one, METRE), Quantities.getQuantity(two, METRE), val);
     }
 
+    Point2DValued<Quantity<Length>, Integer> point2dMillimeter(double x, double y) {
+        return new Point2DValued<>(Quantities.getQuantity(x, MetricPrefix.MILLI(METRE)), Quantities.getQuantity(y, MetricPrefix.MILLI(METRE)), 1);
+    }
+
     @Test
     void testAddPointNull() {
         FloatingPointData<Integer> data = emptyIntFloatingPointData();
@@ -46,4 +52,53 @@ class SimpleFloatingPointDataImplTest {
             i++;
         }
     }
+
+    @Test
+    void testPointExistsWithinRange() {
+        FloatingPointData<Integer> data = emptyIntFloatingPointData();
+        data.addPoint(point2dMillimeter(3.0, 3.0));
+        Assertions.assertTrue(data.pointExists(point2dMillimeter(3.0, 3.0)));
+        Assertions.assertTrue(data.pointExists(point2dMillimeter(3.0 + FloatingPointData.RANGE, 3.0 - FloatingPointData.RANGE)));
+        Assertions.assertTrue(data.pointExists(point2dMillimeter(1.6, 4.4)));
+        Assertions.assertFalse(data.pointExists(point2dMillimeter(4.6, 3.0)));
+        Assertions.assertFalse(data.pointExists(point2dMillimeter(3.0, 1.4)));
+    }
+
+    @Test
+    void testPointExistsWithNegativeCoordinates() {
+        FloatingPointData<Integer> data = emptyIntFloatingPointData();
+        data.addPoint(point2dMillimeter(-0.5, 0.5));
+        Assertions.assertTrue(data.pointExists(point2dMillimeter(0.5, -0.5)));
+        Assertions.assertFalse(data.pointExists(point2dMillimeter(-2.1, 0.5)));
+    }
+
+    @Test
+    void testPointExistsWithOtherUnit() {
+        FloatingPointData<Integer> data = emptyIntFloatingPointData();
+        data.addPoint(point2dMillimeter(20, 20));
+        Assertions.assertTrue(data.pointExists(new Point2DValued<>(Quantities.getQuantity(0.021, METRE), Quantities.getQuantity(0.02, METRE), 1)));
+    }
+
+    @Test
+    void testAddPointIfNotExistingMatchesLinearScan() {
+        FloatingPointData<Integer> data = emptyIntFloatingPointData();
+        List<double[]> expected = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            for (int j = 0; j < 40; j++) {
+                double x = i * 0.7;
+                double y = j * 1.3;
+                boolean exists = expected.stream().anyMatch(p -> Math.abs(p[0] - x) <= FloatingPointData.RANGE && Math.abs(p[1] - y) <= FloatingPointData.RANGE);
+                Assertions.assertEquals(exists, data.pointExists(point2dMillimeter(x, y)));
+                if (!exists) {
+                    expected.add(new double[] {x, y});
+                }
+                data.addPointIfNotExisting(point2dMillimeter(x, y));
+            }
+        }
+        Iterator<Point2DValued<Quantity<Length>, Integer>> it = data.getIterator();
+        for (double[] position : expected) {
+            Assertions.assertEquals(point2dMillimeter(position[0], position[1]), it.next());
+        }
+        Assertions.assertFalse(it.hasNext());
+    }
 }
@@ -1,12 +1,21 @@
 package de.tudresden.inf.mci.brailleplot.printerbackend;
 
+import de.tudresden.inf.mci.brailleplot.configparser.Format;
+import de.tudresden.inf.mci.brailleplot.configparser.Printer;
+import de.tudresden.inf.mci.brailleplot.configparser.PrinterProperty;
+import de.tudresden.inf.mci.brailleplot.printabledata.BitMatrixData;
+import de.tudresden.inf.mci.brailleplot.printabledata.SimpleMatrixDataImpl;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
 /**
  * Unit Tests for the NormalBuilder Class.
  * @author Andrey Ruzhanskiy
- * @version 15.07.2019
+ * @version 2026.10.18
  */
 public class NormalBuilderTest {
 
@@ -22,4 +31,28 @@ public class NormalBuilderTest {
             normalF1.assemble(null);
         });
     }
+
+    /**
+     * Test for assembling a bit packed matrix.
+     * Expected: The same document as for the generic matrix implementation.
+     */
+    @Test
+    public void testBitMatrixMatchesGenericMatrix(){
+        List<PrinterProperty> properties = new LinkedList<>();
+        properties.add(new PrinterProperty("brailletable", "mapping/eurobraille.properties"));
+        Printer printer = new Printer(properties);
+        Format format = new Format(new LinkedList<>());
+        BitMatrixData bits = new BitMatrixData(printer, format, 9, 136);
+        SimpleMatrixDataImpl<Boolean> simple = new SimpleMatrixDataImpl<>(printer, format, 9, 136, false);
+        Random random = new Random(7);
+        for (int i = 0; i < 500; i++) {
+            int row = random.nextInt(9);
+            int column = random.nextInt(136);
+            bits.setValue(row, column, true);
+            simple.setValue(row, column, true);
+        }
+        byte[] expected = new NormalBuilder().assemble(simple);
+        Assertions.assertEquals(3 * (68 + 2), expected.length);
+        Assertions.assertArrayEquals(expected, new NormalBuilder().assemble(bits));
+    }
 }
@@ -0,0 +1,35 @@
+package de.tudresden.inf.mci.brailleplot.rendering;
+
+import de.tudresden.inf.mci.brailleplot.brailleparser.PropertiesParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class BrailleTranslationTest {
+
+    private static final PropertiesParser SEMANTIC_TABLE = new PropertiesParser("mapping/basic_DE.properties");
+
+    @Test
+    void testDotPatternsMatchSemanticTable() {
+        BrailleTranslation translation = BrailleTranslation.fromBraille(" !?", SEMANTIC_TABLE);
+        Assertions.assertEquals(3, translation.length());
+        Assertions.assertEquals(0, translation.getDotPattern(0));
+        Assertions.assertEquals(0b010110, translation.getDotPattern(1));
+        Assertions.assertEquals(0b100010, translation.getDotPattern(2));
+        for (int cell = 0; cell < translation.length(); cell++) {
+            String dots = SEMANTIC_TABLE.getCharToBraille(" !?".substring(cell, cell + 1));
+            for (int dot = 0; dot < dots.length(); dot++) {
+                Assertions.assertEquals(dots.charAt(dot) == '1', translation.isDotSet(cell, dot));
+            }
+        }
+    }
+
+    @Test
+    void testEmptyTranslation() {
+        Assertions.assertEquals(0, BrailleTranslation.fromBraille("", SEMANTIC_TABLE).length());
+    }
+
+    @Test
+    void testUnknownCharacter() {
+        Assertions.assertThrows(RuntimeException.class, () -> BrailleTranslation.fromBraille("☃", SEMANTIC_TABLE));
+    }
+}
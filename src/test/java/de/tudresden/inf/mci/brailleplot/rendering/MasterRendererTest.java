@@ -8,6 +8,16 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 
 public class MasterRendererTest {
@@ -94,4 +104,142 @@ public class MasterRendererTest {
 
         Assertions.assertThrows(IllegalArgumentException.class, () -> empty.rasterize(new Image(getResource("examples/img/dummy.bmp"))));
     }
+
+    @Test
+    public void testConcurrentRasterizingUsesIsolatedRenderingBases() {
+        Assertions.assertDoesNotThrow(
+                () -> {
+                    Set<FunctionalRenderingBase> usedBases = ConcurrentHashMap.newKeySet();
+                    MasterRenderer renderer = new MasterRenderer(mPrinter, mRepresentation, mFormat, () -> {
+                        FunctionalRenderingBase renderingBase = new FunctionalRenderingBase();
+                        renderingBase.registerRasterizer(new FunctionalRasterizer<>(Image.class, (data, canvas) -> {
+                            canvas.getNewPage();
+                            canvas.getNewPage();
+                        }));
+                        usedBases.add(renderingBase);
+                        return renderingBase;
+                    });
+                    List<Renderable> images = new ArrayList<>();
+                    for (int i = 0; i < 8; i++) {
+                        images.add(new Image(getResource("examples/img/dummy.bmp")));
+                    }
+                    ExecutorService executor = Executors.newFixedThreadPool(4);
+                    try {
+                        Set<RasterCanvas> canvases = new HashSet<>();
+                        for (Future<RasterCanvas> future : renderer.rasterizeAll(images, executor)) {
+                            RasterCanvas canvas = future.get();
+                            Assertions.assertEquals(2, canvas.getPageCount());
+                            canvases.add(canvas);
+                        }
+                        Assertions.assertEquals(8, canvases.size());
+                        // one for the renderer itself plus one per task
+                        Assertions.assertEquals(9, usedBases.size());
+                    } finally {
+                        executor.shutdown();
+                    }
+                }
+        );
+    }
+
+    @Test
+    public void testConcurrentRasterizingUsesConfigurationAtSubmission() {
+        Assertions.assertDoesNotThrow(
+                () -> {
+                    Format otherFormat = new JavaPropertiesConfigurationParser(mBaseConfig, mDefaultConfig).getFormat("default");
+                    MasterRenderer renderer = new MasterRenderer(mPrinter, mRepresentation, mFormat, () -> {
+                        FunctionalRenderingBase renderingBase = new FunctionalRenderingBase();
+                        renderingBase.registerRasterizer(new FunctionalRasterizer<>(Image.class, (data, canvas) -> canvas.getNewPage()));
+                        return renderingBase;
+                    });
+                    ExecutorService executor = Executors.newSingleThreadExecutor();
+                    CountDownLatch release = new CountDownLatch(1);
+                    try {
+                        // Block the executor, so the task runs after the format was changed
+                        executor.submit(() -> {
+                            release.await();
+                            return null;
+                        });
+                        List<Future<RasterCanvas>> futures = renderer.rasterizeAll(List.of(new Image(getResource("examples/img/dummy.bmp"))), executor);
+                        renderer.setFormat(otherFormat);
+                        release.countDown();
+                        Assertions.assertSame(mFormat, futures.get(0).get().getFormat());
+                        Assertions.assertSame(otherFormat, renderer.createCompatibleRasterCanvas().getFormat());
+                    } finally {
+                        executor.shutdown();
+                    }
+                }
+        );
+    }
+
+    @Test
+    public void testConcurrentRasterizingUsesRenderingBaseAtSubmission() {
+        Assertions.assertDoesNotThrow(
+                () -> {
+                    FunctionalRenderingBase onePage = new FunctionalRenderingBase();
+                    onePage.registerRasterizer(new FunctionalRasterizer<>(Image.class, (data, canvas) -> canvas.getNewPage()));
+                    FunctionalRenderingBase twoPages = new FunctionalRenderingBase();
+                    twoPages.registerRasterizer(new FunctionalRasterizer<>(Image.class, (data, canvas) -> {
+                        for (int i = 0; i < 2; i++) {
+                            canvas.getNewPage();
+                        }
+                    }));
+                    MasterRenderer renderer = new MasterRenderer(mPrinter, mRepresentation, mFormat, onePage);
+                    ExecutorService executor = Executors.newSingleThreadExecutor();
+                    CountDownLatch release = new CountDownLatch(1);
+                    try {
+                        // Block the executor, so the task runs after the rendering base was changed
+                        executor.submit(() -> {
+                            release.await();
+                            return null;
+                        });
+                        List<Future<RasterCanvas>> futures = renderer.rasterizeAll(List.of(new Image(getResource("examples/img/dummy.bmp"))), executor);
+                        renderer.setRenderingBase(twoPages);
+                        release.countDown();
+                        Assertions.assertEquals(1, futures.get(0).get().getPageCount());
+                        Assertions.assertEquals(2, renderer.rasterize(new Image(getResource("examples/img/dummy.bmp"))).getPageCount());
+                    } finally {
+                        executor.shutdown();
+                    }
+                }
+        );
+    }
+
+    @Test
+    public void testDirectRasterizingWaitsForSharedTasks() {
+        Assertions.assertDoesNotThrow(
+                () -> {
+                    AtomicInteger active = new AtomicInteger();
+                    AtomicInteger maxActive = new AtomicInteger();
+                    FunctionalRenderingBase renderingBase = new FunctionalRenderingBase();
+                    renderingBase.registerRasterizer(new FunctionalRasterizer<>(Image.class, (data, canvas) -> {
+                        maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                        try {
+                            Thread.sleep(1);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        canvas.getNewPage();
+                        active.decrementAndGet();
+                    }));
+                    MasterRenderer renderer = new MasterRenderer(mPrinter, mRepresentation, mFormat, renderingBase);
+                    List<Renderable> data = new ArrayList<>();
+                    for (int i = 0; i < 20; i++) {
+                        data.add(new Image(getResource("examples/img/dummy.bmp")));
+                    }
+                    ExecutorService executor = Executors.newFixedThreadPool(4);
+                    try {
+                        List<Future<RasterCanvas>> futures = renderer.rasterizeAll(data, executor);
+                        for (Renderable renderable : data) {
+                            Assertions.assertEquals(1, renderer.rasterize(renderable).getPageCount());
+                        }
+                        for (Future<RasterCanvas> future : futures) {
+                            Assertions.assertEquals(1, future.get().getPageCount());
+                        }
+                    } finally {
+                        executor.shutdown();
+                    }
+                    Assertions.assertEquals(1, maxActive.get());
+                }
+        );
+    }
 }
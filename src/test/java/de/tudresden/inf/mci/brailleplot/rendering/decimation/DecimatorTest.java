@@ -0,0 +1,137 @@
+package de.tudresden.inf.mci.brailleplot.rendering.decimation;
+
+import de.tudresden.inf.mci.brailleplot.datacontainers.PointCursor;
+import de.tudresden.inf.mci.brailleplot.datacontainers.PointList;
+import de.tudresden.inf.mci.brailleplot.datacontainers.PrimitivePointListImpl;
+import de.tudresden.inf.mci.brailleplot.datacontainers.SimplePointListImpl;
+import de.tudresden.inf.mci.brailleplot.point.Point2DDouble;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.DoubleToLongFunction;
+
+/**
+ * @author agent
+ */
+class DecimatorTest {
+
+    private static final double COLUMNS_PER_UNIT = 3;
+    private static final double ROWS_PER_UNIT = 2;
+    private static final DoubleToLongFunction COLUMN = x -> Math.round(x * COLUMNS_PER_UNIT);
+
+    private static PrimitivePointListImpl randomWalk(final int size, final long seed) {
+        Random random = new Random(seed);
+        PrimitivePointListImpl list = new PrimitivePointListImpl("walk", size);
+        double y = 0;
+        for (int i = 0; i < size; i++) {
+            y += random.nextGaussian();
+            list.pushBack(i * 100.0 / size, y);
+        }
+        return list;
+    }
+
+    /**
+     * Rasterize a line through the points like the line chart rasterizer does.
+     */
+    private static Set<Long> rasterize(final PointList points) {
+        Set<Long> dots = new HashSet<>();
+        PointCursor cursor = points.getCursor();
+        long previousX = 0;
+        long previousY = 0;
+        boolean first = true;
+        while (cursor.next()) {
+            long x = COLUMN.applyAsLong(cursor.getX());
+            long y = Math.round(cursor.getY() * ROWS_PER_UNIT);
+            if (!first) {
+                bresenham(dots, previousX, previousY, x, y);
+            }
+            dots.add(x << 32 ^ y);
+            previousX = x;
+            previousY = y;
+            first = false;
+        }
+        return dots;
+    }
+
+    private static void bresenham(final Set<Long> dots, final long xStart, final long yStart, final long xEnd, final long yEnd) {
+        long x = xStart;
+        long y = yStart;
+        long dx = Math.abs(xEnd - x);
+        long dy = -Math.abs(yEnd - y);
+        long sx = Long.signum(xEnd - x);
+        long sy = Long.signum(yEnd - y);
+        long err = dx + dy;
+        while (true) {
+            dots.add(x << 32 ^ y);
+            if (x == xEnd && y == yEnd) {
+                break;
+            }
+            long e2 = 2 * err;
+            if (e2 > dy) {
+                err += dy;
+                x += sx;
+            }
+            if (e2 < dx) {
+                err += dx;
+                y += sy;
+            }
+        }
+    }
+
+    @Test
+    void testMinMaxKeepsExtremaInOrder() {
+        SimplePointListImpl list = new SimplePointListImpl("list");
+        double[] x = {0, 0, 0, 0, 0, 1, 1};
+        double[] y = {5, 9, 1, 7, 3, 2, 4};
+        for (int i = 0; i < y.length; i++) {
+            list.pushBack(new Point2DDouble(x[i], y[i]));
+        }
+        PointList result = new MinMaxDecimator().decimate(list, value -> (long) value);
+        Assertions.assertEquals("list", result.getName());
+        double[] expected = {5, 9, 1, 3, 2, 4};
+        Assertions.assertEquals(expected.length, result.getSize());
+        for (int i = 0; i < expected.length; i++) {
+            Assertions.assertEquals(expected[i], result.getY(i));
+        }
+    }
+
+    @Test
+    void testMinMaxRasterizesToSameDots() {
+        for (long seed = 0; seed < 5; seed++) {
+            PrimitivePointListImpl walk = randomWalk(100000, seed);
+            PointList decimated = new MinMaxDecimator().decimate(walk, COLUMN);
+            Assertions.assertTrue(decimated.getSize() <= 4 * (100 * COLUMNS_PER_UNIT + 1));
+            Assertions.assertEquals(rasterize(walk), rasterize(decimated));
+        }
+    }
+
+    @Test
+    void testLargestTriangleThreeBuckets() {
+        PrimitivePointListImpl walk = randomWalk(10000, 0);
+        PointList decimated = new LargestTriangleThreeBucketsDecimator().decimate(walk, COLUMN);
+        // One point per column, except for the first and the last point, which are kept additionally
+        Set<Long> columns = new HashSet<>();
+        for (int i = 1; i < decimated.getSize() - 1; i++) {
+            Assertions.assertTrue(columns.add(COLUMN.applyAsLong(decimated.getX(i))));
+        }
+        Assertions.assertEquals(100 * COLUMNS_PER_UNIT + 1, columns.size());
+        Assertions.assertEquals(walk.getX(0), decimated.getX(0));
+        Assertions.assertEquals(walk.getY(walk.getSize() - 1), decimated.getY(decimated.getSize() - 1));
+        for (int i = 1; i < decimated.getSize(); i++) {
+            Assertions.assertTrue(decimated.getX(i - 1) < decimated.getX(i));
+        }
+    }
+
+    @Test
+    void testSparseDataIsNotChanged() {
+        PrimitivePointListImpl list = randomWalk(50, 0);
+        DoubleToLongFunction fine = x -> Math.round(x * 100);
+        Assertions.assertSame(list, new MinMaxDecimator().decimate(list, fine));
+        Assertions.assertSame(list, new LargestTriangleThreeBucketsDecimator().decimate(list, fine));
+        Assertions.assertSame(list, DecimationMethod.NONE.getDecimator().decimate(list, COLUMN));
+        Assertions.assertEquals(0, new MinMaxDecimator().decimate(new PrimitivePointListImpl(), COLUMN).getSize());
+    }
+}
@@ -0,0 +1,66 @@
+package de.tudresden.inf.mci.brailleplot.rendering.decimation;
+
+import de.tudresden.inf.mci.brailleplot.datacontainers.PrimitivePointListImpl;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.function.DoubleToIntFunction;
+
+/**
+ * @author agent
+ */
+class DensityGridTest {
+
+    private static final DoubleToIntFunction TRUNCATE = value -> (int) value;
+
+    @Test
+    void testAddAndCount() {
+        DensityGrid grid = new DensityGrid(3, 2, true);
+        grid.add(2, 1);
+        grid.add(2, 1);
+        grid.add(0, 0);
+        Assertions.assertTrue(grid.isOccupied(2, 1));
+        Assertions.assertFalse(grid.isOccupied(1, 1));
+        Assertions.assertEquals(2, grid.getCount(2, 1));
+        Assertions.assertEquals(2, grid.getMaxCount());
+        Assertions.assertEquals(2, grid.getOccupiedBinCount());
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> grid.add(3, 0));
+
+        int bin = grid.nextOccupiedBin(0);
+        Assertions.assertEquals(0, grid.getColumn(bin));
+        Assertions.assertEquals(0, grid.getRow(bin));
+        bin = grid.nextOccupiedBin(bin + 1);
+        Assertions.assertEquals(2, grid.getColumn(bin));
+        Assertions.assertEquals(1, grid.getRow(bin));
+        Assertions.assertEquals(-1, grid.nextOccupiedBin(bin + 1));
+
+        DensityGrid occupancy = new DensityGrid(3, 2, false);
+        occupancy.add(1, 1);
+        Assertions.assertThrows(IllegalStateException.class, () -> occupancy.getCount(1, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> grid.addAll(occupancy));
+    }
+
+    @Test
+    void testParallelBinningMatchesSequential() {
+        Random random = new Random(0);
+        PrimitivePointListImpl points = new PrimitivePointListImpl("points", 0);
+        for (int i = 0; i < 300000; i++) {
+            points.pushBack(random.nextDouble() * 40, random.nextGaussian() * 3 + 10);
+        }
+        DoubleToIntFunction toRow = y -> (int) Math.max(0, Math.min(19, y));
+        DensityGrid parallel = DensityGrid.bin(points, 40, 20, TRUNCATE, toRow, true);
+
+        DensityGrid sequential = new DensityGrid(40, 20, true);
+        for (int i = 0; i < points.getSize(); i++) {
+            sequential.add(TRUNCATE.applyAsInt(points.getX(i)), toRow.applyAsInt(points.getY(i)));
+        }
+        for (int column = 0; column < 40; column++) {
+            for (int row = 0; row < 20; row++) {
+                Assertions.assertEquals(sequential.getCount(column, row), parallel.getCount(column, row));
+                Assertions.assertEquals(sequential.isOccupied(column, row), parallel.isOccupied(column, row));
+            }
+        }
+        Assertions.assertEquals(sequential.getMaxCount(), parallel.getMaxCount());
+    }
+}
@@ -0,0 +1,57 @@
+package de.tudresden.inf.mci.brailleplot.rendering.floatingplotter;
+
+import de.tudresden.inf.mci.brailleplot.datacontainers.PointCursor;
+import de.tudresden.inf.mci.brailleplot.datacontainers.PointList;
+import de.tudresden.inf.mci.brailleplot.datacontainers.PrimitivePointListImpl;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+class LinePlotterTest {
+
+    private static final double RESOLUTION = 0.05;
+
+    @Test
+    void testSymbolCountIsBoundedByResolution() {
+        // 500k samples of two sine periods, spread over 100 mm * 40 mm of paper
+        int samples = 500000;
+        PrimitivePointListImpl series = new PrimitivePointListImpl("sine", samples);
+        for (int i = 0; i < samples; i++) {
+            series.pushBack(i, Math.sin(4 * Math.PI * i / samples));
+        }
+        PointList symbols = LinePlotter.getSymbolPositions(series, x -> 20 + x * 0.0002, y -> 50 - 20 * y, RESOLUTION);
+
+        // A continuous curve crosses at most one cell per resolution step in x and in y
+        int columns = (int) (100 / RESOLUTION) + 1;
+        int rowCrossings = (int) (4 * 40 / RESOLUTION) + 1;
+        Assertions.assertTrue(symbols.getSize() >= columns - 1, "Every column must get a symbol");
+        Assertions.assertTrue(symbols.getSize() <= columns + rowCrossings, "Too many symbols: " + symbols.getSize());
+
+        // No two symbols share a cell
+        double top = 50 - 20 * series.getMaxY();
+        Set<Long> cells = new HashSet<>();
+        PointCursor cursor = symbols.getCursor();
+        while (cursor.next()) {
+            long column = (long) Math.floor((cursor.getX() - 20) / RESOLUTION);
+            long row = (long) Math.floor((cursor.getY() - top) / RESOLUTION);
+            Assertions.assertTrue(cells.add(column << 32 | row));
+        }
+    }
+
+    @Test
+    void testSparseSeriesKeepsEveryPoint() {
+        PrimitivePointListImpl series = new PrimitivePointListImpl();
+        for (int i = 0; i < 10; i++) {
+            series.pushBack(i, i % 3);
+        }
+        PointList symbols = LinePlotter.getSymbolPositions(series, x -> 10 + 5 * x, y -> 100 - 7 * y, RESOLUTION);
+        Assertions.assertEquals(series.getSize(), symbols.getSize());
+        for (int i = 0; i < series.getSize(); i++) {
+            Assertions.assertEquals(10 + 5 * series.getX(i), symbols.getX(i));
+            Assertions.assertEquals(100 - 7 * series.getY(i), symbols.getY(i));
+        }
+        Assertions.assertEquals(0, LinePlotter.getSymbolPositions(new PrimitivePointListImpl(), x -> x, y -> y, RESOLUTION).getSize());
+    }
+}
@@ -0,0 +1,86 @@
+package de.tudresden.inf.mci.brailleplot.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class LruCacheTest {
+
+    @Test
+    void testLoaderCalledOncePerKey() {
+        LruCache<String, Integer> cache = new LruCache<>(4);
+        AtomicInteger loads = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertEquals(3, cache.get("abc", key -> {
+                loads.incrementAndGet();
+                return key.length();
+            }));
+        }
+        Assertions.assertEquals(1, loads.get());
+        Assertions.assertEquals(2, cache.getHitCount());
+        Assertions.assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntryIsEvicted() {
+        LruCache<Integer, Integer> cache = new LruCache<>(2);
+        cache.put(1, 1);
+        cache.put(2, 2);
+        cache.getIfPresent(1);
+        cache.put(3, 3);
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertNull(cache.getIfPresent(2));
+        Assertions.assertEquals(1, cache.getIfPresent(1));
+        Assertions.assertEquals(3, cache.getIfPresent(3));
+        cache.clear();
+        Assertions.assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testInvalidCapacity() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new LruCache<String, String>(0));
+    }
+
+    @Test
+    void testSlowLoaderDoesNotBlockOtherKeys() throws Exception {
+        LruCache<String, Integer> cache = new LruCache<>(4);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        CompletableFuture<Integer> slow = CompletableFuture.supplyAsync(() -> cache.get("slow", key -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            Assertions.assertDoesNotThrow(() -> release.await());
+            return 1;
+        }));
+        Assertions.assertTrue(loading.await(10, TimeUnit.SECONDS));
+        CompletableFuture<Integer> waiting = CompletableFuture.supplyAsync(() -> cache.get("slow", key -> {
+            loads.incrementAndGet();
+            return 2;
+        }));
+
+        // Other keys are served while "slow" is still loading
+        Assertions.assertEquals(3, cache.get("abc", String::length));
+        Assertions.assertNull(cache.getIfPresent("slow"));
+        Assertions.assertFalse(waiting.isDone());
+
+        release.countDown();
+        Assertions.assertEquals(1, slow.get(10, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, waiting.get(10, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testFailedLoadIsNotCached() {
+        LruCache<String, Integer> cache = new LruCache<>(4);
+        Assertions.assertThrows(IllegalStateException.class, () -> cache.get("abc", key -> {
+            throw new IllegalStateException();
+        }));
+        Assertions.assertEquals(0, cache.size());
+        Assertions.assertEquals(3, cache.get("abc", String::length));
+    }
+}